@@ -15,9 +15,9 @@
 package com.dgzt.core;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.button.Button;
 import com.dgzt.core.shape.LineShape;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The arrow.
@@ -31,7 +31,7 @@ public class Arrow extends LineShape{
 	// --------------------------------------------------
 	
 	/** The parent object. */
-	private final Table parent;
+	private final TableShape parent;
 	
 	/** Is visible the arrow. */
 	private boolean visible;
@@ -47,10 +47,10 @@ public class Arrow extends LineShape{
 	 * The constructor.
 	 * 
 	 * @param parent - The parent object.
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 */
-	public Arrow(final Table parent, final ShaderProgram shader) {
-		super(shader, Color.RED);
+	public Arrow(final TableShape parent, final ShapeBatch shapeBatch) {
+		super(shapeBatch, Color.RED);
 		this.parent = parent;
 		visible = false;
 	}
@@ -66,7 +66,10 @@ public class Arrow extends LineShape{
 	 */
 	public void show(final Button selectedButton){
 		this.lastSelectedButton = selectedButton;
-		super.resize(selectedButton.getX(), selectedButton.getY(), selectedButton.getX(), selectedButton.getY(), parent.getScale());
+		final double scale = parent.getScale();
+		final float x = parent.getX() + (float)(selectedButton.getBox2DX() * scale);
+		final float y = parent.getY() + (float)(selectedButton.getBox2DY() * scale);
+		super.resize(x, y, x, y, scale);
 		visible = true;
 	}
 	
@@ -15,9 +15,9 @@
 package com.dgzt.core;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.ButtonShape;
 import com.dgzt.core.shape.FilledCircleShape;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The area witch the stepped button then step again.
@@ -43,8 +43,8 @@ public class BallArea extends FilledCircleShape{
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The ball. */
-	private final Ball ball;
+	/** The shape of the ball. */
+	private final ButtonShape ball;
 	
 	/** The area visiblity. */
 	private boolean visible;
@@ -56,11 +56,11 @@ public class BallArea extends FilledCircleShape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
-	 * @param ball - The ball.
+	 * @param shapeBatch - The shape batch.
+	 * @param ball - The shape of the ball.
 	 */
-	public BallArea(final ShaderProgram shader, final Ball ball) {
-		super(shader, TEMP_COLOR);
+	public BallArea(final ShapeBatch shapeBatch, final ButtonShape ball) {
+		super(shapeBatch, TEMP_COLOR);
 		
 		this.ball = ball;
 	}
@@ -25,7 +25,7 @@ import com.dgzt.core.gate.AbstractGate;
 import com.dgzt.core.util.MathUtil;
 
 /**
- * The opponent roBot.
+ * The roBot. It steps with the opponent's buttons by default, or with the player's buttons when the bots play against each other.
  * 
  * @author Dgzt
  */
@@ -37,6 +37,9 @@ public abstract class Bot {
 	
 	private static final float MOVE_ONE_BUTTON_DISTANCE_IN_BOX2D = 5.0f;
 	
+	/** The power of the simple shot to the ball. */
+	private static final float SIMPLE_SHOT_POWER = 4;
+	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
@@ -44,21 +47,39 @@ public abstract class Bot {
 	/** The table. */
 	private final Table table;
 	
+	/** The player whose buttons the bot steps with. */
+	private final Player player;
+	
 	/** Selected button to move. */
 	private Button selectedButton;
 	
+	/** The middle of the attacked gate. The position of the gate is not modified. */
+	private final Vector2 gateMiddlePosition;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
 	
 	/**
-	 * The constructor.
+	 * The constructor of the opponent's bot.
 	 * 
 	 * @param table - The table.
 	 */
 	public Bot(final Table table){
+		this(table, Player.BOT);
+	}
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param table - The table.
+	 * @param player - The player whose buttons the bot steps with.
+	 */
+	public Bot(final Table table, final Player player){
 		this.table = table;
+		this.player = player;
 		this.selectedButton = null;
+		this.gateMiddlePosition = new Vector2();
 	}
 	
 	// --------------------------------------------------
@@ -78,17 +99,66 @@ public abstract class Bot {
 	 * The bot step.
 	 */
 	public void step(){
+		applyShot(createSimpleShot());
+	}
+	
+	/**
+	 * Create the decision of the next step. The table is read here, so the decision can be thought on an other thread.
+	 * 
+	 * @return The decision.
+	 */
+	public BotDecision createDecision(){
+		final ShotCandidate shot = createSimpleShot();
+		
+		return new BotDecision() {
+			
+			@Override
+			protected ShotCandidate think() {
+				return shot;
+			}
+		};
+	}
+	
+	/**
+	 * Create the simple shot to the ball with the selected or the nearest button.
+	 * 
+	 * @return The shot.
+	 */
+	public ShotCandidate createSimpleShot(){
 		// TODO - Temp step
 		
-		if(selectedButton == null){
-			selectedButton = getLowestDistanceButton();	
-		}
-		final float power = 4;
+		final Button button = selectedButton != null ? selectedButton : getLowestDistanceButton();
+		final Ball ball = table.getBall();
+		final ShotCandidate shot = new ShotCandidate();
 		
-		selectedButton.move(power * (table.getBall().getBox2DX() - selectedButton.getBox2DX()), power * (table.getBall().getBox2DY() - selectedButton.getBox2DY()));
+		shot.setPlayer(player);
+		shot.set(
+				getButtons().indexOf(button), 
+				SIMPLE_SHOT_POWER * (ball.getBox2DX() - button.getBox2DX()), 
+				SIMPLE_SHOT_POWER * (ball.getBox2DY() - button.getBox2DY())
+		);
+		
+		return shot;
+	}
+	
+	/**
+	 * Step with the given shot.
+	 * 
+	 * @param shot - The shot.
+	 */
+	public void applyShot(final ShotCandidate shot){
+		getButtons().get(shot.getButtonIndex()).move(shot.getVelocityX(), shot.getVelocityY());
 		selectedButton = null;
 	}
 	
+	/**
+	 * Seed the random shots of the bot. The simple bot does not shoot randomly.
+	 * 
+	 * @param seed - The seed.
+	 */
+	public void setSeed(final long seed){
+	}
+	
 	/**
 	 * Move one button to the ball.
 	 */
@@ -159,9 +229,9 @@ public abstract class Bot {
 					ball.getBox2DY()
 			);
 		}else{
-			final boolean doAttackToLeftSide = whoIsOnLeftSide() == Player.PLAYER;
+			final boolean doAttackToLeftSide = whoIsOnLeftSide() != player;
 			final Vector2 ballPosition = ball.getBox2DPosition();
-			final Vector2 gatePosition = doAttackToLeftSide ? table.getLeftGate().getBox2DPosition() : table.getRightGate().getBox2DPosition();
+			final Vector2 gatePosition = gateMiddlePosition.set(doAttackToLeftSide ? table.getLeftGate().getBox2DPosition() : table.getRightGate().getBox2DPosition());
 			gatePosition.add(0, AbstractGate.HEIGHT / 2);
 			final boolean isGateUnderBall = gatePosition.y < ballPosition.y;
 			
@@ -191,7 +261,7 @@ public abstract class Bot {
 	}
 	
 	// --------------------------------------------------
-	// ~ Private methods
+	// ~ Protected methods
 	// --------------------------------------------------
 	
 	/**
@@ -199,8 +269,8 @@ public abstract class Bot {
 	 * 
 	 * @return A button.
 	 */
-	private Button getLowestDistanceButton(){
-		final List<Button> botButtons = table.getOpponentButtons();
+	protected Button getLowestDistanceButton(){
+		final List<Button> botButtons = getButtons();
 		double lowestDistance = Double.MAX_VALUE;
 		Button lowestDistanceButton = null;
 		
@@ -215,4 +285,45 @@ public abstract class Bot {
 		
 		return lowestDistanceButton;
 	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the table.
+	 */
+	protected Table getTable(){
+		return table;
+	}
+	
+	/**
+	 * Return with the player whose buttons the bot steps with.
+	 */
+	public Player getPlayer(){
+		return player;
+	}
+	
+	/**
+	 * Return with the buttons of the bot.
+	 */
+	protected List<Button> getButtons(){
+		return player == Player.PLAYER ? table.getPlayerButtons() : table.getOpponentButtons();
+	}
+	
+	/**
+	 * Return with the button which was moved to the ball before the step or null.
+	 */
+	protected Button getSelectedButton(){
+		return selectedButton;
+	}
+	
+	/**
+	 * Set the button which has to step.
+	 * 
+	 * @param selectedButton - The button or null.
+	 */
+	protected void setSelectedButton(final Button selectedButton){
+		this.selectedButton = selectedButton;
+	}
 }
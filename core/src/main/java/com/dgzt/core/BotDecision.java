@@ -0,0 +1,103 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+/**
+ * The shot of the bot which is being thought. It has to work from its own copy of the table,
+ * because it can run on an other thread than the game.
+ * 
+ * @author Dgzt
+ */
+public abstract class BotDecision implements Runnable {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The chosen shot or null while the bot is thinking. */
+	private volatile ShotCandidate shot;
+	
+	/** True when the decision is not needed any more. */
+	private volatile boolean cancelled;
+	
+	// --------------------------------------------------
+	// ~ Abstract methods
+	// --------------------------------------------------
+	
+	/**
+	 * Think and choose the shot.
+	 * 
+	 * @return The chosen shot.
+	 */
+	protected abstract ShotCandidate think();
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Cancel the thinking. The already running thinking stops as soon as possible.
+	 */
+	public void cancel(){
+		cancelled = true;
+	}
+	
+	/**
+	 * Finish the decision with the given shot without thinking. The cancelled decision is not finished.
+	 * 
+	 * @param shot - The shot.
+	 */
+	public void finish(final ShotCandidate shot){
+		if(!cancelled){
+			this.shot = shot;
+		}
+	}
+	
+	/**
+	 * Return true when the shot is chosen.
+	 */
+	public boolean isDone(){
+		return shot != null;
+	}
+	
+	/**
+	 * Return true when the decision is cancelled.
+	 */
+	public boolean isCancelled(){
+		return cancelled;
+	}
+	
+	/**
+	 * Return with the chosen shot or null while the bot is thinking.
+	 */
+	public ShotCandidate getShot(){
+		return shot;
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		if(!cancelled){
+			shot = think();
+		}
+	}
+	
+}
@@ -21,9 +21,12 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.dgzt.core.setting.RendererType;
 import com.dgzt.core.setting.Settings;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The game listener.
@@ -42,6 +45,12 @@ final public class ButtonFootballGame implements ApplicationListener {
 	/** The path of the fragment shader. */
 	private static String FRAGMENT_SHADER = "shader.fsh";
 	
+	/** The path of the signed distance field vertex shader. */
+	private static String SDF_VERTEX_SHADER = "sdf.vsh";
+	
+	/** The path of the signed distance field fragment shader. */
+	private static String SDF_FRAGMENT_SHADER = "sdf.fsh";
+	
 	/** The world view for uniform matrix. */
 	private static String WORLD_VIEW = "u_worldView";
 	
@@ -52,6 +61,9 @@ final public class ButtonFootballGame implements ApplicationListener {
 	/** The shader. */
 	private ShaderProgram shader;
 	
+	/** The batch of the shapes. */
+	private ShapeBatch shapeBatch;
+	
 	/** The sprite batch for show text. */
 	private SpriteBatch spriteBatch;
 	
@@ -61,9 +73,15 @@ final public class ButtonFootballGame implements ApplicationListener {
 	/** The settings. */
 	private final Settings settings;
 	
+	/** The services of the game. */
+	private final GameServices services;
+	
 	/** The main window. */
 	private MainWindow mainWindow;
 	
+	/** The task which requests a frame for the next timed event of the game while the rendering is not continuous. */
+	private final Timer.Task wakeUpTask;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -72,9 +90,19 @@ final public class ButtonFootballGame implements ApplicationListener {
 	 * Constructor.
 	 * 
 	 * @param settings - The settings.
+	 * @param services - The services of the game.
 	 */
-	public ButtonFootballGame(final Settings settings) {
+	public ButtonFootballGame(final Settings settings, final GameServices services) {
 		this.settings = settings;
+		this.services = services;
+		
+		wakeUpTask = new Timer.Task() {
+			
+			@Override
+			public void run() {
+				Gdx.graphics.requestRendering();
+			}
+		};
 	}
 	
 	// --------------------------------------------------
@@ -93,8 +121,13 @@ final public class ButtonFootballGame implements ApplicationListener {
         final Camera camera = new OrthographicCamera();
         viewport = new ScreenViewport(camera);
 		
-		shader = new ShaderProgram(Gdx.files.internal(VERTEX_SHADER).readString(), Gdx.files.internal(FRAGMENT_SHADER).readString());
+		final boolean sdf = settings.getRenderer() == RendererType.SDF;
+		final String vertexShader = sdf ? SDF_VERTEX_SHADER : VERTEX_SHADER;
+		final String fragmentShader = sdf ? SDF_FRAGMENT_SHADER : FRAGMENT_SHADER;
+		
+		shader = new ShaderProgram(Gdx.files.internal(vertexShader).readString(), Gdx.files.internal(fragmentShader).readString());
 		spriteBatch = new SpriteBatch();
+		shapeBatch = new ShapeBatch(shader, sdf);
 		
 		if(!shader.isCompiled()){
 			Gdx.app.log(ButtonFootballGame.class.getName()+".create", "Problem loading shader: " + shader.getLog());
@@ -104,7 +137,7 @@ final public class ButtonFootballGame implements ApplicationListener {
 		
 		final MultiInputProcessor multiInputProcessor = new MultiInputProcessor();
 		
-		mainWindow = new MainWindow(shader, spriteBatch, settings, viewport, multiInputProcessor);
+		mainWindow = new MainWindow(shapeBatch, spriteBatch, settings, services, viewport, multiInputProcessor);
 		
 		Gdx.input.setInputProcessor(multiInputProcessor);
 	}
@@ -135,9 +168,23 @@ final public class ButtonFootballGame implements ApplicationListener {
 		Gdx.gl.glClearColor(0, 0, 0, 0);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 		
-		shader.begin();
+		shapeBatch.begin();
 		mainWindow.draw();
-		shader.end();
+		FrameProfiler.begin(FrameProfiler.SHAPES);
+		shapeBatch.end();
+		FrameProfiler.end(FrameProfiler.SHAPES);
+		FrameProfiler.endFrame(Gdx.graphics.getDeltaTime());
+		
+		// Between the shots the input and the timed events of the game request the frames.
+		// The game clock advances only in the frames, so a frame is requested at its next event.
+		final boolean continuousRendering = !settings.isRenderOnDemand() || mainWindow.isAnimating();
+		Gdx.graphics.setContinuousRendering(continuousRendering);
+		
+		wakeUpTask.cancel();
+		final float timeToNextEvent = mainWindow.getTimeToNextEvent();
+		if(!continuousRendering && timeToNextEvent != GameClock.NO_TASK){
+			Timer.schedule(wakeUpTask, timeToNextEvent);
+		}
 	}
 	
 	/**
@@ -145,7 +192,18 @@ final public class ButtonFootballGame implements ApplicationListener {
 	 */
 	@Override
 	public void dispose () {
+		// The threads of the bot live as long as the game. The decision is finished before its simulators are disposed.
+		if(services.getBotExecutor() != null){
+			services.getBotExecutor().dispose();
+		}
+		
 		mainWindow.dispose();
+		shapeBatch.dispose();
+		Fonts.dispose();
+		
+		if(services.getShotEvaluator() != null){
+			services.getShotEvaluator().dispose();
+		}
 	}
 
 	/**
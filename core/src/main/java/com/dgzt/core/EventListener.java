@@ -37,8 +37,8 @@ public class EventListener implements ContactListener{
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The game window. */
-	private final GameWindow gameWindow;
+	/** The match engine. */
+	private final MatchEngine matchEngine;
 	
 	/** The number of the moving buttons. */
 	private short movingButtonNum;
@@ -50,10 +50,10 @@ public class EventListener implements ContactListener{
 	/**
 	 * The constructor.
 	 * 
-	 * @param gameWindow - The game window.
+	 * @param matchEngine - The match engine.
 	 */
-	public EventListener(final GameWindow gameWindow){
-		this.gameWindow = gameWindow;
+	public EventListener(final MatchEngine matchEngine){
+		this.matchEngine = matchEngine;
 		this.movingButtonNum = 0;
 	}
 	
@@ -62,20 +62,37 @@ public class EventListener implements ContactListener{
 	// --------------------------------------------------
 
 	/**
-	 * The button is start moving.
+	 * Update the number of the moving buttons after a step of the box2D world.
+	 * Fire the all button stopped event when the last moving button stopped.
+	 * 
+	 * @param newMovingButtonNum - The number of the moving buttons after the step.
 	 */
-	public void buttonStartMoving(){
-		++movingButtonNum;
+	public void movingButtonsUpdated(final int newMovingButtonNum){
+		final boolean wasMoving = movingButtonNum > 0;
+		movingButtonNum = (short) newMovingButtonNum;
+		
+		if(!wasMoving && movingButtonNum > 0){
+			Gdx.app.log(EventListener.class.getName() + ".movingButtonsUpdated", "Start mooving.");
+		}else if(wasMoving && movingButtonNum == 0){
+			Gdx.app.log(EventListener.class.getName() + ".movingButtonsUpdated", "All button stopped.");
+			matchEngine.getGameControl().allButtonIsStoppedEvent();
+		}
 	}
 	
 	/**
-	 * The button is stopped.
+	 * Return true when at least one button is moving.
 	 */
-	public void buttonEndMoving(){
-		--movingButtonNum;
-		if(movingButtonNum == 0){
-			gameWindow.getGameControl().allButtonIsStoppedEvent();
-		}
+	public boolean isAnyButtonMoving(){
+		return movingButtonNum > 0;
+	}
+	
+	/**
+	 * Set the number of the moving buttons without firing any event.
+	 * 
+	 * @param movingButtonNum - The number of the moving buttons.
+	 */
+	public void restoreMovingButtonNum(final int movingButtonNum){
+		this.movingButtonNum = (short) movingButtonNum;
 	}
 	
 	/**
@@ -94,6 +111,7 @@ public class EventListener implements ContactListener{
 	 */
 	@Override
 	public void beginContact(final Contact contact) {
+		FrameProfiler.begin(FrameProfiler.CONTACTS);
 		Gdx.app.log(EventListener.class.getName() + ".beginContact", "init");
 		
 		final Object userDataA = contact.getFixtureA().getUserData();
@@ -102,25 +120,26 @@ public class EventListener implements ContactListener{
 		// The ball contact with button
 		if(userDataB instanceof Ball && userDataA instanceof Button){
 			final Button button = (Button) userDataA;
-			gameWindow.getGameControl().buttonContactBall(button);
+			matchEngine.getGameControl().buttonContactBall(button);
 		}
 		
 		// The button contact with button
 		if(userDataA instanceof Button && userDataB instanceof Button){
-			final GameStatus gameStatus = gameWindow.getGameControl().getGameStatus();
+			final GameStatus gameStatus = matchEngine.getGameControl().getGameStatus();
 			
 			if(gameStatus.equals(GameStatus.WAITING_AFTER_PLAYER) || gameStatus.equals(GameStatus.WAITING_AFTER_OPPONENT)){
 				final Button buttonA = (Button) userDataA;
 				final Button buttonB = (Button) userDataB;
-				final Table table = gameWindow.getTable();
+				final Table table = matchEngine.getTable();
 				
 				if( (table.getPlayerButtons().contains(buttonA) && table.getOpponentButtons().contains(buttonB)) ||
 					(table.getPlayerButtons().contains(buttonB) && table.getOpponentButtons().contains(buttonA)) ){
-					gameWindow.getGameControl().buttonContactButton(buttonA, buttonB);
+					matchEngine.getGameControl().buttonContactButton(buttonA, buttonB);
 				}
 			}
 			
 		}
+		FrameProfiler.end(FrameProfiler.CONTACTS);
 	}
 
 	/**
@@ -128,14 +147,15 @@ public class EventListener implements ContactListener{
 	 */
 	@Override
 	public void endContact(final Contact contact) {
+		FrameProfiler.begin(FrameProfiler.CONTACTS);
 		Gdx.app.log(EventListener.class.getName() + ".endContact", "init");
 		
 		final Object userDataA = contact.getFixtureA().getUserData();
 		
 		if(userDataA instanceof Map){
 			final Ball ball = (Ball) contact.getFixtureB().getUserData();
-			final LeftGate leftGate = gameWindow.getTable().getLeftGate();
-			final RightGate rightGate = gameWindow.getTable().getRightGate();
+			final LeftGate leftGate = matchEngine.getTable().getLeftGate();
+			final RightGate rightGate = matchEngine.getTable().getRightGate();
 			
 			if(
 				(ball.getBox2DY() < leftGate.getBox2DY() || ball.getBox2DY() > leftGate.getBox2DY() + AbstractGate.HEIGHT) // Left gate
@@ -143,7 +163,7 @@ public class EventListener implements ContactListener{
 				(ball.getBox2DY() < rightGate.getBox2DY() || ball.getBox2DY() > rightGate.getBox2DY() + AbstractGate.HEIGHT) // Right gate
 			){
 				Gdx.app.log(EventListener.class.getName() + ".endContact", "The ball leaved map.");
-				gameWindow.getGameControl().ballLeaveMapEvent();
+				matchEngine.getGameControl().ballLeaveMapEvent();
 			}else{
 				final float mapBox2DX = Box2DDataUtil.MAP_RECTANGLE.getX();
 				final float rightGateBox2DX = Box2DDataUtil.RIGHT_GATE_POSITION.x;
@@ -151,14 +171,15 @@ public class EventListener implements ContactListener{
 				if(ball.getBox2DX() < mapBox2DX ){
 					Gdx.app.log(EventListener.class.getName() + ".endContact", "Goal in left gate!");
 					
-					gameWindow.getGameControl().leftGateGoalEvent();
+					matchEngine.getGameControl().leftGateGoalEvent();
 				}else if(ball.getBox2DX() > rightGateBox2DX){
 					Gdx.app.log(EventListener.class.getName() + ".endContact", "Goal in right gate!");
 					
-					gameWindow.getGameControl().rightGateGoalEvent();
+					matchEngine.getGameControl().rightGateGoalEvent();
 				}
 			}
 		}
+		FrameProfiler.end(FrameProfiler.CONTACTS);
 	}
 
 	@Override
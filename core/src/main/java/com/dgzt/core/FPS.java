@@ -17,10 +17,9 @@ package com.dgzt.core;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.dgzt.core.shape.Text;
+import com.dgzt.core.shape.TextBatch;
 
 /**
  * Show the actual frame per second.
@@ -41,16 +40,9 @@ public class FPS extends Text{
 	
 	/** The FPS prefix. */
 	private static final String FPS_PREFIX = "FPS: ";
-
-	// --------------------------------------------------
-	// ~ Public static members
-	// --------------------------------------------------
 	
-	/** The width of the fps text in cm. */
-	public static final float WIDTH = getWidth(FPS_PREFIX + "00");
-	
-	/** The height of the fps text in cm. */
-	public static final float HEIGHT = getHeight(FPS_PREFIX);
+	/** The longest measured fps text. */
+	private static final String MAX_FPS_TEXT = FPS_PREFIX + "00";
 	
 	// --------------------------------------------------
 	// ~ Private members
@@ -69,11 +61,10 @@ public class FPS extends Text{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
-	 * @param batch - The batch;
+	 * @param textBatch - The text batch.
 	 */
-	public FPS(final ShaderProgram shader, final Batch batch){
-		super(shader, batch, COLOR);
+	public FPS(final TextBatch textBatch){
+		super(textBatch, Fonts.getSmallFont(), COLOR);
 		visible = false;
 		
 		startTime = TimeUtils.nanoTime();
@@ -104,6 +95,20 @@ public class FPS extends Text{
 	// ~ Setters / Getters
 	// --------------------------------------------------
 	
+	/**
+	 * Return with the width of the fps text.
+	 */
+	public float getWidth(){
+		return Fonts.getWidth(getFont(), MAX_FPS_TEXT);
+	}
+	
+	/**
+	 * Return with the height of the fps text.
+	 */
+	public float getHeight(){
+		return Fonts.getHeight(getFont(), FPS_PREFIX);
+	}
+	
 	public boolean isVisible(){
 		return visible;
 	}
@@ -0,0 +1,166 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * The fonts of the game. Every font is loaded once from the atlases at the first use and shared between the texts, the labels and the buttons.
+ * The measured sizes of the texts are cached.
+ * 
+ * @author Dgzt
+ */
+public final class Fonts {
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	/** The small font. */
+	private static BitmapFont smallFont;
+	
+	/** The medium font. */
+	private static BitmapFont mediumFont;
+	
+	/** The large font. */
+	private static BitmapFont largeFont;
+	
+	/** The measured layouts of the texts by font. */
+	private static final ObjectMap<BitmapFont, ObjectMap<String, GlyphLayout>> LAYOUTS = new ObjectMap<BitmapFont, ObjectMap<String, GlyphLayout>>();
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/*
+	 * Hidden constuctor.
+	 */
+	private Fonts(){
+		// Hide constructor for sonar.
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the small font.
+	 */
+	public static BitmapFont getSmallFont(){
+		if(smallFont == null){
+			smallFont = new BitmapFont(Gdx.files.internal(FontConstants.SMALL_FONT_FILE), Gdx.files.internal(FontConstants.SMALL_FONT_IMAGE), false);
+		}
+		return smallFont;
+	}
+	
+	/**
+	 * Return with the medium font.
+	 */
+	public static BitmapFont getMediumFont(){
+		if(mediumFont == null){
+			mediumFont = new BitmapFont(Gdx.files.internal(FontConstants.MEDIUM_FONT_FILE), Gdx.files.internal(FontConstants.MEDIUN_FONT_IMAGE), false);
+		}
+		return mediumFont;
+	}
+	
+	/**
+	 * Return with the large font. It has two atlas pages.
+	 */
+	public static BitmapFont getLargeFont(){
+		if(largeFont == null){
+			final BitmapFontData bitmapFontData = new BitmapFontData(Gdx.files.internal(FontConstants.LARGE_FONT_FILE), false);
+			
+			final Array<TextureRegion> textureRegions = new Array<TextureRegion>(false, 2);
+			textureRegions.add(new TextureRegion(new Texture(Gdx.files.internal(FontConstants.LARGE_FONT_IMAGE_1), false)));
+			textureRegions.add(new TextureRegion(new Texture(Gdx.files.internal(FontConstants.LARGE_FONT_IMAGE_2), false)));
+			
+			largeFont = new BitmapFont(bitmapFontData, textureRegions, true);
+			largeFont.setOwnsTexture(true);
+		}
+		return largeFont;
+	}
+	
+	/**
+	 * Return with the width of the given text.
+	 * 
+	 * @param font - The font.
+	 * @param text - The text.
+	 */
+	public static float getWidth(final BitmapFont font, final String text){
+		return getLayout(font, text).width;
+	}
+	
+	/**
+	 * Return with the height of the given text.
+	 * 
+	 * @param font - The font.
+	 * @param text - The text.
+	 */
+	public static float getHeight(final BitmapFont font, final String text){
+		return getLayout(font, text).height;
+	}
+	
+	/**
+	 * Dispose the loaded fonts.
+	 */
+	public static void dispose(){
+		if(smallFont != null){
+			smallFont.dispose();
+			smallFont = null;
+		}
+		if(mediumFont != null){
+			mediumFont.dispose();
+			mediumFont = null;
+		}
+		if(largeFont != null){
+			largeFont.dispose();
+			largeFont = null;
+		}
+		LAYOUTS.clear();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the layout of the given text. The text is measured only at the first call.
+	 * 
+	 * @param font - The font.
+	 * @param text - The text.
+	 */
+	private static GlyphLayout getLayout(final BitmapFont font, final String text){
+		ObjectMap<String, GlyphLayout> layouts = LAYOUTS.get(font);
+		if(layouts == null){
+			layouts = new ObjectMap<String, GlyphLayout>();
+			LAYOUTS.put(font, layouts);
+		}
+		
+		GlyphLayout layout = layouts.get(text);
+		if(layout == null){
+			layout = new GlyphLayout(font, text);
+			layouts.put(text, layout);
+		}
+		return layout;
+	}
+
+}
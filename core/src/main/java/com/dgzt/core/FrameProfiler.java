@@ -0,0 +1,320 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Measure the parts of the frames while it is enabled. It is used only from the render thread.
+ * The sections can be measured more times in one frame, the times are summed.
+ * 
+ * @author Dgzt
+ */
+public final class FrameProfiler {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The physics section. It contains the contacts section. */
+	public static final int PHYSICS = 0;
+	
+	/** The section of the contact callbacks. */
+	public static final int CONTACTS = 1;
+	
+	/** The shape drawing section. */
+	public static final int SHAPES = 2;
+	
+	/** The text drawing section. */
+	public static final int TEXT = 3;
+	
+	/** The UI stage drawing section. */
+	public static final int STAGE = 4;
+	
+	/** The number of the sections. */
+	public static final int SECTION_NUM = 5;
+	
+	/** The number of the frames in the rolling history. */
+	public static final int HISTORY_SIZE = 240;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The one millisecond in nanosecond. */
+	private static final float ONE_MILLISECOND_IN_NANOSECOND = 1000000f;
+	
+	/** The names of the sections. */
+	private static final String[] SECTION_NAMES = new String[]{"physics", "contacts", "shapes", "text", "stage"};
+	
+	/** True while the profiler measures. */
+	private static boolean enabled;
+	
+	/** The start times of the running sections in nanosecond. */
+	private static final long[] SECTION_STARTS = new long[SECTION_NUM];
+	
+	/** The summed times of the sections in the actual frame in nanosecond. */
+	private static final long[] SECTION_TIMES = new long[SECTION_NUM];
+	
+	/** The summed times of the sections in the last frame in nanosecond. */
+	private static final long[] LAST_SECTION_TIMES = new long[SECTION_NUM];
+	
+	/** The rolling history of the frame times in millisecond. */
+	private static final float[] FRAME_TIMES = new float[HISTORY_SIZE];
+	
+	/** The sorted frame times for the percentiles. */
+	private static final float[] SORTED_FRAME_TIMES = new float[HISTORY_SIZE];
+	
+	/** The rolling history of the allocated heap bytes. */
+	private static final long[] ALLOCATIONS = new long[HISTORY_SIZE];
+	
+	/** The index of the next frame in the history. */
+	private static int frameIndex;
+	
+	/** The number of the frames in the history. */
+	private static int frameNum;
+	
+	/** The used java heap at the end of the last frame. */
+	private static long lastJavaHeap;
+	
+	/** The number of the draw calls in the last frame. */
+	private static int drawCalls;
+	
+	/** The number of the drawn vertices in the last frame. */
+	private static int vertexCount;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/*
+	 * Hidden constuctor.
+	 */
+	private FrameProfiler(){
+		// Hide constructor for sonar.
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Start the measuring of the given section.
+	 * 
+	 * @param section - The section.
+	 */
+	public static void begin(final int section){
+		if(enabled){
+			SECTION_STARTS[section] = TimeUtils.nanoTime();
+		}
+	}
+	
+	/**
+	 * End the measuring of the given section.
+	 * 
+	 * @param section - The section.
+	 */
+	public static void end(final int section){
+		if(enabled){
+			SECTION_TIMES[section] += TimeUtils.nanoTime() - SECTION_STARTS[section];
+		}
+	}
+	
+	/**
+	 * Close the frame: save the section times, the frame time, the draw calls and the allocated heap.
+	 * 
+	 * @param deltaTime - The time of the frame in second.
+	 */
+	public static void endFrame(final float deltaTime){
+		if(!enabled){
+			return;
+		}
+		
+		for(int i = 0; i < SECTION_NUM; ++i){
+			LAST_SECTION_TIMES[i] = SECTION_TIMES[i];
+			SECTION_TIMES[i] = 0;
+		}
+		
+		drawCalls = GLProfiler.drawCalls;
+		vertexCount = (int) GLProfiler.vertexCount.total;
+		GLProfiler.reset();
+		
+		// The heap decreases only by the garbage collector, the increase is the allocation.
+		final long javaHeap = Gdx.app != null ? Gdx.app.getJavaHeap() : 0;
+		final long allocation = Math.max(0, javaHeap - lastJavaHeap);
+		lastJavaHeap = javaHeap;
+		
+		addFrame(deltaTime * 1000, allocation);
+	}
+	
+	/**
+	 * Return with the given percentile of the frame times in the history in millisecond.
+	 * 
+	 * @param percentile - The percentile between 0 and 1.
+	 */
+	public static float getFrameTimePercentile(final float percentile){
+		if(frameNum == 0){
+			return 0;
+		}
+		
+		System.arraycopy(FRAME_TIMES, 0, SORTED_FRAME_TIMES, 0, frameNum);
+		Arrays.sort(SORTED_FRAME_TIMES, 0, frameNum);
+		
+		final int index = (int) Math.ceil(percentile * frameNum) - 1;
+		return SORTED_FRAME_TIMES[Math.max(0, Math.min(frameNum - 1, index))];
+	}
+	
+	/**
+	 * Return with the number of the frames in the history whose time is in the given range.
+	 * 
+	 * @param minFrameTime - The minimum frame time in millisecond, inclusive.
+	 * @param maxFrameTime - The maximum frame time in millisecond, exclusive.
+	 */
+	public static int getFrameNum(final float minFrameTime, final float maxFrameTime){
+		int num = 0;
+		for(int i = 0; i < frameNum; ++i){
+			if(FRAME_TIMES[i] >= minFrameTime && FRAME_TIMES[i] < maxFrameTime){
+				++num;
+			}
+		}
+		return num;
+	}
+	
+	/**
+	 * Return with the allocated heap bytes in one second in the history.
+	 */
+	public static float getAllocationRate(){
+		long allocated = 0;
+		float time = 0;
+		for(int i = 0; i < frameNum; ++i){
+			allocated += ALLOCATIONS[i];
+			time += FRAME_TIMES[i];
+		}
+		
+		return time > 0 ? allocated / (time / 1000) : 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add a frame to the rolling history.
+	 * 
+	 * @param frameTime - The frame time in millisecond.
+	 * @param allocation - The allocated heap bytes in the frame.
+	 */
+	static void addFrame(final float frameTime, final long allocation){
+		FRAME_TIMES[frameIndex] = frameTime;
+		ALLOCATIONS[frameIndex] = allocation;
+		frameIndex = (frameIndex + 1) % HISTORY_SIZE;
+		frameNum = Math.min(frameNum + 1, HISTORY_SIZE);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Clear the measured values.
+	 */
+	private static void clear(){
+		for(int i = 0; i < SECTION_NUM; ++i){
+			SECTION_TIMES[i] = 0;
+			LAST_SECTION_TIMES[i] = 0;
+		}
+		frameIndex = 0;
+		frameNum = 0;
+		drawCalls = 0;
+		vertexCount = 0;
+		lastJavaHeap = Gdx.app != null ? Gdx.app.getJavaHeap() : 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return true while the profiler measures.
+	 */
+	public static boolean isEnabled(){
+		return enabled;
+	}
+	
+	/**
+	 * Enable or disable the profiler. The GL calls are counted only while it is enabled.
+	 * 
+	 * @param enabled - The new value.
+	 */
+	public static void setEnabled(final boolean enabled){
+		if(FrameProfiler.enabled == enabled){
+			return;
+		}
+		
+		FrameProfiler.enabled = enabled;
+		clear();
+		
+		if(enabled){
+			GLProfiler.enable();
+			GLProfiler.reset();
+		}else{
+			GLProfiler.disable();
+		}
+	}
+	
+	/**
+	 * Return with the time of the given section in the last frame in millisecond.
+	 * 
+	 * @param section - The section.
+	 */
+	public static float getSectionTime(final int section){
+		return LAST_SECTION_TIMES[section] / ONE_MILLISECOND_IN_NANOSECOND;
+	}
+	
+	/**
+	 * Return with the name of the given section.
+	 * 
+	 * @param section - The section.
+	 */
+	public static String getSectionName(final int section){
+		return SECTION_NAMES[section];
+	}
+	
+	/**
+	 * Return with the number of the draw calls in the last frame.
+	 */
+	public static int getDrawCalls(){
+		return drawCalls;
+	}
+	
+	/**
+	 * Return with the number of the drawn vertices in the last frame.
+	 */
+	public static int getVertexCount(){
+		return vertexCount;
+	}
+	
+	/**
+	 * Return with the number of the frames in the history.
+	 */
+	public static int getFrameNum(){
+		return frameNum;
+	}
+
+}
@@ -0,0 +1,258 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The clock of the game. It is advanced by the match engine with the frame times, so the scheduled tasks
+ * run in game time: they stop while the game is paused, follow the time scale and run in the same order
+ * for the same frame times. The tasks due at the same time run in the order of their scheduling.
+ * 
+ * @author Dgzt
+ */
+public class GameClock {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The time to the next task when no task is scheduled. */
+	public static final float NO_TASK = -1;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The scheduled tasks ordered by their execute time. */
+	private final Array<Task> tasks;
+	
+	/** The elapsed game time in second. */
+	private float time;
+	
+	/** The multiplier of the frame times. */
+	private float timeScale;
+	
+	/** True when the clock is paused. */
+	private boolean paused;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 */
+	public GameClock(){
+		tasks = new Array<Task>();
+		time = 0;
+		timeScale = 1;
+		paused = false;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Schedule the given task once. If the task is already scheduled then it is rescheduled.
+	 * 
+	 * @param task - The task.
+	 * @param delaySec - The delay in game second.
+	 */
+	public void schedule(final Task task, final float delaySec){
+		schedule(task, delaySec, 0);
+	}
+	
+	/**
+	 * Schedule the given task repeatedly. If the task is already scheduled then it is rescheduled.
+	 * 
+	 * @param task - The task.
+	 * @param delaySec - The delay of the first run in game second.
+	 * @param intervalSec - The interval between the runs in game second. When it is 0 the task runs once.
+	 */
+	public void schedule(final Task task, final float delaySec, final float intervalSec){
+		task.cancel();
+		
+		task.clock = this;
+		task.executeTime = time + delaySec;
+		task.intervalSec = intervalSec;
+		insert(task);
+	}
+	
+	/**
+	 * Advance the clock with the given game time and run the due tasks in the order of their execute time.
+	 * While a task runs the clock shows its execute time, so the tasks scheduled by it are independent of the frame times.
+	 * The time scale and the pause are applied by the caller, the match engine.
+	 * 
+	 * @param gameDeltaTime - The elapsed game time in second.
+	 */
+	public void advance(final float gameDeltaTime){
+		final float targetTime = time + gameDeltaTime;
+		
+		while(tasks.size != 0 && tasks.first().executeTime <= targetTime){
+			final Task task = tasks.removeIndex(0);
+			time = task.executeTime;
+			
+			if(task.intervalSec > 0){
+				task.executeTime += task.intervalSec;
+				insert(task);
+			}else{
+				task.clock = null;
+			}
+			
+			task.run();
+		}
+		
+		time = targetTime;
+	}
+	
+	/**
+	 * Pause the clock. The time and the tasks stop.
+	 */
+	public void pause(){
+		paused = true;
+	}
+	
+	/**
+	 * Resume the clock.
+	 */
+	public void resume(){
+		paused = false;
+	}
+	
+	/**
+	 * Cancel all tasks.
+	 */
+	public void clear(){
+		for(int i = 0; i < tasks.size; ++i){
+			tasks.get(i).clock = null;
+		}
+		tasks.clear();
+	}
+	
+	/**
+	 * Cancel all tasks and set the time. It is used at the start of a match and at restoring a saved match.
+	 * 
+	 * @param time - The new game time in second.
+	 */
+	public void reset(final float time){
+		clear();
+		this.time = time;
+	}
+	
+	/**
+	 * Return with the real time in second until the next task or {@link #NO_TASK} when no task will run.
+	 */
+	public float getTimeToNextTask(){
+		if(paused || tasks.size == 0 || timeScale <= 0){
+			return NO_TASK;
+		}
+		
+		return Math.max(0, tasks.first().executeTime - time) / timeScale;
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Insert the task after the tasks which are due earlier or at the same time.
+	 * 
+	 * @param task - The task.
+	 */
+	private void insert(final Task task){
+		int index = tasks.size;
+		while(index > 0 && tasks.get(index - 1).executeTime > task.executeTime){
+			--index;
+		}
+		tasks.insert(index, task);
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the elapsed game time in second.
+	 */
+	public float getTime(){
+		return time;
+	}
+	
+	public float getTimeScale(){
+		return timeScale;
+	}
+	
+	public void setTimeScale(final float timeScale){
+		this.timeScale = timeScale;
+	}
+	
+	public boolean isPaused(){
+		return paused;
+	}
+	
+	// --------------------------------------------------
+	// ~ Inner classes
+	// --------------------------------------------------
+	
+	/**
+	 * The task of the game clock.
+	 * 
+	 * @author Dgzt
+	 */
+	public abstract static class Task {
+		
+		/** The clock which scheduled the task or null when it is not scheduled. */
+		private GameClock clock;
+		
+		/** The game time of the next run. */
+		private float executeTime;
+		
+		/** The interval between the runs, 0 when the task runs once. */
+		private float intervalSec;
+		
+		/**
+		 * Run the task.
+		 */
+		public abstract void run();
+		
+		/**
+		 * Cancel the task if it is scheduled.
+		 */
+		public void cancel(){
+			if(clock != null){
+				clock.tasks.removeValue(this, true);
+				clock = null;
+			}
+		}
+		
+		/**
+		 * Return true when the task is scheduled.
+		 */
+		public boolean isScheduled(){
+			return clock != null;
+		}
+		
+		/**
+		 * Return with the game time in second until the next run or {@link GameClock#NO_TASK} when the task is not scheduled.
+		 */
+		public float getDelaySec(){
+			return clock != null ? executeTime - clock.time : NO_TASK;
+		}
+		
+	}
+
+}
@@ -14,6 +14,8 @@
  */
 package com.dgzt.core;
 
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.RendererType;
 import com.dgzt.core.setting.StepMode;
 
 /**
@@ -38,6 +40,48 @@ public final class GameConstans {
 	/** The default time left in sec. */
 	public static final int DEFAULT_TIME_LEFT_SEC = 15;
 	
+	/** The time in sec between two visible steps of the line of a time left board when the game renders on demand. */
+	public static final float TIME_LEFT_STEP_SEC = 0.1f;
+	
+	/** The fixed time step of the box2D world in sec. */
+	public static final float PHYSICS_TIME_STEP = 1 / 60f;
+	
+	/** The default velocity iterations of the box2D world step. */
+	public static final int DEFAULT_VELOCITY_ITERATIONS = 6;
+	
+	/** The default position iterations of the box2D world step. */
+	public static final int DEFAULT_POSITION_ITERATIONS = 2;
+	
+	/** The default maximum number of the box2D world steps in one frame. */
+	public static final int DEFAULT_MAX_SUB_STEPS = 5;
+	
+	/** The default value of the instant resolve mode. */
+	public static final boolean DEFAULT_INSTANT_RESOLVE = false;
+	
+	/** The maximum number of the box2D world steps while resolving one shot instantly. */
+	public static final int MAX_INSTANT_RESOLVE_STEPS = 60 * 60;
+	
+	/** The default type of the bot. */
+	public static final BotType DEFAULT_BOT_TYPE = BotType.SIMPLE;
+	
+	/** The default thinking time of the bot in millisec. */
+	public static final int DEFAULT_BOT_THINKING_TIME = 50;
+	
+	/** The default seed of the random shots of the bots. */
+	public static final long DEFAULT_BOT_SEED = 0;
+	
+	/** The default value of the render on demand mode. */
+	public static final boolean DEFAULT_RENDER_ON_DEMAND = true;
+	
+	/** The default multiplier of the game time. */
+	public static final float DEFAULT_TIME_SCALE = 1;
+	
+	/** The number of the shots between two keyframes of a replay. */
+	public static final int REPLAY_KEYFRAME_INTERVAL = 4;
+	
+	/** The default type of the shape renderer. */
+	public static final RendererType DEFAULT_RENDERER = RendererType.MESH;
+	
 	// Hidden constructor
 	private GameConstans(){}
 }
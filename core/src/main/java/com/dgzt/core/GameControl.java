@@ -18,17 +18,21 @@ import java.util.List;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
 import com.dgzt.core.button.Ball;
 import com.dgzt.core.button.Button;
 import com.dgzt.core.exception.IllegalGameStatusException;
+import com.dgzt.core.replay.Replay;
+import com.dgzt.core.replay.ReplayInput;
+import com.dgzt.core.replay.ReplayInputType;
+import com.dgzt.core.replay.ReplayKeyframe;
+import com.dgzt.core.replay.SavedMatch;
 import com.dgzt.core.scoreboard.GoalBoard;
 import com.dgzt.core.scoreboard.ScoreBoard;
+import com.dgzt.core.scoreboard.TimeLeftBoard;
+import com.dgzt.core.setting.BotType;
 import com.dgzt.core.setting.Settings;
 import com.dgzt.core.setting.StepMode;
 import com.dgzt.core.util.Box2DDataUtil;
-import com.dgzt.core.util.Box2DUtil;
 import com.dgzt.core.util.MathUtil;
 
 /**
@@ -38,12 +42,19 @@ import com.dgzt.core.util.MathUtil;
  */
 public final class GameControl {
 	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The bot steps with the simple shot when its time left is lower than this sec. */
+	private static final float BOT_DECISION_TIME_LEFT_LIMIT_SEC = 1.0f;
+	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The main window. */
-	private final MainWindow mainWindow;
+	/** The view of the game. */
+	private final GameView gameView;
 	
 	/** The scoreboard. */
 	private final ScoreBoard scoreBoard;
@@ -51,17 +62,56 @@ public final class GameControl {
 	/** The table. */
 	private final Table table;
 	
-	/** The timer of the ball area. */
-	private final Timer ballAreaTimer;
+	/** The clock of the game. The timed events of the game are scheduled on it. */
+	private final GameClock gameClock;
+	
+	/** The task which hides the ball area. */
+	private final GameClock.Task ballAreaTask;
+	
+	/** The task which starts the first step of the bot. */
+	private final GameClock.Task opponentFirstStepTask;
 	
 	/** The settings. */
 	private final Settings settings;
 	
+	/** The services of the game. */
+	private final GameServices services;
+	
 	/** The event listener of box2D */
 	private final EventListener eventListener;
 	
 	/** The bot. */
-	private final Bot bot;
+	private Bot bot;
+	
+	/** The bot which steps with the player's buttons. It is null when the player is a human. */
+	private Bot playerBot;
+	
+	/** The evaluator of the shots of the bot. */
+	private final ShotEvaluator botShotEvaluator;
+	
+	/** The evaluator of the shots of the player's bot. */
+	private final ShotEvaluator playerBotShotEvaluator;
+	
+	/** The executor of the bot's decisions. */
+	private final BotExecutor botExecutor;
+	
+	/** The decision of the bot which is being thought or null. */
+	private BotDecision botDecision;
+	
+	/** The player whose bot thinks the decision. */
+	private Player botDecisionPlayer;
+	
+	/** True when the bot chooses its shots. When it is false the shots are given with {@link #opponentShoot(int, float, float)}. */
+	private boolean botEnabled;
+	
+	/** The shot which is given from outside for the bot. It is reused by every shot. */
+	private final ShotCandidate givenOpponentShot;
+	
+	/** The replay which is being recorded or null. */
+	private Replay replay;
+	
+	/** The counts of the events of the current match. */
+	private final MatchStats matchStats;
 	
 	/** The actual status of the game. */
 	private GameStatus gameStatus;
@@ -82,6 +132,18 @@ public final class GameControl {
 	/** True when the game paused. */
 	private boolean gamePaused;
 	
+	/** True when the current turn have to be resolved instantly. */
+	private boolean instantResolveTurn;
+	
+	/** True when the movements of the last step wait for instant resolving. */
+	private boolean instantResolvePending;
+	
+	/** The restored ball coordinate when leaved the map. It is reused by every restore. */
+	private final Vector2 restoredBallLeavedMapCoordinate;
+	
+	/** The restored fault position. It is reused by every restore. */
+	private final Vector2 restoredFaultBox2DPosition;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -89,27 +151,68 @@ public final class GameControl {
 	/**
 	 * The constructor.
 	 * 
-	 * @param mainWindow - The main window.
+	 * @param gameView - The view of the game.
 	 * @param scoreBoard - The score board.
 	 * @param table - The table.
 	 * @param settings - The settings.
+	 * @param services - The services of the game.
 	 * @param eventListener - The box2D event listener.
 	 */
-	public GameControl(final MainWindow mainWindow, final ScoreBoard scoreBoard, final Table table, final Settings settings, final EventListener eventListener){
+	public GameControl(final GameView gameView, final ScoreBoard scoreBoard, final Table table, final Settings settings, final GameServices services, final EventListener eventListener){
 		Gdx.app.log(GameControl.class.getName() + ".init", "settings: " + settings);
 		
-		this.mainWindow = mainWindow;
+		this.gameView = gameView;
 		this.scoreBoard = scoreBoard;
 		this.table = table;
 		this.settings = settings;
+		this.services = services;
 		this.eventListener = eventListener;
-		this.bot = createBot(table);
+		
+		// The evaluators are kept when the bots are created again.
+		this.botShotEvaluator = services.getShotEvaluator() != null ? services.getShotEvaluator() : new SerialShotEvaluator(settings);
+		this.playerBotShotEvaluator = services.getShotEvaluator() != null ? services.getShotEvaluator() : new SerialShotEvaluator(settings);
+		createBots();
+		
+		this.botExecutor = services.getBotExecutor() != null ? services.getBotExecutor() : new ImmediateBotExecutor();
+		botDecision = null;
+		botEnabled = true;
+		givenOpponentShot = new ShotCandidate();
+		replay = null;
+		matchStats = new MatchStats();
 		gameStatus = GameStatus.NOT_IN_GAME;
 		buttonContactBallLastTime = null;
 		faultBox2DPosition = null;
 		this.gamePaused = true;
 		
-		ballAreaTimer = new Timer();
+		gameClock = new GameClock();
+		gameClock.setTimeScale(settings.getTimeScale());
+		
+		ballAreaTask = new GameClock.Task(){
+
+			@Override
+			public void run() {
+				gameView.hideBallArea();
+				
+				if(gameStatus == GameStatus.WAITING_AFTER_PLAYER){
+					afterPlayerBallArea();
+				}else if(gameStatus == GameStatus.WAITING_AFTER_OPPONENT){
+					afterOpponentBallArea();
+				}
+			}
+			
+		};
+		
+		opponentFirstStepTask = new GameClock.Task(){
+			
+			@Override
+			public void run() {
+				opponentInGame();
+			}
+			
+		};
+		
+		restoredBallLeavedMapCoordinate = new Vector2();
+		restoredFaultBox2DPosition = new Vector2();
 	}
 	
 	// --------------------------------------------------
@@ -130,18 +233,48 @@ public final class GameControl {
 		// Add the ball to the table.
 		table.moveBallToCenter();
 		
-		scoreBoard.getHalfTimeBoard().setHalfTimeType(HalfTimeType.FIRST_HALF);
-		
-		scoreBoard.getPlayerTimeLeftBoard().setMaxTimeLeft(settings.getTimeLeftSec());
-		scoreBoard.getOpponentTimeLeftBoard().setMaxTimeLeft(settings.getTimeLeftSec());
-		
-		scoreBoard.getTimeBoard().setHalfTime(settings.getHalfTime());
-		scoreBoard.getTimeBoard().start(this);
+		initMatch();
 
+		gameClock.resume();
 		gamePaused = false;
 		setFirstStep();
 	}
 	
+	/**
+	 * Start the game from the given snapshot instead of the kick-off. The recorded replay starts from the snapshot too.
+	 * 
+	 * @param snapshot - The snapshot. It is saved with the same settings as the settings of the game control.
+	 */
+	public void startGame(final TableSnapshot snapshot){
+		table.setVisibleButtons(true);
+		
+		initMatch();
+		restoreSnapshot(snapshot);
+		if(replay != null){
+			replay.setStartSnapshot(snapshot);
+		}
+		
+		gameClock.resume();
+		gamePaused = false;
+		restartBots();
+	}
+	
+	/**
+	 * Resume the given saved match from its snapshot.
+	 * 
+	 * @param savedMatch - The saved match. Its settings have to be the same as the settings of the game control.
+	 */
+	public void startSavedGame(final SavedMatch savedMatch){
+		Gdx.app.log(getClass().getName() + ".startSavedGame", "init");
+		
+		startGame(savedMatch.getSnapshot());
+		
+		// The saved match is deleted only when it is restored, so it is not lost before.
+		if(services.getMatchSaver() != null){
+			services.getMatchSaver().delete();
+		}
+	}
+	
 	/**
 	 * Goal in left gate event.
 	 */
@@ -188,6 +321,36 @@ public final class GameControl {
 		// Clear variables
 		faultBox2DPosition = null;
 		buttonContactBallLastTime = null;
+		instantResolveTurn = false;
+		instantResolvePending = false;
+	}
+	
+	/**
+	 * The player shoots with the given button.
+	 * 
+	 * @param buttonIndex - The index of the button in the player's buttons.
+	 * @param velocityX - The x coordinate value of the velocity.
+	 * @param velocityY - The y coordinate value of the velocity.
+	 */
+	public void playerShoot(final int buttonIndex, final float velocityX, final float velocityY){
+		recordKeyframe();
+		table.getPlayerButtons().get(buttonIndex).move(velocityX, velocityY);
+		recordInput(ReplayInputType.SHOT, Player.PLAYER, buttonIndex, velocityX, velocityY);
+		matchStats.addShot(Player.PLAYER);
+		playerStepped();
+	}
+	
+	/**
+	 * The bot shoots with the given button instead of its own decision.
+	 * 
+	 * @param buttonIndex - The index of the button in the opponent's buttons.
+	 * @param velocityX - The x coordinate value of the velocity.
+	 * @param velocityY - The y coordinate value of the velocity.
+	 */
+	public void opponentShoot(final int buttonIndex, final float velocityX, final float velocityY){
+		cancelBotDecision();
+		givenOpponentShot.set(buttonIndex, velocityX, velocityY);
+		applyOpponentShot(givenOpponentShot);
 	}
 	
 	/** 
@@ -195,6 +358,7 @@ public final class GameControl {
 	 */
 	public void playerStepped(){
 		gameStatus = GameStatus.WAITING_AFTER_PLAYER;
+		instantResolvePending = isInstantResolve();
 		scoreBoard.getPlayerTimeLeftBoard().clear();
 	}
 	
@@ -203,6 +367,7 @@ public final class GameControl {
 	 */
 	public void opponentStepped(){
 		gameStatus = GameStatus.WAITING_AFTER_OPPONENT;
+		instantResolvePending = isInstantResolve();
 		scoreBoard.getOpponentTimeLeftBoard().clear();
 	}
 	
@@ -213,6 +378,13 @@ public final class GameControl {
 		return gameStatus == GameStatus.PLAYER_IN_GAME;
 	}
 	
+	/** 
+	 * Return true when the opponent step now.
+	 */
+	public boolean isOpponentStep(){
+		return gameStatus == GameStatus.OPPONENT_IN_GAME;
+	}
+	
 	/**
 	 * Return true when the player can move button.
 	 */
@@ -220,6 +392,55 @@ public final class GameControl {
 		return gameStatus == GameStatus.PLAYER_MOVE_ONE_BUTTON || gameStatus == GameStatus.PLAYER_MOVE_SOME_BUTTON;
 	}
 	
+	/**
+	 * Return true when the movements of the last step have to be resolved instantly without drawing.
+	 */
+	public boolean isInstantResolvePending(){
+		return instantResolvePending;
+	}
+	
+	/**
+	 * Step with the bot or the player's bot when its decision is ready or when its time left is running out.
+	 * It is called at the start of every tick of the match engine.
+	 */
+	public void updateBot(){
+		if(botDecision == null){
+			return;
+		}
+		
+		final boolean player = botDecisionPlayer == Player.PLAYER;
+		if(gameStatus != (player ? GameStatus.PLAYER_IN_GAME : GameStatus.OPPONENT_IN_GAME)){
+			cancelBotDecision();
+			return;
+		}
+		
+		final TimeLeftBoard timeLeftBoard = player ? scoreBoard.getPlayerTimeLeftBoard() : scoreBoard.getOpponentTimeLeftBoard();
+		final ShotCandidate shot;
+		if(botDecision.isDone()){
+			shot = botDecision.getShot();
+		}else if(timeLeftBoard.getCurrentTimeSec() < BOT_DECISION_TIME_LEFT_LIMIT_SEC){
+			Gdx.app.log(GameControl.class.getName() + ".updateBot", "The bot is out of time, it steps with the simple shot.");
+			botDecision.cancel();
+			shot = (player ? playerBot : bot).createSimpleShot();
+		}else{
+			return;
+		}
+		
+		botDecision = null;
+		if(player){
+			applyPlayerBotShot(shot);
+		}else{
+			applyOpponentShot(shot);
+		}
+	}
+	
+	/**
+	 * Return true when the bot or the player's bot is thinking of its step.
+	 */
+	public boolean isBotThinking(){
+		return botDecision != null;
+	}
+	
 	/**
 	 * Return true when the player is in the game.
 	 */
@@ -232,14 +453,14 @@ public final class GameControl {
 	 */
 	public void endHalfTime(){
 		scoreBoard.getTimeBoard().stop();
-		ballAreaTimer.stop();
+		ballAreaTask.cancel();
 		gameStatus = GameStatus.NOT_IN_GAME;
 		
 		// Clear all movements
 		clearAllMovements();
 		
 		// Hide the arrow if it is visible
-		mainWindow.getGameWindow().hideArrow();
+		gameView.hideArrow();
 		
 		if(scoreBoard.getHalfTimeBoard().getHalfTimeType() == HalfTimeType.FIRST_HALF){
 			Gdx.app.log(GameControl.class.getName() + ".endHalfTime", "End half time");
@@ -260,7 +481,9 @@ public final class GameControl {
 		}else{
 			Gdx.app.log(GameControl.class.getName() + ".endHalfTime", "Game end.");
 			
-			mainWindow.showEndGameMenuWindow(scoreBoard.getPlayerGoalBoard().getNumber(), scoreBoard.getOpponentGoalBoard().getNumber());
+			saveReplay();
+			
+			gameView.showEndGameMenuWindow(scoreBoard.getPlayerGoalBoard().getNumber(), scoreBoard.getOpponentGoalBoard().getNumber());
 		}
 	}
 	
@@ -323,12 +546,12 @@ public final class GameControl {
 	/**
 	 * Select a button to move to the ball.
 	 * 
-	 * @param x - The x coordinate value to select button.
-	 * @param y - The y coordinate value to select button.
+	 * @param box2DX - The x coordinate value in box2D to select button.
+	 * @param box2DY - The y coordinate value in box2D to select button.
 	 */
-	public void selectMoovingButton(final float x, final float y){
+	public void selectMoovingButton(final float box2DX, final float box2DY){
 		for(final Button button : table.getPlayerButtons()){
-			if(button.contains(x, y)){
+			if(button.contains(box2DX, box2DY)){
 				moovingButton = button;
 				Gdx.app.log(GameControl.class.getName() + ".selectMoovingButton()", "Selected button.");
 				break;
@@ -337,17 +560,38 @@ public final class GameControl {
 		
 		if(moovingButton == null){
 			Gdx.app.log(GameControl.class.getName() + ".selectMoovingButton()", "Not selected button.");
-			scoreBoard.getPlayerTimeLeftBoard().clear();	
-			playerInGame();
+			endPlayerMoveButton();
 		}
 	}
 	
+	/**
+	 * Place the given button of the player and end its moving.
+	 * 
+	 * @param buttonIndex - The index of the button in the player's buttons.
+	 * @param box2DX - The x coordinate value of the new position in box2D.
+	 * @param box2DY - The y coordinate value of the new position in box2D.
+	 */
+	public void placePlayerButton(final int buttonIndex, final float box2DX, final float box2DY){
+		moovingButton = table.getPlayerButtons().get(buttonIndex);
+		moovingButton.setBox2DPosition(box2DX, box2DY);
+		endMoveSelectedButton();
+	}
+	
+	/**
+	 * End the moving of the player's buttons, the player steps.
+	 */
+	public void endPlayerMoveButton(){
+		recordInput(ReplayInputType.END_PLACING, Player.PLAYER, 0, 0, 0);
+		scoreBoard.getPlayerTimeLeftBoard().clear();
+		playerInGame();
+	}
+	
 	/**
 	 * Move the selected button to the given position.
 	 * 
-	 * @param position - The new position.
+	 * @param box2DPos - The new position in box2D.
 	 */
-	public void moveSelectedButton(final Vector2 position){
+	public void moveSelectedButton(final Vector2 box2DPos){
 		// The new position is ok
 		boolean ok = true;
 		
@@ -356,13 +600,10 @@ public final class GameControl {
 		}
 		
 		// Check the border of table
-		if(ok && !table.isButtonPositionOnTable(position)){
+		if(ok && !table.isButtonPositionOnTable(box2DPos)){
 			ok = false;
 		}
 		
-		// The x,y position in box2D world
-		final Vector2 box2DPos = Box2DUtil.screenPositionToBox2DPosition(position, new Vector2(table.getX(), table.getY()), table.getScale());
-		
 		// Check the gates
 		if(ok && (table.getLeftGate().isButtonPositionOnWall(box2DPos) || table.getRightGate().isButtonPositionOnWall(box2DPos))){
 			ok = false;
@@ -371,7 +612,7 @@ public final class GameControl {
 		// Check the player's button positions
 		if(ok){
 			for(final Button playerButton : table.getPlayerButtons()){
-				if(moovingButton != playerButton && playerButton.getBox2DPosition().dst(box2DPos) < Button.RADIUS * 2){
+				if(moovingButton != playerButton && box2DPos.dst(playerButton.getBox2DX(), playerButton.getBox2DY()) < Button.RADIUS * 2){
 					ok = false;
 				}
 			}
@@ -380,14 +621,14 @@ public final class GameControl {
 		// Check the opponent's button positions
 		if(ok){
 			for(final Button opponentButton : table.getOpponentButtons()){
-				if(opponentButton.getBox2DPosition().dst(box2DPos) < Button.RADIUS * 2){
+				if(box2DPos.dst(opponentButton.getBox2DX(), opponentButton.getBox2DY()) < Button.RADIUS * 2){
 					ok = false;
 				}
 			}
 		}
 		
 		// Check the ball position
-		if(ok && table.getBall().getBox2DPosition().dst(box2DPos) < Button.RADIUS + Ball.RADIUS){
+		if(ok && box2DPos.dst(table.getBall().getBox2DX(), table.getBall().getBox2DY()) < Button.RADIUS + Ball.RADIUS){
 			ok = false;
 		}
 		
@@ -403,6 +644,7 @@ public final class GameControl {
 	public void endMoveSelectedButton(){
 		Gdx.app.log(GameControl.class.getName() + ".endMoveSelectedButton()", "init");
 		if(moovingButton != null){
+			recordInput(ReplayInputType.PLACE, Player.PLAYER, table.getPlayerButtons().indexOf(moovingButton), moovingButton.getBox2DX(), moovingButton.getBox2DY());
 			moovingButton = null;
 		
 			if(gameStatus == GameStatus.PLAYER_MOVE_ONE_BUTTON){
@@ -418,17 +660,9 @@ public final class GameControl {
 	 */
 	public void pauseGame(){
 		Gdx.app.log(getClass().getName() + ".pauseGame", "init");
-		if(gameStatus == GameStatus.WAITING_AFTER_PLAYER || gameStatus == GameStatus.WAITING_AFTER_OPPONENT){
-			ballAreaTimer.stop();
-		}
-		scoreBoard.getTimeBoard().stop();
-		
-		if(gameStatus == GameStatus.PLAYER_IN_GAME){
-			scoreBoard.getPlayerTimeLeftBoard().stop();
-		}else if(gameStatus == GameStatus.OPPONENT_IN_GAME){
-			scoreBoard.getOpponentTimeLeftBoard().stop();
-		}
 		
+		// The time board, the time left boards and the timed events stop with the game clock.
+		gameClock.pause();
 		gamePaused = true;
 	}
 	
@@ -437,17 +671,8 @@ public final class GameControl {
 	 */
 	public void resumeGame(){
 		Gdx.app.log(getClass().getName() + ".resumeGame", "init");
-		if(gameStatus == GameStatus.WAITING_AFTER_PLAYER || gameStatus == GameStatus.WAITING_AFTER_OPPONENT){
-			ballAreaTimer.start();
-		}
-		scoreBoard.getTimeBoard().resume();
-		
-		if(gameStatus == GameStatus.PLAYER_IN_GAME){
-			scoreBoard.getPlayerTimeLeftBoard().resume();
-		}else if(gameStatus == GameStatus.OPPONENT_IN_GAME){
-			scoreBoard.getOpponentTimeLeftBoard().resume();
-		}
 		
+		gameClock.resume();
 		gamePaused = false;
 	}
 	
@@ -457,8 +682,12 @@ public final class GameControl {
 	public void quitGame(){
 		Gdx.app.log(getClass().getName() + ".quitGame", "init");
 		
+		saveReplay();
+		
 		// If quit the game before end
 		if(gameStatus != GameStatus.NOT_IN_GAME){
+			saveMatch();
+			
 			// Set the status
 			gameStatus = GameStatus.NOT_IN_GAME;
 			
@@ -466,9 +695,11 @@ public final class GameControl {
 			clearAllMovements();
 		}
 		
-		ballAreaTimer.clear();
+		cancelBotDecision();
+		
+		gameClock.clear();
 		// If visible the ball area then hide it
-		mainWindow.getGameWindow().hideBallArea();
+		gameView.hideBallArea();
 		
 		// Clear the half time board
 		scoreBoard.getHalfTimeBoard().setHalfTimeType(HalfTimeType.NOT_IN_GAME);
@@ -488,6 +719,124 @@ public final class GameControl {
 		table.setVisibleButtons(false);
 	}
 	
+	/**
+	 * Save the table and the state of the game into the given snapshot.
+	 * 
+	 * @param snapshot - The snapshot.
+	 */
+	public void saveSnapshot(final TableSnapshot snapshot){
+		table.saveSnapshot(snapshot);
+		
+		snapshot.setGameStatus(gameStatus);
+		snapshot.setBallLeavedMapCoordinate(ballLeavedMapCoordinate);
+		snapshot.setFaultBox2DPosition(faultBox2DPosition);
+		snapshot.setButtonContactBallLastTimeIndex(getButtonIndex(buttonContactBallLastTime));
+		
+		snapshot.setPlayerGoals(scoreBoard.getPlayerGoalBoard().getNumber());
+		snapshot.setOpponentGoals(scoreBoard.getOpponentGoalBoard().getNumber());
+		snapshot.setHalfTimeType(scoreBoard.getHalfTimeBoard().getHalfTimeType());
+		snapshot.setCurrentTime(scoreBoard.getTimeBoard().getCurrentTime());
+		
+		snapshot.setFirstStep(settings.getFirstStep());
+		snapshot.setInstantResolveTurn(instantResolveTurn);
+		snapshot.setInstantResolvePending(instantResolvePending);
+		
+		snapshot.setClockTime(gameClock.getTime());
+		snapshot.setTimeBoardDelaySec(scoreBoard.getTimeBoard().getDelaySec());
+		snapshot.setBallAreaDelaySec(ballAreaTask.getDelaySec());
+		snapshot.setOpponentFirstStepDelaySec(opponentFirstStepTask.getDelaySec());
+		snapshot.setPlayerTimeLeftSec(getTimeLeftSec(scoreBoard.getPlayerTimeLeftBoard()));
+		snapshot.setOpponentTimeLeftSec(getTimeLeftSec(scoreBoard.getOpponentTimeLeftBoard()));
+	}
+	
+	/**
+	 * Restore the table and the state of the game from the given snapshot.
+	 * 
+	 * @param snapshot - The snapshot.
+	 */
+	public void restoreSnapshot(final TableSnapshot snapshot){
+		table.restoreSnapshot(snapshot);
+		
+		gameStatus = snapshot.getGameStatus();
+		
+		final Vector2 snapshotBallLeavedMapCoordinate = snapshot.getBallLeavedMapCoordinate();
+		ballLeavedMapCoordinate = snapshotBallLeavedMapCoordinate != null ? restoredBallLeavedMapCoordinate.set(snapshotBallLeavedMapCoordinate) : null;
+		
+		final Vector2 snapshotFaultBox2DPosition = snapshot.getFaultBox2DPosition();
+		faultBox2DPosition = snapshotFaultBox2DPosition != null ? restoredFaultBox2DPosition.set(snapshotFaultBox2DPosition) : null;
+		
+		buttonContactBallLastTime = getButtonByIndex(snapshot.getButtonContactBallLastTimeIndex());
+		
+		scoreBoard.getPlayerGoalBoard().setNumber(snapshot.getPlayerGoals());
+		scoreBoard.getOpponentGoalBoard().setNumber(snapshot.getOpponentGoals());
+		scoreBoard.getHalfTimeBoard().setHalfTimeType(snapshot.getHalfTimeType());
+		scoreBoard.getTimeBoard().setCurrentTime(snapshot.getCurrentTime());
+		
+		settings.setFirstStep(snapshot.getFirstStep());
+		instantResolveTurn = snapshot.isInstantResolveTurn();
+		instantResolvePending = snapshot.isInstantResolvePending();
+		moovingButton = null;
+		
+		// The timed events are scheduled again with their remaining time.
+		gameClock.reset(snapshot.getClockTime());
+		if(snapshot.getTimeBoardDelaySec() != GameClock.NO_TASK){
+			scoreBoard.getTimeBoard().resume(this, snapshot.getTimeBoardDelaySec());
+		}
+		if(snapshot.getOpponentFirstStepDelaySec() != GameClock.NO_TASK){
+			gameClock.schedule(opponentFirstStepTask, snapshot.getOpponentFirstStepDelaySec());
+		}
+		
+		gameView.hideArrow();
+		gameView.hideBallArea();
+		if(snapshot.getBallAreaDelaySec() != GameClock.NO_TASK){
+			// The ball area is shown again, but it ends after the remaining time.
+			showBallArea();
+			gameClock.schedule(ballAreaTask, snapshot.getBallAreaDelaySec());
+		}
+		
+		restoreTimeLeftBoard(scoreBoard.getPlayerTimeLeftBoard(), snapshot.getPlayerTimeLeftSec());
+		restoreTimeLeftBoard(scoreBoard.getOpponentTimeLeftBoard(), snapshot.getOpponentTimeLeftSec());
+		
+		// The decision of the bot belongs to the old table. The callers which continue the match restart the bots.
+		cancelBotDecision();
+	}
+	
+	/**
+	 * Create the bots from the settings again, so the next match is played with the bots of the changed settings.
+	 * It is called between the matches.
+	 */
+	public void createBots(){
+		bot = createBot(table, Player.BOT, settings.getBotType());
+		playerBot = settings.getPlayerBotType() != null ? createBot(table, Player.PLAYER, settings.getPlayerBotType()) : null;
+		seedBots();
+	}
+	
+	/**
+	 * Cancel the decision of the bot and dispose the evaluators of the shots which are created by the game control.
+	 */
+	public void dispose(){
+		cancelBotDecision();
+		
+		if(botShotEvaluator != services.getShotEvaluator()){
+			botShotEvaluator.dispose();
+		}
+		if(playerBotShotEvaluator != services.getShotEvaluator()){
+			playerBotShotEvaluator.dispose();
+		}
+	}
+	
+	/**
+	 * Restart the bots after the game is restored from a snapshot: the bot thinks again when it is next
+	 * and the player's bot steps when the player is next.
+	 */
+	public void restartBots(){
+		cancelBotDecision();
+		if(gameStatus == GameStatus.OPPONENT_IN_GAME && botEnabled){
+			startBotDecision(bot, Player.BOT);
+		}
+		updatePlayerBot();
+	}
+	
 	// --------------------------------------------------
 	// ~ Protected methods
 	// --------------------------------------------------
@@ -530,10 +879,27 @@ public final class GameControl {
 	 * Create a bot.
 	 * 
 	 * @param table - The table.
+	 * @param player - The player whose buttons the bot steps with.
+	 * @param botType - The type of the bot.
 	 * @return A bot.
 	 */
-	private Bot createBot(final Table table) {
-		return new Bot(table){
+	private Bot createBot(final Table table, final Player player, final BotType botType) {
+		if(botType == BotType.SEARCH){
+			final ShotEvaluator shotEvaluator = player == Player.PLAYER ? playerBotShotEvaluator : botShotEvaluator;
+			
+			final int thinkingTime = player == Player.PLAYER ? settings.getPlayerBotThinkingTime() : settings.getBotThinkingTime();
+			
+			return new ShotSearchBot(table, player, thinkingTime, shotEvaluator){
+
+				@Override
+				protected Player whoIsOnLeftSide() {
+					return GameControl.this.whoIsOnLeftSide();
+				}
+				
+			};
+		}
+		
+		return new Bot(table, player){
 
 			@Override
 			protected Player whoIsOnLeftSide() {
@@ -566,6 +932,7 @@ public final class GameControl {
 		
 		gameStatus = GameStatus.PLAYER_IN_GAME;
 		scoreBoard.getPlayerTimeLeftBoard().start(this);
+		updatePlayerBot();
 	}
 	
 	/**
@@ -576,10 +943,181 @@ public final class GameControl {
 		
 		gameStatus = GameStatus.OPPONENT_IN_GAME;
 		scoreBoard.getOpponentTimeLeftBoard().start(this);
-		bot.step();
+		if(botEnabled){
+			startBotDecision(bot, Player.BOT);
+		}
+	}
+	
+	/**
+	 * Start the thinking of the given bot. The bot steps from {@link #updateBot()} when the decision is ready.
+	 * 
+	 * @param thinkingBot - The bot of the player or the opponent.
+	 * @param player - The player whose bot thinks.
+	 */
+	private void startBotDecision(final Bot thinkingBot, final Player player){
+		botDecision = thinkingBot.createDecision();
+		botDecisionPlayer = player;
+		botExecutor.execute(botDecision);
+		
+		// The decision can be ready at once.
+		updateBot();
+	}
+	
+	/**
+	 * Step with the given shot of the bot.
+	 * 
+	 * @param shot - The shot.
+	 */
+	private void applyOpponentShot(final ShotCandidate shot){
+		recordKeyframe();
+		bot.applyShot(shot);
+		recordInput(ReplayInputType.SHOT, Player.BOT, shot.getButtonIndex(), shot.getVelocityX(), shot.getVelocityY());
+		matchStats.addShot(Player.BOT);
 		opponentStepped();
 	}
 	
+	/**
+	 * Step or place the buttons with the player's bot when the player is next.
+	 * The bot of the player places its buttons at once and thinks of its step like the bot.
+	 */
+	private void updatePlayerBot(){
+		if(playerBot == null){
+			return;
+		}
+		
+		switch(gameStatus){
+			case PLAYER_IN_GAME :
+				startBotDecision(playerBot, Player.PLAYER);
+				break;
+			case PLAYER_MOVE_ONE_BUTTON :
+				playerBot.moveOneButton();
+				placePlayerBotButton();
+				break;
+			case PLAYER_MOVE_SOME_BUTTON :
+				playerBot.moveSomeButton();
+				placePlayerBotButton();
+				break;
+			default :
+				break;
+		}
+	}
+	
+	/**
+	 * Step with the given shot of the player's bot.
+	 * 
+	 * @param shot - The shot.
+	 */
+	private void applyPlayerBotShot(final ShotCandidate shot){
+		recordKeyframe();
+		playerBot.applyShot(shot);
+		recordInput(ReplayInputType.SHOT, Player.PLAYER, shot.getButtonIndex(), shot.getVelocityX(), shot.getVelocityY());
+		matchStats.addShot(Player.PLAYER);
+		playerStepped();
+	}
+	
+	/**
+	 * Place the button which is moved by the player's bot like the player places it, so the replay can repeat it.
+	 */
+	private void placePlayerBotButton(){
+		final Button button = playerBot.getSelectedButton();
+		placePlayerButton(table.getPlayerButtons().indexOf(button), button.getBox2DX(), button.getBox2DY());
+		
+		// Only one button can be moved before the free kicks.
+		if(gameStatus == GameStatus.PLAYER_MOVE_SOME_BUTTON){
+			endPlayerMoveButton();
+		}
+	}
+	
+	/**
+	 * Add the given input to the recorded replay if the match is recorded.
+	 * 
+	 * @param type - The type of the input.
+	 * @param player - The player who gave the input.
+	 * @param buttonIndex - The index of the button in the buttons of the player.
+	 * @param x - The x coordinate value of the velocity or the position.
+	 * @param y - The y coordinate value of the velocity or the position.
+	 */
+	private void recordInput(final ReplayInputType type, final Player player, final int buttonIndex, final float x, final float y){
+		if(replay != null){
+			replay.addInput(new ReplayInput(type, player, buttonIndex, x, y, gameClock.getTime()));
+		}
+	}
+	
+	/**
+	 * Add a keyframe to the recorded replay before every {@link GameConstans#REPLAY_KEYFRAME_INTERVAL}th shot if the match is recorded.
+	 * It has to be called before the shot moves the button.
+	 */
+	private void recordKeyframe(){
+		if(replay != null && replay.getShotNum() % GameConstans.REPLAY_KEYFRAME_INTERVAL == 0){
+			final TableSnapshot snapshot = new TableSnapshot(table);
+			saveSnapshot(snapshot);
+			replay.addKeyframe(new ReplayKeyframe(replay.getInputNum(), snapshot));
+		}
+	}
+	
+	/**
+	 * Save the recorded replay if the match is recorded.
+	 */
+	private void saveReplay(){
+		if(replay != null){
+			services.getReplayRecorder().save(replay);
+			replay = null;
+		}
+	}
+	
+	/**
+	 * Save the quitted match if the quitted matches are saved.
+	 */
+	private void saveMatch(){
+		if(services.getMatchSaver() != null){
+			final TableSnapshot snapshot = new TableSnapshot(table);
+			saveSnapshot(snapshot);
+			services.getMatchSaver().save(new SavedMatch(settings.copy(), snapshot));
+		}
+	}
+	
+	/**
+	 * Set up the score board, the game clock, the recorded replay and the statistics of a new match.
+	 */
+	private void initMatch(){
+		scoreBoard.getHalfTimeBoard().setHalfTimeType(HalfTimeType.FIRST_HALF);
+		
+		scoreBoard.getPlayerTimeLeftBoard().setMaxTimeLeft(settings.getTimeLeftSec());
+		scoreBoard.getOpponentTimeLeftBoard().setMaxTimeLeft(settings.getTimeLeftSec());
+		
+		// The times of the match are counted from zero.
+		gameClock.reset(0);
+		
+		scoreBoard.getTimeBoard().setHalfTime(settings.getHalfTime());
+		scoreBoard.getTimeBoard().start(this);
+		
+		// The settings are copied before the game changes them.
+		replay = services.getReplayRecorder() != null ? new Replay(settings.copy()) : null;
+		matchStats.clear();
+		seedBots();
+	}
+	
+	/**
+	 * Seed the bots from the settings, so the matches with the same seed get the same random shots.
+	 * The bots of the two players get different seeds.
+	 */
+	private void seedBots(){
+		bot.setSeed(settings.getBotSeed() * Player.values().length + Player.BOT.ordinal());
+		if(playerBot != null){
+			playerBot.setSeed(settings.getBotSeed() * Player.values().length + Player.PLAYER.ordinal());
+		}
+	}
+	
+	/**
+	 * Cancel the decision of the bot if it is thinking.
+	 */
+	private void cancelBotDecision(){
+		if(botDecision != null){
+			botDecision.cancel();
+			botDecision = null;
+		}
+	}
+	
 	/**
 	 * Set the first step.
 	 */
@@ -593,14 +1131,7 @@ public final class GameControl {
 		else{
 			gameStatus = GameStatus.OPPONENT_IN_GAME;
 			
-			Timer.schedule(new Task(){
-				
-				@Override
-				public void run() {
-					opponentInGame();
-				}
-				
-			}, 1);
+			gameClock.schedule(opponentFirstStepTask, 1);
 		}
 	}
 	
@@ -637,6 +1168,8 @@ public final class GameControl {
 	private void fault(){
 		Gdx.app.log(GameControl.class.getName() + ".fault", "init");
 		
+		matchStats.addFault(gameStatus == GameStatus.WAITING_AFTER_PLAYER ? Player.PLAYER : Player.BOT);
+		
 		if(isLeftPenaltyKick()){
 			leftPenaltyKick();
 		}else if(isRightPenaltyKick()){
@@ -693,6 +1226,7 @@ public final class GameControl {
 		
 		table.moveBallToLeftPenaltyPosition();
 		
+		matchStats.addPenaltyKick(whoIsOnLeftSide == Player.PLAYER ? Player.BOT : Player.PLAYER);
 		if(whoIsOnLeftSide == Player.PLAYER){
 			opponentMoveOneButton();
 		}else{
@@ -713,6 +1247,7 @@ public final class GameControl {
 		
 		table.moveBallToRightPenaltyPosition();
 		
+		matchStats.addPenaltyKick(whoIsOnRightSide == Player.BOT ? Player.PLAYER : Player.BOT);
 		if(whoIsOnRightSide == Player.BOT){
 			playerMoveOneButton();
 		}else{
@@ -725,26 +1260,12 @@ public final class GameControl {
 	 */
 	private void showBallArea(){
 		if(gameStatus == GameStatus.WAITING_AFTER_PLAYER){
-			mainWindow.getGameWindow().showBallArea(Button.PLAYER_COLOR);
+			gameView.showBallArea(Player.PLAYER);
 		}else if(gameStatus == GameStatus.WAITING_AFTER_OPPONENT){
-			mainWindow.getGameWindow().showBallArea(Button.OPPONENT_COLOR);
+			gameView.showBallArea(Player.BOT);
 		}
 		
-		ballAreaTimer.scheduleTask(new Task(){
-
-			@Override
-			public void run() {
-				mainWindow.getGameWindow().hideBallArea();
-				
-				if(gameStatus == GameStatus.WAITING_AFTER_PLAYER){
-					afterPlayerBallArea();
-				}else if(gameStatus == GameStatus.WAITING_AFTER_OPPONENT){
-					afterOpponentBallArea();
-				}
-			}
-			
-		}, settings.getBallAreaSec());
-		ballAreaTimer.start();
+		gameClock.schedule(ballAreaTask, settings.getBallAreaSec());
 	}
 	
 	/**
@@ -770,6 +1291,7 @@ public final class GameControl {
 					newBallPos.set(map.getLeftGoalKickBox2DPosition());
 					
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addGoalKick(Player.PLAYER);
 					playerMoveSomeButton();
 				}else{ 
 					// Corner kick from opponent
@@ -783,6 +1305,7 @@ public final class GameControl {
 					
 					table.create18CentimeterFreeSpace(newBallPos);
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addCornerKick(Player.BOT);
 					opponentMoveOneButton();
 				}
 			}else{
@@ -792,6 +1315,7 @@ public final class GameControl {
 					newBallPos.set(map.getLeftGoalKickBox2DPosition());
 					
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addGoalKick(Player.BOT);
 					opponentMoveSomeButton();
 				}else{
 					if(ballLeavedMapCoordinate.y < (mapBox2DY + mapBox2DHeight / 2)){
@@ -804,6 +1328,7 @@ public final class GameControl {
 					
 					table.create18CentimeterFreeSpace(newBallPos);
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addCornerKick(Player.PLAYER);
 					playerMoveOneButton();
 				}
 			}
@@ -816,6 +1341,7 @@ public final class GameControl {
 					newBallPos.set(map.getRightGoalKickBox2DPosition());
 					
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addGoalKick(Player.BOT);
 					opponentMoveSomeButton();
 				}else{
 					if(ballLeavedMapCoordinate.y < (mapBox2DY + mapBox2DHeight / 2)){
@@ -828,6 +1354,7 @@ public final class GameControl {
 					
 					table.create18CentimeterFreeSpace(newBallPos);
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addCornerKick(Player.PLAYER);
 					playerMoveOneButton();
 				}
 			}else{
@@ -837,6 +1364,7 @@ public final class GameControl {
 					newBallPos.set(map.getRightGoalKickBox2DPosition());
 					
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addGoalKick(Player.PLAYER);
 					playerMoveSomeButton();
 				}else{ 
 					// Corner kick from opponent
@@ -850,6 +1378,7 @@ public final class GameControl {
 					
 					table.create18CentimeterFreeSpace(newBallPos);
 					table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
+					matchStats.addCornerKick(Player.BOT);
 					opponentMoveOneButton();
 				}
 			}
@@ -869,8 +1398,10 @@ public final class GameControl {
 			
 			table.getBall().setBox2DPosition(newBallPos.x, newBallPos.y);
 			if(isOpponentButtonContactBallLastTime()){
+				matchStats.addThrowIn(Player.PLAYER);
 				playerMoveOneButton();
 			}else{
+				matchStats.addThrowIn(Player.BOT);
 				opponentMoveOneButton();
 			}
 		}
@@ -885,6 +1416,7 @@ public final class GameControl {
 		if(settings.getStepMode() == StepMode.NORMAL || settings.getStepMode() == StepMode.ALWAYS_PLAYER){
 			gameStatus = GameStatus.PLAYER_MOVE_ONE_BUTTON;
 			scoreBoard.getPlayerTimeLeftBoard().start(this);
+			updatePlayerBot();
 		}else{
 			opponentMoveOneButton();
 		}
@@ -916,6 +1448,7 @@ public final class GameControl {
 		if(settings.getStepMode() == StepMode.NORMAL || settings.getStepMode() == StepMode.ALWAYS_PLAYER){
 			gameStatus = GameStatus.PLAYER_MOVE_SOME_BUTTON;
 			scoreBoard.getPlayerTimeLeftBoard().start(this);
+			updatePlayerBot();
 		}else{
 			opponentMoveSomeButton();
 		}
@@ -1002,8 +1535,9 @@ public final class GameControl {
 	private void playerTimeLeftEnd(){
 		Gdx.app.log(getClass().getName() + ".playerTimeLeftEnd()", "init");
 		
-		// If the player is moving button then reset this variable.
+		// If the player is moving button then reset this variable. The button stays on its last position.
 		if(moovingButton != null){
+			recordInput(ReplayInputType.MOVE, Player.PLAYER, table.getPlayerButtons().indexOf(moovingButton), moovingButton.getBox2DX(), moovingButton.getBox2DY());
 			moovingButton = null;
 		}
 		
@@ -1037,6 +1571,74 @@ public final class GameControl {
 		}
 	}
 	
+	/**
+	 * Return with the time left of the given board or {@link TableSnapshot#NO_TIME_LEFT} when its countdown is not running.
+	 * 
+	 * @param timeLeftBoard - The time left board.
+	 */
+	private float getTimeLeftSec(final TimeLeftBoard timeLeftBoard){
+		return timeLeftBoard.isRunning() ? timeLeftBoard.getCurrentTimeSec() : TableSnapshot.NO_TIME_LEFT;
+	}
+	
+	/**
+	 * Restore the countdown of the given time left board.
+	 * 
+	 * @param timeLeftBoard - The time left board.
+	 * @param timeLeftSec - The time left or {@link TableSnapshot#NO_TIME_LEFT}.
+	 */
+	private void restoreTimeLeftBoard(final TimeLeftBoard timeLeftBoard, final float timeLeftSec){
+		if(timeLeftSec == TableSnapshot.NO_TIME_LEFT){
+			timeLeftBoard.clear();
+		}else{
+			timeLeftBoard.start(this);
+			timeLeftBoard.setCurrentTimeSec(timeLeftSec);
+		}
+	}
+	
+	/**
+	 * Return with the index of the given button. The player's buttons are followed by the opponent's buttons.
+	 * 
+	 * @param button - The button or null.
+	 * @return The index or {@link TableSnapshot#NO_BUTTON_INDEX} when the button is null.
+	 */
+	private int getButtonIndex(final Button button){
+		if(button == null){
+			return TableSnapshot.NO_BUTTON_INDEX;
+		}
+		
+		final int playerIndex = table.getPlayerButtons().indexOf(button);
+		if(playerIndex != -1){
+			return playerIndex;
+		}
+		
+		return table.getPlayerButtons().size() + table.getOpponentButtons().indexOf(button);
+	}
+	
+	/**
+	 * Return with the button of the given index.
+	 * 
+	 * @param index - The index from {@link #getButtonIndex(Button)}.
+	 */
+	private Button getButtonByIndex(final int index){
+		if(index == TableSnapshot.NO_BUTTON_INDEX){
+			return null;
+		}
+		
+		final List<Button> playerButtons = table.getPlayerButtons();
+		if(index < playerButtons.size()){
+			return playerButtons.get(index);
+		}
+		
+		return table.getOpponentButtons().get(index - playerButtons.size());
+	}
+	
+	/**
+	 * Return true when the movements have to be resolved instantly.
+	 */
+	private boolean isInstantResolve(){
+		return settings.isInstantResolve() || instantResolveTurn;
+	}
+	
 	/**
 	 * Clear all movements.
 	 */
@@ -1056,6 +1658,7 @@ public final class GameControl {
 		
 		// Clear button move listener
 		eventListener.clearMovings();
+		instantResolvePending = false;
 	}
 	
 	/**
@@ -1096,6 +1699,51 @@ public final class GameControl {
 	public boolean isGamePaused(){
 		return gamePaused;
 	}
+	
+	/**
+	 * Return true when the bot chooses its shots.
+	 */
+	public boolean isBotEnabled(){
+		return botEnabled;
+	}
+	
+	/**
+	 * Enable or disable the decisions of the bot. The disabled bot places its buttons,
+	 * but its shots are given with {@link #opponentShoot(int, float, float)}.
+	 * 
+	 * @param botEnabled - The new value.
+	 */
+	public void setBotEnabled(final boolean botEnabled){
+		this.botEnabled = botEnabled;
+		
+		if(!botEnabled){
+			cancelBotDecision();
+		}
+	}
+	
+	/**
+	 * Return with the counts of the events of the current match.
+	 */
+	public MatchStats getMatchStats(){
+		return matchStats;
+	}
+	
+	/**
+	 * Return with the clock of the game.
+	 */
+	public GameClock getGameClock(){
+		return gameClock;
+	}
+
+	/**
+	 * Resolve the movements of the current turn instantly.
+	 * The flag is cleared when all buttons stopped.
+	 * 
+	 * @param instantResolveTurn - The new value.
+	 */
+	public void setInstantResolveTurn(final boolean instantResolveTurn){
+		this.instantResolveTurn = instantResolveTurn;
+	}
 
 	/**
 	 * Return with the game status for tests.
@@ -0,0 +1,134 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.dgzt.core.replay.MatchSaver;
+import com.dgzt.core.replay.Replay;
+import com.dgzt.core.replay.ReplayRecorder;
+import com.dgzt.core.replay.SavedMatch;
+import com.dgzt.core.replay.TraceRecorder;
+
+/**
+ * The services of the game which are not rules: the threads of the bot, the recorders and the match
+ * which is played back or resumed. The settings hold only the rules, so they can be copied into the replays and the saved matches.
+ * Every field is optional, a game without services thinks at once in the game thread and records nothing.
+ * 
+ * @author Dgzt
+ */
+public class GameServices {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The evaluator of the bot's shots. When it is null the bot evaluates its shots serially. */
+	private ShotEvaluator shotEvaluator;
+	
+	/** The executor of the bot's decisions. When it is null the bot thinks at once in the game thread. */
+	private BotExecutor botExecutor;
+	
+	/** The recorder of the replays. When it is null the matches are not recorded. */
+	private ReplayRecorder replayRecorder;
+	
+	/** The replay which is played instead of a new match. When it is null a new match is played. */
+	private Replay replay;
+	
+	/** The recorder of the positions after every physics step. When it is null the positions are not recorded. */
+	private TraceRecorder traceRecorder;
+	
+	/** The saver of the quitted matches. When it is null the quitted matches are thrown away. */
+	private MatchSaver matchSaver;
+	
+	/** The saved match which is resumed instead of a new match. When it is null a new match is started. */
+	private SavedMatch savedMatch;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor. No service is set.
+	 */
+	public GameServices(){
+		shotEvaluator = null;
+		botExecutor = null;
+		replayRecorder = null;
+		replay = null;
+		traceRecorder = null;
+		matchSaver = null;
+		savedMatch = null;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+
+	public ShotEvaluator getShotEvaluator() {
+		return shotEvaluator;
+	}
+
+	public void setShotEvaluator(ShotEvaluator shotEvaluator) {
+		this.shotEvaluator = shotEvaluator;
+	}
+
+	public BotExecutor getBotExecutor() {
+		return botExecutor;
+	}
+
+	public void setBotExecutor(BotExecutor botExecutor) {
+		this.botExecutor = botExecutor;
+	}
+
+	public ReplayRecorder getReplayRecorder() {
+		return replayRecorder;
+	}
+
+	public void setReplayRecorder(ReplayRecorder replayRecorder) {
+		this.replayRecorder = replayRecorder;
+	}
+
+	public Replay getReplay() {
+		return replay;
+	}
+
+	public void setReplay(Replay replay) {
+		this.replay = replay;
+	}
+
+	public TraceRecorder getTraceRecorder() {
+		return traceRecorder;
+	}
+
+	public void setTraceRecorder(TraceRecorder traceRecorder) {
+		this.traceRecorder = traceRecorder;
+	}
+
+	public MatchSaver getMatchSaver() {
+		return matchSaver;
+	}
+
+	public void setMatchSaver(MatchSaver matchSaver) {
+		this.matchSaver = matchSaver;
+	}
+
+	public SavedMatch getSavedMatch() {
+		return savedMatch;
+	}
+
+	public void setSavedMatch(SavedMatch savedMatch) {
+		this.savedMatch = savedMatch;
+	}
+	
+}
@@ -0,0 +1,50 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+/**
+ * The view of the game. The game control notifies the view through this interface,
+ * so the game can run without any rendering.
+ * 
+ * @author Dgzt
+ */
+public interface GameView {
+
+	/**
+	 * Hide the arrow.
+	 */
+	void hideArrow();
+	
+	/**
+	 * Show the area of the ball.
+	 * 
+	 * @param player - The player whose turn is after the ball stopped.
+	 */
+	void showBallArea(Player player);
+	
+	/**
+	 * Hide the area of the ball.
+	 */
+	void hideBallArea();
+	
+	/**
+	 * Show the end game menu window.
+	 * 
+	 * @param playerGoals - The goals of the player.
+	 * @param opponentGoals - The goals of the opponent.
+	 */
+	void showEndGameMenuWindow(int playerGoals, int opponentGoals);
+	
+}
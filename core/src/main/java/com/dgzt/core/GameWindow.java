@@ -14,14 +14,20 @@
  */
 package com.dgzt.core;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.World;
 import com.dgzt.core.button.Button;
-import com.dgzt.core.scoreboard.ScoreBoard;
+import com.dgzt.core.button.ButtonShape;
+import com.dgzt.core.replay.ReplayInputListener;
+import com.dgzt.core.replay.ReplayOverlay;
+import com.dgzt.core.replay.ReplayPlayer;
+import com.dgzt.core.replay.SavedMatch;
+import com.dgzt.core.scoreboard.ScoreBoardShape;
 import com.dgzt.core.setting.Settings;
+import com.dgzt.core.shape.ShapeBatch;
+import com.dgzt.core.shape.TextBatch;
 import com.dgzt.core.util.Box2DDataUtil;
 import com.dgzt.core.util.MathUtil;
 
@@ -30,7 +36,7 @@ import com.dgzt.core.util.MathUtil;
  * 
  * @author Dgzt
  */
-public class GameWindow{
+public class GameWindow implements GameView{
 	
 	// --------------------------------------------------
 	// ~ Static members
@@ -40,36 +46,54 @@ public class GameWindow{
 	public static final float WIDTH = Box2DDataUtil.TABLE_RECTANGLE.getWidth();
 
 	/** The height of main window in cm. */
-	public static final float HEIGHT = ScoreBoard.HEIGHT + Box2DDataUtil.TABLE_RECTANGLE.getHeight();
+	public static final float HEIGHT = ScoreBoardShape.HEIGHT + Box2DDataUtil.TABLE_RECTANGLE.getHeight();
 	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The box2D world. */
-	private final World box2DWorld;
+	/** The main window. */
+	private final MainWindow mainWindow;
+	
+	/** The replay player. It is null when a new match is played. */
+	private final ReplayPlayer replayPlayer;
+	
+	/** The match engine. */
+	private final MatchEngine matchEngine;
 	
 	/** The game control. */
 	private final GameControl gameControl;
 	
-	/** The score board. */
-	private final ScoreBoard scoreBoard;
+	/** The shape of the score board. */
+	private final ScoreBoardShape scoreBoardShape;
 	
-	/** The table. */
-	private final Table table;
+	/** The shape of the table. */
+	private final TableShape tableShape;
 	
 	/** The frame per second rectangle. */
 	private final FPS fps;
 	
+	/** The frame profiler overlay. */
+	private final ProfilerOverlay profilerOverlay;
+	
 	/** The arrow. */
 	private final Arrow arrow;
 	
 	/** The ball area. */
 	private final BallArea ballArea;
 	
+	/** The state of the replay playback. It is null when a new match is played. */
+	private final ReplayOverlay replayOverlay;
+	
+	/** The saved match which is resumed at the first start. It is null when a new match is started. */
+	private SavedMatch savedMatch;
+	
 	/** The scale. */
 	private double scale;
 	
+	/** True when the last frame was animating. */
+	private boolean animating;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -77,30 +101,44 @@ public class GameWindow{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
-	 * @param batch - The batch.
+	 * @param shapeBatch - The shape batch.
+	 * @param textBatch - The text batch.
 	 * @param settings - The settings.
+	 * @param services - The services of the game.
 	 * @param multiInputProcessor - The multi input processor.
 	 * @param mainWindow - The main window.
 	 */
-	public GameWindow(final ShaderProgram shader, final Batch batch, final Settings settings, final MultiInputProcessor multiInputProcessor, final MainWindow mainWindow){
-		// The box2D world
-		box2DWorld = new World(new Vector2(0,0), true);
-		// The event listener
-		final EventListener eventListener = new EventListener(this);
-		box2DWorld.setContactListener(eventListener);
+	public GameWindow(final ShapeBatch shapeBatch, final TextBatch textBatch, final Settings settings, final GameServices services, final MultiInputProcessor multiInputProcessor, final MainWindow mainWindow){
+		this.mainWindow = mainWindow;
 		
-		scoreBoard = new ScoreBoard(shader);
-		table = new Table(shader, box2DWorld, eventListener);
-		fps = new FPS(shader, batch);
+		if(services.getReplay() != null){
+			replayPlayer = new ReplayPlayer(services.getReplay(), this);
+			matchEngine = replayPlayer.getMatchEngine();
+		}else{
+			replayPlayer = null;
+			matchEngine = new MatchEngine(settings, services, this);
+		}
+		savedMatch = replayPlayer == null ? services.getSavedMatch() : null;
+		gameControl = matchEngine.getGameControl();
 		
-		arrow = new Arrow(table, shader);
+		scoreBoardShape = new ScoreBoardShape(shapeBatch, matchEngine.getScoreBoard());
+		tableShape = new TableShape(shapeBatch, matchEngine.getTable());
+		fps = new FPS(textBatch);
+		profilerOverlay = new ProfilerOverlay(textBatch);
 		
-		ballArea = new BallArea(shader, table.getBall());
+		arrow = new Arrow(tableShape, shapeBatch);
 		
-		gameControl = new GameControl(mainWindow, scoreBoard, table, settings, eventListener);
+		ballArea = new BallArea(shapeBatch, tableShape.getBall());
 		
+		if(replayPlayer != null){
+			replayOverlay = new ReplayOverlay(textBatch, replayPlayer);
+			multiInputProcessor.add(new ReplayInputListener(replayPlayer));
+		}else{
+			replayOverlay = null;
+		}
 		multiInputProcessor.add(new GameWindowInputListener(this, gameControl));
+		
+		animating = false;
 	}
 	
 	// --------------------------------------------------
@@ -123,53 +161,107 @@ public class GameWindow{
 		final float tableX = x  + (width - tableWidth) / 2;
 		final float tableY = y;
 		
-		final float scoreBoardWidth = (float)(ScoreBoard.WIDTH * scale);
-		final float scoreBoardHeight = (float)(ScoreBoard.HEIGHT * scale);
+		final float scoreBoardWidth = (float)(ScoreBoardShape.WIDTH * scale);
+		final float scoreBoardHeight = (float)(ScoreBoardShape.HEIGHT * scale);
 		final float scoreBoardX = x + (width - scoreBoardWidth) / 2;
 		final float scoreBoardY = tableY + tableHeight;
 		
-		final float fpsWidth = FPS.WIDTH;
-		final float fpsHeight = FPS.HEIGHT;
+		final float fpsWidth = fps.getWidth();
+		final float fpsHeight = fps.getHeight();
 		final float fpsX = x + width - fpsWidth;
 		final float fpsY = y + height - fpsHeight;
 		
-		table.resize(tableX, tableY, tableWidth, tableHeight, scale);
-		scoreBoard.resize(scoreBoardX, scoreBoardY, scoreBoardWidth, scoreBoardHeight, scale);
+		tableShape.resize(tableX, tableY, tableWidth, tableHeight, scale);
+		scoreBoardShape.resize(scoreBoardX, scoreBoardY, scoreBoardWidth, scoreBoardHeight, scale);
 		fps.resize(fpsX, fpsY);
+		profilerOverlay.resize(x + width - profilerOverlay.getWidth(), y + height);
 		
 		ballArea.resize(scale);
+		
+		if(replayOverlay != null){
+			replayOverlay.resize(x, y + replayOverlay.getHeight());
+		}
 	}
 	
 	/**
 	 * Draw the child objects.
 	 */
 	public void draw() {
-		if( gameControl.isInGame() && !gameControl.isGamePaused()){
-			// Step the box2d world
-			box2DWorld.step(1/60f, 6, 2);
+		// Step the box2d world with fixed time step.
+		FrameProfiler.begin(FrameProfiler.PHYSICS);
+		if(replayPlayer != null){
+			replayPlayer.update(Gdx.graphics.getDeltaTime());
+			animating = !replayPlayer.isPaused() && matchEngine.isAnimating();
+			tableShape.setInterpolationAlpha(replayPlayer.getInterpolationAlpha());
+		}else{
+			matchEngine.update(Gdx.graphics.getDeltaTime());
+			animating = matchEngine.isAnimating();
+			tableShape.setInterpolationAlpha(matchEngine.getInterpolationAlpha());
 		}
+		FrameProfiler.end(FrameProfiler.PHYSICS);
 		
 		// Draw the shapes
-		scoreBoard.draw();
-		table.draw();
+		FrameProfiler.begin(FrameProfiler.SHAPES);
+		scoreBoardShape.draw();
+		tableShape.draw();
 		fps.draw();
+		profilerOverlay.draw();
+		if(replayOverlay != null && replayPlayer.isStarted()){
+			replayOverlay.draw();
+		}
 		
 		arrow.draw();
 		
 		if(ballArea.isVisible()){
 			ballArea.draw();
 		}
+		FrameProfiler.end(FrameProfiler.SHAPES);
+	}
+	
+	/**
+	 * Return true when the next frame has to be drawn without input or timer event.
+	 */
+	public boolean isAnimating(){
+		return animating || fps.isVisible() || profilerOverlay.isVisible();
+	}
+	
+	/**
+	 * Return with the real time in second until the next timed event of the game
+	 * or {@link GameClock#NO_TASK} when no event will come.
+	 */
+	public float getTimeToNextEvent(){
+		return replayPlayer != null ? replayPlayer.getTimeToNextEvent() : matchEngine.getTimeToNextEvent();
+	}
+	
+	/**
+	 * Start a new match, the saved match or the playback of the replay.
+	 */
+	public void startGame(){
+		if(replayPlayer != null){
+			replayPlayer.start();
+		}else if(savedMatch != null){
+			// The saved match is resumed only once.
+			gameControl.startSavedGame(savedMatch);
+			savedMatch = null;
+		}else{
+			gameControl.startGame();
+		}
 	}
 	
 	/**
 	 * Dispose the main window.
 	 */
 	public void dispose(){
-		scoreBoard.dispose();
-		table.dispose();
+		// The running match is quitted, so it is saved.
+		if(gameControl.isInGame()){
+			gameControl.quitGame();
+		}
+		
+		scoreBoardShape.dispose();
+		tableShape.dispose();
 		arrow.dispose();
 		ballArea.dispose();
-		box2DWorld.dispose();
+		matchEngine.dispose();
 	}
 	
 	/**
@@ -179,8 +271,12 @@ public class GameWindow{
 	 * @param y - The y coordinate value.
 	 */
 	public void mouseButtonPressed(final float x, final float y){
-		for(final Button playerButton : table.getPlayerButtons()){
-			if(playerButton.contains(x, y)){
+		final Vector2 box2DPosition = screenPositionToBox2DPosition(x, y);
+		
+		final List<Button> playerButtons = matchEngine.getTable().getPlayerButtons();
+		for(int i = 0; i < playerButtons.size(); ++i){
+			final Button playerButton = playerButtons.get(i);
+			if(playerButton.contains(box2DPosition.x, box2DPosition.y)){
 				arrow.show(playerButton);
 			}
 		}
@@ -206,39 +302,62 @@ public class GameWindow{
 			// If the length of arrow is bigger then radius of button
 			if(MathUtil.distance(arrow.getX1(), arrow.getY1(), arrow.getX2(), arrow.getY2()) > Button.RADIUS * scale){
 				final Button movingButton = arrow.getLastSelectedButton();
-				movingButton.move(arrow.getX1() - arrow.getX2(), arrow.getY1() - arrow.getY2());
-				gameControl.playerStepped();
+				final int buttonIndex = matchEngine.getTable().getPlayerButtons().indexOf(movingButton);
+				gameControl.playerShoot(buttonIndex, arrow.getX1() - arrow.getX2(), arrow.getY1() - arrow.getY2());
 			}
 		}
 	}
 	
 	/**
-	 * Show the ball area with the given color.
+	 * Convert the given screen position to position in box2D.
 	 * 
-	 * @param color - The new color.
+	 * @param x - The x coordinate value on screen.
+	 * @param y - The y coordinate value on screen.
+	 */
+	public Vector2 screenPositionToBox2DPosition(final float x, final float y){
+		return tableShape.screenPositionToBox2DPosition(x, y);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
 	 */
-	public void showBallArea(final Color color){
-		ballArea.resize(color, scale);
+	@Override
+	public void showBallArea(final Player player){
+		ballArea.resize(player == Player.PLAYER ? ButtonShape.PLAYER_COLOR : ButtonShape.OPPONENT_COLOR, scale);
 		
 		ballArea.setVisible(true);
 	}
 	
 	/**
-	 * Hide the ball area.
+	 * {@inheritDoc}
 	 */
+	@Override
 	public void hideBallArea(){
 		ballArea.setVisible(false);
 	}
 	
 	/**
-	 * Hide the arrow if it is visible.
+	 * {@inheritDoc}
 	 */
+	@Override
 	public void hideArrow(){
 		if(arrow.isVisible()){
 			arrow.hide();
 		}
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showEndGameMenuWindow(final int playerGoals, final int opponentGoals){
+		mainWindow.showEndGameMenuWindow(playerGoals, opponentGoals);
+	}
+	
 	// --------------------------------------------------
 	// ~ Getter methods
 	// --------------------------------------------------
@@ -251,10 +370,17 @@ public class GameWindow{
 	}
 	
 	/**
-	 * Return with the table.
+	 * Return with the frame profiler overlay.
+	 */
+	public ProfilerOverlay getProfilerOverlay() {
+		return profilerOverlay;
+	}
+	
+	/**
+	 * Return with the match engine.
 	 */
-	public Table getTable() {
-		return table;
+	public MatchEngine getMatchEngine() {
+		return matchEngine;
 	}
 
 	/**
@@ -71,7 +71,8 @@ final public class GameWindowInputListener extends InputAdapter{
 			if(gameControl.isPlayerStep()){
 				gameWindow.mouseButtonPressed(screenX, screenY);
 			}else if(gameControl.isPlayerMoveButton()){
-				gameControl.selectMoovingButton(screenX, screenY);
+				final Vector2 box2DPosition = gameWindow.screenPositionToBox2DPosition(screenX, screenY);
+				gameControl.selectMoovingButton(box2DPosition.x, box2DPosition.y);
 			}
 		}
 		
@@ -89,7 +90,7 @@ final public class GameWindowInputListener extends InputAdapter{
 			if(gameControl.isPlayerStep()){
 				gameWindow.mouseButtonMoved(screenX, screenY);
 			}else if(gameControl.isPlayerMoveButton()){
-				gameControl.moveSelectedButton(new Vector2(screenX, screenY));
+				gameControl.moveSelectedButton(gameWindow.screenPositionToBox2DPosition(screenX, screenY));
 			}
 		}
 		return super.touchDragged(screenX, screenY, pointer);
@@ -121,7 +122,17 @@ final public class GameWindowInputListener extends InputAdapter{
 		if(Keys.F == keycode){
 			Gdx.app.log(getClass().getName()+".keyDown", "'f' pressed.");
 			final FPS fps = gameWindow.getFPS();
-			fps.setVisible(!fps.isVisible());
+			final ProfilerOverlay profilerOverlay = gameWindow.getProfilerOverlay();
+			
+			// Hidden -> FPS -> profiler -> hidden
+			if(profilerOverlay.isVisible()){
+				profilerOverlay.setVisible(false);
+			}else if(fps.isVisible()){
+				fps.setVisible(false);
+				profilerOverlay.setVisible(true);
+			}else{
+				fps.setVisible(true);
+			}
 		}
 		return super.keyDown(keycode);
 	}
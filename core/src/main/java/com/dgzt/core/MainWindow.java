@@ -17,7 +17,6 @@ package com.dgzt.core;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
@@ -29,6 +28,8 @@ import com.dgzt.core.menu.MainMenuWindow;
 import com.dgzt.core.menu.button.BaseButton;
 import com.dgzt.core.menu.button.MainWindowButton;
 import com.dgzt.core.setting.Settings;
+import com.dgzt.core.shape.ShapeBatch;
+import com.dgzt.core.shape.TextBatch;
 
 /**
  * The main window.
@@ -48,12 +49,15 @@ public class MainWindow {
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The shader. */
-	private final ShaderProgram shader;
+	/** The shape batch. */
+	private final ShapeBatch shapeBatch;
 	
 	/** The batch. */
 	private final Batch batch;
 	
+	/** The text batch. It draws the texts of the game window in one pass. */
+	private final TextBatch textBatch;
+	
 	/** The stage. */
 	private final Stage stage;
 	
@@ -76,14 +80,16 @@ public class MainWindow {
 	/**
 	 * Constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param batch - The sprite batch.
 	 * @param settings - The settings.
+	 * @param services - The services of the game.
 	 * @param multiInputProcessor - The multi input processor.
 	 */
-	public MainWindow(final ShaderProgram shader, final Batch batch, final Settings settings, final Viewport viewport, final MultiInputProcessor multiInputProcessor){
-		this.shader = shader;
+	public MainWindow(final ShapeBatch shapeBatch, final Batch batch, final Settings settings, final GameServices services, final Viewport viewport, final MultiInputProcessor multiInputProcessor){
+		this.shapeBatch = shapeBatch;
 		this.batch = batch;
+		textBatch = new TextBatch(batch);
 		this.multiInputProcessor = multiInputProcessor;
 		
 		stage = new Stage(viewport, batch);
@@ -94,7 +100,7 @@ public class MainWindow {
 		
 		menuButton.setVisible(false);
 		
-		gameWindow = new GameWindow(shader, batch, settings, multiInputProcessor, this);
+		gameWindow = new GameWindow(shapeBatch, textBatch, settings, services, multiInputProcessor, this);
 		menuWindow = getMainMenuWindow();
 		
 		multiInputProcessor.add(getInputListener(gameWindow.getGameControl()));
@@ -144,17 +150,42 @@ public class MainWindow {
 	public void draw(){
 		gameWindow.draw();
 		
+		FrameProfiler.begin(FrameProfiler.SHAPES);
 		if(menuWindow != null){
 			menuWindow.draw();
 		}
 
-		shader.end();
+		shapeBatch.end();
+		FrameProfiler.end(FrameProfiler.SHAPES);
+		
+		FrameProfiler.begin(FrameProfiler.TEXT);
+		textBatch.flush();
+		FrameProfiler.end(FrameProfiler.TEXT);
+		
+		FrameProfiler.begin(FrameProfiler.STAGE);
 		stage.draw();
-		shader.begin();
+		FrameProfiler.end(FrameProfiler.STAGE);
+		
+		shapeBatch.begin();
 		Gdx.gl.glEnable(GL20.GL_BLEND);
 		Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 	}
 	
+	/**
+	 * Return true when the next frame has to be drawn without input or timer event.
+	 */
+	public boolean isAnimating(){
+		return gameWindow.isAnimating();
+	}
+	
+	/**
+	 * Return with the real time in second until the next timed event of the game
+	 * or {@link GameClock#NO_TASK} when no event will come.
+	 */
+	public float getTimeToNextEvent(){
+		return gameWindow.getTimeToNextEvent();
+	}
+	
 	/**
 	 * Dispose the window.
 	 */
@@ -233,7 +264,7 @@ public class MainWindow {
 	 * Return with the main menu window.
 	 */
 	private MainMenuWindow getMainMenuWindow(){
-		return new MainMenuWindow(shader, batch, stage.getViewport(), multiInputProcessor){
+		return new MainMenuWindow(shapeBatch, batch, stage.getViewport(), multiInputProcessor){
 
 			@Override
 			protected void startGame() {
@@ -242,7 +273,7 @@ public class MainWindow {
 				menuWindow.dispose();
 				menuWindow = null;
 				
-				gameWindow.getGameControl().startGame();
+				gameWindow.startGame();
 			}
 			
 		};
@@ -252,7 +283,7 @@ public class MainWindow {
 	 * Return with the in game menu window.
 	 */
 	private InGameMenuWindow getInGameMenuWindow(){
-		return new InGameMenuWindow(shader, batch, stage.getViewport(), multiInputProcessor) {
+		return new InGameMenuWindow(shapeBatch, batch, stage.getViewport(), multiInputProcessor) {
 			
 			@Override
 			protected void resumeGame() {
@@ -281,7 +312,7 @@ public class MainWindow {
 	 * @param opponentGoals - The number opponent's goals.
 	 */
 	private EndGameMenuWindow getEndGameMenuWindow(final int playerGoals, final int opponentGoals){
-		return new EndGameMenuWindow(shader, batch, stage.getViewport(), multiInputProcessor, playerGoals, opponentGoals){
+		return new EndGameMenuWindow(shapeBatch, batch, stage.getViewport(), multiInputProcessor, playerGoals, opponentGoals){
 
 			@Override
 			protected void quitToMainMenu() {
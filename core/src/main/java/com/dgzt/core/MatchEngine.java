@@ -0,0 +1,298 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.dgzt.core.scoreboard.ScoreBoard;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * The match engine. It owns the box2D world, the table, the scoreboard and the game control,
+ * so a match can be simulated without rendering.
+ * 
+ * @author Dgzt
+ */
+public class MatchEngine {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The length of one tick in game time. */
+	private static final float TICK_TIME = GameConstans.PHYSICS_TIME_STEP;
+	
+	/** The sum of the frame times can be a bit less than the sum of the ticks because of the float rounding. */
+	private static final float TICK_TIME_EPSILON = 0.00001f;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The box2D world. */
+	private final World box2DWorld;
+	
+	/** The event listener of box2D. */
+	private final EventListener eventListener;
+	
+	/** The table. */
+	private final Table table;
+	
+	/** The score board. */
+	private final ScoreBoard scoreBoard;
+	
+	/** The game control. */
+	private final GameControl gameControl;
+	
+	/** The stepper of the box2D world. */
+	private final WorldStepper worldStepper;
+	
+	/** The maximum number of the ticks with moving bodies in one update. */
+	private final int maxSubSteps;
+	
+	/** The game time which is not simulated yet, it is shorter than one tick after the updates. */
+	private float tickAccumulator;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor of a match without services: the bot thinks at once and nothing is recorded.
+	 * 
+	 * @param settings - The settings.
+	 * @param gameView - The view of the game.
+	 */
+	public MatchEngine(final Settings settings, final GameView gameView){
+		this(settings, new GameServices(), gameView);
+	}
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings.
+	 * @param services - The services of the game.
+	 * @param gameView - The view of the game.
+	 */
+	public MatchEngine(final Settings settings, final GameServices services, final GameView gameView){
+		box2DWorld = new World(new Vector2(0,0), true);
+		eventListener = new EventListener(this);
+		box2DWorld.setContactListener(eventListener);
+		
+		table = new Table(box2DWorld, eventListener);
+		scoreBoard = new ScoreBoard();
+		gameControl = new GameControl(gameView, scoreBoard, table, settings, services, eventListener);
+		worldStepper = new WorldStepper(box2DWorld, table, settings, services.getTraceRecorder());
+		maxSubSteps = settings.getMaxSubSteps();
+		tickAccumulator = 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Advance the simulation with the given frame time if the game is running.
+	 * The match advances in fixed ticks, so the game goes the same way with any frame times and a replay can repeat it.
+	 * The remaining time which is shorter than a tick is simulated in the next update.
+	 * At most the max sub steps ticks are performed in an update, the rest of the too long frames is dropped.
+	 * In instant resolve mode the movements after a step are resolved at once.
+	 * 
+	 * @param deltaTime - The elapsed time since the last update in second.
+	 * @return The number of the performed physics steps.
+	 */
+	public int update(final float deltaTime){
+		if(!gameControl.isInGame() || gameControl.isGamePaused()){
+			tickAccumulator = 0;
+			return 0;
+		}
+		
+		int steps = 0;
+		if(gameControl.isInstantResolvePending()){
+			steps += resolve();
+		}
+		
+		final GameClock gameClock = gameControl.getGameClock();
+		if(!gameClock.isPaused()){
+			tickAccumulator += deltaTime * gameClock.getTimeScale();
+		}
+		
+		// The too long frames are not simulated to the end, the game slows down instead.
+		int ticks = 0;
+		while(tickAccumulator >= TICK_TIME - TICK_TIME_EPSILON && ticks < maxSubSteps && gameControl.isInGame() && !gameControl.isGamePaused()){
+			tickAccumulator -= TICK_TIME;
+			steps += tick();
+			++ticks;
+		}
+		if(ticks >= maxSubSteps){
+			tickAccumulator %= TICK_TIME;
+		}
+		tickAccumulator = Math.max(0, tickAccumulator);
+		
+		return steps;
+	}
+	
+	/**
+	 * Advance the match with one tick: the bot steps at the start of the tick when its decision is ready,
+	 * then the game clock runs its due tasks, the countdowns of the time left boards are advanced and the box2D world steps once.
+	 * The inputs of the player are given between the ticks.
+	 * 
+	 * @return The number of the performed physics steps.
+	 */
+	public int tick(){
+		if(!gameControl.isInGame() || gameControl.isGamePaused()){
+			return 0;
+		}
+		
+		gameControl.updateBot();
+		
+		int steps = 0;
+		if(gameControl.isInstantResolvePending()){
+			steps += resolve();
+		}
+		
+		gameControl.getGameClock().advance(TICK_TIME);
+		scoreBoard.update(TICK_TIME);
+		
+		// A sleeping world does not change in the step, it is stepped in every tick anyway,
+		// so the new contacts of the placed buttons are found at the same time in every run.
+		if(gameControl.isInGame() && !gameControl.isGamePaused()){
+			worldStepper.step();
+			++steps;
+		}
+		
+		return steps;
+	}
+	
+	/**
+	 * Step the box2D world in a loop without drawing until all buttons stopped.
+	 * The all button stopped event fires from the last step.
+	 * 
+	 * @return The number of the performed physics steps.
+	 */
+	public int resolve(){
+		int steps = 0;
+		
+		do{
+			worldStepper.step();
+			++steps;
+		}while(eventListener.isAnyButtonMoving() && steps < GameConstans.MAX_INSTANT_RESOLVE_STEPS);
+		
+		return steps;
+	}
+	
+	/**
+	 * Return true when the screen changes without input: a body is awake, the bot is thinking or an instant resolve is pending.
+	 * Otherwise the game waits for the input or a timer. The line of the time left board shrinks in the steps of {@link #getTimeToNextEvent()}.
+	 */
+	public boolean isAnimating(){
+		if(!gameControl.isInGame() || gameControl.isGamePaused()){
+			return false;
+		}
+		
+		return table.isAnyBodyAwake() || gameControl.isBotThinking() || gameControl.isInstantResolvePending();
+	}
+	
+	/**
+	 * Return with the real time in second until the next timed event of the game or the next visible step of the time left line,
+	 * or {@link GameClock#NO_TASK} when no event will come.
+	 * A later event is returned as the time of one update, because an update does not advance the game further.
+	 */
+	public float getTimeToNextEvent(){
+		if(!gameControl.isInGame() || gameControl.isGamePaused()){
+			return GameClock.NO_TASK;
+		}
+		
+		final GameClock gameClock = gameControl.getGameClock();
+		float timeToNextEvent = gameClock.getTimeToNextTask();
+		final float timeToNextTimeLeftStep = scoreBoard.getTimeToNextTimeLeftStep();
+		if(timeToNextTimeLeftStep != GameClock.NO_TASK && gameClock.getTimeScale() > 0){
+			final float realTime = timeToNextTimeLeftStep / gameClock.getTimeScale();
+			timeToNextEvent = timeToNextEvent == GameClock.NO_TASK ? realTime : Math.min(timeToNextEvent, realTime);
+		}
+		if(timeToNextEvent == GameClock.NO_TASK){
+			return GameClock.NO_TASK;
+		}
+		
+		return Math.min(timeToNextEvent, maxSubSteps * TICK_TIME / gameClock.getTimeScale());
+	}
+	
+	/**
+	 * Restore the table and the state of the game from the given snapshot.
+	 * The next tick starts right after it.
+	 * 
+	 * @param snapshot - The snapshot.
+	 */
+	public void restoreSnapshot(final TableSnapshot snapshot){
+		gameControl.restoreSnapshot(snapshot);
+		tickAccumulator = 0;
+	}
+	
+	/**
+	 * Perform exactly one physics step.
+	 */
+	public void step(){
+		worldStepper.step();
+	}
+	
+	/**
+	 * Dispose the engine.
+	 */
+	public void dispose(){
+		gameControl.dispose();
+		worldStepper.dispose();
+		box2DWorld.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the interpolation value between the last two physics states.
+	 */
+	public float getInterpolationAlpha(){
+		return tickAccumulator / TICK_TIME;
+	}
+	
+	/**
+	 * Return with the box2D world.
+	 */
+	public World getBox2DWorld(){
+		return box2DWorld;
+	}
+	
+	/**
+	 * Return with the table.
+	 */
+	public Table getTable(){
+		return table;
+	}
+	
+	/**
+	 * Return with the score board.
+	 */
+	public ScoreBoard getScoreBoard(){
+		return scoreBoard;
+	}
+	
+	/**
+	 * Return with the game control.
+	 */
+	public GameControl getGameControl(){
+		return gameControl;
+	}
+
+}
@@ -0,0 +1,213 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+/**
+ * The counts of the events of a match for both players. The set pieces are counted for the player who takes them,
+ * the shots and the faults for the player who makes them.
+ * 
+ * @author Dgzt
+ */
+public class MatchStats {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The number of the shots by player. */
+	private final int[] shots;
+	
+	/** The number of the faults by player. */
+	private final int[] faults;
+	
+	/** The number of the penalty kicks by player. */
+	private final int[] penaltyKicks;
+	
+	/** The number of the corner kicks by player. */
+	private final int[] cornerKicks;
+	
+	/** The number of the throw ins by player. */
+	private final int[] throwIns;
+	
+	/** The number of the goal kicks by player. */
+	private final int[] goalKicks;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 */
+	public MatchStats(){
+		final int playerNum = Player.values().length;
+		
+		shots = new int[playerNum];
+		faults = new int[playerNum];
+		penaltyKicks = new int[playerNum];
+		cornerKicks = new int[playerNum];
+		throwIns = new int[playerNum];
+		goalKicks = new int[playerNum];
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Clear the counts before a new match.
+	 */
+	public void clear(){
+		for(int i = 0; i < shots.length; ++i){
+			shots[i] = 0;
+			faults[i] = 0;
+			penaltyKicks[i] = 0;
+			cornerKicks[i] = 0;
+			throwIns[i] = 0;
+			goalKicks[i] = 0;
+		}
+	}
+	
+	/**
+	 * Set the counts from the given stats.
+	 * 
+	 * @param matchStats - The stats.
+	 */
+	public void set(final MatchStats matchStats){
+		System.arraycopy(matchStats.shots, 0, shots, 0, shots.length);
+		System.arraycopy(matchStats.faults, 0, faults, 0, faults.length);
+		System.arraycopy(matchStats.penaltyKicks, 0, penaltyKicks, 0, penaltyKicks.length);
+		System.arraycopy(matchStats.cornerKicks, 0, cornerKicks, 0, cornerKicks.length);
+		System.arraycopy(matchStats.throwIns, 0, throwIns, 0, throwIns.length);
+		System.arraycopy(matchStats.goalKicks, 0, goalKicks, 0, goalKicks.length);
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Count a shot of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	void addShot(final Player player){
+		++shots[player.ordinal()];
+	}
+	
+	/**
+	 * Count a fault of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	void addFault(final Player player){
+		++faults[player.ordinal()];
+	}
+	
+	/**
+	 * Count a penalty kick of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	void addPenaltyKick(final Player player){
+		++penaltyKicks[player.ordinal()];
+	}
+	
+	/**
+	 * Count a corner kick of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	void addCornerKick(final Player player){
+		++cornerKicks[player.ordinal()];
+	}
+	
+	/**
+	 * Count a throw in of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	void addThrowIn(final Player player){
+		++throwIns[player.ordinal()];
+	}
+	
+	/**
+	 * Count a goal kick of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	void addGoalKick(final Player player){
+		++goalKicks[player.ordinal()];
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the number of the shots of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	public int getShots(final Player player){
+		return shots[player.ordinal()];
+	}
+	
+	/**
+	 * Return with the number of the faults of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	public int getFaults(final Player player){
+		return faults[player.ordinal()];
+	}
+	
+	/**
+	 * Return with the number of the penalty kicks of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	public int getPenaltyKicks(final Player player){
+		return penaltyKicks[player.ordinal()];
+	}
+	
+	/**
+	 * Return with the number of the corner kicks of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	public int getCornerKicks(final Player player){
+		return cornerKicks[player.ordinal()];
+	}
+	
+	/**
+	 * Return with the number of the throw ins of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	public int getThrowIns(final Player player){
+		return throwIns[player.ordinal()];
+	}
+	
+	/**
+	 * Return with the number of the goal kicks of the given player.
+	 * 
+	 * @param player - The player.
+	 */
+	public int getGoalKicks(final Player player){
+		return goalKicks[player.ordinal()];
+	}
+	
+}
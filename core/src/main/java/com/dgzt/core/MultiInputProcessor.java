@@ -16,6 +16,7 @@ package com.dgzt.core;
 
 import java.util.Iterator;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.utils.Array;
@@ -23,6 +24,7 @@ import com.badlogic.gdx.utils.Array;
 /**
  * The multi input processor.
  * Fix error in {@link InputMultiplexer} when remove processor in override methods.
+ * Every event requests a frame, so the render on demand mode draws the result of the input.
  * 
  * @author Dgzt
  */
@@ -80,6 +82,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean keyDown(int keycode) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -98,6 +102,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean keyUp(int keycode) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -116,6 +122,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean keyTyped(char character) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -134,6 +142,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -152,6 +162,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -170,6 +182,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -188,6 +202,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean mouseMoved(int screenX, int screenY) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -206,6 +222,8 @@ public class MultiInputProcessor implements InputProcessor{
 	 */
 	@Override
 	public boolean scrolled(int amount) {
+		Gdx.graphics.requestRendering();
+		
 		final Iterator<InputProcessor> iterator = processors.iterator();
 		
 		while(iterator.hasNext()){
@@ -0,0 +1,196 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.dgzt.core.shape.Text;
+import com.dgzt.core.shape.TextBatch;
+
+/**
+ * Show the values of the {@link FrameProfiler}: the section times, the draw calls, the allocation rate
+ * and the histogram of the frame times.
+ * 
+ * @author Dgzt
+ */
+public class ProfilerOverlay extends Text{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The refresh time of the text in nanosecond. */
+	private static final float REFRESH_TIME_IN_NANOSECOND = 500000000;
+	
+	/** The color. */
+	private static final Color COLOR = Color.RED;
+	
+	/** The bounds of the histogram buckets in millisecond. The last bucket has no upper bound. */
+	private static final float[] HISTOGRAM_BOUNDS = new float[]{0, 8, 17, 33, 50};
+	
+	/** The longest line of the text. */
+	private static final String WIDEST_LINE = "<8:000 <17:000 <33:000 <50:000 50+:000";
+	
+	/** The number of the bytes in one kilobyte. */
+	private static final int KILOBYTE = 1024;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The builder of the text. It is reused between the refreshes. */
+	private final StringBuilder builder;
+	
+	/** The time of the last refresh. */
+	private long refreshTime;
+	
+	/** Visible this object. */
+	private boolean visible;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param textBatch - The text batch.
+	 */
+	public ProfilerOverlay(final TextBatch textBatch){
+		super(textBatch, Fonts.getSmallFont(), COLOR);
+		builder = new StringBuilder();
+		visible = false;
+		
+		refreshTime = TimeUtils.nanoTime();
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void draw() {
+		if(visible){
+			
+			if(TimeUtils.nanoTime() - refreshTime > REFRESH_TIME_IN_NANOSECOND){
+				setText(createText());
+				
+				refreshTime = TimeUtils.nanoTime();
+			}
+			
+			super.draw();
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Create the text from the values of the frame profiler.
+	 */
+	String createText(){
+		builder.setLength(0);
+		
+		builder.append("FPS: ").append(Gdx.graphics != null ? Gdx.graphics.getFramesPerSecond() : 0).append('\n');
+		for(int i = 0; i < FrameProfiler.SECTION_NUM; ++i){
+			builder.append(FrameProfiler.getSectionName(i)).append(": ");
+			appendMillisecond(FrameProfiler.getSectionTime(i));
+			builder.append('\n');
+		}
+		
+		builder.append("draw calls: ").append(FrameProfiler.getDrawCalls());
+		builder.append(" vertices: ").append(FrameProfiler.getVertexCount()).append('\n');
+		builder.append("heap: ").append((int) (FrameProfiler.getAllocationRate() / KILOBYTE)).append(" KB/s\n");
+		
+		builder.append("p50: ");
+		appendMillisecond(FrameProfiler.getFrameTimePercentile(0.5f));
+		builder.append(" p95: ");
+		appendMillisecond(FrameProfiler.getFrameTimePercentile(0.95f));
+		builder.append(" p99: ");
+		appendMillisecond(FrameProfiler.getFrameTimePercentile(0.99f));
+		builder.append('\n');
+		
+		for(int i = 0; i < HISTOGRAM_BOUNDS.length; ++i){
+			final boolean last = i == HISTOGRAM_BOUNDS.length - 1;
+			final float maxFrameTime = last ? Float.MAX_VALUE : HISTOGRAM_BOUNDS[i + 1];
+			
+			if(i != 0){
+				builder.append(' ');
+			}
+			if(last){
+				builder.append((int) HISTOGRAM_BOUNDS[i]).append('+');
+			}else{
+				builder.append('<').append((int) maxFrameTime);
+			}
+			builder.append(':').append(FrameProfiler.getFrameNum(HISTOGRAM_BOUNDS[i], maxFrameTime));
+		}
+		
+		return builder.toString();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Append the given time with two decimals. The String.format is not available in GWT.
+	 * 
+	 * @param time - The time in millisecond.
+	 */
+	private void appendMillisecond(final float time){
+		final int hundredths = Math.round(time * 100);
+		final int fraction = hundredths % 100;
+		
+		builder.append(hundredths / 100).append('.');
+		if(fraction < 10){
+			builder.append('0');
+		}
+		builder.append(fraction).append(" ms");
+	}
+	
+	// --------------------------------------------------
+	// ~ Setters / Getters
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the width of the longest line.
+	 */
+	public float getWidth(){
+		return Fonts.getWidth(getFont(), WIDEST_LINE);
+	}
+	
+	public boolean isVisible(){
+		return visible;
+	}
+	
+	/**
+	 * Show or hide the overlay. The frame profiler measures only while the overlay is visible.
+	 * 
+	 * @param visible - The new value.
+	 */
+	public void setVisible(final boolean visible){
+		this.visible = visible;
+		FrameProfiler.setEnabled(visible);
+		
+		// Refresh at the next draw.
+		refreshTime = 0;
+	}
+	
+}
@@ -0,0 +1,78 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Evaluate the shot candidates one after the other in the calling thread.
+ * 
+ * @author Dgzt
+ */
+public class SerialShotEvaluator implements ShotEvaluator {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The settings of the simulator. */
+	private final Settings settings;
+	
+	/** The simulator. It is created at the first evaluation. */
+	private ShotSimulator simulator;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings of the simulator.
+	 */
+	public SerialShotEvaluator(final Settings settings){
+		this.settings = settings;
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evaluate(final TableSnapshot snapshot, final ShotCandidate[] candidates, final int from, final int to, final boolean attackLeftGate) {
+		if(simulator == null){
+			simulator = new ShotSimulator(settings);
+		}
+		
+		for(int i = from; i < to; ++i){
+			candidates[i].setScore(simulator.simulate(snapshot, candidates[i], attackLeftGate));
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		if(simulator != null){
+			simulator.dispose();
+			simulator = null;
+		}
+	}
+	
+}
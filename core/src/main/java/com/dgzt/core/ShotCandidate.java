@@ -0,0 +1,129 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+/**
+ * A possible shot of the bot and its score after the simulation.
+ * 
+ * @author Dgzt
+ */
+public class ShotCandidate {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The player whose button shoots. */
+	private Player player;
+	
+	/** The index of the shooting button in the buttons of the player. */
+	private int buttonIndex;
+	
+	/** The x coordinate value of the velocity. */
+	private float velocityX;
+	
+	/** The y coordinate value of the velocity. */
+	private float velocityY;
+	
+	/** The score of the shot. Bigger is better. */
+	private float score;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor of a shot of the opponent.
+	 */
+	public ShotCandidate(){
+		player = Player.BOT;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Set the shot.
+	 * 
+	 * @param buttonIndex - The index of the shooting button in the buttons of the player.
+	 * @param velocityX - The x coordinate value of the velocity.
+	 * @param velocityY - The y coordinate value of the velocity.
+	 */
+	public void set(final int buttonIndex, final float velocityX, final float velocityY){
+		this.buttonIndex = buttonIndex;
+		this.velocityX = velocityX;
+		this.velocityY = velocityY;
+		this.score = 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the player whose button shoots.
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+	
+	/**
+	 * Set the player whose button shoots.
+	 * 
+	 * @param player - The player.
+	 */
+	public void setPlayer(final Player player) {
+		this.player = player;
+	}
+	
+	/**
+	 * Return with the index of the shooting button in the buttons of the player.
+	 */
+	public int getButtonIndex() {
+		return buttonIndex;
+	}
+	
+	/**
+	 * Return with the x coordinate value of the velocity.
+	 */
+	public float getVelocityX() {
+		return velocityX;
+	}
+	
+	/**
+	 * Return with the y coordinate value of the velocity.
+	 */
+	public float getVelocityY() {
+		return velocityY;
+	}
+	
+	/**
+	 * Return with the score of the shot.
+	 */
+	public float getScore() {
+		return score;
+	}
+	
+	/**
+	 * Set the score of the shot.
+	 * 
+	 * @param score - The new score.
+	 */
+	public void setScore(final float score) {
+		this.score = score;
+	}
+	
+}
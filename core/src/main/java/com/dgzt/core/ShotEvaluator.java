@@ -0,0 +1,40 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+/**
+ * Evaluate the shot candidates of the bot. The implementations can simulate the shots in parallel.
+ * 
+ * @author Dgzt
+ */
+public interface ShotEvaluator {
+	
+	/**
+	 * Simulate the given shots from the saved table and set their scores.
+	 * 
+	 * @param snapshot - The saved table.
+	 * @param candidates - The shot candidates.
+	 * @param from - The index of the first candidate.
+	 * @param to - The index after the last candidate.
+	 * @param attackLeftGate - True when the bot attacks the left gate.
+	 */
+	void evaluate(TableSnapshot snapshot, ShotCandidate[] candidates, int from, int to, boolean attackLeftGate);
+	
+	/**
+	 * Dispose the simulators and stop the threads of the evaluator. It is not used after it.
+	 */
+	void dispose();
+	
+}
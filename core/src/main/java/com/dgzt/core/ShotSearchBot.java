@@ -0,0 +1,323 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+
+/**
+ * The bot which simulates random shots until its thinking time is over and steps with the best one.
+ * 
+ * @author Dgzt
+ */
+public abstract class ShotSearchBot extends Bot {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum number of the evaluated shots in one step. */
+	private static final int MAX_CANDIDATE_NUM = 256;
+	
+	/** The number of the shots evaluated together. */
+	private static final int BATCH_SIZE = 8;
+	
+	/** The number of the nearest buttons to the ball which can shoot. */
+	private static final int NEAREST_BUTTON_NUM = 3;
+	
+	/** The maximum difference from the direction of the ball in radian. */
+	private static final float MAX_ANGLE_NOISE = 0.35f;
+	
+	/** The minimum speed of a random shot. */
+	private static final float MIN_SHOT_SPEED = 20;
+	
+	/** The maximum speed of a random shot. */
+	private static final float MAX_SHOT_SPEED = 150;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The thinking time in millisec. */
+	private final int thinkingTime;
+	
+	/** The evaluator of the shots. */
+	private final ShotEvaluator shotEvaluator;
+	
+	/** The random of the bot. The decisions get their own randoms from it, because they can be thought on other threads. */
+	private final RandomXS128 random;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor of the opponent's bot.
+	 * 
+	 * @param table - The table.
+	 * @param thinkingTime - The thinking time in millisec.
+	 * @param shotEvaluator - The evaluator of the shots.
+	 */
+	public ShotSearchBot(final Table table, final int thinkingTime, final ShotEvaluator shotEvaluator){
+		this(table, Player.BOT, thinkingTime, shotEvaluator);
+	}
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param table - The table.
+	 * @param player - The player whose buttons the bot steps with.
+	 * @param thinkingTime - The thinking time in millisec.
+	 * @param shotEvaluator - The evaluator of the shots.
+	 */
+	public ShotSearchBot(final Table table, final Player player, final int thinkingTime, final ShotEvaluator shotEvaluator){
+		super(table, player);
+		this.thinkingTime = thinkingTime;
+		this.shotEvaluator = shotEvaluator;
+		random = new RandomXS128(GameConstans.DEFAULT_BOT_SEED);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void step() {
+		final BotDecision decision = createDecision();
+		decision.run();
+		applyShot(decision.getShot());
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSeed(final long seed) {
+		random.setSeed(seed);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BotDecision createDecision() {
+		final Table table = getTable();
+		final List<Button> buttons = getButtons();
+		final Ball ball = table.getBall();
+		
+		final TableSnapshot snapshot = new TableSnapshot(table);
+		table.saveSnapshot(snapshot);
+		
+		// The button which was moved to the ball has to shoot.
+		final int[] shooterIndexes;
+		if(getSelectedButton() != null){
+			shooterIndexes = new int[]{ buttons.indexOf(getSelectedButton()) };
+		}else{
+			shooterIndexes = findNearestButtons(buttons, ball);
+		}
+		
+		final float[] shooterBox2DXs = new float[shooterIndexes.length];
+		final float[] shooterBox2DYs = new float[shooterIndexes.length];
+		for(int i = 0; i < shooterIndexes.length; ++i){
+			final Button shooter = buttons.get(shooterIndexes[i]);
+			shooterBox2DXs[i] = shooter.getBox2DX();
+			shooterBox2DYs[i] = shooter.getBox2DY();
+		}
+		
+		return new ShotSearch(
+				new RandomXS128(random.nextLong()), 
+				snapshot, 
+				createSimpleShot(), 
+				shooterIndexes, 
+				shooterBox2DXs, 
+				shooterBox2DYs, 
+				ball.getBox2DX(), 
+				ball.getBox2DY(), 
+				whoIsOnLeftSide() != getPlayer()
+		);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Find the nearest buttons to the ball.
+	 * 
+	 * @param buttons - The buttons of the bot.
+	 * @param ball - The ball.
+	 * @return The indexes of the buttons from the nearest.
+	 */
+	private int[] findNearestButtons(final List<Button> buttons, final Ball ball){
+		final int shooterNum = Math.min(NEAREST_BUTTON_NUM, buttons.size());
+		final int[] shooterIndexes = new int[shooterNum];
+		final float[] distances = new float[shooterNum];
+		int foundNum = 0;
+		
+		for(int i = 0; i < buttons.size(); ++i){
+			final Button button = buttons.get(i);
+			final float dx = ball.getBox2DX() - button.getBox2DX();
+			final float dy = ball.getBox2DY() - button.getBox2DY();
+			final float distance = dx * dx + dy * dy;
+			
+			// Insertion into the sorted arrays.
+			int position = foundNum < shooterNum ? foundNum++ : shooterNum;
+			while(position > 0 && distances[position - 1] > distance){
+				if(position < shooterNum){
+					distances[position] = distances[position - 1];
+					shooterIndexes[position] = shooterIndexes[position - 1];
+				}
+				--position;
+			}
+			
+			if(position < shooterNum){
+				distances[position] = distance;
+				shooterIndexes[position] = i;
+			}
+		}
+		
+		return shooterIndexes;
+	}
+	
+	// --------------------------------------------------
+	// ~ Private classes
+	// --------------------------------------------------
+	
+	/**
+	 * Search the best shot from the copy of the table until the thinking time is over.
+	 */
+	private class ShotSearch extends BotDecision{
+		
+		/** The random of the shots. */
+		private final RandomXS128 random;
+		
+		/** The saved table. */
+		private final TableSnapshot snapshot;
+		
+		/** The shot candidates. The first one is the simple shot. */
+		private final ShotCandidate[] candidates;
+		
+		/** The indexes of the buttons which can shoot. */
+		private final int[] shooterIndexes;
+		
+		/** The x coordinate values of the shooters. */
+		private final float[] shooterBox2DXs;
+		
+		/** The y coordinate values of the shooters. */
+		private final float[] shooterBox2DYs;
+		
+		/** The x coordinate value of the ball. */
+		private final float ballBox2DX;
+		
+		/** The y coordinate value of the ball. */
+		private final float ballBox2DY;
+		
+		/** True when the bot attacks the left gate. */
+		private final boolean attackLeftGate;
+		
+		/**
+		 * The constructor.
+		 * 
+		 * @param random - The random of the shots.
+		 * @param snapshot - The saved table.
+		 * @param simpleShot - The simple shot to the ball.
+		 * @param shooterIndexes - The indexes of the buttons which can shoot.
+		 * @param shooterBox2DXs - The x coordinate values of the shooters.
+		 * @param shooterBox2DYs - The y coordinate values of the shooters.
+		 * @param ballBox2DX - The x coordinate value of the ball.
+		 * @param ballBox2DY - The y coordinate value of the ball.
+		 * @param attackLeftGate - True when the bot attacks the left gate.
+		 */
+		public ShotSearch(
+				final RandomXS128 random, 
+				final TableSnapshot snapshot, 
+				final ShotCandidate simpleShot, 
+				final int[] shooterIndexes, 
+				final float[] shooterBox2DXs, 
+				final float[] shooterBox2DYs, 
+				final float ballBox2DX, 
+				final float ballBox2DY, 
+				final boolean attackLeftGate
+		){
+			this.random = random;
+			this.snapshot = snapshot;
+			this.shooterIndexes = shooterIndexes;
+			this.shooterBox2DXs = shooterBox2DXs;
+			this.shooterBox2DYs = shooterBox2DYs;
+			this.ballBox2DX = ballBox2DX;
+			this.ballBox2DY = ballBox2DY;
+			this.attackLeftGate = attackLeftGate;
+			
+			candidates = new ShotCandidate[MAX_CANDIDATE_NUM];
+			candidates[0] = simpleShot;
+			for(int i = 1; i < MAX_CANDIDATE_NUM; ++i){
+				candidates[i] = new ShotCandidate();
+				candidates[i].setPlayer(getPlayer());
+			}
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected ShotCandidate think() {
+			final long deadline = TimeUtils.millis() + thinkingTime;
+			int candidateNum = 1;
+			int evaluatedNum = 0;
+			
+			do{
+				candidateNum = Math.min(evaluatedNum + BATCH_SIZE, MAX_CANDIDATE_NUM);
+				
+				for(int i = Math.max(evaluatedNum, 1); i < candidateNum; ++i){
+					setRandomShot(candidates[i], random.nextInt(shooterIndexes.length));
+				}
+				
+				shotEvaluator.evaluate(snapshot, candidates, evaluatedNum, candidateNum, attackLeftGate);
+				evaluatedNum = candidateNum;
+			}while(candidateNum < MAX_CANDIDATE_NUM && !isCancelled() && TimeUtils.millis() < deadline);
+			
+			ShotCandidate bestCandidate = candidates[0];
+			for(int i = 1; i < candidateNum; ++i){
+				if(candidates[i].getScore() > bestCandidate.getScore()){
+					bestCandidate = candidates[i];
+				}
+			}
+			
+			return bestCandidate;
+		}
+		
+		/**
+		 * Set a random shot near the direction of the ball.
+		 * 
+		 * @param candidate - The candidate.
+		 * @param shooter - The index of the shooter in the shooter arrays.
+		 */
+		private void setRandomShot(final ShotCandidate candidate, final int shooter){
+			final float angle = MathUtils.atan2(ballBox2DY - shooterBox2DYs[shooter], ballBox2DX - shooterBox2DXs[shooter]) + (2 * random.nextFloat() - 1) * MAX_ANGLE_NOISE;
+			final float speed = MIN_SHOT_SPEED + random.nextFloat() * (MAX_SHOT_SPEED - MIN_SHOT_SPEED);
+			
+			candidate.set(shooterIndexes[shooter], speed * MathUtils.cos(angle), speed * MathUtils.sin(angle));
+		}
+	}
+	
+}
@@ -0,0 +1,307 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.World;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.gate.AbstractGate;
+import com.dgzt.core.setting.Settings;
+import com.dgzt.core.util.Box2DDataUtil;
+
+/**
+ * Simulate a shot of the bot on a private box2D world and score the result.
+ * One simulator must be used from one thread only.
+ * 
+ * @author Dgzt
+ */
+public class ShotSimulator {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum number of the physics steps of one simulated shot. */
+	private static final int MAX_SIMULATION_STEPS = 300;
+	
+	/** The score of a goal in the attacked gate. */
+	private static final float GOAL_SCORE = 1000;
+	
+	/** The score of a goal in the own gate. */
+	private static final float OWN_GOAL_SCORE = -1000;
+	
+	/** The score of a fault. */
+	private static final float FAULT_SCORE = -300;
+	
+	/** The score when the ball leaves the map. */
+	private static final float BALL_LEAVED_MAP_SCORE = -100;
+	
+	/** The score when no button touches the ball. */
+	private static final float NO_BALL_CONTACT_SCORE = -50;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The box2D world of the simulation. */
+	private final World box2DWorld;
+	
+	/** The recorder of the simulated events. */
+	private final SimulationEventListener eventListener;
+	
+	/** The table of the simulation. */
+	private final Table table;
+	
+	/** The velocity iterations of the box2D world step. */
+	private final int velocityIterations;
+	
+	/** The position iterations of the box2D world step. */
+	private final int positionIterations;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings.
+	 */
+	public ShotSimulator(final Settings settings){
+		box2DWorld = new World(new Vector2(0, 0), true);
+		eventListener = new SimulationEventListener();
+		box2DWorld.setContactListener(eventListener);
+		
+		table = new Table(box2DWorld, eventListener);
+		eventListener.table = table;
+		
+		velocityIterations = settings.getVelocityIterations();
+		positionIterations = settings.getPositionIterations();
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Simulate the shot from the saved table until all buttons stopped or the ball leaved the map.
+	 * 
+	 * @param snapshot - The saved table.
+	 * @param candidate - The shot.
+	 * @param attackLeftGate - True when the shooter attacks the left gate.
+	 * @return The score of the shot. Bigger is better.
+	 */
+	public float simulate(final TableSnapshot snapshot, final ShotCandidate candidate, final boolean attackLeftGate){
+		table.restoreSnapshot(snapshot);
+		
+		// The contacts of the previous simulation would be kept without begin contact events.
+		table.resetContacts();
+		eventListener.clear();
+		
+		final Ball ball = table.getBall();
+		final float startDistance = getDistanceFromGate(ball.getBox2DX(), ball.getBox2DY(), attackLeftGate);
+		
+		final List<Button> shooterButtons = candidate.getPlayer() == Player.PLAYER ? table.getPlayerButtons() : table.getOpponentButtons();
+		shooterButtons.get(candidate.getButtonIndex()).move(candidate.getVelocityX(), candidate.getVelocityY());
+		
+		int steps = 0;
+		do{
+			box2DWorld.step(GameConstans.PHYSICS_TIME_STEP, velocityIterations, positionIterations);
+			table.updateBox2DPositions();
+			++steps;
+		}while(eventListener.isAnyButtonMoving() && !eventListener.ballLeavedMap && steps < MAX_SIMULATION_STEPS);
+		
+		float score = 0;
+		
+		if(eventListener.ballLeavedMap){
+			if(eventListener.goalInLeftGate || eventListener.goalInRightGate){
+				score += eventListener.goalInLeftGate == attackLeftGate ? GOAL_SCORE : OWN_GOAL_SCORE;
+			}else{
+				score += BALL_LEAVED_MAP_SCORE;
+			}
+		}
+		
+		if(eventListener.fault){
+			score += FAULT_SCORE;
+		}
+		
+		if(!eventListener.ballContacted){
+			score += NO_BALL_CONTACT_SCORE;
+		}
+		
+		return score + startDistance - getDistanceFromGate(ball.getBox2DX(), ball.getBox2DY(), attackLeftGate);
+	}
+	
+	/**
+	 * Dispose the box2D world of the simulator.
+	 */
+	public void dispose(){
+		box2DWorld.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the distance of the given position from the center of the attacked gate.
+	 * 
+	 * @param box2DX - The x coordinate value.
+	 * @param box2DY - The y coordinate value.
+	 * @param attackLeftGate - True when the left gate is attacked.
+	 */
+	private float getDistanceFromGate(final float box2DX, final float box2DY, final boolean attackLeftGate){
+		final AbstractGate gate = attackLeftGate ? table.getLeftGate() : table.getRightGate();
+		
+		return Vector2.dst(box2DX, box2DY, gate.getBox2DX() + AbstractGate.WIDTH / 2, gate.getBox2DY() + AbstractGate.HEIGHT / 2);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private classes
+	// --------------------------------------------------
+	
+	/**
+	 * Record the events of a simulated shot instead of driving the game control.
+	 */
+	private static class SimulationEventListener extends EventListener{
+		
+		/** The table of the simulation. */
+		private Table table;
+		
+		/** The number of the moving buttons. */
+		private int movingButtonNum;
+		
+		/** True when any button contacted the ball. */
+		private boolean ballContacted;
+		
+		/** True when a player's button contacted an opponent's button on the map before any button contacted the ball. */
+		private boolean fault;
+		
+		/** The mid point of the contacted buttons. */
+		private final Vector2 contactPoint = new Vector2();
+		
+		/** True when the ball leaved the map. */
+		private boolean ballLeavedMap;
+		
+		/** True when the ball is in the left gate. */
+		private boolean goalInLeftGate;
+		
+		/** True when the ball is in the right gate. */
+		private boolean goalInRightGate;
+		
+		/**
+		 * The constructor.
+		 */
+		public SimulationEventListener(){
+			super(null);
+		}
+		
+		/**
+		 * Clear the recorded events.
+		 */
+		public void clear(){
+			ballContacted = false;
+			fault = false;
+			ballLeavedMap = false;
+			goalInLeftGate = false;
+			goalInRightGate = false;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void movingButtonsUpdated(final int newMovingButtonNum) {
+			movingButtonNum = newMovingButtonNum;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isAnyButtonMoving() {
+			return movingButtonNum > 0;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void restoreMovingButtonNum(final int movingButtonNum) {
+			this.movingButtonNum = movingButtonNum;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clearMovings() {
+			movingButtonNum = 0;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void beginContact(final Contact contact) {
+			final Object userDataA = contact.getFixtureA().getUserData();
+			final Object userDataB = contact.getFixtureB().getUserData();
+			
+			if((userDataA instanceof Ball && userDataB instanceof Button) || (userDataB instanceof Ball && userDataA instanceof Button)){
+				ballContacted = true;
+			}
+			
+			// The same rule as GameControl#buttonContactButton(Button, Button).
+			if(userDataA instanceof Button && userDataB instanceof Button && !ballContacted){
+				final Button buttonA = (Button) userDataA;
+				final Button buttonB = (Button) userDataB;
+				
+				if( (table.getPlayerButtons().contains(buttonA) && table.getOpponentButtons().contains(buttonB)) ||
+					(table.getPlayerButtons().contains(buttonB) && table.getOpponentButtons().contains(buttonA)) ){
+					contactPoint.set((buttonA.getBox2DX() + buttonB.getBox2DX()) / 2, (buttonA.getBox2DY() + buttonB.getBox2DY()) / 2);
+					if(table.getMap().containsBox2DPosition(contactPoint)){
+						fault = true;
+					}
+				}
+			}
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void endContact(final Contact contact) {
+			if(contact.getFixtureA().getUserData() instanceof Map){
+				final Ball ball = (Ball) contact.getFixtureB().getUserData();
+				final AbstractGate leftGate = table.getLeftGate();
+				
+				ballLeavedMap = true;
+				
+				if(ball.getBox2DY() >= leftGate.getBox2DY() && ball.getBox2DY() <= leftGate.getBox2DY() + AbstractGate.HEIGHT){
+					if(ball.getBox2DX() < Box2DDataUtil.MAP_RECTANGLE.getX()){
+						goalInLeftGate = true;
+					}else if(ball.getBox2DX() > Box2DDataUtil.RIGHT_GATE_POSITION.x){
+						goalInRightGate = true;
+					}
+				}
+			}
+		}
+	}
+	
+}
@@ -18,27 +18,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
+import com.dgzt.core.button.AbstractButton;
 import com.dgzt.core.button.Ball;
 import com.dgzt.core.button.Button;
 import com.dgzt.core.gate.LeftGate;
 import com.dgzt.core.gate.RightGate;
-import com.dgzt.core.shape.RectangleShape;
 import com.dgzt.core.util.Box2DDataUtil;
 import com.dgzt.core.util.Box2DUtil;
 import com.dgzt.core.util.MathUtil;
 
 /**
- * The table object.
+ * The table object. It contains the box2D bodies of the game, the {@link TableShape} draws it.
  * 
  * @author Dgzt
  */
-public class Table extends RectangleShape{
+public class Table{
 	
 	// --------------------------------------------------
 	// ~ Private static members
@@ -60,6 +58,9 @@ public class Table extends RectangleShape{
 	// ~ Private members
 	// --------------------------------------------------
 	
+	/** The event listener. */
+	private final EventListener eventListener;
+	
 	/** The map. */
 	private final Map map;
 	
@@ -78,8 +79,8 @@ public class Table extends RectangleShape{
 	/** The ball. */
 	private final Ball ball;
 	
-	/** The actual scale value. */
-	private double scale;
+	/** The circle of the checked button. It is reused by every check. */
+	private final Circle buttonCircle;
 	
 	/** The Player's and Opponent's button and ball visibility. */
 	private boolean visibleButtons;
@@ -91,27 +92,27 @@ public class Table extends RectangleShape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
 	 * @param box2DWorld - The box2D world.
 	 * @param eventListener - The event listener.
 	 */
-	public Table(final ShaderProgram shader, final World box2DWorld, final EventListener eventListener){
-		super(shader, Color.GRAY);
+	public Table(final World box2DWorld, final EventListener eventListener){
+		this.eventListener = eventListener;
 		
 		addBox2DWalls(box2DWorld);
 		
-		map = createMap(shader, box2DWorld);
+		map = createMap(box2DWorld);
 		
-		leftGate = createLeftGate(shader, box2DWorld);
-		rightGate = createRightGate(shader, box2DWorld);
+		leftGate = createLeftGate(box2DWorld);
+		rightGate = createRightGate(box2DWorld);
 		
 		playerButtons = new ArrayList<Button>();
 		opponentButtons = new ArrayList<Button>();
 		
-		addButtons(shader, eventListener, box2DWorld);
+		addButtons(box2DWorld);
 		
-		ball = createBall(shader, eventListener, box2DWorld);
+		ball = createBall(box2DWorld);
 		
+		buttonCircle = new Circle();
 		visibleButtons = false;
 	}
 	
@@ -119,36 +120,6 @@ public class Table extends RectangleShape{
 	// ~ Public methods
 	// --------------------------------------------------
 
-	/**
-	 * Resize the table and the child objects.
-	 * 
-	 * @param x - The x coordinate value.
-	 * @param y - The y coordinate value.
-	 * @param width - The width value.
-	 * @param height - The height value.
-	 * @param scale - The scale value.
-	 */
-	public void resize(final float x, final float y, final float width, final float height, final double scale) {
-		super.resize(x, y, width, height);
-		this.scale = scale;
-		
-		map.resize(new Vector2(x, y), scale);
-		
-		leftGate.resize(x, y, scale);
-		
-		rightGate.resize(x, y, scale);
-		
-		for(final Button playerButton : playerButtons){
-			playerButton.resize();
-		}
-		
-		for(final Button opponentButton : opponentButtons){
-			opponentButton.resize();
-		}
-		
-		ball.resize();
-	}
-	
 	/**
 	 * Move the goalkeeper to the left gate.
 	 * 
@@ -427,63 +398,134 @@ public class Table extends RectangleShape{
 	/**
 	 * Return true when the position of button is on the table.
 	 * 
-	 * @param position - The position.
+	 * @param box2DPosition - The position in box2D.
 	 */
-	public boolean isButtonPositionOnTable(final Vector2 position){
-		final Rectangle rectangle = new Rectangle(getX(), getY(), getWidth(), getHeight());
-		final Circle circle = new Circle(position, (float) (getScale() * Button.RADIUS));
+	public boolean isButtonPositionOnTable(final Vector2 box2DPosition){
+		final Rectangle rectangle = Box2DDataUtil.TABLE_RECTANGLE;
+		buttonCircle.set(box2DPosition.x, box2DPosition.y, Button.RADIUS);
 		
-		return MathUtil.isRectangleFullyContainsCircle(rectangle, circle);
+		return MathUtil.isRectangleFullyContainsCircle(rectangle, buttonCircle);
 	}
 	
-	// --------------------------------------------------
-	// ~ Override methods
-	// --------------------------------------------------
-
 	/**
-	 * Draw the table and the child objects.
+	 * Save the actual positions of the buttons and the ball after a step of the box2D world
+	 * and report the number of the moving ones to the event listener.
 	 */
-	@Override
-	public void draw() {
-		// Draw the shapes.
-		super.draw();
-		map.draw();
+	public void updateBox2DPositions(){
+		int movingButtonNum = 0;
 		
-		if(visibleButtons){
-			for(final Button playerButton : playerButtons){
-				playerButton.draw();
+		for(int i = 0; i < playerButtons.size(); ++i){
+			if(playerButtons.get(i).updateBox2DPosition()){
+				++movingButtonNum;
 			}
-			
-			for(final Button opponentButton : opponentButtons){
-				opponentButton.draw();
+		}
+		
+		for(int i = 0; i < opponentButtons.size(); ++i){
+			if(opponentButtons.get(i).updateBox2DPosition()){
+				++movingButtonNum;
 			}
-			
-			ball.draw();
 		}
 		
-		leftGate.draw();
-		rightGate.draw();
+		if(ball.updateBox2DPosition()){
+			++movingButtonNum;
+		}
+		
+		eventListener.movingButtonsUpdated(movingButtonNum);
 	}
 	
 	/**
-	 * {@inheritDoc}
+	 * Save the state of the buttons and the ball into the given snapshot.
+	 * 
+	 * @param snapshot - The snapshot.
 	 */
-	@Override
-	public void dispose(){
-		map.dispose();
-		leftGate.dispose();
-		rightGate.dispose();
+	public void saveSnapshot(final TableSnapshot snapshot){
+		final float[] bodyStates = snapshot.getBodyStates();
+		int offset = 0;
 		
-		for(final Button playerButton : playerButtons){
-			playerButton.dispose();
+		for(int i = 0; i < playerButtons.size(); ++i){
+			playerButtons.get(i).saveState(bodyStates, offset);
+			offset += AbstractButton.STATE_SIZE;
 		}
-		for(final Button opponentButton : opponentButtons){
-			opponentButton.dispose();
+		
+		for(int i = 0; i < opponentButtons.size(); ++i){
+			opponentButtons.get(i).saveState(bodyStates, offset);
+			offset += AbstractButton.STATE_SIZE;
 		}
 		
-		ball.dispose();
+		ball.saveState(bodyStates, offset);
+	}
+	
+	/**
+	 * Restore the state of the buttons and the ball from the given snapshot.
+	 * 
+	 * @param snapshot - The snapshot.
+	 */
+	public void restoreSnapshot(final TableSnapshot snapshot){
+		final float[] bodyStates = snapshot.getBodyStates();
+		int offset = 0;
+		int movingButtonNum = 0;
+		
+		for(int i = 0; i < playerButtons.size(); ++i){
+			if(playerButtons.get(i).restoreState(bodyStates, offset)){
+				++movingButtonNum;
+			}
+			offset += AbstractButton.STATE_SIZE;
+		}
 		
-		super.dispose();
+		for(int i = 0; i < opponentButtons.size(); ++i){
+			if(opponentButtons.get(i).restoreState(bodyStates, offset)){
+				++movingButtonNum;
+			}
+			offset += AbstractButton.STATE_SIZE;
+		}
+		
+		if(ball.restoreState(bodyStates, offset)){
+			++movingButtonNum;
+		}
+		
+		eventListener.restoreMovingButtonNum(movingButtonNum);
+	}
+	
+	/**
+	 * Destroy the contacts of the buttons and the ball, so the touching bodies of a restored snapshot
+	 * begin their contacts again in the next step of the box2D world.
+	 */
+	public void resetContacts(){
+		for(int i = 0; i < playerButtons.size(); ++i){
+			playerButtons.get(i).resetContacts();
+		}
+		
+		for(int i = 0; i < opponentButtons.size(); ++i){
+			opponentButtons.get(i).resetContacts();
+		}
+		
+		ball.resetContacts();
+	}
+	
+	/**
+	 * Return true when a button or the ball is awake in the box2D world.
+	 */
+	public boolean isAnyBodyAwake(){
+		for(int i = 0; i < playerButtons.size(); ++i){
+			if(playerButtons.get(i).isAwake()){
+				return true;
+			}
+		}
+		
+		for(int i = 0; i < opponentButtons.size(); ++i){
+			if(opponentButtons.get(i).isAwake()){
+				return true;
+			}
+		}
+		
+		return ball.isAwake();
+	}
+	
+	/**
+	 * Return with the number of the buttons and the ball on the table.
+	 */
+	public int getBodyNum(){
+		return playerButtons.size() + opponentButtons.size() + 1;
 	}
 	
 	// --------------------------------------------------
@@ -493,56 +535,46 @@ public class Table extends RectangleShape{
 	/**
 	 * Create {@link Map} object.
 	 * 
-	 * @param shader - The shader.
 	 * @param box2DWorld - The Box2D world.
 	 */
-	protected Map createMap(final ShaderProgram shader, final World box2DWorld){
-		return new Map(shader, box2DWorld);
+	protected Map createMap(final World box2DWorld){
+		return new Map(box2DWorld);
 	}
 	
 	/**
 	 * Create {@link LeftGate} object.
 	 * 
-	 * @param shader - The shader.
 	 * @param box2DWorld - The Box2D world.
 	 */
-	protected LeftGate createLeftGate(final ShaderProgram shader, final World box2DWorld){
-		return new LeftGate(shader, box2DWorld);
+	protected LeftGate createLeftGate(final World box2DWorld){
+		return new LeftGate(box2DWorld);
 	}
 
 	/**
 	 * Create {@link RightGate} object.
 	 * 
-	 * @param shader - The shader.
 	 * @param box2DWorld - The Box2D world.
-	 * @param box2DX - The x coordinate value in Box2D world.
-	 * @param box2DY - The y coordinate value in Box2D world.
 	 */
-	protected RightGate createRightGate(final ShaderProgram shader, final World box2DWorld){
-		return new RightGate(shader, box2DWorld);
+	protected RightGate createRightGate(final World box2DWorld){
+		return new RightGate(box2DWorld);
 	}
 
 	/**
 	 * Create {@link Button} object.
 	 * 
-	 * @param shader - The shader.
-	 * @param eventListener - The event listener.
 	 * @param box2DWorld - The Box2D world.
-	 * @param color - The color.
 	 */
-	protected Button createButton(final ShaderProgram shader, final EventListener eventListener, final World box2DWorld, final Color color){
-		return new Button(this, shader, eventListener, box2DWorld, color);
+	protected Button createButton(final World box2DWorld){
+		return new Button(box2DWorld);
 	}
 	
 	/**
 	 * Create {@link Ball} object.
 	 * 
-	 * @param shader - The shader.
-	 * @param eventListener - The event listener.
 	 * @param box2DWorld - The Box2D world.
 	 */
-	protected Ball createBall(final ShaderProgram shader, final EventListener eventListener, final World box2DWorld){
-		return new Ball(this, shader, eventListener, box2DWorld);
+	protected Ball createBall(final World box2DWorld){
+		return new Ball(box2DWorld);
 	}
 	
 	// --------------------------------------------------
@@ -552,19 +584,17 @@ public class Table extends RectangleShape{
 	/**
 	 * Add buttons to the map.
 	 * 
-	 * @param shader - The shader.
-	 * @param eventListener - The event listener.
 	 * @param box2DWorld - The box2D world.
 	 */
-	private void addButtons(final ShaderProgram shader, final EventListener eventListener, final World box2DWorld){
+	private void addButtons(final World box2DWorld){
 		// The player's buttons.
 		for(int i = 0; i < 11; ++i){
-			playerButtons.add(createButton(shader, eventListener, box2DWorld, Button.PLAYER_COLOR));
+			playerButtons.add(createButton(box2DWorld));
 		}
 		
 		// The opponent's buttons.
 		for(int i = 0; i < 11; ++i){
-			opponentButtons.add(createButton(shader, eventListener, box2DWorld, Button.OPPONENT_COLOR));
+			opponentButtons.add(createButton(box2DWorld));
 		}
 	}
 	
@@ -673,13 +703,6 @@ public class Table extends RectangleShape{
 		return map;
 	}
 	
-	/**
-	 * Return with the actual scale value.
-	 */
-	public final double getScale(){
-		return scale;
-	}
-
 	/**
 	 * Set the visibility of Player's and Opponent's buttons and ball.
 	 * 
@@ -688,5 +711,12 @@ public class Table extends RectangleShape{
 	public void setVisibleButtons(final boolean visibleButtons) {
 		this.visibleButtons = visibleButtons;
 	}
+	
+	/**
+	 * Return with the visibility of Player's and Opponent's buttons and ball.
+	 */
+	public boolean isVisibleButtons() {
+		return visibleButtons;
+	}
 
 }
@@ -0,0 +1,273 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.button.ButtonShape;
+import com.dgzt.core.gate.GateShape;
+import com.dgzt.core.shape.RectangleShape;
+import com.dgzt.core.shape.ShapeBatch;
+import com.dgzt.core.shape.ShapeCache;
+import com.dgzt.core.util.Box2DUtil;
+
+/**
+ * The shape of the table.
+ * 
+ * @author Dgzt
+ */
+public class TableShape extends RectangleShape{
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The drawn table. */
+	private final Table table;
+	
+	/** The map. */
+	private final MapShape map;
+	
+	/** The left gate. */
+	private final GateShape leftGate;
+	
+	/** The right gate. */
+	private final GateShape rightGate;
+	
+	/** The player's buttons. */
+	private final List<ButtonShape> playerButtons;
+	
+	/** The opponent's buttons. */
+	private final List<ButtonShape> opponentButtons;
+	
+	/** The ball. */
+	private final ButtonShape ball;
+	
+	/** The baked background, map and gates. */
+	private final ShapeCache staticShapes;
+	
+	/** The x coordinate value of the baked shapes. */
+	private float bakedX;
+	
+	/** The y coordinate value of the baked shapes. */
+	private float bakedY;
+	
+	/** The scale of the baked shapes. */
+	private double bakedScale;
+	
+	/** The converted box2D position. It is reused by every conversion. */
+	private final Vector2 box2DPosition;
+	
+	/** The actual scale value. */
+	private double scale;
+	
+	/** The interpolation value between the last two states of the box2D world. */
+	private float interpolationAlpha;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 * @param table - The drawn table.
+	 */
+	public TableShape(final ShapeBatch shapeBatch, final Table table){
+		super(shapeBatch, Color.GRAY);
+		this.table = table;
+		
+		map = new MapShape(shapeBatch);
+		
+		leftGate = new GateShape(shapeBatch, table.getLeftGate());
+		rightGate = new GateShape(shapeBatch, table.getRightGate());
+		
+		playerButtons = new ArrayList<ButtonShape>();
+		for(final Button playerButton : table.getPlayerButtons()){
+			playerButtons.add(new ButtonShape(this, shapeBatch, playerButton, ButtonShape.PLAYER_COLOR));
+		}
+		
+		opponentButtons = new ArrayList<ButtonShape>();
+		for(final Button opponentButton : table.getOpponentButtons()){
+			opponentButtons.add(new ButtonShape(this, shapeBatch, opponentButton, ButtonShape.OPPONENT_COLOR));
+		}
+		
+		ball = new ButtonShape(this, shapeBatch, table.getBall(), ButtonShape.BALL_COLOR);
+		
+		staticShapes = new ShapeCache(shapeBatch);
+		box2DPosition = new Vector2();
+		
+		interpolationAlpha = 1;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+
+	/**
+	 * Resize the table and the child objects.
+	 * 
+	 * @param x - The x coordinate value.
+	 * @param y - The y coordinate value.
+	 * @param width - The width value.
+	 * @param height - The height value.
+	 * @param scale - The scale value.
+	 */
+	public void resize(final float x, final float y, final float width, final float height, final double scale) {
+		super.resize(x, y, width, height);
+		this.scale = scale;
+		
+		map.resize(new Vector2(x, y), scale);
+		
+		leftGate.resize(x, y, scale);
+		
+		rightGate.resize(x, y, scale);
+		
+		for(final ButtonShape playerButton : playerButtons){
+			playerButton.resize();
+		}
+		
+		for(final ButtonShape opponentButton : opponentButtons){
+			opponentButton.resize();
+		}
+		
+		ball.resize();
+		
+		// The static shapes change only when the table moves or scales.
+		if(staticShapes.isEmpty() || x != bakedX || y != bakedY || scale != bakedScale){
+			bakeStaticShapes();
+			bakedX = x;
+			bakedY = y;
+			bakedScale = scale;
+		}
+	}
+	
+	/**
+	 * Convert the given screen position to position in box2D.
+	 * The returned vector is reused by the next conversion.
+	 * 
+	 * @param x - The x coordinate value on screen.
+	 * @param y - The y coordinate value on screen.
+	 */
+	public Vector2 screenPositionToBox2DPosition(final float x, final float y){
+		return Box2DUtil.screenPositionToBox2DPosition(x, y, getX(), getY(), scale, box2DPosition);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Bake the background of the table, the map and the gates into the cache.
+	 */
+	private void bakeStaticShapes(){
+		final ShapeBatch shapeBatch = getShapeBatch();
+		
+		shapeBatch.beginCache();
+		super.draw();
+		map.draw();
+		leftGate.draw();
+		rightGate.draw();
+		shapeBatch.endCache(staticShapes);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * Draw the table and the child objects.
+	 */
+	@Override
+	public void draw() {
+		// Draw the background, the map and the gates with one draw call.
+		staticShapes.draw();
+		
+		// Indexed loops, so the frame does not create iterators.
+		if(table.isVisibleButtons()){
+			for(int i = 0; i < playerButtons.size(); ++i){
+				playerButtons.get(i).draw();
+			}
+			
+			for(int i = 0; i < opponentButtons.size(); ++i){
+				opponentButtons.get(i).draw();
+			}
+			
+			ball.draw();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose(){
+		map.dispose();
+		leftGate.dispose();
+		rightGate.dispose();
+		
+		for(final ButtonShape playerButton : playerButtons){
+			playerButton.dispose();
+		}
+		for(final ButtonShape opponentButton : opponentButtons){
+			opponentButton.dispose();
+		}
+		
+		ball.dispose();
+		staticShapes.dispose();
+		
+		super.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the shape of the ball.
+	 */
+	public ButtonShape getBall(){
+		return ball;
+	}
+	
+	/**
+	 * Return with the actual scale value.
+	 */
+	public final double getScale(){
+		return scale;
+	}
+	
+	/**
+	 * Return with the interpolation value between the last two states of the box2D world.
+	 */
+	public float getInterpolationAlpha(){
+		return interpolationAlpha;
+	}
+	
+	/**
+	 * Set the interpolation value between the last two states of the box2D world.
+	 * 
+	 * @param interpolationAlpha - The new value between 0 and 1.
+	 */
+	public void setInterpolationAlpha(final float interpolationAlpha){
+		this.interpolationAlpha = interpolationAlpha;
+	}
+
+}
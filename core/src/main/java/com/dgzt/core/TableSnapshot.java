@@ -0,0 +1,422 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.button.AbstractButton;
+
+/**
+ * The saved state of the table and the rules of the game.
+ * The snapshot allocates everything in the constructor, so it can be saved and restored many times without allocation.
+ * 
+ * @author Dgzt
+ */
+public class TableSnapshot {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The index of the button when no button contacted with the ball. */
+	public static final int NO_BUTTON_INDEX = -1;
+	
+	/** The time left when the countdown of the time left board is not running. */
+	public static final float NO_TIME_LEFT = -1;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The states of the player's buttons, the opponent's buttons and the ball in this order. */
+	private final float[] bodyStates;
+	
+	/** The status of the game. */
+	private GameStatus gameStatus;
+	
+	/** True when the ball leaved the map. */
+	private boolean ballLeavedMap;
+	
+	/** The last ball coordinate when leaved the map. */
+	private final Vector2 ballLeavedMapCoordinate;
+	
+	/** True when was fault in the current step. */
+	private boolean fault;
+	
+	/** The fault position. */
+	private final Vector2 faultBox2DPosition;
+	
+	/** The index of the button which contact with ball the last time. */
+	private int buttonContactBallLastTimeIndex;
+	
+	/** The number of the player's goals. */
+	private int playerGoals;
+	
+	/** The number of the opponent's goals. */
+	private int opponentGoals;
+	
+	/** The type of the half time. */
+	private HalfTimeType halfTimeType;
+	
+	/** The current time of the half time in second. */
+	private int currentTime;
+	
+	/** The player who steps first in the current half time. */
+	private Player firstStep;
+	
+	/** True when the current turn is resolved instantly. */
+	private boolean instantResolveTurn;
+	
+	/** True when the movements of the last step have to be resolved instantly. */
+	private boolean instantResolvePending;
+	
+	/** The time of the game clock in second. */
+	private float clockTime;
+	
+	/** The game time until the next count of the time board or {@link GameClock#NO_TASK}. */
+	private float timeBoardDelaySec;
+	
+	/** The game time until the end of the ball area or {@link GameClock#NO_TASK}. */
+	private float ballAreaDelaySec;
+	
+	/** The game time until the first step of the opponent or {@link GameClock#NO_TASK}. */
+	private float opponentFirstStepDelaySec;
+	
+	/** The time left of the player or {@link #NO_TIME_LEFT}. */
+	private float playerTimeLeftSec;
+	
+	/** The time left of the opponent or {@link #NO_TIME_LEFT}. */
+	private float opponentTimeLeftSec;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param table - The table which will be saved.
+	 */
+	public TableSnapshot(final Table table){
+		this(table.getBodyNum());
+	}
+	
+	/**
+	 * The constructor for a snapshot which is not saved from a table, but read from saved data.
+	 * 
+	 * @param bodyNum - The number of the buttons and the ball.
+	 */
+	public TableSnapshot(final int bodyNum){
+		bodyStates = new float[bodyNum * AbstractButton.STATE_SIZE];
+		ballLeavedMapCoordinate = new Vector2();
+		faultBox2DPosition = new Vector2();
+		buttonContactBallLastTimeIndex = NO_BUTTON_INDEX;
+		firstStep = GameConstans.DEFAULT_FIRST_STEP;
+		timeBoardDelaySec = GameClock.NO_TASK;
+		ballAreaDelaySec = GameClock.NO_TASK;
+		opponentFirstStepDelaySec = GameClock.NO_TASK;
+		playerTimeLeftSec = NO_TIME_LEFT;
+		opponentTimeLeftSec = NO_TIME_LEFT;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the states of the bodies.
+	 */
+	public float[] getBodyStates(){
+		return bodyStates;
+	}
+	
+	/**
+	 * Return with the status of the game.
+	 */
+	public GameStatus getGameStatus() {
+		return gameStatus;
+	}
+
+	/**
+	 * Set the status of the game.
+	 * 
+	 * @param gameStatus - The status.
+	 */
+	public void setGameStatus(final GameStatus gameStatus) {
+		this.gameStatus = gameStatus;
+	}
+	
+	/**
+	 * Return with the last ball coordinate when leaved the map or null when the ball is on the map.
+	 */
+	public Vector2 getBallLeavedMapCoordinate(){
+		return ballLeavedMap ? ballLeavedMapCoordinate : null;
+	}
+	
+	/**
+	 * Set the last ball coordinate when leaved the map.
+	 * 
+	 * @param ballLeavedMapCoordinate - The coordinate or null.
+	 */
+	public void setBallLeavedMapCoordinate(final Vector2 ballLeavedMapCoordinate){
+		ballLeavedMap = ballLeavedMapCoordinate != null;
+		if(ballLeavedMap){
+			this.ballLeavedMapCoordinate.set(ballLeavedMapCoordinate);
+		}
+	}
+	
+	/**
+	 * Return with the fault position or null when wasn't fault.
+	 */
+	public Vector2 getFaultBox2DPosition(){
+		return fault ? faultBox2DPosition : null;
+	}
+	
+	/**
+	 * Set the fault position.
+	 * 
+	 * @param faultBox2DPosition - The position or null.
+	 */
+	public void setFaultBox2DPosition(final Vector2 faultBox2DPosition){
+		fault = faultBox2DPosition != null;
+		if(fault){
+			this.faultBox2DPosition.set(faultBox2DPosition);
+		}
+	}
+	
+	/**
+	 * Return with the index of the button which contact with ball the last time.
+	 */
+	public int getButtonContactBallLastTimeIndex() {
+		return buttonContactBallLastTimeIndex;
+	}
+
+	/**
+	 * Set the index of the button which contact with ball the last time.
+	 * 
+	 * @param buttonContactBallLastTimeIndex - The index or {@link #NO_BUTTON_INDEX}.
+	 */
+	public void setButtonContactBallLastTimeIndex(final int buttonContactBallLastTimeIndex) {
+		this.buttonContactBallLastTimeIndex = buttonContactBallLastTimeIndex;
+	}
+
+	/**
+	 * Return with the number of the player's goals.
+	 */
+	public int getPlayerGoals() {
+		return playerGoals;
+	}
+
+	/**
+	 * Set the number of the player's goals.
+	 * 
+	 * @param playerGoals - The number of goals.
+	 */
+	public void setPlayerGoals(final int playerGoals) {
+		this.playerGoals = playerGoals;
+	}
+
+	/**
+	 * Return with the number of the opponent's goals.
+	 */
+	public int getOpponentGoals() {
+		return opponentGoals;
+	}
+
+	/**
+	 * Set the number of the opponent's goals.
+	 * 
+	 * @param opponentGoals - The number of goals.
+	 */
+	public void setOpponentGoals(final int opponentGoals) {
+		this.opponentGoals = opponentGoals;
+	}
+
+	/**
+	 * Return with the type of the half time.
+	 */
+	public HalfTimeType getHalfTimeType() {
+		return halfTimeType;
+	}
+
+	/**
+	 * Set the type of the half time.
+	 * 
+	 * @param halfTimeType - The type.
+	 */
+	public void setHalfTimeType(final HalfTimeType halfTimeType) {
+		this.halfTimeType = halfTimeType;
+	}
+
+	/**
+	 * Return with the current time of the half time in second.
+	 */
+	public int getCurrentTime() {
+		return currentTime;
+	}
+
+	/**
+	 * Set the current time of the half time in second.
+	 * 
+	 * @param currentTime - The time.
+	 */
+	public void setCurrentTime(final int currentTime) {
+		this.currentTime = currentTime;
+	}
+
+	/**
+	 * Return with the player who steps first in the current half time.
+	 */
+	public Player getFirstStep(){
+		return firstStep;
+	}
+	
+	/**
+	 * Set the player who steps first in the current half time.
+	 * 
+	 * @param firstStep - The player.
+	 */
+	public void setFirstStep(final Player firstStep){
+		this.firstStep = firstStep;
+	}
+
+	/**
+	 * Return with the value of the instant resolve mode of the current turn.
+	 */
+	public boolean isInstantResolveTurn(){
+		return instantResolveTurn;
+	}
+	
+	/**
+	 * Set the value of the instant resolve mode of the current turn.
+	 * 
+	 * @param instantResolveTurn - The value.
+	 */
+	public void setInstantResolveTurn(final boolean instantResolveTurn){
+		this.instantResolveTurn = instantResolveTurn;
+	}
+
+	/**
+	 * Return with the value of the pending instant resolve.
+	 */
+	public boolean isInstantResolvePending(){
+		return instantResolvePending;
+	}
+	
+	/**
+	 * Set the value of the pending instant resolve.
+	 * 
+	 * @param instantResolvePending - The value.
+	 */
+	public void setInstantResolvePending(final boolean instantResolvePending){
+		this.instantResolvePending = instantResolvePending;
+	}
+
+	/**
+	 * Return with the time of the game clock in second.
+	 */
+	public float getClockTime(){
+		return clockTime;
+	}
+	
+	/**
+	 * Set the time of the game clock in second.
+	 * 
+	 * @param clockTime - The time.
+	 */
+	public void setClockTime(final float clockTime){
+		this.clockTime = clockTime;
+	}
+
+	/**
+	 * Return with the game time until the next count of the time board or {@link GameClock#NO_TASK}.
+	 */
+	public float getTimeBoardDelaySec(){
+		return timeBoardDelaySec;
+	}
+	
+	/**
+	 * Set the game time until the next count of the time board.
+	 * 
+	 * @param timeBoardDelaySec - The time in second or {@link GameClock#NO_TASK}.
+	 */
+	public void setTimeBoardDelaySec(final float timeBoardDelaySec){
+		this.timeBoardDelaySec = timeBoardDelaySec;
+	}
+
+	/**
+	 * Return with the game time until the end of the ball area or {@link GameClock#NO_TASK}.
+	 */
+	public float getBallAreaDelaySec(){
+		return ballAreaDelaySec;
+	}
+	
+	/**
+	 * Set the game time until the end of the ball area.
+	 * 
+	 * @param ballAreaDelaySec - The time in second or {@link GameClock#NO_TASK}.
+	 */
+	public void setBallAreaDelaySec(final float ballAreaDelaySec){
+		this.ballAreaDelaySec = ballAreaDelaySec;
+	}
+
+	/**
+	 * Return with the game time until the first step of the opponent or {@link GameClock#NO_TASK}.
+	 */
+	public float getOpponentFirstStepDelaySec(){
+		return opponentFirstStepDelaySec;
+	}
+	
+	/**
+	 * Set the game time until the first step of the opponent.
+	 * 
+	 * @param opponentFirstStepDelaySec - The time in second or {@link GameClock#NO_TASK}.
+	 */
+	public void setOpponentFirstStepDelaySec(final float opponentFirstStepDelaySec){
+		this.opponentFirstStepDelaySec = opponentFirstStepDelaySec;
+	}
+
+	/**
+	 * Return with the time left of the player or {@link #NO_TIME_LEFT}.
+	 */
+	public float getPlayerTimeLeftSec(){
+		return playerTimeLeftSec;
+	}
+	
+	/**
+	 * Set the time left of the player.
+	 * 
+	 * @param playerTimeLeftSec - The time in second or {@link #NO_TIME_LEFT}.
+	 */
+	public void setPlayerTimeLeftSec(final float playerTimeLeftSec){
+		this.playerTimeLeftSec = playerTimeLeftSec;
+	}
+
+	/**
+	 * Return with the time left of the opponent or {@link #NO_TIME_LEFT}.
+	 */
+	public float getOpponentTimeLeftSec(){
+		return opponentTimeLeftSec;
+	}
+	
+	/**
+	 * Set the time left of the opponent.
+	 * 
+	 * @param opponentTimeLeftSec - The time in second or {@link #NO_TIME_LEFT}.
+	 */
+	public void setOpponentTimeLeftSec(final float opponentTimeLeftSec){
+		this.opponentTimeLeftSec = opponentTimeLeftSec;
+	}
+	
+}
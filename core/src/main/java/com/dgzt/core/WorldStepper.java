@@ -0,0 +1,99 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import com.badlogic.gdx.physics.box2d.World;
+import com.dgzt.core.replay.TraceRecorder;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Step the box2D world with the fixed time step. The ticks of the {@link MatchEngine} call it.
+ * 
+ * @author Dgzt
+ */
+public class WorldStepper {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The fixed time step in sec. */
+	private static final float TIME_STEP = GameConstans.PHYSICS_TIME_STEP;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The box2D world. */
+	private final World box2DWorld;
+	
+	/** The table. */
+	private final Table table;
+	
+	/** The velocity iterations. */
+	private final int velocityIterations;
+	
+	/** The position iterations. */
+	private final int positionIterations;
+	
+	/** The recorder of the positions after the steps or null. */
+	private final TraceRecorder traceRecorder;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param box2DWorld - The box2D world.
+	 * @param table - The table.
+	 * @param settings - The settings.
+	 * @param traceRecorder - The recorder of the positions after the steps or null.
+	 */
+	public WorldStepper(final World box2DWorld, final Table table, final Settings settings, final TraceRecorder traceRecorder){
+		this.box2DWorld = box2DWorld;
+		this.table = table;
+		this.velocityIterations = settings.getVelocityIterations();
+		this.positionIterations = settings.getPositionIterations();
+		this.traceRecorder = traceRecorder;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Step the world once with the fixed time step. The new positions are recorded if there is trace recorder.
+	 */
+	public void step(){
+		box2DWorld.step(TIME_STEP, velocityIterations, positionIterations);
+		table.updateBox2DPositions();
+		
+		if(traceRecorder != null){
+			traceRecorder.record(table);
+		}
+	}
+	
+	/**
+	 * Close the trace recorder.
+	 */
+	public void dispose(){
+		if(traceRecorder != null){
+			traceRecorder.close();
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import com.dgzt.core.Player;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * A bot of the tournament: the type of the bot with its thinking time.
+ * 
+ * @author Dgzt
+ */
+public class Contestant {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The name of the contestant. */
+	private final String name;
+	
+	/** The type of the bot. */
+	private final BotType botType;
+	
+	/** The thinking time of the bot in millisec. */
+	private final int thinkingTime;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param name - The name of the contestant.
+	 * @param botType - The type of the bot.
+	 * @param thinkingTime - The thinking time of the bot in millisec.
+	 */
+	public Contestant(final String name, final BotType botType, final int thinkingTime){
+		this.name = name;
+		this.botType = botType;
+		this.thinkingTime = thinkingTime;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Set the bot of the given player to this contestant.
+	 * 
+	 * @param settings - The settings.
+	 * @param player - The player whose buttons the bot steps with.
+	 */
+	public void setBot(final Settings settings, final Player player){
+		if(player == Player.PLAYER){
+			settings.setPlayerBotType(botType);
+			settings.setPlayerBotThinkingTime(thinkingTime);
+		}else{
+			settings.setBotType(botType);
+			settings.setBotThinkingTime(thinkingTime);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the name of the contestant.
+	 */
+	public String getName(){
+		return name;
+	}
+	
+	/**
+	 * Return with the type of the bot.
+	 */
+	public BotType getBotType(){
+		return botType;
+	}
+	
+	/**
+	 * Return with the thinking time of the bot in millisec.
+	 */
+	public int getThinkingTime(){
+		return thinkingTime;
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -0,0 +1,119 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import com.dgzt.core.MatchStats;
+import com.dgzt.core.Player;
+
+/**
+ * The result of a match which is played without window.
+ * 
+ * @author Dgzt
+ */
+public class MatchResult {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The player who stepped first in the first half. */
+	private final Player firstStep;
+	
+	/** The number of the player's goals. */
+	private final int playerGoals;
+	
+	/** The number of the opponent's goals. */
+	private final int opponentGoals;
+	
+	/** The counts of the events of the match. */
+	private final MatchStats matchStats;
+	
+	/** The number of the ticks of the match. */
+	private final int ticks;
+	
+	/** True when the match ended, false when it was quitted after too many ticks. */
+	private final boolean finished;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param firstStep - The player who stepped first in the first half.
+	 * @param playerGoals - The number of the player's goals.
+	 * @param opponentGoals - The number of the opponent's goals.
+	 * @param matchStats - The counts of the events of the match. They are copied.
+	 * @param ticks - The number of the ticks of the match.
+	 * @param finished - True when the match ended, false when it was quitted after too many ticks.
+	 */
+	public MatchResult(final Player firstStep, final int playerGoals, final int opponentGoals, final MatchStats matchStats, final int ticks, final boolean finished){
+		this.firstStep = firstStep;
+		this.playerGoals = playerGoals;
+		this.opponentGoals = opponentGoals;
+		this.matchStats = new MatchStats();
+		this.matchStats.set(matchStats);
+		this.ticks = ticks;
+		this.finished = finished;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the player who stepped first in the first half.
+	 */
+	public Player getFirstStep(){
+		return firstStep;
+	}
+	
+	/**
+	 * Return with the number of the player's goals.
+	 */
+	public int getPlayerGoals(){
+		return playerGoals;
+	}
+	
+	/**
+	 * Return with the number of the opponent's goals.
+	 */
+	public int getOpponentGoals(){
+		return opponentGoals;
+	}
+	
+	/**
+	 * Return with the counts of the events of the match.
+	 */
+	public MatchStats getMatchStats(){
+		return matchStats;
+	}
+	
+	/**
+	 * Return with the number of the ticks of the match.
+	 */
+	public int getTicks(){
+		return ticks;
+	}
+	
+	/**
+	 * Return true when the match ended, false when it was quitted after too many ticks.
+	 */
+	public boolean isFinished(){
+		return finished;
+	}
+	
+}
@@ -0,0 +1,147 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import com.dgzt.core.GameConstans;
+import com.dgzt.core.GameControl;
+import com.dgzt.core.GameView;
+import com.dgzt.core.MatchEngine;
+import com.dgzt.core.Player;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Play matches without window as fast as possible. The bots step at once and the ticks follow each other without waiting.
+ * The match engine and its box2D world are reused by every match, so one runner must be used from one thread only.
+ * 
+ * @author Dgzt
+ */
+public class MatchRunner {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The match is quitted after this many times of its playing time. */
+	private static final int MAX_MATCH_TIME_MULTIPLIER = 4;
+	
+	/** The view which shows nothing. */
+	private static final GameView NO_VIEW = new GameView() {
+		
+		@Override
+		public void hideArrow() {
+		}
+		
+		@Override
+		public void showBallArea(final Player player) {
+		}
+		
+		@Override
+		public void hideBallArea() {
+		}
+		
+		@Override
+		public void showEndGameMenuWindow(final int playerGoals, final int opponentGoals) {
+		}
+	};
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The settings of the matches. */
+	private final Settings settings;
+	
+	/** The match engine. */
+	private final MatchEngine matchEngine;
+	
+	/** The maximum number of the ticks of one match. */
+	private final int maxTicks;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor. The matches are not recorded, saved or traced and the bots think in the thread of the runner.
+	 * 
+	 * @param settings - The settings. They are copied.
+	 */
+	public MatchRunner(final Settings settings){
+		this.settings = settings.copy();
+		
+		matchEngine = new MatchEngine(this.settings, NO_VIEW);
+		maxTicks = (int) (MAX_MATCH_TIME_MULTIPLIER * 2 * settings.getHalfTime() / GameConstans.PHYSICS_TIME_STEP);
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Play a whole match.
+	 * 
+	 * @param firstStep - The player who steps first in the first half.
+	 * @param botSeed - The seed of the random shots of the bots.
+	 * @return The result of the match.
+	 */
+	public MatchResult play(final Player firstStep, final long botSeed){
+		final GameControl gameControl = matchEngine.getGameControl();
+		
+		// The first step of the settings is changed at the half time.
+		settings.setFirstStep(firstStep);
+		settings.setBotSeed(botSeed);
+		gameControl.startGame();
+		
+		int ticks = 0;
+		while(gameControl.isInGame() && ticks < maxTicks){
+			matchEngine.tick();
+			++ticks;
+		}
+		
+		final MatchResult result = new MatchResult(
+				firstStep,
+				matchEngine.getScoreBoard().getPlayerGoalBoard().getNumber(),
+				matchEngine.getScoreBoard().getOpponentGoalBoard().getNumber(),
+				gameControl.getMatchStats(),
+				ticks,
+				!gameControl.isInGame()
+		);
+		
+		// The score board is cleared for the next match.
+		gameControl.quitGame();
+		
+		return result;
+	}
+	
+	/**
+	 * Change the bots of the next matches. The table and the box2D world of the runner are kept.
+	 * 
+	 * @param home - The contestant whose bot steps with the player's buttons.
+	 * @param away - The contestant whose bot steps with the opponent's buttons.
+	 */
+	public void setBots(final Contestant home, final Contestant away){
+		home.setBot(settings, Player.PLAYER);
+		away.setBot(settings, Player.BOT);
+		matchEngine.getGameControl().createBots();
+	}
+	
+	/**
+	 * Dispose the match engine.
+	 */
+	public void dispose(){
+		matchEngine.dispose();
+	}
+	
+}
@@ -0,0 +1,56 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+/**
+ * The type of the pairing of the tournament.
+ * 
+ * @author Dgzt
+ */
+public enum PairingType {
+	
+	/** Every contestant plays with every other contestant in every round. */
+	ROUND_ROBIN("round_robin"),
+	
+	/** The contestants play with the contestant next to them in the rating table, the repeated meetings are avoided. */
+	SWISS("swiss");
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private String pairingType;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	PairingType(final String pairingType){
+		this.pairingType = pairingType;
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return pairingType;
+	}
+	
+}
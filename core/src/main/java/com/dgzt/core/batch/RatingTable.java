@@ -0,0 +1,226 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+/**
+ * The Elo ratings of the contestants of a tournament.
+ * The ratings are updated after every game. The error margin of a rating is the 95% confidence interval
+ * of the contestant's score against its opponents, converted to Elo difference.
+ * 
+ * @author Dgzt
+ */
+public class RatingTable {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The rating of the contestants before their first game. */
+	public static final double INITIAL_RATING = 1500;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum change of the rating in one game. */
+	private static final double K_FACTOR = 16;
+	
+	/** The rating difference where the stronger contestant is expected to score ten times more. */
+	private static final double ELO_SCALE = 400;
+	
+	/** The number of the standard deviations of the 95% confidence interval. */
+	private static final double CONFIDENCE_95 = 1.96;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The ratings of the contestants. */
+	private final double[] ratings;
+	
+	/** The number of the wins of the contestants. */
+	private final int[] wins;
+	
+	/** The number of the draws of the contestants. */
+	private final int[] draws;
+	
+	/** The number of the losses of the contestants. */
+	private final int[] losses;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param contestantNum - The number of the contestants.
+	 */
+	public RatingTable(final int contestantNum){
+		ratings = new double[contestantNum];
+		wins = new int[contestantNum];
+		draws = new int[contestantNum];
+		losses = new int[contestantNum];
+		
+		for(int i = 0; i < contestantNum; ++i){
+			ratings[i] = INITIAL_RATING;
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Update the ratings with the result of a game.
+	 * 
+	 * @param game - The played game.
+	 */
+	public void add(final TournamentGame game){
+		final int home = game.getHome();
+		final int away = game.getAway();
+		final double homeScore = game.getHomeScore();
+		
+		final double expectedHomeScore = 1 / (1 + Math.pow(10, (ratings[away] - ratings[home]) / ELO_SCALE));
+		final double change = K_FACTOR * (homeScore - expectedHomeScore);
+		ratings[home] += change;
+		ratings[away] -= change;
+		
+		if(homeScore == 0.5){
+			++draws[home];
+			++draws[away];
+		}else if(homeScore > 0.5){
+			++wins[home];
+			++losses[away];
+		}else{
+			++losses[home];
+			++wins[away];
+		}
+	}
+	
+	/**
+	 * Return with the indices of the contestants in descending order of their ratings.
+	 */
+	public int[] getRanking(){
+		final int[] ranking = new int[ratings.length];
+		for(int i = 0; i < ranking.length; ++i){
+			int j = i;
+			while(j > 0 && ratings[ranking[j - 1]] < ratings[i]){
+				ranking[j] = ranking[j - 1];
+				--j;
+			}
+			ranking[j] = i;
+		}
+		return ranking;
+	}
+	
+	/**
+	 * Return with the 95% error margin of the contestant's rating.
+	 * It is infinite while the contestant has only wins or only losses.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public double getErrorMargin(final int contestant){
+		final int gameNum = getGameNum(contestant);
+		if(gameNum == 0){
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		final double score = getScore(contestant) / gameNum;
+		final double variance = (wins[contestant] * (1 - score) * (1 - score)
+				+ draws[contestant] * (0.5 - score) * (0.5 - score)
+				+ losses[contestant] * score * score) / gameNum;
+		final double deviation = CONFIDENCE_95 * Math.sqrt(variance / gameNum);
+		
+		final double minScore = score - deviation;
+		final double maxScore = score + deviation;
+		if(minScore <= 0 || maxScore >= 1){
+			return Double.POSITIVE_INFINITY;
+		}
+		return (getEloDifference(maxScore) - getEloDifference(minScore)) / 2;
+	}
+	
+	/**
+	 * Return with the number of the games of the contestant.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public int getGameNum(final int contestant){
+		return wins[contestant] + draws[contestant] + losses[contestant];
+	}
+	
+	/**
+	 * Return with the points of the contestant: 1 for a win and 0.5 for a draw.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public double getScore(final int contestant){
+		return wins[contestant] + 0.5 * draws[contestant];
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the rating difference which belongs to the given expected score.
+	 * 
+	 * @param score - The expected score between 0 and 1.
+	 */
+	private static double getEloDifference(final double score){
+		return -ELO_SCALE * Math.log10(1 / score - 1);
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the rating of the contestant.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public double getRating(final int contestant){
+		return ratings[contestant];
+	}
+	
+	/**
+	 * Return with the number of the wins of the contestant.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public int getWins(final int contestant){
+		return wins[contestant];
+	}
+	
+	/**
+	 * Return with the number of the draws of the contestant.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public int getDraws(final int contestant){
+		return draws[contestant];
+	}
+	
+	/**
+	 * Return with the number of the losses of the contestant.
+	 * 
+	 * @param contestant - The index of the contestant.
+	 */
+	public int getLosses(final int contestant){
+		return losses[contestant];
+	}
+	
+}
@@ -0,0 +1,272 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dgzt.core.Player;
+
+/**
+ * A tournament between bots. The games of a round are created together, so they can be played in parallel,
+ * and the ratings are updated with the results of the whole round in the order of the games.
+ * Two contestants play two games in a round, both of them step once with the player's buttons.
+ * The player who steps first alternates by round.
+ * 
+ * @author Dgzt
+ */
+public class Tournament {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The contestants. */
+	private final List<Contestant> contestants;
+	
+	/** The type of the pairing. */
+	private final PairingType pairingType;
+	
+	/** The number of the rounds. */
+	private final int roundNum;
+	
+	/** The ratings of the contestants. */
+	private final RatingTable ratingTable;
+	
+	/** The played games. */
+	private final List<TournamentGame> games;
+	
+	/** The number of the rounds where two contestants met. */
+	private final int[][] meetings;
+	
+	/** The number of the rounds where the contestants had no opponent. */
+	private final int[] byes;
+	
+	/** The number of the played rounds. */
+	private int round;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param contestants - The contestants.
+	 * @param pairingType - The type of the pairing.
+	 * @param roundNum - The number of the rounds.
+	 */
+	public Tournament(final List<Contestant> contestants, final PairingType pairingType, final int roundNum){
+		if(contestants.size() < 2){
+			throw new IllegalArgumentException("The tournament needs at least two contestants: " + contestants.size());
+		}
+		
+		this.contestants = new ArrayList<Contestant>(contestants);
+		this.pairingType = pairingType;
+		this.roundNum = roundNum;
+		ratingTable = new RatingTable(contestants.size());
+		games = new ArrayList<TournamentGame>();
+		meetings = new int[contestants.size()][contestants.size()];
+		byes = new int[contestants.size()];
+		round = 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the games of the next round. The games are added with {@link #addRound(List)} after they are played.
+	 * The pairings depend on the previous rounds only, so the same round is created again after a restart.
+	 */
+	public List<TournamentGame> createRound(){
+		if(isFinished()){
+			throw new IllegalStateException("The tournament is finished.");
+		}
+		
+		final List<TournamentGame> roundGames = new ArrayList<TournamentGame>();
+		final int contestantNum = contestants.size();
+		
+		if(pairingType == PairingType.ROUND_ROBIN){
+			for(int i = 0; i < contestantNum; ++i){
+				for(int j = i + 1; j < contestantNum; ++j){
+					addPairing(roundGames, i, j);
+				}
+			}
+		}else{
+			// The contestants are paired from the top of the rating table.
+			final int[] ranking = ratingTable.getRanking();
+			final boolean[] paired = new boolean[contestantNum];
+			
+			// When their number is odd, the lowest ranked one of the contestants with the fewest byes is left out.
+			if(contestantNum % 2 != 0){
+				int bye = ranking[contestantNum - 1];
+				for(int i = contestantNum - 2; i >= 0; --i){
+					if(byes[ranking[i]] < byes[bye]){
+						bye = ranking[i];
+					}
+				}
+				paired[bye] = true;
+			}
+			
+			for(int i = 0; i < contestantNum; ++i){
+				final int contestant = ranking[i];
+				if(paired[contestant]){
+					continue;
+				}
+				
+				int opponent = -1;
+				for(int j = i + 1; j < contestantNum; ++j){
+					final int candidate = ranking[j];
+					if(!paired[candidate] && (opponent == -1 || meetings[contestant][candidate] < meetings[contestant][opponent])){
+						opponent = candidate;
+					}
+				}
+				
+				if(opponent != -1){
+					paired[contestant] = true;
+					paired[opponent] = true;
+					addPairing(roundGames, contestant, opponent);
+				}
+			}
+		}
+		
+		return roundGames;
+	}
+	
+	/**
+	 * Add the played games of the next round and update the ratings.
+	 * 
+	 * @param roundGames - The games which were created with {@link #createRound()} with their results.
+	 */
+	public void addRound(final List<TournamentGame> roundGames){
+		for(final TournamentGame game : roundGames){
+			if(game.getRound() != round || !game.isPlayed()){
+				throw new IllegalArgumentException("The game is not a played game of the round " + round + ".");
+			}
+		}
+		
+		final boolean[] played = new boolean[contestants.size()];
+		for(final TournamentGame game : roundGames){
+			games.add(game);
+			ratingTable.add(game);
+			played[game.getHome()] = true;
+			played[game.getAway()] = true;
+			
+			// Every pairing has two games.
+			if(game.getHome() < game.getAway()){
+				++meetings[game.getHome()][game.getAway()];
+				++meetings[game.getAway()][game.getHome()];
+			}
+		}
+		
+		for(int i = 0; i < played.length; ++i){
+			if(!played[i]){
+				++byes[i];
+			}
+		}
+		++round;
+	}
+	
+	/**
+	 * Return true when every round is played.
+	 */
+	public boolean isFinished(){
+		return round >= roundNum;
+	}
+	
+	/**
+	 * Return with the number of the contestants.
+	 */
+	public int getContestantNum(){
+		return contestants.size();
+	}
+	
+	/**
+	 * Return with the contestant.
+	 * 
+	 * @param index - The index of the contestant.
+	 */
+	public Contestant getContestant(final int index){
+		return contestants.get(index);
+	}
+	
+	/**
+	 * Return with the number of the played games.
+	 */
+	public int getGameNum(){
+		return games.size();
+	}
+	
+	/**
+	 * Return with the played game.
+	 * 
+	 * @param index - The index of the game.
+	 */
+	public TournamentGame getGame(final int index){
+		return games.get(index);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add the two games of two contestants.
+	 * 
+	 * @param roundGames - The games of the round.
+	 * @param first - The index of the first contestant.
+	 * @param second - The index of the second contestant.
+	 */
+	private void addPairing(final List<TournamentGame> roundGames, final int first, final int second){
+		final Player firstStep = round % 2 == 0 ? Player.PLAYER : Player.BOT;
+		
+		roundGames.add(new TournamentGame(round, Math.min(first, second), Math.max(first, second), firstStep));
+		roundGames.add(new TournamentGame(round, Math.max(first, second), Math.min(first, second), firstStep));
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the type of the pairing.
+	 */
+	public PairingType getPairingType(){
+		return pairingType;
+	}
+	
+	/**
+	 * Return with the number of the rounds.
+	 */
+	public int getRoundNum(){
+		return roundNum;
+	}
+	
+	/**
+	 * Return with the number of the played rounds.
+	 */
+	public int getRound(){
+		return round;
+	}
+	
+	/**
+	 * Return with the ratings of the contestants.
+	 */
+	public RatingTable getRatingTable(){
+		return ratingTable;
+	}
+	
+}
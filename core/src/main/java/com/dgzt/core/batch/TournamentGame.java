@@ -0,0 +1,152 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import com.dgzt.core.Player;
+
+/**
+ * A game of the tournament. The home contestant steps with the player's buttons, the away contestant with the opponent's buttons.
+ * 
+ * @author Dgzt
+ */
+public class TournamentGame {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The round of the game. */
+	private final int round;
+	
+	/** The index of the home contestant. */
+	private final int home;
+	
+	/** The index of the away contestant. */
+	private final int away;
+	
+	/** The player who steps first in the first half. */
+	private final Player firstStep;
+	
+	/** The number of the home contestant's goals. */
+	private int homeGoals;
+	
+	/** The number of the away contestant's goals. */
+	private int awayGoals;
+	
+	/** True when the result of the game is set. */
+	private boolean played;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor of a game which is not played yet.
+	 * 
+	 * @param round - The round of the game.
+	 * @param home - The index of the home contestant.
+	 * @param away - The index of the away contestant.
+	 * @param firstStep - The player who steps first in the first half.
+	 */
+	public TournamentGame(final int round, final int home, final int away, final Player firstStep){
+		this.round = round;
+		this.home = home;
+		this.away = away;
+		this.firstStep = firstStep;
+		homeGoals = 0;
+		awayGoals = 0;
+		played = false;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Set the result of the game.
+	 * 
+	 * @param homeGoals - The number of the home contestant's goals.
+	 * @param awayGoals - The number of the away contestant's goals.
+	 */
+	public void setResult(final int homeGoals, final int awayGoals){
+		this.homeGoals = homeGoals;
+		this.awayGoals = awayGoals;
+		played = true;
+	}
+	
+	/**
+	 * Return with the score of the home contestant: 1 for a win, 0.5 for a draw and 0 for a loss.
+	 */
+	public double getHomeScore(){
+		if(homeGoals == awayGoals){
+			return 0.5;
+		}
+		return homeGoals > awayGoals ? 1 : 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the round of the game.
+	 */
+	public int getRound(){
+		return round;
+	}
+	
+	/**
+	 * Return with the index of the home contestant.
+	 */
+	public int getHome(){
+		return home;
+	}
+	
+	/**
+	 * Return with the index of the away contestant.
+	 */
+	public int getAway(){
+		return away;
+	}
+	
+	/**
+	 * Return with the player who steps first in the first half.
+	 */
+	public Player getFirstStep(){
+		return firstStep;
+	}
+	
+	/**
+	 * Return with the number of the home contestant's goals.
+	 */
+	public int getHomeGoals(){
+		return homeGoals;
+	}
+	
+	/**
+	 * Return with the number of the away contestant's goals.
+	 */
+	public int getAwayGoals(){
+		return awayGoals;
+	}
+	
+	/**
+	 * Return true when the result of the game is set.
+	 */
+	public boolean isPlayed(){
+		return played;
+	}
+	
+}
@@ -14,9 +14,6 @@
  */
 package com.dgzt.core.button;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -25,17 +22,21 @@ import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.dgzt.core.EventListener;
-import com.dgzt.core.Table;
-import com.dgzt.core.shape.FilledCircleShape;
 
 /**
- * The abstract button.
+ * The abstract button. It is only the body in the box2D world, the {@link ButtonShape} draws it.
  * 
  * @author Dgzt
  */
-public abstract class AbstractButton extends FilledCircleShape{
+public abstract class AbstractButton{
 
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The number of the values in the saved state of a button. */
+	public static final int STATE_SIZE = 8;
+	
 	// --------------------------------------------------
 	// ~ Private static members
 	// --------------------------------------------------
@@ -55,22 +56,22 @@ public abstract class AbstractButton extends FilledCircleShape{
 	/** The length of linear velocity when the button is stopped. */
 	private static final float STOPPEP_LINEAR_VELOCITY_LENGTH = 0.01f;
 	
-	/** The epsilon for equals to {@link Vector2}. */
-	private static final float VECTOR2_EQUALS_EPSILON = 0.05f;
+	/** The square of the length of linear velocity when the button is stopped. */
+	private static final float STOPPEP_LINEAR_VELOCITY_LENGTH2 = STOPPEP_LINEAR_VELOCITY_LENGTH * STOPPEP_LINEAR_VELOCITY_LENGTH;
 	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The parent object. */
-	private final Table parent;
-	
-	/** The event listener. */
-	private final EventListener eventListener;
-	
 	/** The coordinate value in Box2D. */
 	private Vector2 box2DPosition;
 	
+	/** The position of the body before the last step of the box2D world. */
+	private final Vector2 previousBox2DPosition;
+	
+	/** The position of the body after the last step of the box2D world. */
+	private final Vector2 currentBox2DPosition;
+	
 	/** The radius value in Box2D. */
 	private final float box2DRadius;
 	
@@ -80,6 +81,9 @@ public abstract class AbstractButton extends FilledCircleShape{
 	/** Is the button moving? */
 	private boolean moving;
 	
+	/** Was the body awake after the previous step of the box2D world? */
+	private boolean awake;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -87,27 +91,19 @@ public abstract class AbstractButton extends FilledCircleShape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param parent - The parent object.
-	 * @param shader - The shader.
-	 * @param eventListener - The event listener.
 	 * @param box2DWorld - The box2D world.
-	 * @param color - The color of button.
 	 * @param box2DRadius - The radius value of button in Box2D.
 	 */
 	public AbstractButton(
-			final Table parent, 
-			final ShaderProgram shader,
-			final EventListener eventListener, 
 			final World box2DWorld, 
-			final Color color, 
 			final float box2DRadius
 	) {
-		super(shader, color);
-		this.parent = parent;
-		this.eventListener = eventListener;
 		this.box2DRadius = box2DRadius;
 		this.box2DPosition = new Vector2(0, 0);
+		this.previousBox2DPosition = new Vector2(0, 0);
+		this.currentBox2DPosition = new Vector2(0, 0);
 		this.moving = false;
+		this.awake = false;
 		this.box2DBody = createBox2DBody(box2DWorld);
 	}
 	
@@ -138,7 +134,8 @@ public abstract class AbstractButton extends FilledCircleShape{
 	public void setBox2DPosition(final float box2DX, final float box2DY){
 		box2DBody.setTransform(box2DX, box2DY, box2DBody.getAngle());
 		box2DPosition.set(box2DBody.getPosition());
-		resize();
+		previousBox2DPosition.set(box2DPosition);
+		currentBox2DPosition.set(box2DPosition);
 	}
 	
 	/**
@@ -157,94 +154,125 @@ public abstract class AbstractButton extends FilledCircleShape{
 		return box2DPosition.cpy();
 	}
 	
+	/**
+	 * Return with the interpolated position between the last two states of the box2D world.
+	 * 
+	 * @param alpha - The interpolation value between 0 and 1.
+	 * @param result - The vector which will contain the result.
+	 * @return The result vector.
+	 */
+	public Vector2 getInterpolatedBox2DPosition(final float alpha, final Vector2 result){
+		return result.set(previousBox2DPosition).lerp(currentBox2DPosition, alpha);
+	}
+	
 	/**
 	 * Contains the button the given coordinate.
 	 * 
-	 * @param x - The x coordinate value.
-	 * @param y - The y coordinate value.
+	 * @param box2DX - The x coordinate value in box2D.
+	 * @param box2DY - The y coordinate value in box2D.
 	 */
-	public boolean contains(final float x, final float y){
-		return (Math.abs(getX() - x) < getRadius() && Math.abs(getY() - y) < getRadius());
+	public boolean contains(final float box2DX, final float box2DY){
+		return (Math.abs(box2DPosition.x - box2DX) < box2DRadius && Math.abs(box2DPosition.y - box2DY) < box2DRadius);
 	}
 	
 	/**
-	 * Resize the object.
+	 * Save the position of the body after a step of the box2D world and update the moving state.
+	 * A sleeping body is at rest, so only the position of an awake body is read from box2D.
+	 * Box2D moves the body also in the step which puts it to sleep, so the position is read after that step too.
+	 * 
+	 * @return True when the button is moving after the step.
 	 */
-	public void resize(){
-		final float x = parent.getX() + (float)(box2DPosition.x * parent.getScale());
-		final float y = parent.getY() + (float)(box2DPosition.y * parent.getScale());
-		final float radius = (float)(box2DRadius * parent.getScale());
+	public boolean updateBox2DPosition(){
+		previousBox2DPosition.set(currentBox2DPosition);
+		
+		final boolean wasAwake = awake;
+		awake = box2DBody.isAwake();
 		
-		super.resize(x, y, radius);
+		if(awake || wasAwake){
+			currentBox2DPosition.set(box2DBody.getPosition());
+			box2DPosition.set(currentBox2DPosition);
+			moving = !isStopped();
+		}else{
+			moving = false;
+		}
+		
+		return moving;
 	}
 	
 	/**
-	 * Move the button to the given position.
-	 * 
-	 * @param x - The x coordinate value.
-	 * @param y - The y coordinate value.
+	 * Return true when the body is awake in the box2D world.
 	 */
-	public void move(final float x, final float y){
-		box2DBody.setLinearVelocity(x, y);
+	public boolean isAwake(){
+		return box2DBody.isAwake();
 	}
 	
 	/**
-	 * Clear the move.
+	 * Save the position, the angle, the velocities, the moving flag and the awake flag into the given array.
+	 * 
+	 * @param state - The array of the states.
+	 * @param offset - The first index of this button in the array.
 	 */
-	public void clearMove(){
-		box2DBody.setLinearVelocity(0, 0);
+	public void saveState(final float[] state, final int offset){
+		final Vector2 position = box2DBody.getPosition();
+		final Vector2 linearVelocity = box2DBody.getLinearVelocity();
+		
+		state[offset] = position.x;
+		state[offset + 1] = position.y;
+		state[offset + 2] = box2DBody.getAngle();
+		state[offset + 3] = linearVelocity.x;
+		state[offset + 4] = linearVelocity.y;
+		state[offset + 5] = box2DBody.getAngularVelocity();
+		state[offset + 6] = moving ? 1 : 0;
+		state[offset + 7] = box2DBody.isAwake() ? 1 : 0;
 	}
 	
 	/**
-	 * Dispose the button.
+	 * Restore the state saved by {@link #saveState(float[], int)}.
 	 * 
-	 * @param box2DWorld - The box2D world.
+	 * @param state - The array of the states.
+	 * @param offset - The first index of this button in the array.
+	 * @return True when the button is moving in the restored state.
 	 */
-	public void dispose(final World box2DWorld){
-		box2DWorld.destroyBody(box2DBody);
-		box2DBody.setUserData(null);
-		super.dispose();
+	public boolean restoreState(final float[] state, final int offset){
+		// A sleeping body stays asleep, so it is not solved again until something hits it.
+		box2DBody.setTransform(state[offset], state[offset + 1], state[offset + 2]);
+		awake = state[offset + 7] != 0;
+		box2DBody.setAwake(awake);
+		box2DBody.setLinearVelocity(state[offset + 3], state[offset + 4]);
+		box2DBody.setAngularVelocity(state[offset + 5]);
+		
+		box2DPosition.set(state[offset], state[offset + 1]);
+		previousBox2DPosition.set(box2DPosition);
+		currentBox2DPosition.set(box2DPosition);
+		moving = state[offset + 6] != 0;
+		
+		return moving;
 	}
 	
-	// --------------------------------------------------
-	// ~ Override methods
-	// --------------------------------------------------
+	/**
+	 * Destroy the contacts of the body. The end contact events fire for the touching bodies,
+	 * and the contacts are found again with begin contact events in the next step of the box2D world.
+	 */
+	public void resetContacts(){
+		box2DBody.setActive(false);
+		box2DBody.setActive(true);
+	}
 	
 	/**
-	 * Draw the shape. 
-	 * If changed the position in the box2D world then resize the shape.
+	 * Move the button to the given position.
+	 * 
+	 * @param x - The x coordinate value.
+	 * @param y - The y coordinate value.
 	 */
-	@Override
-	public void draw() {
-		if( !box2DPosition.epsilonEquals(box2DBody.getPosition(), VECTOR2_EQUALS_EPSILON) ){ // TODO need more test!
-			box2DPosition.set(box2DBody.getPosition());
-
-			resize();
-			
-			if(!moving){
-				moving = true;
-				Gdx.app.log(AbstractButton.class.getName() + ".draw()", "Start mooving.");
-				eventListener.buttonStartMoving();
-			}
-		}else if(moving && isStopped()){
-			moving = false;
-			Gdx.app.log(AbstractButton.class.getName() + ".draw()", "Stop mooving.");
-			eventListener.buttonEndMoving();
-		}
-		
-		super.draw();
+	public void move(final float x, final float y){
+		box2DBody.setLinearVelocity(x, y);
 	}
 	
 	/**
-	 * {@inheritDoc}
+	 * Clear the move.
 	 */
-	@Override
-	public void dispose(){
-		final World box2DWorld = box2DBody.getWorld();
-		box2DWorld.destroyBody(box2DBody);
-		box2DBody.setUserData(null);
-		
-		super.dispose();
+	public void clearMove(){
+		box2DBody.setLinearVelocity(0, 0);
 	}
 	
 	// --------------------------------------------------
@@ -290,7 +318,7 @@ public abstract class AbstractButton extends FilledCircleShape{
 	 * Return true when the button is stopped.
 	 */
 	private boolean isStopped(){
-		return box2DBody.getLinearVelocity().len() < STOPPEP_LINEAR_VELOCITY_LENGTH;
+		return box2DBody.getLinearVelocity().len2() < STOPPEP_LINEAR_VELOCITY_LENGTH2;
 	}
 	
 	// --------------------------------------------------
@@ -310,5 +338,19 @@ public abstract class AbstractButton extends FilledCircleShape{
 	public float getBox2DY() {
 		return box2DPosition.y;
 	}
+	
+	/**
+	 * Return with the radius value in Box2D.
+	 */
+	public float getBox2DRadius() {
+		return box2DRadius;
+	}
+	
+	/**
+	 * Return true when the button is moving.
+	 */
+	public boolean isMoving() {
+		return moving;
+	}
 
 }
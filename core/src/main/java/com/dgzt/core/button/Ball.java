@@ -14,11 +14,7 @@
  */
 package com.dgzt.core.button;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.physics.box2d.World;
-import com.dgzt.core.EventListener;
-import com.dgzt.core.Table;
 import com.dgzt.core.util.BitsUtil;
 
 /**
@@ -35,13 +31,6 @@ public class Ball extends AbstractButton{
 	/** The radius of ball. */
 	public static final float RADIUS = 1.0f;
 	
-	// --------------------------------------------------
-	// ~ Private static members
-	// --------------------------------------------------
-	
-	/** The color of the ball. */
-	private static final Color COLOR = Color.BLACK;
-	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -49,17 +38,10 @@ public class Ball extends AbstractButton{
 	/**
 	 * The constructor.
 	 * 
-	 * @param parent - The parent.
-	 * @param shader - The shader.
-	 * @param eventListener - The event listener.
 	 * @param box2DWorld - The box2D world.
 	 */
-	public Ball(final Table parent, 
-				final ShaderProgram shader,
-				final EventListener eventListener,
-				final World box2DWorld) 
-	{
-		super(parent, shader, eventListener, box2DWorld, COLOR, RADIUS);
+	public Ball(final World box2DWorld) {
+		super(box2DWorld, RADIUS);
 	}
 	
 	// --------------------------------------------------
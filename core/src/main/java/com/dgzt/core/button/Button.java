@@ -14,11 +14,7 @@
  */
 package com.dgzt.core.button;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.physics.box2d.World;
-import com.dgzt.core.EventListener;
-import com.dgzt.core.Table;
 import com.dgzt.core.util.BitsUtil;
 
 /**
@@ -32,12 +28,6 @@ public class Button extends AbstractButton{
 	// ~ Public static members
 	// --------------------------------------------------
 	
-	/** The color of the player's buttons. */
-	public static final Color PLAYER_COLOR = Color.RED;
-	
-	/** The color of the opponent's buttons. */
-	public static final Color OPPONENT_COLOR = Color.BLUE;
-	
 	/** The radius of the players's and opponent's buttons in cm. */
 	public static final float RADIUS = 2.5f;
 	
@@ -51,19 +41,10 @@ public class Button extends AbstractButton{
 	/**
 	 * The constructor.
 	 * 
-	 * @param parent - The parent.
-	 * @param shader - The shader.
-	 * @param eventListener - The event listener.
 	 * @param box2dWorld - The Box2D world.
-	 * @param color - The color.
 	 */
-	public Button(final Table parent, 
-				final ShaderProgram shader,
-				final EventListener eventListener,
-				final World box2dWorld,
-				final Color color) 
-	{
-		super(parent, shader, eventListener, box2dWorld, color, RADIUS);
+	public Button(final World box2dWorld) {
+		super(box2dWorld, RADIUS);
 	}
 	
 	// --------------------------------------------------
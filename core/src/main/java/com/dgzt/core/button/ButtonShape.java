@@ -0,0 +1,127 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.button;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.TableShape;
+import com.dgzt.core.shape.FilledCircleShape;
+import com.dgzt.core.shape.ShapeBatch;
+
+/**
+ * The shape of a button or the ball. Moving the button only changes the position of the shared unit circle.
+ * 
+ * @author Dgzt
+ */
+public class ButtonShape extends FilledCircleShape{
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The color of the player's buttons. */
+	public static final Color PLAYER_COLOR = Color.RED;
+	
+	/** The color of the opponent's buttons. */
+	public static final Color OPPONENT_COLOR = Color.BLUE;
+	
+	/** The color of the ball. */
+	public static final Color BALL_COLOR = Color.BLACK;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The parent object. */
+	private final TableShape parent;
+	
+	/** The drawn button. */
+	private final AbstractButton button;
+	
+	/** The interpolated position of the button in Box2D. */
+	private final Vector2 renderBox2DPosition;
+	
+	/** The position of the button in Box2D when the shape was resized the last time. */
+	private final Vector2 lastBox2DPosition;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param parent - The parent object.
+	 * @param shapeBatch - The shape batch.
+	 * @param button - The drawn button.
+	 * @param color - The color of button.
+	 */
+	public ButtonShape(final TableShape parent, final ShapeBatch shapeBatch, final AbstractButton button, final Color color){
+		super(shapeBatch, color);
+		this.parent = parent;
+		this.button = button;
+		this.renderBox2DPosition = new Vector2();
+		this.lastBox2DPosition = new Vector2();
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Resize the shape to the interpolated position of the button.
+	 */
+	public void resize(){
+		button.getInterpolatedBox2DPosition(parent.getInterpolationAlpha(), renderBox2DPosition);
+		lastBox2DPosition.set(renderBox2DPosition);
+		
+		final float x = parent.getX() + (float)(renderBox2DPosition.x * parent.getScale());
+		final float y = parent.getY() + (float)(renderBox2DPosition.y * parent.getScale());
+		final float radius = (float)(button.getBox2DRadius() * parent.getScale());
+		
+		super.resize(x, y, radius);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * Draw the shape. 
+	 * If changed the position of button then resize the shape.
+	 */
+	@Override
+	public void draw() {
+		button.getInterpolatedBox2DPosition(parent.getInterpolationAlpha(), renderBox2DPosition);
+		
+		if(!renderBox2DPosition.equals(lastBox2DPosition)){
+			resize();
+		}
+		
+		super.draw();
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the drawn button.
+	 */
+	public AbstractButton getButton(){
+		return button;
+	}
+
+}
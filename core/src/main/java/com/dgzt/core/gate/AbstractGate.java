@@ -14,28 +14,21 @@
  */
 package com.dgzt.core.gate;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import com.dgzt.core.button.Button;
-import com.dgzt.core.shape.LineShape;
-import com.dgzt.core.shape.RectangleBorderShape;
 import com.dgzt.core.util.BitsUtil;
 import com.dgzt.core.util.Box2DUtil;
 
 /**
- * Gate object.
+ * Gate object. It is only the sensor and the walls in the box2D world, the {@link GateShape} draws it.
  * 
  * @author Dgzt
  */
-public abstract class AbstractGate extends RectangleBorderShape{
+public abstract class AbstractGate{
 	
 	// --------------------------------------------------
 	// ~ Public static members
@@ -47,19 +40,13 @@ public abstract class AbstractGate extends RectangleBorderShape{
 	/** The height of the gate in cm. */
 	public static final float HEIGHT = 13.0f;
 	
+	/** The width of the walls of the gate in cm. */
+	public static final float WALL_WIDTH = 1.0f;
+	
 	// --------------------------------------------------
-	// ~ Private static members
+	// ~ Protected static members
 	// --------------------------------------------------	
 	
-	/** Number of column line. */
-	private static final int COLUMN_LINES = 3;
-	
-	/** Number of row line. */
-	private static final int ROW_LINES = 3;
-	
-	/** The color. */
-	private static final Color COLOR = Color.WHITE;
-	
 	/** The bits of walls. */
 	protected static final short TOP_WALL_BITS = 2;
 	protected static final short RIGHT_WALL_BITS = 4;
@@ -73,11 +60,11 @@ public abstract class AbstractGate extends RectangleBorderShape{
 	/** The position in Box2D. */
 	private final Vector2 box2DPosition;
 	
-	/** The column lines. */
-	private final List<LineShape> columnLines;
-
-	/** The row lines. */
-	private final List<LineShape> rowLines;
+	/** The circle of the checked button. It is reused by every check. */
+	private final Circle buttonCircle;
+	
+	/** The rectangle of a wall. It is reused by the wall rectangle methods. */
+	private final Rectangle wallRectangle;
 	
 	// --------------------------------------------------
 	// ~ Constructors
@@ -86,23 +73,13 @@ public abstract class AbstractGate extends RectangleBorderShape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
 	 * @param box2DWorld - The world in the Box2D.
 	 * @param box2DPosition - The position on Box2D.
 	 */
-	public AbstractGate(final ShaderProgram shader, final World box2DWorld, final Vector2 box2DPosition) {
-		super(shader, COLOR);
+	public AbstractGate(final World box2DWorld, final Vector2 box2DPosition) {
 		this.box2DPosition = box2DPosition;
-
-		columnLines = new ArrayList<LineShape>();
-		for(int i=0; i < COLUMN_LINES; ++i){
-			columnLines.add(new LineShape(shader, COLOR));
-		}
-		
-		rowLines = new ArrayList<LineShape>();
-		for(int i=0; i < ROW_LINES; ++i){
-			rowLines.add(new LineShape(shader, COLOR));
-		}
+		this.buttonCircle = new Circle();
+		this.wallRectangle = new Rectangle();
 		
 		addBox2DSensor(box2DWorld);
 		addBox2DWalls(box2DWorld);
@@ -121,44 +98,14 @@ public abstract class AbstractGate extends RectangleBorderShape{
 	// ~ Public methods
 	// --------------------------------------------------
 	
-	/**
-	 * Resize the gate.
-	 * 
-	 * @param tableX - The x coordinate value of table.
-	 * @param tableY - The y coordinate value of table.
-	 * @param scale - The scale value.
-	 */
-	public void resize(final float tableX, final float tableY, final double scale){
-		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
-		
-		final float x = tableX + (float)(box2DPosition.x * scale);
-		final float y = tableY + (float)(box2DPosition.y * scale);
-		final float width = (float)(AbstractGate.WIDTH * scale);
-		final float height = (float)(AbstractGate.HEIGHT * scale);
-		
-		super.resize(x, y, width, height, scale);
-		
-		final float columnLineDistance = (width - 2*lineWidth) / (COLUMN_LINES + 1);
-		final float rowLineDistance = (height - 2*lineWidth) / (ROW_LINES + 1);
-		
-		for(int i=0; i < COLUMN_LINES; ++i){
-			final float lineX = x + lineWidth + (i+1)*columnLineDistance;
-			columnLines.get(i).resize(lineX, y, lineX, y + height, scale);
-		}
-		
-		for(int i=0; i < ROW_LINES; ++i){
-			final float lineY = y + lineWidth + (i+1)*rowLineDistance;
-			rowLines.get(i).resize(x, lineY, x + width, lineY, scale);
-		}
-	}
-	
 	/**
 	 * Return true when the given position is on the wall of gate else false.
 	 * 
 	 * @param box2DPos - The position in Box2D world.
 	 */
 	public boolean isButtonPositionOnWall(final Vector2 box2DPos){
-		final Circle button = new Circle(box2DPos, Button.RADIUS);
+		final Circle button = buttonCircle;
+		button.set(box2DPos.x, box2DPos.y, Button.RADIUS);
 
 		if(isTopWall() && Intersector.overlaps(button, getTopBox2DWallRectangle())){
 			return true;
@@ -179,41 +126,6 @@ public abstract class AbstractGate extends RectangleBorderShape{
 		return false;
 	}
 	
-	// --------------------------------------------------
-	// ~ Override methods
-	// --------------------------------------------------
-
-	/**
-	 * Draw the shape and the child shapes.
-	 */
-	@Override
-	public void draw() {
-		super.draw();
-		
-		for(int i=0; i < COLUMN_LINES; ++i){
-			columnLines.get(i).draw();
-		}
-		
-		for(int i=0; i < ROW_LINES; ++i){
-			rowLines.get(i).draw();
-		}
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void dispose(){
-		for(final LineShape line : columnLines){
-			line.dispose();
-		}
-		for(final LineShape line : rowLines){
-			line.dispose();
-		}
-		
-		super.dispose();
-	}
-	
 	// --------------------------------------------------
 	// ~ Private methods
 	// --------------------------------------------------
@@ -283,28 +195,28 @@ public abstract class AbstractGate extends RectangleBorderShape{
 	 * Return with the rectangle of the top wall in Box2D world.
 	 */
 	private Rectangle getTopBox2DWallRectangle(){
-		return new Rectangle(box2DPosition.x, box2DPosition.y, AbstractGate.WIDTH, LineShape.LINE_WIDTH);
+		return wallRectangle.set(box2DPosition.x, box2DPosition.y, AbstractGate.WIDTH, AbstractGate.WALL_WIDTH);
 	}
 	
 	/**
 	 * Return with the rectangle of the bottom wall in Box2D world.
 	 */
 	private Rectangle getBottomBox2DWallRectangle(){
-		return new Rectangle(box2DPosition.x, box2DPosition.y + AbstractGate.HEIGHT - LineShape.LINE_WIDTH, AbstractGate.WIDTH, LineShape.LINE_WIDTH);
+		return wallRectangle.set(box2DPosition.x, box2DPosition.y + AbstractGate.HEIGHT - AbstractGate.WALL_WIDTH, AbstractGate.WIDTH, AbstractGate.WALL_WIDTH);
 	}
 	
 	/**
 	 * Return with the rectangle of the left wall in Box2D world.
 	 */
 	private Rectangle getLeftBox2DWallRectangle(){
-		return new Rectangle(box2DPosition.x, box2DPosition.y, LineShape.LINE_WIDTH, AbstractGate.HEIGHT);
+		return wallRectangle.set(box2DPosition.x, box2DPosition.y, AbstractGate.WALL_WIDTH, AbstractGate.HEIGHT);
 	}
 	
 	/**
 	 * Return with the rectangle of the right wall in Box2D world.
 	 */
 	private Rectangle getRightBox2DWallRectangle(){
-		return new Rectangle(box2DPosition.x + AbstractGate.WIDTH - LineShape.LINE_WIDTH, box2DPosition.y, LineShape.LINE_WIDTH, AbstractGate.HEIGHT);
+		return wallRectangle.set(box2DPosition.x + AbstractGate.WIDTH - AbstractGate.WALL_WIDTH, box2DPosition.y, AbstractGate.WALL_WIDTH, AbstractGate.HEIGHT);
 	}
 	
 	// --------------------------------------------------
@@ -0,0 +1,154 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.gate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.shape.LineShape;
+import com.dgzt.core.shape.RectangleBorderShape;
+import com.dgzt.core.shape.ShapeBatch;
+
+/**
+ * The shape of a gate.
+ * 
+ * @author Dgzt
+ */
+public class GateShape extends RectangleBorderShape{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------	
+	
+	/** Number of column line. */
+	private static final int COLUMN_LINES = 3;
+	
+	/** Number of row line. */
+	private static final int ROW_LINES = 3;
+	
+	/** The color. */
+	private static final Color COLOR = Color.WHITE;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The drawn gate. */
+	private final AbstractGate gate;
+	
+	/** The column lines. */
+	private final List<LineShape> columnLines;
+
+	/** The row lines. */
+	private final List<LineShape> rowLines;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 * @param gate - The drawn gate.
+	 */
+	public GateShape(final ShapeBatch shapeBatch, final AbstractGate gate) {
+		super(shapeBatch, COLOR);
+		this.gate = gate;
+
+		columnLines = new ArrayList<LineShape>();
+		for(int i=0; i < COLUMN_LINES; ++i){
+			columnLines.add(new LineShape(shapeBatch, COLOR));
+		}
+		
+		rowLines = new ArrayList<LineShape>();
+		for(int i=0; i < ROW_LINES; ++i){
+			rowLines.add(new LineShape(shapeBatch, COLOR));
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Resize the gate.
+	 * 
+	 * @param tableX - The x coordinate value of table.
+	 * @param tableY - The y coordinate value of table.
+	 * @param scale - The scale value.
+	 */
+	public void resize(final float tableX, final float tableY, final double scale){
+		final Vector2 box2DPosition = gate.getBox2DPosition();
+		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
+		
+		final float x = tableX + (float)(box2DPosition.x * scale);
+		final float y = tableY + (float)(box2DPosition.y * scale);
+		final float width = (float)(AbstractGate.WIDTH * scale);
+		final float height = (float)(AbstractGate.HEIGHT * scale);
+		
+		super.resize(x, y, width, height, scale);
+		
+		final float columnLineDistance = (width - 2*lineWidth) / (COLUMN_LINES + 1);
+		final float rowLineDistance = (height - 2*lineWidth) / (ROW_LINES + 1);
+		
+		for(int i=0; i < COLUMN_LINES; ++i){
+			final float lineX = x + lineWidth + (i+1)*columnLineDistance;
+			columnLines.get(i).resize(lineX, y, lineX, y + height, scale);
+		}
+		
+		for(int i=0; i < ROW_LINES; ++i){
+			final float lineY = y + lineWidth + (i+1)*rowLineDistance;
+			rowLines.get(i).resize(x, lineY, x + width, lineY, scale);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * Draw the shape and the child shapes.
+	 */
+	@Override
+	public void draw() {
+		super.draw();
+		
+		for(int i=0; i < COLUMN_LINES; ++i){
+			columnLines.get(i).draw();
+		}
+		
+		for(int i=0; i < ROW_LINES; ++i){
+			rowLines.get(i).draw();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose(){
+		for(final LineShape line : columnLines){
+			line.dispose();
+		}
+		for(final LineShape line : rowLines){
+			line.dispose();
+		}
+		
+		super.dispose();
+	}
+}
@@ -14,7 +14,6 @@
  */
 package com.dgzt.core.gate;
 
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.physics.box2d.World;
 import com.dgzt.core.util.Box2DDataUtil;
 
@@ -32,11 +31,10 @@ public class LeftGate extends AbstractGate{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
 	 * @param box2DWorld - The world of the Box2D.
 	 */
-	public LeftGate(final ShaderProgram shader, final World box2DWorld) {
-		super(shader, box2DWorld, Box2DDataUtil.LEFT_GATE_POSITION);
+	public LeftGate(final World box2DWorld) {
+		super(box2DWorld, Box2DDataUtil.LEFT_GATE_POSITION);
 	}
 
 	// --------------------------------------------------
@@ -18,12 +18,12 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.VerticalGroup;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.dgzt.core.MultiInputProcessor;
 import com.dgzt.core.shape.RectangleShape;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The base menu window.
@@ -46,8 +46,8 @@ public class BaseMenuWindow extends RectangleShape{
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The shader. */
-	private final ShaderProgram shader;
+	/** The shape batch. */
+	private final ShapeBatch shapeBatch;
 	
 	/** The multi input processor. */
 	private final MultiInputProcessor multiInputProcessor;
@@ -65,14 +65,14 @@ public class BaseMenuWindow extends RectangleShape{
 	/**
 	 * Constructor.
 	 * 
-	 * @param shader - The shader program.
+	 * @param shapeBatch - The shape batch program.
 	 * @param batch - The batch.
 	 * @param viewport - The viewport.
 	 * @param multiInputProcessor - The multi input processor.
 	 */
-	public BaseMenuWindow(final ShaderProgram shader, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor) {
-		super(shader, BACKGROUND_COLOR);
-		this.shader = shader;
+	public BaseMenuWindow(final ShapeBatch shapeBatch, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor) {
+		super(shapeBatch, BACKGROUND_COLOR);
+		this.shapeBatch = shapeBatch;
 		
 		stage = new Stage(viewport, batch);
 		
@@ -125,9 +125,9 @@ public class BaseMenuWindow extends RectangleShape{
 	public void draw(){
 		super.draw();
 		
-		shader.end();
+		shapeBatch.end();
 		stage.draw();
-		shader.begin();
+		shapeBatch.begin();
 		
 		Gdx.gl.glEnable(GL20.GL_BLEND);
 		Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -14,26 +14,20 @@
  */
 package com.dgzt.core.menu;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.HorizontalGroup;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.VerticalGroup;
 import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.dgzt.core.FontConstants;
+import com.dgzt.core.Fonts;
 import com.dgzt.core.MultiInputProcessor;
 import com.dgzt.core.menu.button.BaseButton;
 import com.dgzt.core.menu.button.MenuButton;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The end game menu window.
@@ -68,15 +62,15 @@ public abstract class EndGameMenuWindow extends BaseMenuWindow{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param batch - The batch.
 	 * @param viewport - The viewport.
 	 * @param multiInputProcessor - The multi input processor.
 	 * @param playerGoals - The number of player's goals.
 	 * @param opponentGoals - The number of opponent's goals.
 	 */
-	public EndGameMenuWindow(final ShaderProgram shader, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor, final int playerGoals, final int opponentGoals) {
-		super(shader, batch, viewport, multiInputProcessor);
+	public EndGameMenuWindow(final ShapeBatch shapeBatch, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor, final int playerGoals, final int opponentGoals) {
+		super(shapeBatch, batch, viewport, multiInputProcessor);
 		
 		final HorizontalGroup hGroup = new HorizontalGroup();
 		hGroup.addActor(getScoreVerticalGroup(PLAYER, playerGoals));
@@ -122,13 +116,7 @@ public abstract class EndGameMenuWindow extends BaseMenuWindow{
 	 * @param score - The score.
 	 */
 	private Label getScoreLabel(final int score){
-		final BitmapFontData bitmapFontData = new BitmapFontData(Gdx.files.internal(FontConstants.LARGE_FONT_FILE), false);
-
-		Array<TextureRegion> textureRegions = new Array<TextureRegion>(false, 2);
-		textureRegions.add(new TextureRegion(new Texture(Gdx.files.internal(FontConstants.LARGE_FONT_IMAGE_1), false)));
-		textureRegions.add(new TextureRegion(new Texture(Gdx.files.internal(FontConstants.LARGE_FONT_IMAGE_2), false)));
-		
-		return new Label(Integer.toString(score), new Label.LabelStyle( new BitmapFont(bitmapFontData, textureRegions, true), TEXT_COLOR ));
+		return new Label(Integer.toString(score), new Label.LabelStyle(Fonts.getLargeFont(), TEXT_COLOR));
 	}
 	
 	/**
@@ -137,9 +125,7 @@ public abstract class EndGameMenuWindow extends BaseMenuWindow{
 	 * @param name - The name.
 	 */
 	private Label getNameLabel(final String name){
-		final BitmapFont font = new BitmapFont(Gdx.files.internal(FontConstants.MEDIUM_FONT_FILE), Gdx.files.internal(FontConstants.MEDIUN_FONT_IMAGE), false);
-		
-		return new Label(name, new Label.LabelStyle(font, TEXT_COLOR));
+		return new Label(name, new Label.LabelStyle(Fonts.getMediumFont(), TEXT_COLOR));
 	}
 	
 	
@@ -15,7 +15,6 @@
 package com.dgzt.core.menu;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
@@ -23,6 +22,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.dgzt.core.MultiInputProcessor;
 import com.dgzt.core.menu.button.BaseButton;
 import com.dgzt.core.menu.button.MenuButton;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The in game menu window.
@@ -48,13 +48,13 @@ public abstract class InGameMenuWindow extends BaseMenuWindow{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param batch - The batch.
 	 * @param viewport - The viewport.
 	 * @param multiInputProcessor - The multi input processor.
 	 */
-	public InGameMenuWindow(final ShaderProgram shader, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor) {
-		super(shader, batch, viewport, multiInputProcessor);
+	public InGameMenuWindow(final ShapeBatch shapeBatch, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor) {
+		super(shapeBatch, batch, viewport, multiInputProcessor);
 		
 		final WidgetGroup menuGroup = getMenuGroup();
 		menuGroup.addActor(getResumeGameButton());
@@ -17,7 +17,6 @@ package com.dgzt.core.menu;
 import com.badlogic.gdx.Application.ApplicationType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
@@ -25,6 +24,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.dgzt.core.MultiInputProcessor;
 import com.dgzt.core.menu.button.BaseButton;
 import com.dgzt.core.menu.button.MenuButton;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The main menu window.
@@ -47,13 +47,13 @@ public abstract class MainMenuWindow extends BaseMenuWindow{
 	/**
 	 * Constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param batch - The sprite batch.
 	 * @param viewport - The viewport.
 	 * @param multiInputProcessor - The multi input processor.
 	 */
-	public MainMenuWindow(final ShaderProgram shader, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor) {
-		super(shader, batch, viewport, multiInputProcessor);
+	public MainMenuWindow(final ShapeBatch shapeBatch, final Batch batch, final Viewport viewport, final MultiInputProcessor multiInputProcessor) {
+		super(shapeBatch, batch, viewport, multiInputProcessor);
 		
 		final WidgetGroup menuGroup = getMenuGroup();
 		
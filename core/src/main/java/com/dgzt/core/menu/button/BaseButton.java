@@ -14,7 +14,6 @@
  */
 package com.dgzt.core.menu.button;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Format;
@@ -22,7 +21,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
-import com.dgzt.core.FontConstants;
+import com.dgzt.core.Fonts;
 
 /**
  * The button for menu.
@@ -75,7 +74,7 @@ public class BaseButton extends TextButton{
 		
 		skin.add(DEFAULT_DRAWABLE, new Texture(pixmap));
 		
-		final BitmapFont bfont = new BitmapFont(Gdx.files.internal(FontConstants.SMALL_FONT_FILE), Gdx.files.internal(FontConstants.SMALL_FONT_IMAGE), false);
+		final BitmapFont bfont = Fonts.getSmallFont();
 		skin.add(DEFAULT_DRAWABLE,bfont);
 		
 		final TextButtonStyle textButtonStyle = new TextButtonStyle();
@@ -0,0 +1,158 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.badlogic.gdx.utils.Array;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * The replay of a match. It contains only the settings and the inputs of the players,
+ * the movements are simulated again at the playback. The keyframes are saved states of the match,
+ * the playback can jump to them instead of simulating the match from the start.
+ * 
+ * @author Dgzt
+ */
+public class Replay {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The settings at the start of the match. */
+	private final Settings settings;
+	
+	/** The inputs in the order of their time. */
+	private final Array<ReplayInput> inputs;
+	
+	/** The keyframes in the order of their time. */
+	private final Array<ReplayKeyframe> keyframes;
+	
+	/** The number of the shots in the inputs. */
+	private int shotNum;
+	
+	/** The snapshot where the resumed match starts. It is null when the match starts from the kick-off. */
+	private TableSnapshot startSnapshot;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings at the start of the match. It is not changed by the replay.
+	 */
+	public Replay(final Settings settings){
+		this.settings = settings;
+		inputs = new Array<ReplayInput>();
+		keyframes = new Array<ReplayKeyframe>();
+		shotNum = 0;
+		startSnapshot = null;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add the next input.
+	 * 
+	 * @param input - The input.
+	 */
+	public void addInput(final ReplayInput input){
+		inputs.add(input);
+		
+		if(input.getType() == ReplayInputType.SHOT){
+			++shotNum;
+		}
+	}
+	
+	/**
+	 * Add the next keyframe.
+	 * 
+	 * @param keyframe - The keyframe.
+	 */
+	public void addKeyframe(final ReplayKeyframe keyframe){
+		keyframes.add(keyframe);
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the settings at the start of the match.
+	 */
+	public Settings getSettings(){
+		return settings;
+	}
+	
+	/**
+	 * Return with the snapshot where the resumed match starts or null when the match starts from the kick-off.
+	 */
+	public TableSnapshot getStartSnapshot(){
+		return startSnapshot;
+	}
+	
+	/**
+	 * Set the snapshot where the resumed match starts.
+	 * 
+	 * @param startSnapshot - The snapshot or null when the match starts from the kick-off.
+	 */
+	public void setStartSnapshot(final TableSnapshot startSnapshot){
+		this.startSnapshot = startSnapshot;
+	}
+	
+	/**
+	 * Return with the number of the inputs.
+	 */
+	public int getInputNum(){
+		return inputs.size;
+	}
+	
+	/**
+	 * Return with the input of the given index.
+	 * 
+	 * @param index - The index.
+	 */
+	public ReplayInput getInput(final int index){
+		return inputs.get(index);
+	}
+	
+	/**
+	 * Return with the number of the shots.
+	 */
+	public int getShotNum(){
+		return shotNum;
+	}
+	
+	/**
+	 * Return with the number of the keyframes.
+	 */
+	public int getKeyframeNum(){
+		return keyframes.size;
+	}
+	
+	/**
+	 * Return with the keyframe of the given index.
+	 * 
+	 * @param index - The index.
+	 */
+	public ReplayKeyframe getKeyframe(final int index){
+		return keyframes.get(index);
+	}
+	
+}
@@ -0,0 +1,492 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.GameStatus;
+import com.dgzt.core.HalfTimeType;
+import com.dgzt.core.Player;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.button.AbstractButton;
+import com.dgzt.core.exception.IllegalReplayException;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+import com.dgzt.core.setting.StepMode;
+
+/**
+ * Encode and decode the replays in a compact binary format.
+ * The integers are written as variable length values, the times as milliseconds from the previous input.
+ * The velocities and the positions are written with their exact float bits, so the playback simulates the same movements.
+ * The keyframes follow the inputs, the velocities of the resting bodies are not written.
+ * The snapshot of a resumed match is written before the inputs.
+ * 
+ * @author Dgzt
+ */
+public final class ReplayCodec {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The first four bytes of the replays: "BFRP". */
+	public static final int MAGIC = 0x42465250;
+	
+	/** The version of the format. The first version has no keyframes, the second has no start snapshot. */
+	public static final int VERSION = 3;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum size of the header in bytes. */
+	private static final int MAX_HEADER_SIZE = 64;
+	
+	/** The maximum size of one input in bytes: the flags, the time and the two coordinates. */
+	private static final int MAX_INPUT_SIZE = 1 + 5 + 4 + 4;
+	
+	/** The maximum size of a snapshot without its bodies in bytes. */
+	private static final int MAX_SNAPSHOT_HEADER_SIZE = 5 + 3 + 1 + 4 * 4 + 4 * 5 + 6 * 4;
+	
+	/** The maximum size of one body in a snapshot in bytes: the flags, the position, the angle and the velocities. */
+	private static final int MAX_BODY_SIZE = 1 + 3 * 4 + 3 * 4;
+	
+	/** The minimum size of one body in a snapshot in bytes: the flags, the position and the angle. */
+	private static final int MIN_BODY_SIZE = 1 + 3 * 4;
+	
+	/** The milliseconds in one second. */
+	private static final int ONE_SECOND_IN_MILLISECOND = 1000;
+	
+	/** The bits of the input type in the flags. */
+	private static final int TYPE_MASK = 0x3;
+	
+	/** The bit of the player in the flags. */
+	private static final int PLAYER_BIT = 0x4;
+	
+	/** The shift of the button index in the flags. */
+	private static final int BUTTON_INDEX_SHIFT = 3;
+	
+	/** The bits of the button index after the shift. */
+	private static final int BUTTON_INDEX_MASK = 0xF;
+	
+	/** The flag of the moving body in the snapshot. */
+	private static final int BODY_MOVING_BIT = 0x1;
+	
+	/** The flag of the awake body in the snapshot. */
+	private static final int BODY_AWAKE_BIT = 0x2;
+	
+	/** The flag of the body with velocities in the snapshot. */
+	private static final int BODY_VELOCITY_BIT = 0x4;
+	
+	/** The flag of the ball which leaved the map in the snapshot. */
+	private static final int BALL_LEAVED_MAP_BIT = 0x1;
+	
+	/** The flag of the fault in the snapshot. */
+	private static final int FAULT_BIT = 0x2;
+	
+	/** The flag of the instant resolve turn in the snapshot. */
+	private static final int INSTANT_RESOLVE_TURN_BIT = 0x4;
+	
+	/** The flag of the pending instant resolve in the snapshot. */
+	private static final int INSTANT_RESOLVE_PENDING_BIT = 0x8;
+	
+	/** The lower seven bits of the variable length values. */
+	private static final int VARINT_MASK = 0x7F;
+	
+	/** The continuation bit of the variable length values. */
+	private static final int VARINT_CONTINUATION = 0x80;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/*
+	 * Hidden constuctor.
+	 */
+	private ReplayCodec(){
+		// Hide constructor for sonar.
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Encode the given replay.
+	 * 
+	 * @param replay - The replay.
+	 * @return The bytes of the replay.
+	 */
+	public static byte[] encode(final Replay replay){
+		final TableSnapshot startSnapshot = replay.getStartSnapshot();
+		int maxSize = MAX_HEADER_SIZE + replay.getInputNum() * MAX_INPUT_SIZE;
+		if(startSnapshot != null){
+			maxSize += getMaxSnapshotSize(startSnapshot);
+		}
+		for(int i = 0; i < replay.getKeyframeNum(); ++i){
+			maxSize += 5 + getMaxSnapshotSize(replay.getKeyframe(i).getSnapshot());
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(maxSize);
+		
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		encodeSettings(buffer, replay.getSettings());
+		
+		buffer.put((byte) (startSnapshot != null ? 1 : 0));
+		if(startSnapshot != null){
+			encodeSnapshot(buffer, startSnapshot);
+		}
+		
+		putVarInt(buffer, replay.getInputNum());
+		int lastTimeMillis = 0;
+		for(int i = 0; i < replay.getInputNum(); ++i){
+			final ReplayInput input = replay.getInput(i);
+			final int timeMillis = Math.max(lastTimeMillis, Math.round(input.getTime() * ONE_SECOND_IN_MILLISECOND));
+			
+			int flags = input.getType().ordinal() | input.getButtonIndex() << BUTTON_INDEX_SHIFT;
+			if(input.getPlayer() == Player.BOT){
+				flags |= PLAYER_BIT;
+			}
+			buffer.put((byte) flags);
+			putVarInt(buffer, timeMillis - lastTimeMillis);
+			
+			if(input.getType() != ReplayInputType.END_PLACING){
+				buffer.putFloat(input.getX());
+				buffer.putFloat(input.getY());
+			}
+			
+			lastTimeMillis = timeMillis;
+		}
+		
+		putVarInt(buffer, replay.getKeyframeNum());
+		for(int i = 0; i < replay.getKeyframeNum(); ++i){
+			final ReplayKeyframe keyframe = replay.getKeyframe(i);
+			putVarInt(buffer, keyframe.getInputIndex());
+			encodeSnapshot(buffer, keyframe.getSnapshot());
+		}
+		
+		final byte[] bytes = new byte[buffer.position()];
+		buffer.flip();
+		buffer.get(bytes);
+		return bytes;
+	}
+	
+	/**
+	 * Decode the replay from the position of the given buffer.
+	 * 
+	 * @param buffer - The buffer.
+	 * @return The replay.
+	 */
+	public static Replay decode(final ByteBuffer buffer){
+		final int version = buffer.remaining() > 4 ? buffer.get(buffer.position() + 4) : VERSION;
+		final Replay replay = new Replay(decodeSettings(buffer));
+		
+		try{
+			if(version > 2 && buffer.get() != 0){
+				replay.setStartSnapshot(decodeSnapshot(buffer));
+			}
+			
+			final int inputNum = getVarInt(buffer);
+			int timeMillis = 0;
+			for(int i = 0; i < inputNum; ++i){
+				final int flags = buffer.get();
+				final ReplayInputType type = ReplayInputType.values()[flags & TYPE_MASK];
+				final Player player = (flags & PLAYER_BIT) != 0 ? Player.BOT : Player.PLAYER;
+				final int buttonIndex = flags >> BUTTON_INDEX_SHIFT & BUTTON_INDEX_MASK;
+				timeMillis += getVarInt(buffer);
+				
+				final float x = type != ReplayInputType.END_PLACING ? buffer.getFloat() : 0;
+				final float y = type != ReplayInputType.END_PLACING ? buffer.getFloat() : 0;
+				
+				replay.addInput(new ReplayInput(type, player, buttonIndex, x, y, (float) timeMillis / ONE_SECOND_IN_MILLISECOND));
+			}
+			
+			final int keyframeNum = version > 1 ? getVarInt(buffer) : 0;
+			for(int i = 0; i < keyframeNum; ++i){
+				final int inputIndex = getVarInt(buffer);
+				if(inputIndex > inputNum){
+					throw new IllegalReplayException("The keyframe is after the last input.");
+				}
+				
+				replay.addKeyframe(new ReplayKeyframe(inputIndex, decodeSnapshot(buffer)));
+			}
+		}catch(final BufferUnderflowException e){
+			throw new IllegalReplayException("The replay is truncated.");
+		}catch(final ArrayIndexOutOfBoundsException e){
+			throw new IllegalReplayException("Unknown input type in the replay.");
+		}
+		
+		return replay;
+	}
+	
+	/**
+	 * Decode only the header of the replay from the position of the given buffer.
+	 * The inputs are not read, so the replays can be indexed fast.
+	 * 
+	 * @param buffer - The buffer.
+	 * @return The settings of the replay.
+	 */
+	public static Settings decodeSettings(final ByteBuffer buffer){
+		try{
+			if(buffer.getInt() != MAGIC){
+				throw new IllegalReplayException("The data is not a replay.");
+			}
+			
+			final int version = buffer.get();
+			if(version < 1 || version > VERSION){
+				throw new IllegalReplayException("Unsupported replay version: " + version);
+			}
+			
+			return getSettings(buffer);
+		}catch(final BufferUnderflowException e){
+			throw new IllegalReplayException("The replay is truncated.");
+		}catch(final ArrayIndexOutOfBoundsException e){
+			throw new IllegalReplayException("Unknown setting in the replay.");
+		}
+	}
+	
+	/**
+	 * Encode the given snapshot of the match.
+	 * 
+	 * @param buffer - The buffer.
+	 * @param snapshot - The snapshot.
+	 */
+	public static void encodeSnapshot(final ByteBuffer buffer, final TableSnapshot snapshot){
+		final float[] bodyStates = snapshot.getBodyStates();
+		final int bodyNum = bodyStates.length / AbstractButton.STATE_SIZE;
+		
+		putVarInt(buffer, bodyNum);
+		for(int offset = 0; offset < bodyStates.length; offset += AbstractButton.STATE_SIZE){
+			final boolean hasVelocity = bodyStates[offset + 3] != 0 || bodyStates[offset + 4] != 0 || bodyStates[offset + 5] != 0;
+			
+			int flags = hasVelocity ? BODY_VELOCITY_BIT : 0;
+			if(bodyStates[offset + 6] != 0){
+				flags |= BODY_MOVING_BIT;
+			}
+			if(bodyStates[offset + 7] != 0){
+				flags |= BODY_AWAKE_BIT;
+			}
+			buffer.put((byte) flags);
+			
+			buffer.putFloat(bodyStates[offset]);
+			buffer.putFloat(bodyStates[offset + 1]);
+			buffer.putFloat(bodyStates[offset + 2]);
+			if(hasVelocity){
+				buffer.putFloat(bodyStates[offset + 3]);
+				buffer.putFloat(bodyStates[offset + 4]);
+				buffer.putFloat(bodyStates[offset + 5]);
+			}
+		}
+		
+		buffer.put((byte) snapshot.getGameStatus().ordinal());
+		buffer.put((byte) snapshot.getHalfTimeType().ordinal());
+		buffer.put((byte) snapshot.getFirstStep().ordinal());
+		
+		final Vector2 ballLeavedMapCoordinate = snapshot.getBallLeavedMapCoordinate();
+		final Vector2 faultBox2DPosition = snapshot.getFaultBox2DPosition();
+		int flags = 0;
+		if(ballLeavedMapCoordinate != null){
+			flags |= BALL_LEAVED_MAP_BIT;
+		}
+		if(faultBox2DPosition != null){
+			flags |= FAULT_BIT;
+		}
+		if(snapshot.isInstantResolveTurn()){
+			flags |= INSTANT_RESOLVE_TURN_BIT;
+		}
+		if(snapshot.isInstantResolvePending()){
+			flags |= INSTANT_RESOLVE_PENDING_BIT;
+		}
+		buffer.put((byte) flags);
+		
+		if(ballLeavedMapCoordinate != null){
+			buffer.putFloat(ballLeavedMapCoordinate.x);
+			buffer.putFloat(ballLeavedMapCoordinate.y);
+		}
+		if(faultBox2DPosition != null){
+			buffer.putFloat(faultBox2DPosition.x);
+			buffer.putFloat(faultBox2DPosition.y);
+		}
+		
+		putVarInt(buffer, snapshot.getButtonContactBallLastTimeIndex() + 1);
+		putVarInt(buffer, snapshot.getPlayerGoals());
+		putVarInt(buffer, snapshot.getOpponentGoals());
+		putVarInt(buffer, snapshot.getCurrentTime());
+		
+		buffer.putFloat(snapshot.getClockTime());
+		buffer.putFloat(snapshot.getTimeBoardDelaySec());
+		buffer.putFloat(snapshot.getBallAreaDelaySec());
+		buffer.putFloat(snapshot.getOpponentFirstStepDelaySec());
+		buffer.putFloat(snapshot.getPlayerTimeLeftSec());
+		buffer.putFloat(snapshot.getOpponentTimeLeftSec());
+	}
+	
+	/**
+	 * Decode a snapshot which is encoded with {@link #encodeSnapshot(ByteBuffer, TableSnapshot)}.
+	 * 
+	 * @param buffer - The buffer.
+	 * @return The snapshot.
+	 */
+	public static TableSnapshot decodeSnapshot(final ByteBuffer buffer){
+		try{
+			final int bodyNum = getVarInt(buffer);
+			if(bodyNum > buffer.remaining() / MIN_BODY_SIZE){
+				throw new IllegalReplayException("The snapshot is truncated.");
+			}
+			
+			final TableSnapshot snapshot = new TableSnapshot(bodyNum);
+			final float[] bodyStates = snapshot.getBodyStates();
+			
+			for(int offset = 0; offset < bodyStates.length; offset += AbstractButton.STATE_SIZE){
+				final int flags = buffer.get();
+				
+				bodyStates[offset] = buffer.getFloat();
+				bodyStates[offset + 1] = buffer.getFloat();
+				bodyStates[offset + 2] = buffer.getFloat();
+				if((flags & BODY_VELOCITY_BIT) != 0){
+					bodyStates[offset + 3] = buffer.getFloat();
+					bodyStates[offset + 4] = buffer.getFloat();
+					bodyStates[offset + 5] = buffer.getFloat();
+				}
+				bodyStates[offset + 6] = (flags & BODY_MOVING_BIT) != 0 ? 1 : 0;
+				bodyStates[offset + 7] = (flags & BODY_AWAKE_BIT) != 0 ? 1 : 0;
+			}
+			
+			snapshot.setGameStatus(GameStatus.values()[buffer.get()]);
+			snapshot.setHalfTimeType(HalfTimeType.values()[buffer.get()]);
+			snapshot.setFirstStep(Player.values()[buffer.get()]);
+			
+			final int flags = buffer.get();
+			if((flags & BALL_LEAVED_MAP_BIT) != 0){
+				snapshot.setBallLeavedMapCoordinate(new Vector2(buffer.getFloat(), buffer.getFloat()));
+			}
+			if((flags & FAULT_BIT) != 0){
+				snapshot.setFaultBox2DPosition(new Vector2(buffer.getFloat(), buffer.getFloat()));
+			}
+			snapshot.setInstantResolveTurn((flags & INSTANT_RESOLVE_TURN_BIT) != 0);
+			snapshot.setInstantResolvePending((flags & INSTANT_RESOLVE_PENDING_BIT) != 0);
+			
+			snapshot.setButtonContactBallLastTimeIndex(getVarInt(buffer) - 1);
+			snapshot.setPlayerGoals(getVarInt(buffer));
+			snapshot.setOpponentGoals(getVarInt(buffer));
+			snapshot.setCurrentTime(getVarInt(buffer));
+			
+			snapshot.setClockTime(buffer.getFloat());
+			snapshot.setTimeBoardDelaySec(buffer.getFloat());
+			snapshot.setBallAreaDelaySec(buffer.getFloat());
+			snapshot.setOpponentFirstStepDelaySec(buffer.getFloat());
+			snapshot.setPlayerTimeLeftSec(buffer.getFloat());
+			snapshot.setOpponentTimeLeftSec(buffer.getFloat());
+			
+			return snapshot;
+		}catch(final BufferUnderflowException e){
+			throw new IllegalReplayException("The snapshot is truncated.");
+		}catch(final ArrayIndexOutOfBoundsException e){
+			throw new IllegalReplayException("Unknown state in the snapshot.");
+		}
+	}
+	
+	/**
+	 * Return with the maximum size of the given snapshot in bytes.
+	 * 
+	 * @param snapshot - The snapshot.
+	 */
+	public static int getMaxSnapshotSize(final TableSnapshot snapshot){
+		return MAX_SNAPSHOT_HEADER_SIZE + snapshot.getBodyStates().length / AbstractButton.STATE_SIZE * MAX_BODY_SIZE;
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Put the given not negative value with seven bits per byte.
+	 * 
+	 * @param buffer - The buffer.
+	 * @param value - The value.
+	 */
+	static void putVarInt(final ByteBuffer buffer, final int value){
+		int rest = value;
+		while((rest & ~VARINT_MASK) != 0){
+			buffer.put((byte) (rest & VARINT_MASK | VARINT_CONTINUATION));
+			rest >>>= 7;
+		}
+		buffer.put((byte) rest);
+	}
+	
+	/**
+	 * Get a value which is put with {@link #putVarInt(ByteBuffer, int)}.
+	 * 
+	 * @param buffer - The buffer.
+	 */
+	static int getVarInt(final ByteBuffer buffer){
+		int value = 0;
+		int shift = 0;
+		int b;
+		do{
+			b = buffer.get();
+			value |= (b & VARINT_MASK) << shift;
+			shift += 7;
+		}while((b & VARINT_CONTINUATION) != 0);
+		
+		return value;
+	}
+	
+	/**
+	 * Encode the settings which affect the simulation.
+	 * 
+	 * @param buffer - The buffer.
+	 * @param settings - The settings.
+	 */
+	static void encodeSettings(final ByteBuffer buffer, final Settings settings){
+		buffer.put((byte) settings.getFirstStep().ordinal());
+		buffer.put((byte) settings.getStepMode().ordinal());
+		buffer.put((byte) settings.getBotType().ordinal());
+		buffer.put((byte) (settings.isInstantResolve() ? 1 : 0));
+		putVarInt(buffer, settings.getBallAreaSec());
+		putVarInt(buffer, settings.getHalfTime());
+		putVarInt(buffer, settings.getTimeLeftSec());
+		putVarInt(buffer, settings.getVelocityIterations());
+		putVarInt(buffer, settings.getPositionIterations());
+		putVarInt(buffer, settings.getMaxSubSteps());
+		putVarInt(buffer, settings.getBotThinkingTime());
+	}
+	
+	/**
+	 * Decode the settings which are encoded with {@link #encodeSettings(ByteBuffer, Settings)}.
+	 * 
+	 * @param buffer - The buffer.
+	 * @return The new settings.
+	 */
+	static Settings getSettings(final ByteBuffer buffer){
+		final Settings settings = new Settings();
+		settings.setFirstStep(Player.values()[buffer.get()]);
+		settings.setStepMode(StepMode.values()[buffer.get()]);
+		settings.setBotType(BotType.values()[buffer.get()]);
+		settings.setInstantResolve(buffer.get() != 0);
+		settings.setBallAreaSec(getVarInt(buffer));
+		settings.setHalfTime(getVarInt(buffer));
+		settings.setTimeLeftSec(getVarInt(buffer));
+		settings.setVelocityIterations(getVarInt(buffer));
+		settings.setPositionIterations(getVarInt(buffer));
+		settings.setMaxSubSteps(getVarInt(buffer));
+		settings.setBotThinkingTime(getVarInt(buffer));
+		
+		return settings;
+	}
+	
+}
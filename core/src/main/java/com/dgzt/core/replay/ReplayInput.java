@@ -0,0 +1,99 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.dgzt.core.Player;
+
+/**
+ * One recorded input of a match.
+ * 
+ * @author Dgzt
+ */
+public class ReplayInput {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The type of the input. */
+	private final ReplayInputType type;
+	
+	/** The player who gave the input. */
+	private final Player player;
+	
+	/** The index of the button in the buttons of the player. */
+	private final int buttonIndex;
+	
+	/** The x coordinate value of the velocity or the position. */
+	private final float x;
+	
+	/** The y coordinate value of the velocity or the position. */
+	private final float y;
+	
+	/** The time of the game clock in second. */
+	private final float time;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param type - The type of the input.
+	 * @param player - The player who gave the input.
+	 * @param buttonIndex - The index of the button in the buttons of the player.
+	 * @param x - The x coordinate value of the velocity or the position.
+	 * @param y - The y coordinate value of the velocity or the position.
+	 * @param time - The time of the game clock in second.
+	 */
+	public ReplayInput(final ReplayInputType type, final Player player, final int buttonIndex, final float x, final float y, final float time){
+		this.type = type;
+		this.player = player;
+		this.buttonIndex = buttonIndex;
+		this.x = x;
+		this.y = y;
+		this.time = time;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	public ReplayInputType getType() {
+		return type;
+	}
+	
+	public Player getPlayer() {
+		return player;
+	}
+	
+	public int getButtonIndex() {
+		return buttonIndex;
+	}
+	
+	public float getX() {
+		return x;
+	}
+	
+	public float getY() {
+		return y;
+	}
+	
+	public float getTime() {
+		return time;
+	}
+	
+}
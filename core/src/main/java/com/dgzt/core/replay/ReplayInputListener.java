@@ -0,0 +1,162 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Buttons;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.InputAdapter;
+import com.dgzt.core.GameControl;
+
+/**
+ * The input listener of the replay playback. It is added before the input listener of the game window,
+ * so the mouse does not shoot with the buttons of the replayed match.
+ * 
+ * <ul>
+ * <li>Space: pause and resume.</li>
+ * <li>Up, plus: double speed.</li>
+ * <li>Down, minus: half speed.</li>
+ * <li>Left, right: seek to the previous or the next turn.</li>
+ * <li>Mouse: seek to the time of the horizontal position on the screen.</li>
+ * </ul>
+ * 
+ * @author Dgzt
+ */
+final public class ReplayInputListener extends InputAdapter{
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The replay player. */
+	private final ReplayPlayer replayPlayer;
+	
+	/** The game control of the replayed match. */
+	private final GameControl gameControl;
+	
+	/** The last pressed mouse button. */
+	private int button;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param replayPlayer - The replay player.
+	 */
+	public ReplayInputListener(final ReplayPlayer replayPlayer){
+		this.replayPlayer = replayPlayer;
+		this.gameControl = replayPlayer.getMatchEngine().getGameControl();
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * The mouse pressed event.
+	 */
+	@Override
+	public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+		this.button = button;
+		
+		if(button == Buttons.LEFT){
+			scrub(screenX);
+		}
+		
+		return isPlaying();
+	}
+	
+	/**
+	 * The mouse moving events.
+	 */
+	@Override
+	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		if(button == Buttons.LEFT){
+			scrub(screenX);
+		}
+		
+		return isPlaying();
+	}
+	
+	/**
+	 * The mouse releasing events.
+	 */
+	@Override
+	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		return isPlaying();
+	}
+	
+	/**
+	 * The keyboard pressed events.
+	 */
+	@Override
+	public boolean keyDown(int keycode) {
+		if(!isPlaying()){
+			return super.keyDown(keycode);
+		}
+		
+		switch(keycode){
+			case Keys.SPACE:
+				if(replayPlayer.isPaused()){
+					replayPlayer.resume();
+				}else{
+					replayPlayer.pause();
+				}
+				return true;
+			case Keys.UP:
+			case Keys.PLUS:
+				replayPlayer.setSpeed(replayPlayer.getSpeed() * 2);
+				return true;
+			case Keys.DOWN:
+			case Keys.MINUS:
+				replayPlayer.setSpeed(replayPlayer.getSpeed() / 2);
+				return true;
+			case Keys.LEFT:
+				replayPlayer.seekTurn(replayPlayer.getTurn() - 1);
+				return true;
+			case Keys.RIGHT:
+				replayPlayer.seekTurn(replayPlayer.getTurn() + 1);
+				return true;
+			default:
+				return super.keyDown(keycode);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return true when the replay is played and the game is not paused by the menu.
+	 */
+	private boolean isPlaying(){
+		return replayPlayer.isStarted() && !replayPlayer.isFinished() && !gameControl.isGamePaused();
+	}
+	
+	/**
+	 * Seek to the time of the given horizontal position. The left side of the screen is the kick-off, the right side is the end of the match.
+	 * 
+	 * @param screenX - The x coordinate value on the screen.
+	 */
+	private void scrub(final int screenX){
+		if(isPlaying()){
+			replayPlayer.seekTime((float) screenX / Gdx.graphics.getWidth() * replayPlayer.getDuration());
+		}
+	}
+	
+}
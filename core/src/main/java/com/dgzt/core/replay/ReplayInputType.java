@@ -0,0 +1,36 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+/**
+ * The type of the recorded input.
+ * 
+ * @author Dgzt
+ */
+public enum ReplayInputType {
+	
+	/** A button is shot with a velocity. */
+	SHOT,
+	
+	/** A button is placed to a position. */
+	PLACE,
+	
+	/** The placing of the buttons is ended. */
+	END_PLACING,
+	
+	/** A button is moved to a position without ending its placing, because the time left ended while it was dragged. */
+	MOVE;
+	
+}
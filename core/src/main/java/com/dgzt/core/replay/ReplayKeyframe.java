@@ -0,0 +1,76 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.dgzt.core.TableSnapshot;
+
+/**
+ * The saved state of the match before a shot of the replay.
+ * 
+ * @author Dgzt
+ */
+public class ReplayKeyframe {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The index of the first input after the keyframe. */
+	private final int inputIndex;
+	
+	/** The state of the match. */
+	private final TableSnapshot snapshot;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param inputIndex - The index of the first input after the keyframe.
+	 * @param snapshot - The state of the match.
+	 */
+	public ReplayKeyframe(final int inputIndex, final TableSnapshot snapshot){
+		this.inputIndex = inputIndex;
+		this.snapshot = snapshot;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the index of the first input after the keyframe.
+	 */
+	public int getInputIndex(){
+		return inputIndex;
+	}
+	
+	/**
+	 * Return with the state of the match.
+	 */
+	public TableSnapshot getSnapshot(){
+		return snapshot;
+	}
+	
+	/**
+	 * Return with the time of the game clock in second.
+	 */
+	public float getTime(){
+		return snapshot.getClockTime();
+	}
+	
+}
@@ -0,0 +1,142 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.badlogic.gdx.graphics.Color;
+import com.dgzt.core.Fonts;
+import com.dgzt.core.shape.Text;
+import com.dgzt.core.shape.TextBatch;
+
+/**
+ * Show the state of the replay playback: the speed, the turn and the pause.
+ * 
+ * @author Dgzt
+ */
+public class ReplayOverlay extends Text{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The color. */
+	private static final Color COLOR = Color.YELLOW;
+	
+	/** The text which is the highest. */
+	private static final String HEIGHT_TEXT = "Replay";
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The replay player. */
+	private final ReplayPlayer replayPlayer;
+	
+	/** The builder of the text. It is reused between the refreshes. */
+	private final StringBuilder builder;
+	
+	/** The speed in the current text. */
+	private float speed;
+	
+	/** The turn in the current text. */
+	private int turn;
+	
+	/** The pause in the current text. */
+	private boolean paused;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param textBatch - The text batch.
+	 * @param replayPlayer - The replay player.
+	 */
+	public ReplayOverlay(final TextBatch textBatch, final ReplayPlayer replayPlayer){
+		super(textBatch, Fonts.getSmallFont(), COLOR);
+		this.replayPlayer = replayPlayer;
+		builder = new StringBuilder();
+		
+		refresh();
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void draw() {
+		if(speed != replayPlayer.getSpeed() || turn != replayPlayer.getTurn() || paused != replayPlayer.isPaused()){
+			refresh();
+		}
+		
+		super.draw();
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Create the text from the state of the replay player.
+	 */
+	String createText(){
+		builder.setLength(0);
+		
+		builder.append("Replay ");
+		if(speed < 1){
+			builder.append("1/").append(Math.round(1 / speed));
+		}else{
+			builder.append(Math.round(speed));
+		}
+		builder.append("x  turn ").append(turn).append('/').append(replayPlayer.getTurnNum());
+		if(paused){
+			builder.append("  paused");
+		}
+		
+		return builder.toString();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Refresh the text with the current state of the replay player.
+	 */
+	private void refresh(){
+		speed = replayPlayer.getSpeed();
+		turn = replayPlayer.getTurn();
+		paused = replayPlayer.isPaused();
+		
+		setText(createText());
+	}
+	
+	// --------------------------------------------------
+	// ~ Getters
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the height of the text.
+	 */
+	public float getHeight(){
+		return Fonts.getHeight(getFont(), HEIGHT_TEXT);
+	}
+	
+}
@@ -0,0 +1,610 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.dgzt.core.BotDecision;
+import com.dgzt.core.BotExecutor;
+import com.dgzt.core.GameClock;
+import com.dgzt.core.GameConstans;
+import com.dgzt.core.GameControl;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.GameView;
+import com.dgzt.core.MatchEngine;
+import com.dgzt.core.Player;
+import com.dgzt.core.ShotCandidate;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.button.AbstractButton;
+import com.dgzt.core.exception.IllegalReplayException;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Play a replay: the match is simulated again and the recorded inputs are given at their time.
+ * The bot does not think, its decisions are finished with the recorded shots, but it places its buttons itself,
+ * because the placing depends only on the table.
+ * The match is simulated in the same ticks as the recorded one and the inputs are given between the ticks.
+ * The player can seek to a turn or to a time: the nearest keyframe is restored and only the rest is simulated.
+ * The box2D world of a restored keyframe has another history than the recorded one, so the playback restores every keyframe on its way,
+ * and the small differences of the simulation can not grow longer than the interval of the keyframes.
+ * 
+ * @author Dgzt
+ */
+public class ReplayPlayer {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The minimum speed of the playback. */
+	public static final float MIN_SPEED = 0.25f;
+	
+	/** The maximum speed of the playback. */
+	public static final float MAX_SPEED = 16;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The inputs are saved in milliseconds, so an input is due half millisecond before its saved time. */
+	private static final float INPUT_TIME_EPSILON = 0.0005f;
+	
+	/** The length of one tick of the match engine in game time. */
+	private static final float TICK_TIME = GameConstans.PHYSICS_TIME_STEP;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The replay. */
+	private final Replay replay;
+	
+	/** The settings of the simulated match. */
+	private final Settings settings;
+	
+	/** The match engine which simulates the match. */
+	private final MatchEngine matchEngine;
+	
+	/** The game control. */
+	private final GameControl gameControl;
+	
+	/** The indices of the shots in the inputs. */
+	private final IntArray shotInputIndices;
+	
+	/** The shot which finishes the decisions of the bot. It is reused by every shot. */
+	private final ShotCandidate botShot;
+	
+	/** The current state of the match which is compared with the keyframes. */
+	private final TableSnapshot currentSnapshot;
+	
+	/** The decision of the bot which waits for its recorded shot or null. */
+	private BotDecision botDecision;
+	
+	/** The index of the next input. */
+	private int nextInputIndex;
+	
+	/** The index of the first input which is not given in the current advance. */
+	private int inputLimit;
+	
+	/** The index of the next keyframe. */
+	private int nextKeyframeIndex;
+	
+	/** The game time of the playback which is not simulated yet. */
+	private float tickAccumulator;
+	
+	/** The number of the given shots. */
+	private int turn;
+	
+	/** The speed of the playback. */
+	private float speed;
+	
+	/** True when the playback is paused. */
+	private boolean paused;
+	
+	/** True when the match of the replay is started. */
+	private boolean started;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param replay - The replay.
+	 * @param gameView - The view of the game.
+	 */
+	public ReplayPlayer(final Replay replay, final GameView gameView){
+		this.replay = replay;
+		
+		// The game changes its settings, the replay keeps the original.
+		settings = replay.getSettings().copy();
+		
+		// The steps of the player's bot are given from the inputs like the steps of the player.
+		settings.setPlayerBotType(null);
+		
+		// The playback is not recorded, traced or saved.
+		final GameServices services = new GameServices();
+		services.setBotExecutor(new BotExecutor() {
+			
+			@Override
+			public void execute(final BotDecision decision) {
+				botDecision = decision;
+				
+				// The bot shot at once when its decision was ready at once. Its keyframe was saved in the same moment.
+				if(nextInputIndex < inputLimit && isDue(replay.getInput(nextInputIndex))){
+					passSameKeyframe();
+					if(giveBotShot(replay.getInput(nextInputIndex))){
+						++nextInputIndex;
+					}
+				}
+			}
+			
+			@Override
+			public void dispose() {
+			}
+		});
+		
+		matchEngine = new MatchEngine(settings, services, gameView);
+		gameControl = matchEngine.getGameControl();
+		
+		shotInputIndices = new IntArray(replay.getShotNum());
+		for(int i = 0; i < replay.getInputNum(); ++i){
+			if(replay.getInput(i).getType() == ReplayInputType.SHOT){
+				shotInputIndices.add(i);
+			}
+		}
+		
+		botShot = new ShotCandidate();
+		currentSnapshot = new TableSnapshot(matchEngine.getTable().getBodyNum());
+		botDecision = null;
+		nextInputIndex = 0;
+		inputLimit = 0;
+		nextKeyframeIndex = 0;
+		tickAccumulator = 0;
+		turn = 0;
+		speed = 1;
+		paused = false;
+		started = false;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Start the match of the replay from the kick-off.
+	 */
+	public void start(){
+		if(started){
+			gameControl.quitGame();
+		}
+		
+		settings.setFirstStep(replay.getSettings().getFirstStep());
+		botDecision = null;
+		nextInputIndex = 0;
+		nextKeyframeIndex = 0;
+		tickAccumulator = 0;
+		turn = 0;
+		
+		final TableSnapshot startSnapshot = replay.getStartSnapshot();
+		if(startSnapshot != null){
+			checkSnapshot(startSnapshot);
+			gameControl.startGame(startSnapshot);
+		}else{
+			gameControl.startGame();
+		}
+		started = true;
+	}
+	
+	/**
+	 * Advance the match with the given frame time multiplied by the speed. The inputs are given at their recorded game time
+	 * independently of the frame times. An input waits while the game is not in the status which accepts it.
+	 * 
+	 * @param deltaTime - The elapsed time in second.
+	 */
+	public void update(final float deltaTime){
+		if(!paused){
+			advance(deltaTime * speed * gameControl.getGameClock().getTimeScale(), replay.getInputNum());
+		}
+	}
+	
+	/**
+	 * Seek to the moment before the shot of the given turn.
+	 * 
+	 * @param turn - The index of the turn. It is clamped between the first and the last turn.
+	 */
+	public void seekTurn(final int turn){
+		if(shotInputIndices.size == 0){
+			return;
+		}
+		
+		final int shotInputIndex = shotInputIndices.get(MathUtils.clamp(turn, 0, shotInputIndices.size - 1));
+		seek(shotInputIndex, replay.getInput(shotInputIndex).getTime());
+	}
+	
+	/**
+	 * Seek to the given game time.
+	 * 
+	 * @param time - The game time in second.
+	 */
+	public void seekTime(final float time){
+		seek(replay.getInputNum(), time);
+	}
+	
+	/**
+	 * Pause the playback.
+	 */
+	public void pause(){
+		paused = true;
+	}
+	
+	/**
+	 * Resume the playback.
+	 */
+	public void resume(){
+		paused = false;
+	}
+	
+	/**
+	 * Return true when the match of the replay is over.
+	 */
+	public boolean isFinished(){
+		return !gameControl.isInGame();
+	}
+	
+	/**
+	 * Return with the real time in second until the next input or the next timed event of the game
+	 * or {@link GameClock#NO_TASK} when nothing will come.
+	 */
+	public float getTimeToNextEvent(){
+		if(paused || isFinished()){
+			return GameClock.NO_TASK;
+		}
+		
+		float timeToNextEvent = matchEngine.getTimeToNextEvent();
+		if(nextInputIndex < replay.getInputNum()){
+			final GameClock gameClock = gameControl.getGameClock();
+			final float timeToInput = Math.max(0, replay.getInput(nextInputIndex).getTime() - gameClock.getTime()) / gameClock.getTimeScale();
+			timeToNextEvent = timeToNextEvent == GameClock.NO_TASK ? timeToInput : Math.min(timeToNextEvent, timeToInput);
+		}
+		
+		return timeToNextEvent == GameClock.NO_TASK ? GameClock.NO_TASK : timeToNextEvent / speed;
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Seek to the given time without giving the inputs from the given index.
+	 * The last keyframe before them is restored, the match is started again only when there is no such keyframe.
+	 * 
+	 * @param inputLimit - The index of the first input which is not given.
+	 * @param time - The game time in second.
+	 */
+	private void seek(final int inputLimit, final float time){
+		this.inputLimit = inputLimit;
+		
+		final int keyframeIndex = findKeyframe(inputLimit, time);
+		if(keyframeIndex != -1){
+			restore(keyframeIndex);
+		}else{
+			start();
+		}
+		
+		// The saved times are rounded, the last tick before the time has to be simulated.
+		tickAccumulator = 0;
+		advance(time - gameControl.getGameClock().getTime() + INPUT_TIME_EPSILON, inputLimit);
+		tickAccumulator = 0;
+	}
+	
+	/**
+	 * Return with the index of the last keyframe before the given input and time or -1 when there is no such keyframe.
+	 * 
+	 * @param inputLimit - The index of the input.
+	 * @param time - The game time in second.
+	 */
+	private int findKeyframe(final int inputLimit, final float time){
+		for(int i = replay.getKeyframeNum() - 1; i >= 0; --i){
+			final ReplayKeyframe keyframe = replay.getKeyframe(i);
+			if(keyframe.getInputIndex() <= inputLimit && keyframe.getTime() <= time + INPUT_TIME_EPSILON){
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Restore the match from the keyframe of the given index.
+	 * 
+	 * @param keyframeIndex - The index of the keyframe.
+	 */
+	private void restore(final int keyframeIndex){
+		final ReplayKeyframe keyframe = replay.getKeyframe(keyframeIndex);
+		final TableSnapshot snapshot = keyframe.getSnapshot();
+		checkSnapshot(snapshot);
+		
+		if(!started){
+			gameControl.startGame();
+			started = true;
+		}
+		
+		// The restored bot can shoot at once, so the next input is set before the restoring.
+		botDecision = null;
+		nextInputIndex = keyframe.getInputIndex();
+		nextKeyframeIndex = keyframeIndex + 1;
+		turn = 0;
+		while(turn < shotInputIndices.size && shotInputIndices.get(turn) < nextInputIndex){
+			++turn;
+		}
+		
+		matchEngine.restoreSnapshot(snapshot);
+		matchEngine.getTable().setVisibleButtons(true);
+		
+		// The recorded shot of the bot is given to its decision.
+		gameControl.restartBots();
+	}
+	
+	/**
+	 * Check that the given snapshot of the replay fits to the table.
+	 * 
+	 * @param snapshot - The snapshot.
+	 * @throws IllegalReplayException When the snapshot has other number of bodies.
+	 */
+	private void checkSnapshot(final TableSnapshot snapshot){
+		if(snapshot.getBodyStates().length != matchEngine.getTable().getBodyNum() * AbstractButton.STATE_SIZE){
+			throw new IllegalReplayException("The snapshot does not fit to the table.");
+		}
+	}
+	
+	/**
+	 * Advance the match with the given game time tick by tick. The due inputs are given before every tick.
+	 * 
+	 * @param gameDeltaTime - The elapsed game time in second.
+	 * @param inputLimit - The index of the first input which is not given.
+	 */
+	private void advance(final float gameDeltaTime, final int inputLimit){
+		this.inputLimit = inputLimit;
+		tickAccumulator += gameDeltaTime;
+		
+		while(gameControl.isInGame() && !gameControl.isGamePaused()){
+			giveInputs();
+			
+			if(tickAccumulator < TICK_TIME || !gameControl.isInGame() || gameControl.isGamePaused()){
+				break;
+			}
+			
+			tickAccumulator -= TICK_TIME;
+			matchEngine.tick();
+		}
+		
+		if(!gameControl.isInGame() || gameControl.isGamePaused()){
+			tickAccumulator = 0;
+		}
+	}
+	
+	/**
+	 * Give the due inputs before the input limit. An input waits while the game is not in the status which accepts it.
+	 * The next keyframe is restored at its time when the match differs from it, so the inputs which are waiting for it are skipped.
+	 */
+	private void giveInputs(){
+		// The keyframes of the given inputs are passed.
+		while(nextKeyframeIndex < replay.getKeyframeNum() && replay.getKeyframe(nextKeyframeIndex).getInputIndex() < nextInputIndex){
+			++nextKeyframeIndex;
+		}
+		
+		passSameKeyframe();
+		if(nextKeyframeIndex < replay.getKeyframeNum()){
+			final ReplayKeyframe keyframe = replay.getKeyframe(nextKeyframeIndex);
+			if(keyframe.getInputIndex() <= inputLimit && keyframe.getTime() <= gameControl.getGameClock().getTime()){
+				// The state differs from the recorded one, the match continues from the keyframe.
+				restore(nextKeyframeIndex);
+			}
+		}
+		
+		while(nextInputIndex < inputLimit && gameControl.isInGame()){
+			final ReplayInput input = replay.getInput(nextInputIndex);
+			if(!isDue(input) || !apply(input)){
+				break;
+			}
+			++nextInputIndex;
+		}
+	}
+	
+	/**
+	 * Pass the next keyframe if it is saved at the current time before the next input and the match is the same as it.
+	 */
+	private void passSameKeyframe(){
+		if(nextKeyframeIndex < replay.getKeyframeNum()){
+			final ReplayKeyframe keyframe = replay.getKeyframe(nextKeyframeIndex);
+			if(keyframe.getInputIndex() == nextInputIndex && keyframe.getTime() == gameControl.getGameClock().getTime() && isSameAsKeyframe(keyframe)){
+				++nextKeyframeIndex;
+			}
+		}
+	}
+	
+	/**
+	 * Return true when the table and the status of the match are the same as in the given keyframe.
+	 * 
+	 * @param keyframe - The keyframe.
+	 */
+	private boolean isSameAsKeyframe(final ReplayKeyframe keyframe){
+		final TableSnapshot snapshot = keyframe.getSnapshot();
+		gameControl.saveSnapshot(currentSnapshot);
+		
+		return currentSnapshot.getGameStatus() == snapshot.getGameStatus() && Arrays.equals(currentSnapshot.getBodyStates(), snapshot.getBodyStates());
+	}
+	
+	/**
+	 * Return true when the time of the given input is reached.
+	 * 
+	 * @param input - The input.
+	 */
+	private boolean isDue(final ReplayInput input){
+		return input.getTime() <= gameControl.getGameClock().getTime() + INPUT_TIME_EPSILON;
+	}
+	
+	/**
+	 * Give the input to the game if the game accepts it in its status.
+	 * 
+	 * @param input - The input.
+	 * @return True when the input is given.
+	 */
+	private boolean apply(final ReplayInput input){
+		switch(input.getType()){
+			case SHOT:
+				if(input.getPlayer() == Player.PLAYER && gameControl.isPlayerStep()){
+					gameControl.playerShoot(input.getButtonIndex(), input.getX(), input.getY());
+					++turn;
+					return true;
+				}else if(input.getPlayer() == Player.BOT){
+					return giveBotShot(input);
+				}
+				return false;
+			case PLACE:
+				if(gameControl.isPlayerMoveButton()){
+					gameControl.placePlayerButton(input.getButtonIndex(), input.getX(), input.getY());
+					return true;
+				}
+				return false;
+			case END_PLACING:
+				if(gameControl.isPlayerMoveButton()){
+					gameControl.endPlayerMoveButton();
+					return true;
+				}
+				return false;
+			case MOVE:
+				// The time left ended while the button was dragged, the status is already changed.
+				matchEngine.getTable().getPlayerButtons().get(input.getButtonIndex()).setBox2DPosition(input.getX(), input.getY());
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Finish the decision of the bot with the given recorded shot. The bot shoots when it checks its decision:
+	 * at once in the executor or at the start of the next tick.
+	 * 
+	 * @param input - The shot of the bot.
+	 * @return True when the bot is thinking, so the shot is given.
+	 */
+	private boolean giveBotShot(final ReplayInput input){
+		if(input.getType() != ReplayInputType.SHOT || input.getPlayer() != Player.BOT || botDecision == null || !gameControl.isBotThinking()){
+			return false;
+		}
+		
+		botShot.set(input.getButtonIndex(), input.getX(), input.getY());
+		botDecision.finish(botShot);
+		botDecision = null;
+		++turn;
+		return true;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter / Setter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the replay.
+	 */
+	public Replay getReplay(){
+		return replay;
+	}
+	
+	/**
+	 * Return with the match engine.
+	 */
+	public MatchEngine getMatchEngine(){
+		return matchEngine;
+	}
+	
+	/**
+	 * Return with the index of the next input.
+	 */
+	public int getNextInputIndex(){
+		return nextInputIndex;
+	}
+	
+	/**
+	 * Return with the number of the given shots.
+	 */
+	public int getTurn(){
+		return turn;
+	}
+	
+	/**
+	 * Return with the number of the shots in the replay.
+	 */
+	public int getTurnNum(){
+		return shotInputIndices.size;
+	}
+	
+	/**
+	 * Return with the current game time in second.
+	 */
+	public float getTime(){
+		return gameControl.getGameClock().getTime();
+	}
+	
+	/**
+	 * Return with the length of the match in game time.
+	 */
+	public float getDuration(){
+		return 2f * replay.getSettings().getHalfTime();
+	}
+	
+	/**
+	 * Return with the interpolation value between the last two physics states.
+	 */
+	public float getInterpolationAlpha(){
+		return tickAccumulator / TICK_TIME;
+	}
+	
+	/**
+	 * Return with the speed of the playback.
+	 */
+	public float getSpeed(){
+		return speed;
+	}
+	
+	/**
+	 * Set the speed of the playback.
+	 * 
+	 * @param speed - The speed. It is clamped between {@link #MIN_SPEED} and {@link #MAX_SPEED}.
+	 */
+	public void setSpeed(final float speed){
+		this.speed = MathUtils.clamp(speed, MIN_SPEED, MAX_SPEED);
+	}
+	
+	/**
+	 * Return true when the playback is paused.
+	 */
+	public boolean isPaused(){
+		return paused;
+	}
+	
+	/**
+	 * Return true when the match of the replay is started.
+	 */
+	public boolean isStarted(){
+		return started;
+	}
+	
+}
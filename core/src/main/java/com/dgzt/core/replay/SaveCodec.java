@@ -0,0 +1,107 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.dgzt.core.exception.IllegalReplayException;
+
+/**
+ * Encode and decode the saved matches. The data has a header with the settings, which are encoded like
+ * in the replays, and the snapshot of the match, which is encoded like the keyframes of the replays.
+ * 
+ * @author Dgzt
+ */
+public final class SaveCodec {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The first four bytes of the saved matches: BFSV. */
+	public static final int MAGIC = 0x42465356;
+	
+	/** The version of the format. */
+	public static final int VERSION = 1;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum size of the header in bytes. */
+	private static final int MAX_HEADER_SIZE = 64;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/*
+	 * Hidden constuctor.
+	 */
+	private SaveCodec(){
+		// Hide constructor for sonar.
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Encode the given saved match.
+	 * 
+	 * @param savedMatch - The saved match.
+	 * @return The bytes of the saved match.
+	 */
+	public static byte[] encode(final SavedMatch savedMatch){
+		final ByteBuffer buffer = ByteBuffer.allocate(MAX_HEADER_SIZE + ReplayCodec.getMaxSnapshotSize(savedMatch.getSnapshot()));
+		
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		ReplayCodec.encodeSettings(buffer, savedMatch.getSettings());
+		ReplayCodec.encodeSnapshot(buffer, savedMatch.getSnapshot());
+		
+		final byte[] bytes = new byte[buffer.position()];
+		buffer.flip();
+		buffer.get(bytes);
+		return bytes;
+	}
+	
+	/**
+	 * Decode the saved match from the position of the given buffer.
+	 * 
+	 * @param buffer - The buffer.
+	 * @return The saved match.
+	 */
+	public static SavedMatch decode(final ByteBuffer buffer){
+		try{
+			if(buffer.getInt() != MAGIC){
+				throw new IllegalReplayException("The data is not a saved match.");
+			}
+			
+			final int version = buffer.get();
+			if(version != VERSION){
+				throw new IllegalReplayException("Unsupported save version: " + version);
+			}
+			
+			return new SavedMatch(ReplayCodec.getSettings(buffer), ReplayCodec.decodeSnapshot(buffer));
+		}catch(final BufferUnderflowException e){
+			throw new IllegalReplayException("The saved match is truncated.");
+		}catch(final ArrayIndexOutOfBoundsException e){
+			throw new IllegalReplayException("Unknown setting in the saved match.");
+		}
+	}
+	
+}
@@ -0,0 +1,70 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * A match which is quitted before its end and can be resumed later.
+ * 
+ * @author Dgzt
+ */
+public class SavedMatch {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The settings which affect the simulation. */
+	private final Settings settings;
+	
+	/** The state of the match. */
+	private final TableSnapshot snapshot;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings which affect the simulation.
+	 * @param snapshot - The state of the match.
+	 */
+	public SavedMatch(final Settings settings, final TableSnapshot snapshot){
+		this.settings = settings;
+		this.snapshot = snapshot;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the settings which affect the simulation.
+	 */
+	public Settings getSettings(){
+		return settings;
+	}
+	
+	/**
+	 * Return with the state of the match.
+	 */
+	public TableSnapshot getSnapshot(){
+		return snapshot;
+	}
+	
+}
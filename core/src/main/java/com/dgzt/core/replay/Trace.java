@@ -0,0 +1,95 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+/**
+ * The decoded positions of the bodies in every step of a trace.
+ * The bodies are the player's buttons, the opponent's buttons and the ball in this order.
+ * 
+ * @author Dgzt
+ */
+public class Trace {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The number of the bodies. */
+	private final int bodyNum;
+	
+	/** The x and y coordinates of the bodies step by step. */
+	private final float[] positions;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param bodyNum - The number of the bodies.
+	 * @param positions - The x and y coordinates of the bodies step by step.
+	 */
+	public Trace(final int bodyNum, final float[] positions){
+		this.bodyNum = bodyNum;
+		this.positions = positions;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the number of the bodies.
+	 */
+	public int getBodyNum(){
+		return bodyNum;
+	}
+	
+	/**
+	 * Return with the number of the steps.
+	 */
+	public int getStepNum(){
+		return bodyNum == 0 ? 0 : positions.length / (bodyNum * 2);
+	}
+	
+	/**
+	 * Return with the x coordinate of the given body in the given step.
+	 * 
+	 * @param step - The index of the step.
+	 * @param body - The index of the body.
+	 */
+	public float getX(final int step, final int body){
+		return positions[(step * bodyNum + body) * 2];
+	}
+	
+	/**
+	 * Return with the y coordinate of the given body in the given step.
+	 * 
+	 * @param step - The index of the step.
+	 * @param body - The index of the body.
+	 */
+	public float getY(final int step, final int body){
+		return positions[(step * bodyNum + body) * 2 + 1];
+	}
+	
+	/**
+	 * Return with the x and y coordinates of the bodies step by step.
+	 */
+	public float[] getPositions(){
+		return positions;
+	}
+	
+}
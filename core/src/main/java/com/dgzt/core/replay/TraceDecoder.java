@@ -0,0 +1,133 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.dgzt.core.exception.IllegalReplayException;
+
+/**
+ * Decode the traces which are encoded with {@link TraceEncoder}.
+ * 
+ * @author Dgzt
+ */
+public final class TraceDecoder {
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/*
+	 * Hidden constuctor.
+	 */
+	private TraceDecoder(){
+		// Hide constructor for sonar.
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Decode the trace from the position of the given buffer.
+	 * The last step is dropped when it is truncated, because the recording was not closed.
+	 * 
+	 * @param buffer - The buffer.
+	 * @return The trace.
+	 */
+	public static Trace decode(final ByteBuffer buffer){
+		final int version;
+		final int bodyNum;
+		final float scale;
+		try{
+			if(buffer.getInt() != TraceEncoder.MAGIC){
+				throw new IllegalReplayException("The data is not a trace.");
+			}
+			
+			version = buffer.get();
+			if(version < 1 || version > TraceEncoder.VERSION){
+				throw new IllegalReplayException("Unsupported trace version: " + version);
+			}
+			
+			bodyNum = ReplayCodec.getVarInt(buffer);
+			scale = buffer.getFloat();
+		}catch(final BufferUnderflowException e){
+			throw new IllegalReplayException("The trace is truncated.");
+		}
+		
+		final int maskSize = TraceEncoder.getMaskSize(bodyNum);
+		final int[] fixedPositions = new int[bodyNum * 2];
+		final FloatArray positions = new FloatArray(bodyNum * 2);
+		
+		try{
+			while(buffer.hasRemaining()){
+				// The skipped steps are the same as the previous step.
+				final int skippedStepNum = version > 1 ? ReplayCodec.getVarInt(buffer) : 0;
+				for(int i = 0; i < skippedStepNum; ++i){
+					addPositions(positions, fixedPositions, scale);
+				}
+				
+				if(buffer.remaining() < maskSize){
+					break;
+				}
+				
+				final int maskPosition = buffer.position();
+				buffer.position(maskPosition + maskSize);
+				
+				for(int i = 0; i < bodyNum; ++i){
+					if((buffer.get(maskPosition + i / 8) & 1 << (i % 8)) != 0){
+						fixedPositions[i * 2] += fromZigZag(ReplayCodec.getVarInt(buffer));
+						fixedPositions[i * 2 + 1] += fromZigZag(ReplayCodec.getVarInt(buffer));
+					}
+				}
+				
+				addPositions(positions, fixedPositions, scale);
+			}
+		}catch(final BufferUnderflowException e){
+			// The last step is not whole, the positions of the whole steps are kept.
+		}
+		
+		return new Trace(bodyNum, positions.toArray());
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add the positions of a step.
+	 * 
+	 * @param positions - The positions of the trace.
+	 * @param fixedPositions - The fixed-point positions of the step.
+	 * @param scale - The number of the fixed-point units in one box2D unit.
+	 */
+	private static void addPositions(final FloatArray positions, final int[] fixedPositions, final float scale){
+		for(int i = 0; i < fixedPositions.length; ++i){
+			positions.add(fixedPositions[i] / scale);
+		}
+	}
+	
+	/**
+	 * Return with the signed value of the given value which is mapped by the encoder.
+	 * 
+	 * @param value - The mapped value.
+	 */
+	private static int fromZigZag(final int value){
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+}
@@ -0,0 +1,236 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.dgzt.core.Table;
+import com.dgzt.core.button.AbstractButton;
+import com.dgzt.core.button.Button;
+
+/**
+ * Encode the positions of the bodies step by step into a compact stream.
+ * The positions are rounded to fixed-point values and only their change from the previous step is written as variable length value.
+ * Every step starts with the number of the skipped steps before it and a bit mask of the moved bodies.
+ * The steps without movement, like the steps while every body is asleep, are skipped.
+ * The encoder keeps the positions of the previous step and allocates nothing after its construction.
+ * 
+ * @author Dgzt
+ */
+public class TraceEncoder {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The first four bytes of the traces: "BFTR". */
+	public static final int MAGIC = 0x42465452;
+	
+	/** The version of the format. The first version has no skipped steps. */
+	public static final int VERSION = 2;
+	
+	/** The number of the fixed-point units in one box2D unit. */
+	public static final float POSITION_SCALE = 1024;
+	
+	/** The maximum size of the header in bytes: the magic, the version, the number of the bodies and the scale. */
+	public static final int MAX_HEADER_SIZE = 4 + 1 + 5 + 4;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum size of one moved body in a step in bytes: the two changes. */
+	private static final int MAX_BODY_SIZE = 2 * 5;
+	
+	/** The maximum size of the number of the skipped steps in bytes. */
+	private static final int MAX_SKIPPED_SIZE = 5;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The number of the bodies. */
+	private final int bodyNum;
+	
+	/** The x and y coordinates of the bodies in the previous step. The resting bodies are skipped by them without rounding. */
+	private final float[] previousPositions;
+	
+	/** The fixed-point x and y coordinates of the bodies in the previous step. */
+	private final int[] previousFixedPositions;
+	
+	/** The bits of the moved bodies in the current step. */
+	private final byte[] mask;
+	
+	/** The number of the skipped steps since the last encoded step. */
+	private int skippedStepNum;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor. Every body is at the origin before the first step.
+	 * 
+	 * @param bodyNum - The number of the bodies.
+	 */
+	public TraceEncoder(final int bodyNum){
+		this.bodyNum = bodyNum;
+		previousPositions = new float[bodyNum * 2];
+		previousFixedPositions = new int[bodyNum * 2];
+		mask = new byte[getMaskSize(bodyNum)];
+		skippedStepNum = 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Encode the header of the trace.
+	 * 
+	 * @param buffer - The buffer.
+	 */
+	public void encodeHeader(final ByteBuffer buffer){
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		ReplayCodec.putVarInt(buffer, bodyNum);
+		buffer.putFloat(POSITION_SCALE);
+	}
+	
+	/**
+	 * Encode the positions of the player's buttons, the opponent's buttons and the ball in this order.
+	 * The step is skipped when no body moved.
+	 * 
+	 * @param buffer - The buffer. It has at least {@link #getMaxStepSize()} remaining bytes.
+	 * @param table - The table.
+	 */
+	public void encodeStep(final ByteBuffer buffer, final Table table){
+		final int stepPosition = buffer.position();
+		ReplayCodec.putVarInt(buffer, skippedStepNum);
+		
+		final int maskPosition = buffer.position();
+		buffer.position(maskPosition + mask.length);
+		boolean moved = false;
+		for(int i = 0; i < mask.length; ++i){
+			mask[i] = 0;
+		}
+		
+		final List<Button> playerButtons = table.getPlayerButtons();
+		final List<Button> opponentButtons = table.getOpponentButtons();
+		int index = 0;
+		for(int i = 0; i < playerButtons.size(); ++i){
+			encodeBody(buffer, playerButtons.get(i), index++);
+		}
+		for(int i = 0; i < opponentButtons.size(); ++i){
+			encodeBody(buffer, opponentButtons.get(i), index++);
+		}
+		encodeBody(buffer, table.getBall(), index);
+		
+		for(int i = 0; i < mask.length; ++i){
+			buffer.put(maskPosition + i, mask[i]);
+			moved |= mask[i] != 0;
+		}
+		
+		if(moved){
+			skippedStepNum = 0;
+		}else{
+			buffer.position(stepPosition);
+			++skippedStepNum;
+		}
+	}
+	
+	/**
+	 * Encode the skipped steps at the end of the trace, so the decoded trace has every step. The last one is encoded as a step without movement.
+	 * 
+	 * @param buffer - The buffer. It has at least {@link #getMaxStepSize()} remaining bytes.
+	 */
+	public void encodeEnd(final ByteBuffer buffer){
+		if(skippedStepNum == 0){
+			return;
+		}
+		
+		ReplayCodec.putVarInt(buffer, skippedStepNum - 1);
+		for(int i = 0; i < mask.length; ++i){
+			buffer.put((byte) 0);
+		}
+		skippedStepNum = 0;
+	}
+	
+	/**
+	 * Return with the maximum size of one step in bytes.
+	 */
+	public int getMaxStepSize(){
+		return MAX_SKIPPED_SIZE + mask.length + bodyNum * MAX_BODY_SIZE;
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the size of the bit mask of the moved bodies in bytes.
+	 * 
+	 * @param bodyNum - The number of the bodies.
+	 */
+	static int getMaskSize(final int bodyNum){
+		return (bodyNum + 7) / 8;
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Encode the change of the position of the given body if it moved.
+	 * 
+	 * @param buffer - The buffer.
+	 * @param body - The body.
+	 * @param index - The index of the body.
+	 */
+	private void encodeBody(final ByteBuffer buffer, final AbstractButton body, final int index){
+		final float x = body.getBox2DX();
+		final float y = body.getBox2DY();
+		if(x == previousPositions[index * 2] && y == previousPositions[index * 2 + 1]){
+			return;
+		}
+		previousPositions[index * 2] = x;
+		previousPositions[index * 2 + 1] = y;
+		
+		final int fixedX = Math.round(x * POSITION_SCALE);
+		final int fixedY = Math.round(y * POSITION_SCALE);
+		final int deltaX = fixedX - previousFixedPositions[index * 2];
+		final int deltaY = fixedY - previousFixedPositions[index * 2 + 1];
+		
+		if(deltaX != 0 || deltaY != 0){
+			mask[index / 8] |= 1 << (index % 8);
+			ReplayCodec.putVarInt(buffer, toZigZag(deltaX));
+			ReplayCodec.putVarInt(buffer, toZigZag(deltaY));
+			
+			previousFixedPositions[index * 2] = fixedX;
+			previousFixedPositions[index * 2 + 1] = fixedY;
+		}
+	}
+	
+	/**
+	 * Map the signed value to a not negative value, so the small negative changes are also short.
+	 * 
+	 * @param value - The signed value.
+	 */
+	private static int toZigZag(final int value){
+		return (value << 1) ^ (value >> 31);
+	}
+	
+}
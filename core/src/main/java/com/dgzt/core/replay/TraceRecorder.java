@@ -0,0 +1,38 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import com.dgzt.core.Table;
+
+/**
+ * Record the positions of the bodies after every step of the box2D world.
+ * 
+ * @author Dgzt
+ */
+public interface TraceRecorder {
+	
+	/**
+	 * Record the positions of the bodies after a step. It is called in every step of the match, so it must not allocate.
+	 * 
+	 * @param table - The table.
+	 */
+	void record(Table table);
+	
+	/**
+	 * Save the recorded steps and release the resources. Nothing is recorded after it.
+	 */
+	void close();
+	
+}
@@ -15,8 +15,8 @@
 package com.dgzt.core.scoreboard;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.shape.LineShape;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * Digit number.
@@ -98,23 +98,23 @@ final public class Digit{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param baseWidth - The base width value.
 	 * @param baseHeight - The base height value.
 	 * @param color - The color.
 	 */
-	public Digit(final ShaderProgram shader, final float baseWidth, final float baseHeight, final Color color){
+	public Digit(final ShapeBatch shapeBatch, final float baseWidth, final float baseHeight, final Color color){
 		setNumber(0);;
 		this.baseHorizontalLineLength = baseWidth - 2 * HORIZONTAL_LINE_DISTANCE;
 		this.baseVerticalLineLength = (baseHeight - 3 * LineShape.LINE_WIDTH - 6 * VERTICAL_LINE_DISTANCE) / 2;
 		
-		topLine = new LineShape(shader, color);
-		topRightLine = new LineShape(shader, color);
-		centerLine = new LineShape(shader, color);
-		bottomRightLine = new LineShape(shader, color);
-		bottomLine = new LineShape(shader, color);
-		bottomLeftLine = new LineShape(shader, color);
-		topLeftLine = new LineShape(shader, color);
+		topLine = new LineShape(shapeBatch, color);
+		topRightLine = new LineShape(shapeBatch, color);
+		centerLine = new LineShape(shapeBatch, color);
+		bottomRightLine = new LineShape(shapeBatch, color);
+		bottomLine = new LineShape(shapeBatch, color);
+		bottomLeftLine = new LineShape(shapeBatch, color);
+		topLeftLine = new LineShape(shapeBatch, color);
 	}
 	
 	// --------------------------------------------------
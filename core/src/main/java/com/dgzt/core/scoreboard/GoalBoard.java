@@ -14,116 +14,38 @@
  */
 package com.dgzt.core.scoreboard;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.dgzt.core.shape.LineShape;
-import com.dgzt.core.shape.RectangleBorderShape;
-
 /**
  * The goal board.
  * 
  * @author Dgzt
  */
-final public class GoalBoard extends RectangleBorderShape{
-	
-	// --------------------------------------------------
-	// ~ Static members
-	// --------------------------------------------------
-	
-	/** The width value in cm. */
-	public static final float WIDTH = 2*Digit.GOAL_DIGIT_WIDTH + 2*LineShape.LINE_WIDTH;
-	
-	/** The height value in cm. */
-	public static final float HEIGHT = (Digit.GOAL_DIGIT_HEIGHT + 2*LineShape.LINE_WIDTH);
+final public class GoalBoard{
 	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The first digit. */
-	private final Digit firstDigit;
-	
-	/** The second digit. */
-	private final Digit secondDigit;
-
-	// --------------------------------------------------
-	// ~ Constructors
-	// --------------------------------------------------
-	
-	/**
-	 * The constructor.
-	 * 
-	 * @param shader - The shader.
-	 * @param borderColor - The color of the border.
-	 * @param digitColor - The color of the digit.
-	 */
-	public GoalBoard(final ShaderProgram shader, final Color borderColor, final Color digitColor) {
-		super(shader, borderColor);
-		
-		firstDigit = new Digit(shader, Digit.GOAL_DIGIT_WIDTH, Digit.GOAL_DIGIT_HEIGHT, digitColor);
-		secondDigit = new Digit(shader, Digit.GOAL_DIGIT_WIDTH, Digit.GOAL_DIGIT_HEIGHT, digitColor);
-	}
-	
-	// --------------------------------------------------
-	// ~ Override methods
-	// --------------------------------------------------
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void resize(final float x, final float y, final float width, final float height, final double scale) {
-		super.resize(x, y, width, height, scale);
-		
-		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
-		final float digitWidth = (float)(Digit.GOAL_DIGIT_WIDTH * scale);
-		final float digitHeight = (float)(Digit.GOAL_DIGIT_HEIGHT * scale);
-		
-		firstDigit.resize(x + lineWidth, y + lineWidth, digitWidth, digitHeight, scale);
-		secondDigit.resize(firstDigit.getX() + digitWidth, firstDigit.getY(), digitWidth, digitHeight, scale);
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void draw() {
-		super.draw();
-		
-		firstDigit.draw();
-		secondDigit.draw();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void dispose() {
-		firstDigit.dispose();
-		secondDigit.dispose();
-		
-		super.dispose();
-	}
+	/** The number of goals. */
+	private int number;
 	
 	// --------------------------------------------------
 	// ~ Getter / Setter methods
 	// --------------------------------------------------
 
 	/**
-	 * Set the number of digits.
+	 * Set the number of goals.
 	 * 
 	 * @param number - The number.
 	 */
 	public void setNumber(final int number){
-		firstDigit.setNumber(number / 10);
-		secondDigit.setNumber(number % 10);
+		this.number = number;
 	}
 	
 	/**
-	 * Get the number of digits.
+	 * Get the number of goals.
 	 */
 	public int getNumber(){
-		return firstDigit.getNumber() * 10 + secondDigit.getNumber();
+		return number;
 	}
 	
 }
@@ -0,0 +1,117 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.scoreboard;
+
+import com.badlogic.gdx.graphics.Color;
+import com.dgzt.core.shape.LineShape;
+import com.dgzt.core.shape.RectangleBorderShape;
+import com.dgzt.core.shape.ShapeBatch;
+
+/**
+ * The shape of the goal board.
+ * 
+ * @author Dgzt
+ */
+final public class GoalBoardShape extends RectangleBorderShape{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	/** The width value in cm. */
+	public static final float WIDTH = 2*Digit.GOAL_DIGIT_WIDTH + 2*LineShape.LINE_WIDTH;
+	
+	/** The height value in cm. */
+	public static final float HEIGHT = (Digit.GOAL_DIGIT_HEIGHT + 2*LineShape.LINE_WIDTH);
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The drawn goal board. */
+	private final GoalBoard goalBoard;
+	
+	/** The first digit. */
+	private final Digit firstDigit;
+	
+	/** The second digit. */
+	private final Digit secondDigit;
+
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 * @param borderColor - The color of the border.
+	 * @param digitColor - The color of the digit.
+	 * @param goalBoard - The drawn goal board.
+	 */
+	public GoalBoardShape(final ShapeBatch shapeBatch, final Color borderColor, final Color digitColor, final GoalBoard goalBoard) {
+		super(shapeBatch, borderColor);
+		this.goalBoard = goalBoard;
+		
+		firstDigit = new Digit(shapeBatch, Digit.GOAL_DIGIT_WIDTH, Digit.GOAL_DIGIT_HEIGHT, digitColor);
+		secondDigit = new Digit(shapeBatch, Digit.GOAL_DIGIT_WIDTH, Digit.GOAL_DIGIT_HEIGHT, digitColor);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resize(final float x, final float y, final float width, final float height, final double scale) {
+		super.resize(x, y, width, height, scale);
+		
+		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
+		final float digitWidth = (float)(Digit.GOAL_DIGIT_WIDTH * scale);
+		final float digitHeight = (float)(Digit.GOAL_DIGIT_HEIGHT * scale);
+		
+		firstDigit.resize(x + lineWidth, y + lineWidth, digitWidth, digitHeight, scale);
+		secondDigit.resize(firstDigit.getX() + digitWidth, firstDigit.getY(), digitWidth, digitHeight, scale);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void draw() {
+		super.draw();
+		
+		final int number = goalBoard.getNumber();
+		firstDigit.setNumber(number / 10);
+		secondDigit.setNumber(number % 10);
+		
+		firstDigit.draw();
+		secondDigit.draw();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		firstDigit.dispose();
+		secondDigit.dispose();
+		
+		super.dispose();
+	}
+	
+}
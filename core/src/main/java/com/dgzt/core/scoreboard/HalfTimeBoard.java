@@ -14,35 +14,21 @@
  */
 package com.dgzt.core.scoreboard;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.HalfTimeType;
-import com.dgzt.core.shape.LineShape;
-import com.dgzt.core.shape.RectangleBorderShape;
 
 /**
  * The halftime-board.
  * 
  * @author Dgzt
  */
-public class HalfTimeBoard extends RectangleBorderShape{
-	
-	// --------------------------------------------------
-	// ~ Static members
-	// --------------------------------------------------
-	
-	/** The width value in cm. */
-	public static final float WIDTH = Digit.GOAL_DIGIT_WIDTH + 2*LineShape.LINE_WIDTH;
-	
-	/** The height value in cm. */
-	public static final float HEIGHT = Digit.GOAL_DIGIT_HEIGHT + 2*LineShape.LINE_WIDTH;
+public class HalfTimeBoard{
 	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The digit. */
-	private final Digit digit;
+	/** The type of the half time. */
+	private HalfTimeType halfTimeType;
 
 	// --------------------------------------------------
 	// ~ Constructors
@@ -50,25 +36,20 @@ public class HalfTimeBoard extends RectangleBorderShape{
 	
 	/**
 	 * The constructor.
-	 * 
-	 * @param shader - The shader.
-	 * @param color - The color.
 	 */
-	public HalfTimeBoard(final ShaderProgram shader, final Color color) {
-		super(shader, color);
-		
-		digit = new Digit(shader, Digit.GOAL_DIGIT_WIDTH, Digit.GOAL_DIGIT_HEIGHT, color);
+	public HalfTimeBoard() {
+		halfTimeType = HalfTimeType.NOT_IN_GAME;
 	}
 	
 	// --------------------------------------------------
-	// ~ Public methods
+	// ~ Getter / Setter methods
 	// --------------------------------------------------
 	
 	/**
 	 * Return with the type of the half time.
 	 */
 	public HalfTimeType getHalfTimeType() {
-		return HalfTimeType.getByValue(digit.getNumber());
+		return halfTimeType;
 	}
 
 	/**
@@ -76,46 +57,8 @@ public class HalfTimeBoard extends RectangleBorderShape{
 	 * 
 	 * @param halfTimeType - The new type of half time.
 	 */
-	public void setHalfTimeType(HalfTimeType halfTimeType) {
-		digit.setNumber(halfTimeType.getValue());
-	}
-
-	// --------------------------------------------------
-	// ~ Override methods
-	// --------------------------------------------------
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void resize(float x, float y, float width, float height, double scale) {
-		super.resize(x, y, width, height, scale);
-		
-		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
-		final float digitWidth = (float)(Digit.GOAL_DIGIT_WIDTH * scale);
-		final float digitHeight = (float)(Digit.GOAL_DIGIT_HEIGHT * scale);
-		
-		digit.resize(x + lineWidth, y + lineWidth, digitWidth, digitHeight, scale);
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void draw() {
-		super.draw();
-		
-		digit.draw();
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void dispose() {
-		digit.dispose();
-		
-		super.dispose();
+	public void setHalfTimeType(final HalfTimeType halfTimeType) {
+		this.halfTimeType = halfTimeType;
 	}
 
 }
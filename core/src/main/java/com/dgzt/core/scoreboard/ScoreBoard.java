@@ -14,9 +14,7 @@
  */
 package com.dgzt.core.scoreboard;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.dgzt.core.button.Button;
+import com.dgzt.core.GameClock;
 
 /**
  * The scoreboard.
@@ -25,23 +23,6 @@ import com.dgzt.core.button.Button;
  */
 public class ScoreBoard{
 	
-	// --------------------------------------------------
-	// ~ Public static members
-	// --------------------------------------------------
-	
-	/** The width value in cm. */
-	public static final float WIDTH = 2*GoalBoard.WIDTH + TimeBoard.WIDTH;
-	
-	/** The height value in cm. */
-	public static final float HEIGHT = HalfTimeBoard.HEIGHT + TimeBoard.HEIGHT;
-
-	// --------------------------------------------------
-	// ~ Private static members
-	// --------------------------------------------------
-	
-	/** The color. */
-	private static final Color COLOR = Color.WHITE;
-	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
@@ -70,17 +51,15 @@ public class ScoreBoard{
 	
 	/**
 	 * The constructor.
-	 * 
-	 * @param shader - The shader.
 	 */
-	public ScoreBoard(final ShaderProgram shader){
-		halfTimeBoard = new HalfTimeBoard(shader, COLOR);
+	public ScoreBoard(){
+		halfTimeBoard = new HalfTimeBoard();
 		
-		timeBoard = new TimeBoard(shader, COLOR);
-		playerTimeLeftBoard = new TimeLeftBoard(shader, COLOR, Button.PLAYER_COLOR);
-		playerGoalBoard = new GoalBoard(shader, COLOR, Button.PLAYER_COLOR);
-		opponentTimeLeftBoard = new TimeLeftBoard(shader, COLOR, Button.OPPONENT_COLOR);
-		opponentGoalBoard = new GoalBoard(shader, COLOR, Button.OPPONENT_COLOR);
+		timeBoard = new TimeBoard();
+		playerTimeLeftBoard = new TimeLeftBoard();
+		playerGoalBoard = new GoalBoard();
+		opponentTimeLeftBoard = new TimeLeftBoard();
+		opponentGoalBoard = new GoalBoard();
 	}
 	
 	// --------------------------------------------------
@@ -88,58 +67,26 @@ public class ScoreBoard{
 	// --------------------------------------------------
 	
 	/**
-	 * Resize the shape.
+	 * Advance the countdowns of the time left boards with the elapsed game time.
 	 * 
-	 * @param x - The x coordinate value.
-	 * @param y - The y coordinate value.
-	 * @param width - The width value.
-	 * @param height - The height value.
-	 * @param scale - The scale value.
+	 * @param deltaTime - The elapsed time in second.
 	 */
-	public void resize(final float x, final float y, final float width, final float height, final double scale){
-		final float halfTimeBoardWidth = (float)(HalfTimeBoard.WIDTH * scale);
-		final float halfTimeBoardHeight = (float)(HalfTimeBoard.HEIGHT * scale);
-		final float timeLeftBoardWidth = (float)(TimeLeftBoard.WIDTH * scale);
-		final float timeLeftBoardHeight = (float)(TimeLeftBoard.HEIGHT * scale);
-		final float goalBoardWidth = (float)(GoalBoard.WIDTH * scale);
-		final float goalBoardHeight = (float)(GoalBoard.HEIGHT * scale);
-		final float timeBoardWidth = (float)(TimeBoard.WIDTH * scale);
-		final float timeBoardHeight = (float)(TimeBoard.HEIGHT * scale);
-		
-		playerGoalBoard.resize(x, y, goalBoardWidth, goalBoardHeight, scale);
-		playerTimeLeftBoard.resize(x, playerGoalBoard.getY() + playerGoalBoard.getHeight(), timeLeftBoardWidth, timeLeftBoardHeight, scale);
-		timeBoard.resize(playerGoalBoard.getX() + playerGoalBoard.getWidth(), y, timeBoardWidth, timeBoardHeight, scale);
-		opponentGoalBoard.resize(timeBoard.getX() + timeBoardWidth, playerGoalBoard.getY(), goalBoardWidth, goalBoardHeight, scale);
-		opponentTimeLeftBoard.resize(timeBoard.getX() + timeBoardWidth, playerTimeLeftBoard.getY(), timeLeftBoardWidth, timeLeftBoardHeight, scale);
-		halfTimeBoard.resize(x + (width - halfTimeBoardWidth)/2, y + timeBoardHeight, halfTimeBoardWidth, halfTimeBoardHeight, scale);
+	public void update(final float deltaTime){
+		playerTimeLeftBoard.update(deltaTime);
+		opponentTimeLeftBoard.update(deltaTime);
 	}
 	
 	/**
-	 * Draw the scoreboard.
+	 * Return with the game time in second until the next visible step of the running countdown
+	 * or {@link GameClock#NO_TASK} when no countdown is running.
 	 */
-	public void draw() {
-		halfTimeBoard.draw();
-		if(playerTimeLeftBoard.isVisible()){
-			playerTimeLeftBoard.draw();
+	public float getTimeToNextTimeLeftStep(){
+		// Only one countdown runs at a time.
+		if(playerTimeLeftBoard.isRunning()){
+			return playerTimeLeftBoard.getTimeToNextStep();
 		}
-		playerGoalBoard.draw();
-		timeBoard.draw();
-		if(opponentTimeLeftBoard.isVisible()){
-			opponentTimeLeftBoard.draw();
-		}
-		opponentGoalBoard.draw();
-	}
-	
-	/**
-	 * Dispose the score board.
-	 */
-	public void dispose(){
-		halfTimeBoard.dispose();
-		playerTimeLeftBoard.dispose();
-		playerGoalBoard.dispose();
-		timeBoard.dispose();
-		opponentTimeLeftBoard.dispose();
-		opponentGoalBoard.dispose();
+		
+		return opponentTimeLeftBoard.getTimeToNextStep();
 	}
 	
 	// --------------------------------------------------
@@ -0,0 +1,237 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.scoreboard;
+
+import com.badlogic.gdx.graphics.Color;
+import com.dgzt.core.HalfTimeType;
+import com.dgzt.core.button.ButtonShape;
+import com.dgzt.core.shape.ShapeBatch;
+import com.dgzt.core.shape.ShapeCache;
+
+/**
+ * The shape of the scoreboard.
+ * The boards are baked into a cache and baked again only when a shown value changes.
+ * Only the time left lines are drawn in every frame.
+ * 
+ * @author Dgzt
+ */
+public class ScoreBoardShape{
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The width value in cm. */
+	public static final float WIDTH = 2*GoalBoardShape.WIDTH + TimeBoardShape.WIDTH;
+	
+	/** The height value in cm. */
+	public static final float HEIGHT = HalfTimeBoardShape.HEIGHT + TimeBoardShape.HEIGHT;
+
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The color. */
+	private static final Color COLOR = Color.WHITE;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The shape batch. */
+	private final ShapeBatch shapeBatch;
+	
+	/** The drawn scoreboard. */
+	private final ScoreBoard scoreBoard;
+	
+	/** The baked boards. */
+	private final ShapeCache staticShapes;
+	
+	/** True when the boards have to be baked again because of the resize. */
+	private boolean resized;
+	
+	/** The baked current time in second. The second circles depend on it too. */
+	private int bakedTime;
+	
+	/** The baked half time type. */
+	private HalfTimeType bakedHalfTimeType;
+	
+	/** The baked goals of the player. */
+	private int bakedPlayerGoals;
+	
+	/** The baked goals of the opponent. */
+	private int bakedOpponentGoals;
+	
+	/** The baked visibility of the player's time left board. */
+	private boolean bakedPlayerTimeLeftVisible;
+	
+	/** The baked visibility of the opponent's time left board. */
+	private boolean bakedOpponentTimeLeftVisible;
+	
+	/** The half time board. */
+	private final HalfTimeBoardShape halfTimeBoard;
+	
+	/** The time board. */
+	private final TimeBoardShape timeBoard;
+	
+	/** The player's time left board. */
+	private final TimeLeftBoardShape playerTimeLeftBoard;
+	
+	/** The player's goal board. */
+	private final GoalBoardShape playerGoalBoard;
+	
+	/** The opponent's time left board. */
+	private final TimeLeftBoardShape opponentTimeLeftBoard;
+	
+	/** The opponent's goal board. */
+	private final GoalBoardShape opponentGoalBoard;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 * @param scoreBoard - The drawn scoreboard.
+	 */
+	public ScoreBoardShape(final ShapeBatch shapeBatch, final ScoreBoard scoreBoard){
+		this.shapeBatch = shapeBatch;
+		this.scoreBoard = scoreBoard;
+		staticShapes = new ShapeCache(shapeBatch);
+		resized = true;
+		
+		halfTimeBoard = new HalfTimeBoardShape(shapeBatch, COLOR, scoreBoard.getHalfTimeBoard());
+		
+		timeBoard = new TimeBoardShape(shapeBatch, COLOR, scoreBoard.getTimeBoard());
+		playerTimeLeftBoard = new TimeLeftBoardShape(shapeBatch, COLOR, ButtonShape.PLAYER_COLOR, scoreBoard.getPlayerTimeLeftBoard());
+		playerGoalBoard = new GoalBoardShape(shapeBatch, COLOR, ButtonShape.PLAYER_COLOR, scoreBoard.getPlayerGoalBoard());
+		opponentTimeLeftBoard = new TimeLeftBoardShape(shapeBatch, COLOR, ButtonShape.OPPONENT_COLOR, scoreBoard.getOpponentTimeLeftBoard());
+		opponentGoalBoard = new GoalBoardShape(shapeBatch, COLOR, ButtonShape.OPPONENT_COLOR, scoreBoard.getOpponentGoalBoard());
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Resize the shape.
+	 * 
+	 * @param x - The x coordinate value.
+	 * @param y - The y coordinate value.
+	 * @param width - The width value.
+	 * @param height - The height value.
+	 * @param scale - The scale value.
+	 */
+	public void resize(final float x, final float y, final float width, final float height, final double scale){
+		final float halfTimeBoardWidth = (float)(HalfTimeBoardShape.WIDTH * scale);
+		final float halfTimeBoardHeight = (float)(HalfTimeBoardShape.HEIGHT * scale);
+		final float timeLeftBoardWidth = (float)(TimeLeftBoardShape.WIDTH * scale);
+		final float timeLeftBoardHeight = (float)(TimeLeftBoardShape.HEIGHT * scale);
+		final float goalBoardWidth = (float)(GoalBoardShape.WIDTH * scale);
+		final float goalBoardHeight = (float)(GoalBoardShape.HEIGHT * scale);
+		final float timeBoardWidth = (float)(TimeBoardShape.WIDTH * scale);
+		final float timeBoardHeight = (float)(TimeBoardShape.HEIGHT * scale);
+		
+		playerGoalBoard.resize(x, y, goalBoardWidth, goalBoardHeight, scale);
+		playerTimeLeftBoard.resize(x, playerGoalBoard.getY() + playerGoalBoard.getHeight(), timeLeftBoardWidth, timeLeftBoardHeight, scale);
+		timeBoard.resize(playerGoalBoard.getX() + playerGoalBoard.getWidth(), y, timeBoardWidth, timeBoardHeight, scale);
+		opponentGoalBoard.resize(timeBoard.getX() + timeBoardWidth, playerGoalBoard.getY(), goalBoardWidth, goalBoardHeight, scale);
+		opponentTimeLeftBoard.resize(timeBoard.getX() + timeBoardWidth, playerTimeLeftBoard.getY(), timeLeftBoardWidth, timeLeftBoardHeight, scale);
+		halfTimeBoard.resize(x + (width - halfTimeBoardWidth)/2, y + timeBoardHeight, halfTimeBoardWidth, halfTimeBoardHeight, scale);
+		
+		resized = true;
+	}
+	
+	/**
+	 * Draw the scoreboard.
+	 */
+	public void draw() {
+		if(isChanged()){
+			bakeBoards();
+		}
+		staticShapes.draw();
+		
+		if(bakedPlayerTimeLeftVisible){
+			playerTimeLeftBoard.drawTimeLeftLine();
+		}
+		if(bakedOpponentTimeLeftVisible){
+			opponentTimeLeftBoard.drawTimeLeftLine();
+		}
+	}
+	
+	/**
+	 * Dispose the score board.
+	 */
+	public void dispose(){
+		staticShapes.dispose();
+		halfTimeBoard.dispose();
+		playerTimeLeftBoard.dispose();
+		playerGoalBoard.dispose();
+		timeBoard.dispose();
+		opponentTimeLeftBoard.dispose();
+		opponentGoalBoard.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return true when a shown value is changed since the last baking.
+	 */
+	private boolean isChanged(){
+		return resized
+				|| staticShapes.isEmpty()
+				|| bakedTime != scoreBoard.getTimeBoard().getCurrentTime()
+				|| bakedHalfTimeType != scoreBoard.getHalfTimeBoard().getHalfTimeType()
+				|| bakedPlayerGoals != scoreBoard.getPlayerGoalBoard().getNumber()
+				|| bakedOpponentGoals != scoreBoard.getOpponentGoalBoard().getNumber()
+				|| bakedPlayerTimeLeftVisible != scoreBoard.getPlayerTimeLeftBoard().isVisible()
+				|| bakedOpponentTimeLeftVisible != scoreBoard.getOpponentTimeLeftBoard().isVisible();
+	}
+	
+	/**
+	 * Bake the boards into the cache and save the baked values.
+	 */
+	private void bakeBoards(){
+		bakedTime = scoreBoard.getTimeBoard().getCurrentTime();
+		bakedHalfTimeType = scoreBoard.getHalfTimeBoard().getHalfTimeType();
+		bakedPlayerGoals = scoreBoard.getPlayerGoalBoard().getNumber();
+		bakedOpponentGoals = scoreBoard.getOpponentGoalBoard().getNumber();
+		bakedPlayerTimeLeftVisible = scoreBoard.getPlayerTimeLeftBoard().isVisible();
+		bakedOpponentTimeLeftVisible = scoreBoard.getOpponentTimeLeftBoard().isVisible();
+		resized = false;
+		
+		// The cache can be started only with empty batch.
+		shapeBatch.flush();
+		shapeBatch.beginCache();
+		
+		halfTimeBoard.draw();
+		if(bakedPlayerTimeLeftVisible){
+			playerTimeLeftBoard.draw();
+		}
+		playerGoalBoard.draw();
+		timeBoard.draw();
+		if(bakedOpponentTimeLeftVisible){
+			opponentTimeLeftBoard.draw();
+		}
+		opponentGoalBoard.draw();
+		
+		shapeBatch.endCache(staticShapes);
+	}
+	
+}
@@ -15,8 +15,8 @@
 package com.dgzt.core.scoreboard;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.shape.FilledCircleShape;
+import com.dgzt.core.shape.ShapeBatch;
 
 /**
  * The second circles container class.
@@ -33,7 +33,7 @@ final public class SecondCircles{
 	public static final float WIDTH = 10.0f;
 	
 	/** The height value in cm. */
-	public static final float HEIGHT = TimeBoard.HEIGHT;
+	public static final float HEIGHT = TimeBoardShape.HEIGHT;
 	
 	// --------------------------------------------------
 	// ~ Private static members
@@ -65,11 +65,11 @@ final public class SecondCircles{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 */
-	public SecondCircles(final ShaderProgram shader){
-		topCircle = new FilledCircleShape(shader, Color.WHITE);
-		bottomCircle = new FilledCircleShape(shader, Color.WHITE);
+	public SecondCircles(final ShapeBatch shapeBatch){
+		topCircle = new FilledCircleShape(shapeBatch, Color.WHITE);
+		bottomCircle = new FilledCircleShape(shapeBatch, Color.WHITE);
 	}
 	
 	// --------------------------------------------------
@@ -14,30 +14,15 @@
  */
 package com.dgzt.core.scoreboard;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
+import com.dgzt.core.GameClock;
 import com.dgzt.core.GameControl;
-import com.dgzt.core.shape.LineShape;
-import com.dgzt.core.shape.RectangleBorderShape;
 
 /**
  * The time board.
  * 
  * @author Dgzt
  */
-final public class TimeBoard extends RectangleBorderShape{
-
-	// --------------------------------------------------
-	// ~ Public static members
-	// --------------------------------------------------
-	
-	/** The width of scoreboard in cm. */
-	public static final float WIDTH = 4*Digit.TIME_DIGIT_WIDTH + SecondCircles.WIDTH + 2*LineShape.LINE_WIDTH;
-	
-	/** The height of scoreboard in cm. */
-	public static final float HEIGHT = Digit.TIME_DIGIT_HEIGHT + 2*LineShape.LINE_WIDTH;
+final public class TimeBoard{
 	
 	// --------------------------------------------------
 	// ~ Private static members
@@ -53,30 +38,15 @@ final public class TimeBoard extends RectangleBorderShape{
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The first minute digit. */
-	private final Digit firstMinDigit;
-	
-	/** The second minute digit. */
-	private final Digit secondMinDigit;
-	
-	/** The second circles. */
-	private final SecondCircles secondCircles;
-	
-	/** The first moment digit. */
-	private final Digit firstSecDigit;
-	
-	/** The second moment digit. */
-	private final Digit secondSecDigit;
+	/** The game control. */
+	private GameControl gameControl;
 	
-	/** The timer for the time board. */
-	private final Timer timer;
+	/** The task which counts down the time. It is scheduled on the game clock. */
+	private final GameClock.Task task;
 	
 	/** The current time. */
 	private int currentTime;
 	
-	/** Visible the second circles. */
-	private boolean visibleSecondCircles;
-	
 	/** The half time. */
 	private int halfTime;
 	
@@ -86,178 +56,100 @@ final public class TimeBoard extends RectangleBorderShape{
 	
 	/**
 	 * The constructor.
-	 * 
-	 * @param shader - The shader.
-	 * @param color - The color.
 	 */
-	public TimeBoard(final ShaderProgram shader, final Color color) {
-		super(shader, color);
+	public TimeBoard() {
 		this.halfTime = 0;
 		
-		firstMinDigit = new Digit(shader, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
-		secondMinDigit = new Digit(shader, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
-		
-		secondCircles = new SecondCircles(shader);
-		
-		firstSecDigit = new Digit(shader, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
-		secondSecDigit = new Digit(shader, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
-		
-		timer = new Timer();
+		task = new GameClock.Task() {
+			
+			@Override
+			public void run() {
+				--currentTime;
+				
+				if(currentTime == 0){
+					cancel();
+					
+					gameControl.endHalfTime();
+				}
+			}
+		};
 	}
 
 	// --------------------------------------------------
-	// ~ Private methods
+	// ~ Public methods
 	// --------------------------------------------------
 	
 	/**
 	 * Start the time board.
+	 * 
+	 * @param gameControl - The game control.
 	 */
 	public void start(final GameControl gameControl){
+		this.gameControl = gameControl;
 		currentTime = halfTime;
-		setCurrentTime();
-		visibleSecondCircles = isVisibleSecondCircles();
-		timer.scheduleTask(new Task() {
-			
-			@Override
-			public void run() {
-				--currentTime;
-				setCurrentTime();
-				
-				visibleSecondCircles = isVisibleSecondCircles();
-				
-				if(currentTime == 0){
-					gameControl.endHalfTime();
-					
-					cancel();
-				}
-			}
-		}, TIMER_DELAY_SECOND, TIMER_INTERVAL_SECOND);
-		timer.start();
+		gameControl.getGameClock().schedule(task, TIMER_DELAY_SECOND, TIMER_INTERVAL_SECOND);
 	}
 	
 	/**
-	 * Resume the time board.
+	 * Continue the counting of a restored time board. The current time is not changed.
+	 * 
+	 * @param gameControl - The game control.
+	 * @param delaySec - The game time in second until the next count.
 	 */
-	public void resume(){
-		timer.start();
+	public void resume(final GameControl gameControl, final float delaySec){
+		this.gameControl = gameControl;
+		gameControl.getGameClock().schedule(task, delaySec, TIMER_INTERVAL_SECOND);
 	}
 	
 	/**
 	 * Stop the time board.
 	 */
 	public void stop(){
-		timer.stop();
+		task.cancel();
 	}
 	
 	/**
 	 * Clear the time board.
 	 */
 	public void clear(){
-		timer.clear();
+		task.cancel();
 		
 		currentTime = 0;
-		setCurrentTime();
-		visibleSecondCircles = isVisibleSecondCircles();
 	}
-	
+
 	// --------------------------------------------------
-	// ~ Private methods
+	// ~ Getter / Setter methods
 	// --------------------------------------------------
 	
 	/**
-	 * Set the current time on the digits.
-	 */
-	private void setCurrentTime(){
-		final int secondum = currentTime % 60;
-		final int minute = currentTime / 60;
-		final int secondSec = secondum % 10;
-		final int firstSec = secondum / 10;
-		final int secondMin = minute % 10;
-		final int firstMin = minute / 10;
-		
-		secondSecDigit.setNumber(secondSec);
-		firstSecDigit.setNumber(firstSec);
-		secondMinDigit.setNumber(secondMin);
-		firstMinDigit.setNumber(firstMin);
-	}
-	
-	/**
-	 * Return the visibility of second circles. The second circles visible every even second.
-	 */
-	private boolean isVisibleSecondCircles(){
-		return currentTime % 2 == 0;
-	}
-	
-	// --------------------------------------------------
-	// ~ Override methods
-	// --------------------------------------------------
-
-	/**
-	 * {@inheritDoc}
+	 * Return with the current time in second.
 	 */
-	@Override
-	public void resize(final float x, final float y, final float width, final float height, final double scale) {
-		super.resize(x, y, width, height, scale);
-		
-		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
-		final float digitWidth = (float)(Digit.TIME_DIGIT_WIDTH * scale);
-		final float digitHeight = (float)(Digit.TIME_DIGIT_HEIGHT * scale);
-		final float secondCirclesWidth = (float)(SecondCircles.WIDTH * scale);
-		final float secondCirclesHeight = (float)(SecondCircles.HEIGHT * scale);
-		
-		firstMinDigit.resize(x + lineWidth, y + lineWidth, digitWidth, digitHeight, scale);
-		secondMinDigit.resize(firstMinDigit.getX() + digitWidth, firstMinDigit.getY(), digitWidth, digitHeight, scale);
-		
-		secondCircles.resize(secondMinDigit.getX() + digitWidth, y, secondCirclesWidth, secondCirclesHeight, scale);
-		
-		firstSecDigit.resize(secondCircles.getX() + secondCircles.getWidth(), secondMinDigit.getY(), digitWidth, digitHeight, scale);
-		secondSecDigit.resize(firstSecDigit.getX() + digitWidth, firstSecDigit.getY(), digitWidth, digitHeight, scale);
+	public int getCurrentTime(){
+		return currentTime;
 	}
 	
 	/**
-	 * {@inheritDoc}
+	 * Return with the game time in second until the next count or {@link GameClock#NO_TASK} when the time board is stopped.
 	 */
-	@Override
-	public void draw() {
-		super.draw();
-		
-		firstMinDigit.draw();
-		secondMinDigit.draw();
-		
-		if(visibleSecondCircles){
-			secondCircles.draw();
-		}
-		
-		firstSecDigit.draw();
-		secondSecDigit.draw();
+	public float getDelaySec(){
+		return task.getDelaySec();
 	}
 	
 	/**
-	 * {@inheritDoc}
+	 * Set the current time in second.
+	 * 
+	 * @param currentTime - The new current time.
 	 */
-	@Override
-	public void dispose(){
-		firstMinDigit.dispose();
-		secondMinDigit.dispose();
-		
-		secondCircles.dispose();
-		
-		firstSecDigit.dispose();
-		secondSecDigit.dispose();
-		
-		super.dispose();
+	public void setCurrentTime(final int currentTime){
+		this.currentTime = currentTime;
 	}
-
-	// --------------------------------------------------
-	// ~ Getter / Setter methods
-	// --------------------------------------------------
 	
 	/**
 	 * Set the half time.
 	 * 
 	 * @param halfTime - The new half time.
 	 */
-	public void setHalfTime(int halfTime) {
+	public void setHalfTime(final int halfTime) {
 		this.halfTime = halfTime;
 	}
 
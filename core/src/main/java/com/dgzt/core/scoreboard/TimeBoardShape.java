@@ -0,0 +1,172 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.scoreboard;
+
+import com.badlogic.gdx.graphics.Color;
+import com.dgzt.core.shape.LineShape;
+import com.dgzt.core.shape.RectangleBorderShape;
+import com.dgzt.core.shape.ShapeBatch;
+
+/**
+ * The shape of the time board.
+ * 
+ * @author Dgzt
+ */
+final public class TimeBoardShape extends RectangleBorderShape{
+
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The width of scoreboard in cm. */
+	public static final float WIDTH = 4*Digit.TIME_DIGIT_WIDTH + SecondCircles.WIDTH + 2*LineShape.LINE_WIDTH;
+	
+	/** The height of scoreboard in cm. */
+	public static final float HEIGHT = Digit.TIME_DIGIT_HEIGHT + 2*LineShape.LINE_WIDTH;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The drawn time board. */
+	private final TimeBoard timeBoard;
+	
+	/** The first minute digit. */
+	private final Digit firstMinDigit;
+	
+	/** The second minute digit. */
+	private final Digit secondMinDigit;
+	
+	/** The second circles. */
+	private final SecondCircles secondCircles;
+	
+	/** The first moment digit. */
+	private final Digit firstSecDigit;
+	
+	/** The second moment digit. */
+	private final Digit secondSecDigit;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 * @param color - The color.
+	 * @param timeBoard - The drawn time board.
+	 */
+	public TimeBoardShape(final ShapeBatch shapeBatch, final Color color, final TimeBoard timeBoard) {
+		super(shapeBatch, color);
+		this.timeBoard = timeBoard;
+		
+		firstMinDigit = new Digit(shapeBatch, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
+		secondMinDigit = new Digit(shapeBatch, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
+		
+		secondCircles = new SecondCircles(shapeBatch);
+		
+		firstSecDigit = new Digit(shapeBatch, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
+		secondSecDigit = new Digit(shapeBatch, Digit.TIME_DIGIT_WIDTH, Digit.TIME_DIGIT_HEIGHT, color);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Set the current time on the digits.
+	 * 
+	 * @param currentTime - The current time in second.
+	 */
+	private void setCurrentTime(final int currentTime){
+		final int secondum = currentTime % 60;
+		final int minute = currentTime / 60;
+		final int secondSec = secondum % 10;
+		final int firstSec = secondum / 10;
+		final int secondMin = minute % 10;
+		final int firstMin = minute / 10;
+		
+		secondSecDigit.setNumber(secondSec);
+		firstSecDigit.setNumber(firstSec);
+		secondMinDigit.setNumber(secondMin);
+		firstMinDigit.setNumber(firstMin);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resize(final float x, final float y, final float width, final float height, final double scale) {
+		super.resize(x, y, width, height, scale);
+		
+		final float lineWidth = (float)(LineShape.LINE_WIDTH * scale);
+		final float digitWidth = (float)(Digit.TIME_DIGIT_WIDTH * scale);
+		final float digitHeight = (float)(Digit.TIME_DIGIT_HEIGHT * scale);
+		final float secondCirclesWidth = (float)(SecondCircles.WIDTH * scale);
+		final float secondCirclesHeight = (float)(SecondCircles.HEIGHT * scale);
+		
+		firstMinDigit.resize(x + lineWidth, y + lineWidth, digitWidth, digitHeight, scale);
+		secondMinDigit.resize(firstMinDigit.getX() + digitWidth, firstMinDigit.getY(), digitWidth, digitHeight, scale);
+		
+		secondCircles.resize(secondMinDigit.getX() + digitWidth, y, secondCirclesWidth, secondCirclesHeight, scale);
+		
+		firstSecDigit.resize(secondCircles.getX() + secondCircles.getWidth(), secondMinDigit.getY(), digitWidth, digitHeight, scale);
+		secondSecDigit.resize(firstSecDigit.getX() + digitWidth, firstSecDigit.getY(), digitWidth, digitHeight, scale);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void draw() {
+		super.draw();
+		
+		final int currentTime = timeBoard.getCurrentTime();
+		setCurrentTime(currentTime);
+		
+		firstMinDigit.draw();
+		secondMinDigit.draw();
+		
+		// The second circles visible every even second.
+		if(currentTime % 2 == 0){
+			secondCircles.draw();
+		}
+		
+		firstSecDigit.draw();
+		secondSecDigit.draw();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose(){
+		firstMinDigit.dispose();
+		secondMinDigit.dispose();
+		
+		secondCircles.dispose();
+		
+		firstSecDigit.dispose();
+		secondSecDigit.dispose();
+		
+		super.dispose();
+	}
+
+}
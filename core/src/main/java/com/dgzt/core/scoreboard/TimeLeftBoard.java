@@ -14,57 +14,23 @@
  */
 package com.dgzt.core.scoreboard;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
+import com.dgzt.core.GameClock;
+import com.dgzt.core.GameConstans;
 import com.dgzt.core.GameControl;
-import com.dgzt.core.shape.LineShape;
-import com.dgzt.core.shape.RectangleBorderShape;
-import com.dgzt.core.shape.RectangleShape;
 
 /**
- * The time left board.
+ * The time left board. The countdown is advanced by the game clock, so the time left line shrinks smoothly.
  * 
  * @author Dgzt
  */
-public class TimeLeftBoard extends RectangleBorderShape{
-	
-	// --------------------------------------------------
-	// ~ Public static members
-	// --------------------------------------------------
-	
-	/** The width value. */
-	public static final float WIDTH = GoalBoard.WIDTH;
-	
-	/** The height value. */
-	public static final float HEIGHT = 10.0f;
-	
-	// --------------------------------------------------
-	// ~ Private static members
-	// --------------------------------------------------
-	
-	/** The time left line distance from border. */
-	private static final float DISTANCE_FROM_BORDER = 1.0f;
-	
-	/** The timer delay in sec. */
-	private static final float TIMER_DELAY_SEC = 0.1f;
-	
-	/** The width of time left line. */
-	private static final float TIME_LEFT_LINE_WIDTH = WIDTH - 2 * LineShape.LINE_WIDTH - 2 * DISTANCE_FROM_BORDER;
-	
-	/** The height of time left line. */
-	private static final float TIME_LEFT_LINE_HEIGHT = HEIGHT - 2 * LineShape.LINE_WIDTH - 2 * DISTANCE_FROM_BORDER;
+public class TimeLeftBoard{
 	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The time left line. */
-	private final RectangleShape timeLeftLine;
-	
-	/** The timer for time left line. */
-	private final Timer timer;
+	/** The game control to notify at the end of the countdown. */
+	private GameControl gameControl;
 	
 	/** The max time left. */
 	private int maxTimeLeft;
@@ -75,29 +41,23 @@ public class TimeLeftBoard extends RectangleBorderShape{
 	/** The visibility. */
 	private boolean visible;
 	
+	/** True when the countdown is running. */
+	private boolean running;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
 
 	/**
 	 * Constructor.
-	 * 
-	 * @param shader - The shader.
-	 * @param borderColor - The color of border.
-	 * @param lineColor - The color of line.
 	 */
-	public TimeLeftBoard(final ShaderProgram shader, final Color borderColor, final Color lineColor) {
-		super(shader, borderColor);
-		
-		timeLeftLine = new RectangleShape(shader, lineColor);
-		
-		timer = new Timer();
-		
+	public TimeLeftBoard() {
 		visible = false;
+		running = false;
 	}
 
 	// --------------------------------------------------
-	// ~ Override methods
+	// ~ Public methods
 	// --------------------------------------------------
 	
 	/**
@@ -106,110 +66,91 @@ public class TimeLeftBoard extends RectangleBorderShape{
 	 * @param gameControl - The game control.
 	 */
 	public void start(final GameControl gameControl){
+		this.gameControl = gameControl;
 		currentTimeSec = maxTimeLeft;
-		resizeTimeLeftLine();
-		
-		timer.scheduleTask(new Task(){
-
-			@Override
-			public void run() {
-				currentTimeSec -= TIMER_DELAY_SEC;
-				resizeTimeLeftLine();
-				
-				if(currentTimeSec <= 0){
-					cancel();
-					visible = false;
-					gameControl.timeLeftEndEvent();
-				}
-				
-			}
-			
-		}, TIMER_DELAY_SEC, TIMER_DELAY_SEC);
-		timer.start();
 		visible = true;
+		running = true;
 	}
 	
 	/**
-	 * Stop the countdown.
+	 * Advance the countdown with the elapsed game time.
+	 * 
+	 * @param deltaTime - The elapsed time in second.
 	 */
-	public void stop(){
-		timer.stop();
+	public void update(final float deltaTime){
+		if(running){
+			currentTimeSec -= deltaTime;
+			
+			if(currentTimeSec <= 0){
+				currentTimeSec = 0;
+				running = false;
+				visible = false;
+				gameControl.timeLeftEndEvent();
+			}
+		}
 	}
 	
 	/**
-	 * Resume the countdown.
+	 * Return with the game time in second until the line of the countdown shrinks with the next step of {@link GameConstans#TIME_LEFT_STEP_SEC}
+	 * or {@link GameClock#NO_TASK} when the countdown is not running. The step is reached at least one physics step later.
 	 */
-	public void resume(){
-		timer.start();
+	public float getTimeToNextStep(){
+		if(!running){
+			return GameClock.NO_TASK;
+		}
+		
+		return Math.max(currentTimeSec % GameConstans.TIME_LEFT_STEP_SEC, GameConstans.PHYSICS_TIME_STEP);
 	}
 	
 	/**
 	 * Clear.
 	 */
 	public void clear(){
-		timer.clear();
 		visible = false;
+		running = false;
 	}
 	
 	// --------------------------------------------------
-	// ~ Override methods
+	// ~ Setter / Getter methods
 	// --------------------------------------------------
-
+	
 	/**
-	 * {@inheritDoc}
+	 * Set the max time left sec.
+	 * 
+	 * @param maxTimeLeft - The new max time left sec.
 	 */
-	@Override
-	public void resize(float x, float y, float width, float height, double scale) {
-		super.resize(x, y, width, height, scale);
-		
-		resizeTimeLeftLine();
+	public void setMaxTimeLeft(final int maxTimeLeft) {
+		this.maxTimeLeft = maxTimeLeft;
 	}
 	
 	/**
-	 * {@inheritDoc}
+	 * Return with the max time left sec.
 	 */
-	@Override
-	public void draw() {
-		super.draw();
-		
-		timeLeftLine.draw();
+	public int getMaxTimeLeft(){
+		return maxTimeLeft;
 	}
 	
-	// --------------------------------------------------
-	// ~ Private methods
-	// --------------------------------------------------
-	
 	/**
-	 * Resize the time left line.
+	 * Return with the current time left sec.
 	 */
-	private void resizeTimeLeftLine(){
-		final double scale = getScale();
-		final float timeLeftBoardWidth = getWidth();
-		final float timeLeftBoardHeight = getHeight();
-		final float timeLeftBoardX = getX();
-		final float timeLeftBoardY = getY();
-		
-		final float fullWidth = (float)(TIME_LEFT_LINE_WIDTH * scale);
-		final float widthRate = currentTimeSec / maxTimeLeft;
-		final float width = widthRate * fullWidth;
-		final float height = (float)(TIME_LEFT_LINE_HEIGHT * scale);
-		final float x = timeLeftBoardX + (timeLeftBoardWidth - fullWidth) / 2;
-		final float y = timeLeftBoardY + (timeLeftBoardHeight - height) / 2;
-		
-		timeLeftLine.resize(x, y, width, height);
+	public float getCurrentTimeSec(){
+		return currentTimeSec;
 	}
 	
-	// --------------------------------------------------
-	// ~ Setter / Getter methods
-	// --------------------------------------------------
-	
 	/**
-	 * Set the max time left sec.
+	 * Set the current time left sec of the running countdown.
 	 * 
-	 * @param maxTimeLeft - The new max time left sec.
+	 * @param currentTimeSec - The time left in second.
 	 */
-	public void setMaxTimeLeft(int maxTimeLeft) {
-		this.maxTimeLeft = maxTimeLeft;
+	public void setCurrentTimeSec(final float currentTimeSec){
+		this.currentTimeSec = currentTimeSec;
+	}
+	
+	/**
+	 * Return true when the countdown is running.
+	 */
+	public boolean isRunning(){
+		return running;
 	}
 	
 	/**
@@ -0,0 +1,143 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.scoreboard;
+
+import com.badlogic.gdx.graphics.Color;
+import com.dgzt.core.shape.LineShape;
+import com.dgzt.core.shape.RectangleBorderShape;
+import com.dgzt.core.shape.RectangleShape;
+import com.dgzt.core.shape.ShapeBatch;
+
+/**
+ * The shape of the time left board.
+ * The border is drawn with {@link #draw()} and the time left line with {@link #drawTimeLeftLine()}, because only the line changes between the seconds.
+ * 
+ * @author Dgzt
+ */
+public class TimeLeftBoardShape extends RectangleBorderShape{
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The width value. */
+	public static final float WIDTH = GoalBoardShape.WIDTH;
+	
+	/** The height value. */
+	public static final float HEIGHT = 10.0f;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The time left line distance from border. */
+	private static final float DISTANCE_FROM_BORDER = 1.0f;
+	
+	/** The width of time left line. */
+	private static final float TIME_LEFT_LINE_WIDTH = WIDTH - 2 * LineShape.LINE_WIDTH - 2 * DISTANCE_FROM_BORDER;
+	
+	/** The height of time left line. */
+	private static final float TIME_LEFT_LINE_HEIGHT = HEIGHT - 2 * LineShape.LINE_WIDTH - 2 * DISTANCE_FROM_BORDER;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The drawn time left board. */
+	private final TimeLeftBoard timeLeftBoard;
+	
+	/** The time left line. */
+	private final RectangleShape timeLeftLine;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 * @param borderColor - The color of border.
+	 * @param lineColor - The color of line.
+	 * @param timeLeftBoard - The drawn time left board.
+	 */
+	public TimeLeftBoardShape(final ShapeBatch shapeBatch, final Color borderColor, final Color lineColor, final TimeLeftBoard timeLeftBoard) {
+		super(shapeBatch, borderColor);
+		this.timeLeftBoard = timeLeftBoard;
+		
+		timeLeftLine = new RectangleShape(shapeBatch, lineColor);
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Draw the time left line. Its width follows the current time left.
+	 */
+	public void drawTimeLeftLine(){
+		resizeTimeLeftLine();
+		timeLeftLine.draw();
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resize(final float x, final float y, final float width, final float height, final double scale) {
+		super.resize(x, y, width, height, scale);
+		
+		resizeTimeLeftLine();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		timeLeftLine.dispose();
+		
+		super.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Resize the time left line.
+	 */
+	private void resizeTimeLeftLine(){
+		final double scale = getScale();
+		final float timeLeftBoardWidth = getWidth();
+		final float timeLeftBoardHeight = getHeight();
+		final float timeLeftBoardX = getX();
+		final float timeLeftBoardY = getY();
+		
+		final float fullWidth = (float)(TIME_LEFT_LINE_WIDTH * scale);
+		final float widthRate = timeLeftBoard.getMaxTimeLeft() > 0 ? timeLeftBoard.getCurrentTimeSec() / timeLeftBoard.getMaxTimeLeft() : 0;
+		final float width = widthRate * fullWidth;
+		final float height = (float)(TIME_LEFT_LINE_HEIGHT * scale);
+		final float x = timeLeftBoardX + (timeLeftBoardWidth - fullWidth) / 2;
+		final float y = timeLeftBoardY + (timeLeftBoardHeight - height) / 2;
+		
+		timeLeftLine.resize(x, y, width, height);
+	}
+	
+}
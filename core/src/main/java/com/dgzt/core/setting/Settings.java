@@ -43,6 +43,42 @@ public class Settings {
 	/**	The time left in sec. */
 	private int timeLeftSec;
 	
+	/** The velocity iterations of the box2D world step. */
+	private int velocityIterations;
+	
+	/** The position iterations of the box2D world step. */
+	private int positionIterations;
+	
+	/** The maximum number of the box2D world steps in one frame. */
+	private int maxSubSteps;
+	
+	/** Resolve the shots instantly without drawing the movement. */
+	private boolean instantResolve;
+	
+	/** The type of the bot. */
+	private BotType botType;
+	
+	/** The type of the bot which steps with the player's buttons. When it is null the player is a human. */
+	private BotType playerBotType;
+	
+	/** The thinking time of the bot in millisec. */
+	private int botThinkingTime;
+	
+	/** The thinking time of the bot which steps with the player's buttons in millisec. */
+	private int playerBotThinkingTime;
+	
+	/** The seed of the random shots of the bots. The bots are seeded with it at the start of every match. */
+	private long botSeed;
+	
+	/** Draw frames only when something changes on the screen. */
+	private boolean renderOnDemand;
+	
+	/** The type of the shape renderer. */
+	private RendererType renderer;
+	
+	/** The multiplier of the game time. */
+	private float timeScale;
+	
 	// --------------------------------------------------
 	// ~ Constructors.
 	// --------------------------------------------------
@@ -56,6 +92,68 @@ public class Settings {
 		ballAreaSec = GameConstans.DEFAULT_BALL_AREA_SEC;
 		halfTime = GameConstans.DEFAULT_HALF_TIME;
 		timeLeftSec = GameConstans.DEFAULT_TIME_LEFT_SEC;
+		velocityIterations = GameConstans.DEFAULT_VELOCITY_ITERATIONS;
+		positionIterations = GameConstans.DEFAULT_POSITION_ITERATIONS;
+		maxSubSteps = GameConstans.DEFAULT_MAX_SUB_STEPS;
+		instantResolve = GameConstans.DEFAULT_INSTANT_RESOLVE;
+		botType = GameConstans.DEFAULT_BOT_TYPE;
+		playerBotType = null;
+		botThinkingTime = GameConstans.DEFAULT_BOT_THINKING_TIME;
+		playerBotThinkingTime = GameConstans.DEFAULT_BOT_THINKING_TIME;
+		botSeed = GameConstans.DEFAULT_BOT_SEED;
+		renderOnDemand = GameConstans.DEFAULT_RENDER_ON_DEMAND;
+		renderer = GameConstans.DEFAULT_RENDERER;
+		timeScale = GameConstans.DEFAULT_TIME_SCALE;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with a copy of the settings.
+	 */
+	public Settings copy(){
+		final Settings settings = new Settings();
+		
+		settings.firstStep = firstStep;
+		settings.stepMode = stepMode;
+		settings.ballAreaSec = ballAreaSec;
+		settings.halfTime = halfTime;
+		settings.timeLeftSec = timeLeftSec;
+		settings.velocityIterations = velocityIterations;
+		settings.positionIterations = positionIterations;
+		settings.maxSubSteps = maxSubSteps;
+		settings.instantResolve = instantResolve;
+		settings.botType = botType;
+		settings.playerBotType = playerBotType;
+		settings.botThinkingTime = botThinkingTime;
+		settings.playerBotThinkingTime = playerBotThinkingTime;
+		settings.botSeed = botSeed;
+		settings.renderOnDemand = renderOnDemand;
+		settings.renderer = renderer;
+		settings.timeScale = timeScale;
+		
+		return settings;
+	}
+	
+	/**
+	 * Set the settings which affect the simulation from the given settings. The other settings are not changed.
+	 * 
+	 * @param rules - The settings of a replay or a saved match.
+	 */
+	public void setRules(final Settings rules){
+		firstStep = rules.firstStep;
+		stepMode = rules.stepMode;
+		ballAreaSec = rules.ballAreaSec;
+		halfTime = rules.halfTime;
+		timeLeftSec = rules.timeLeftSec;
+		velocityIterations = rules.velocityIterations;
+		positionIterations = rules.positionIterations;
+		maxSubSteps = rules.maxSubSteps;
+		instantResolve = rules.instantResolve;
+		botType = rules.botType;
+		botThinkingTime = rules.botThinkingTime;
 	}
 	
 	// --------------------------------------------------
@@ -101,6 +199,102 @@ public class Settings {
 	public void setTimeLeftSec(int timeLeftSec) {
 		this.timeLeftSec = timeLeftSec;
 	}
+
+	public int getVelocityIterations() {
+		return velocityIterations;
+	}
+
+	public void setVelocityIterations(int velocityIterations) {
+		this.velocityIterations = velocityIterations;
+	}
+
+	public int getPositionIterations() {
+		return positionIterations;
+	}
+
+	public void setPositionIterations(int positionIterations) {
+		this.positionIterations = positionIterations;
+	}
+
+	public int getMaxSubSteps() {
+		return maxSubSteps;
+	}
+
+	public void setMaxSubSteps(int maxSubSteps) {
+		this.maxSubSteps = maxSubSteps;
+	}
+
+	public boolean isInstantResolve() {
+		return instantResolve;
+	}
+
+	public void setInstantResolve(boolean instantResolve) {
+		this.instantResolve = instantResolve;
+	}
+
+	public BotType getBotType() {
+		return botType;
+	}
+
+	public void setBotType(BotType botType) {
+		this.botType = botType;
+	}
+
+	public BotType getPlayerBotType() {
+		return playerBotType;
+	}
+
+	public void setPlayerBotType(BotType playerBotType) {
+		this.playerBotType = playerBotType;
+	}
+
+	public int getBotThinkingTime() {
+		return botThinkingTime;
+	}
+
+	public void setBotThinkingTime(int botThinkingTime) {
+		this.botThinkingTime = botThinkingTime;
+	}
+
+	public int getPlayerBotThinkingTime() {
+		return playerBotThinkingTime;
+	}
+
+	public void setPlayerBotThinkingTime(int playerBotThinkingTime) {
+		this.playerBotThinkingTime = playerBotThinkingTime;
+	}
+
+	public long getBotSeed() {
+		return botSeed;
+	}
+
+	public void setBotSeed(long botSeed) {
+		this.botSeed = botSeed;
+	}
+
+	public boolean isRenderOnDemand() {
+		return renderOnDemand;
+	}
+
+	public void setRenderOnDemand(boolean renderOnDemand) {
+		this.renderOnDemand = renderOnDemand;
+	}
+
+	public RendererType getRenderer() {
+		return renderer;
+	}
+
+	public void setRenderer(RendererType renderer) {
+		this.renderer = renderer;
+	}
+
+	public float getTimeScale() {
+		return timeScale;
+	}
+
+	public void setTimeScale(float timeScale) {
+		this.timeScale = timeScale;
+	}
 	
 	// --------------------------------------------------
 	// ~ Override methods
@@ -116,7 +310,19 @@ public class Settings {
 				" stepMode = " + stepMode + "," +
 				" ballAreaSec = " + ballAreaSec + "," +
 				" halfTime = " + halfTime + "," +
-				" timeLeftSec = " + timeLeftSec + 
+				" timeLeftSec = " + timeLeftSec + "," +
+				" velocityIterations = " + velocityIterations + "," +
+				" positionIterations = " + positionIterations + "," +
+				" maxSubSteps = " + maxSubSteps + "," +
+				" instantResolve = " + instantResolve + "," +
+				" botType = " + botType + "," +
+				" playerBotType = " + playerBotType + "," +
+				" botThinkingTime = " + botThinkingTime + "," +
+				" playerBotThinkingTime = " + playerBotThinkingTime + "," +
+				" botSeed = " + botSeed + "," +
+				" renderOnDemand = " + renderOnDemand + "," +
+				" renderer = " + renderer + "," +
+				" timeScale = " + timeScale +
 				" }";
 	}
 	
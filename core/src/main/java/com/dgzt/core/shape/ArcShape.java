@@ -14,20 +14,27 @@
  */
 package com.dgzt.core.shape;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.IntMap;
 
 /**
- * Arc shape.
+ * Arc shape. The number of segments is picked from the radius on screen like at the {@link FilledCircleShape}.
  * 
  * @author Dgzt
  */
 public class ArcShape extends Shape{
 	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The number of segments of the most detailed full circle. */
+	private static final int MAX_SEGMENT_NUM = FilledCircleShape.getSegmentNum(Float.MAX_VALUE);
+	
+	/** The indices by the number of vertices. They are created at the first use. */
+	private static final IntMap<short[]> INDICES = new IntMap<short[]>();
+	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
@@ -44,6 +51,12 @@ public class ArcShape extends Shape{
 	/** The y coordinate value. */
 	private float y;	
 	
+	/** The outer radius. */
+	private float radius;
+	
+	/** The inner radius. */
+	private float innerRadius;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -51,13 +64,13 @@ public class ArcShape extends Shape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param startDegrees - The start degrees.
 	 * @param degreesNum - The number of degrees.
 	 * @param color - The color.
 	 */
-	public ArcShape(final ShaderProgram shader, final int startDegrees, final int degreesNum, final Color color ){
-		super(shader, GL20.GL_TRIANGLES, degreesNum*2, getIndices(degreesNum), color);
+	public ArcShape(final ShapeBatch shapeBatch, final int startDegrees, final int degreesNum, final Color color ){
+		super(shapeBatch, GL20.GL_TRIANGLES, getVerticesNum(degreesNum, MAX_SEGMENT_NUM), getIndices(getVerticesNum(degreesNum, MAX_SEGMENT_NUM)), color);
 		this.startDegrees = startDegrees;
 		this.degreesNum = degreesNum;
 	}
@@ -67,23 +80,33 @@ public class ArcShape extends Shape{
 	// --------------------------------------------------
 	
 	/**
-	 * Return with the indices.
+	 * Return with the number of vertices of the arc.
+	 * 
+	 * @param degreesNum - The number of degrees.
+	 * @param circleSegmentNum - The number of segments of the full circle.
+	 */
+	private static int getVerticesNum(final int degreesNum, final int circleSegmentNum){
+		final int segmentNum = Math.max(1, (degreesNum * circleSegmentNum + 359) / 360);
+		
+		return (segmentNum + 1) * 2;
+	}
+	
+	/**
+	 * Return with the indices. The indices are shared by the arcs with the same number of vertices.
 	 * 
-	 * @param degrees - The number of degrees.
+	 * @param verticesNum - The number of vertices.
 	 */
-	private static short[] getIndices(final int degrees){
-		final List<Short> tmpList = new ArrayList<Short>();
-		for(short i=0,num=0;i<degrees*2;++i,++num){
-			if(num!=0 && num%3==0){
-				num=0;
-				i-=2;
-			}
-			tmpList.add(new Short(i));
-		}
+	private static short[] getIndices(final int verticesNum){
+		short[] indices = INDICES.get(verticesNum);
 		
-		final short[] indices = new short[tmpList.size()];
-		for(int i=0; i < tmpList.size(); ++i){
-			indices[i]=tmpList.get(i).shortValue();
+		if(indices == null){
+			indices = new short[(verticesNum - 2) * 3];
+			for(int i=0; i < verticesNum - 2; ++i){
+				indices[i*3] = (short) i;
+				indices[i*3+1] = (short) (i + 1);
+				indices[i*3+2] = (short) (i + 2);
+			}
+			INDICES.put(verticesNum, indices);
 		}
 		
 		return indices;
@@ -108,21 +131,22 @@ public class ArcShape extends Shape{
 		final float lineWidth = (float) (LineShape.LINE_WIDTH * scale);
 		
 		final float smallRadius = radius - lineWidth;
+		this.radius = radius;
+		innerRadius = smallRadius;
 		
-		final float[] vertices = new float[degreesNum*Shape.POSITION_NUM*2];
+		final int verticesNum = getVerticesNum(degreesNum, FilledCircleShape.getSegmentNum(radius));
+		final int segmentNum = verticesNum / 2 - 1;
 		
-		
-		for(int i=0,degrees=startDegrees;degrees<startDegrees+degreesNum;++degrees){
-			final float angle = (float) Math.toRadians(degrees);
-			
-			vertices[i++]=x + (float)Math.sin( angle ) * radius;
-			vertices[i++]=y + (float)Math.cos( angle ) * radius;
+		for(int i=0,segment=0;segment<=segmentNum;++segment){
+			final double angle = Math.toRadians(startDegrees + (double) degreesNum * segment / segmentNum);
+			final float sin = (float)Math.sin( angle );
+			final float cos = (float)Math.cos( angle );
 			
-			vertices[i++]=x + (float)Math.sin( angle ) * smallRadius;
-			vertices[i++]=y + (float)Math.cos( angle ) * smallRadius;
+			setVertex(i++, x + sin * radius, y + cos * radius);
+			setVertex(i++, x + sin * smallRadius, y + cos * smallRadius);
 		}
 		
-		super.setVertices(vertices);
+		setIndices(verticesNum, getIndices(verticesNum));
 	}
 	
 	// --------------------------------------------------
@@ -142,4 +166,30 @@ public class ArcShape extends Shape{
 	public final float getY(){
 		return y;
 	}
+	
+	/**
+	 * Return with the outer radius.
+	 */
+	public final float getRadius(){
+		return radius;
+	}
+	
+	/**
+	 * Return with the inner radius.
+	 */
+	public final float getInnerRadius(){
+		return innerRadius;
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isRibbon(){
+		return true;
+	}
 }
@@ -15,7 +15,6 @@
 package com.dgzt.core.shape;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
  * Border of the circle.
@@ -31,11 +30,30 @@ public class CircleBorderShape extends ArcShape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param color - The color.
 	 */
-	public CircleBorderShape(final ShaderProgram shader, final Color color){
-		super(shader, 0, 360, color);
+	public CircleBorderShape(final ShapeBatch shapeBatch, final Color color){
+		super(shapeBatch, 0, 360, color);
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 * In signed distance field mode the border is one ring quad.
+	 */
+	@Override
+	public void draw(){
+		final ShapeBatch shapeBatch = getShapeBatch();
+		
+		if(shapeBatch.isSdf()){
+			shapeBatch.drawRing(getX(), getY(), getRadius(), getInnerRadius(), getColorBits());
+		}else{
+			super.draw();
+		}
 	}
 
 }
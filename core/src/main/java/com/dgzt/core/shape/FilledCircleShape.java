@@ -15,30 +15,63 @@
 package com.dgzt.core.shape;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
- * Circle shape.
+ * Circle shape. Every circle is drawn from a shared unit circle moved and scaled by the {@link ShapeBatch},
+ * so moving the circle only changes its position. The number of segments of the unit circle
+ * is picked from the radius on screen, the small circles use less vertices.
  * 
  * @author Dgzt
  */
-public class FilledCircleShape extends Shape{
+public class FilledCircleShape {
 	
 	// --------------------------------------------------
 	// ~ Private static members
 	// --------------------------------------------------
 	
-	/** The number of vertices. */
-	private static final int VERTICES_NUM = 362;
+	/** The number of segments of the least detailed circle. */
+	private static final int MIN_SEGMENT_NUM = 8;
+	
+	/** The number of the detail levels. Every level doubles the number of segments. */
+	private static final int DETAIL_LEVEL_NUM = 6;
+	
+	/** The maximum distance between a segment and the real circle in pixels. */
+	private static final float MAX_ERROR = 0.25f;
+	
+	/** The number of position (x,y coordinate system value). */
+	private static final int POSITION_NUM = 2;
+	
+	/** The positions of the unit circles by detail level. They are created at the first use. */
+	private static final float[][] UNIT_CIRCLE_POSITIONS = new float[DETAIL_LEVEL_NUM][];
+	
+	/** The indices of the triangles of the unit circles by detail level. They are created at the first use. */
+	private static final short[][] UNIT_CIRCLE_INDICES = new short[DETAIL_LEVEL_NUM][];
 	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
-
+	
+	/** The shape batch. */
+	private final ShapeBatch shapeBatch;
+	
+	/** The x coordinate value. */
+	private float x;
+	
+	/** The y coordinate value. */
+	private float y;
+	
 	/** The radius value. */
 	private float radius;
 	
+	/** The detail level of the circle. */
+	private int detailLevel;
+	
+	/** The color. */
+	private Color color;
+	
+	/** The packed color of the vertices. */
+	private float colorBits;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -46,11 +79,13 @@ public class FilledCircleShape extends Shape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param color - The color.
 	 */
-	public FilledCircleShape(final ShaderProgram shader, final Color color){
-		super(shader, GL20.GL_TRIANGLE_FAN, FilledCircleShape.VERTICES_NUM, getIndices(), color);
+	public FilledCircleShape(final ShapeBatch shapeBatch, final Color color){
+		this.shapeBatch = shapeBatch;
+		this.color = color;
+		this.colorBits = color.toFloatBits();
 	}
 	
 	// --------------------------------------------------
@@ -58,16 +93,58 @@ public class FilledCircleShape extends Shape{
 	// --------------------------------------------------
 	
 	/**
-	 * Return with the indices.
+	 * Return with the detail level of a circle with the given radius on screen.
+	 * 
+	 * @param radius - The radius on screen.
+	 */
+	private static int getDetailLevel(final float radius){
+		int detailLevel = 0;
+		
+		while(detailLevel < DETAIL_LEVEL_NUM - 1 && radius * (1 - Math.cos(Math.PI / (MIN_SEGMENT_NUM << detailLevel))) > MAX_ERROR){
+			++detailLevel;
+		}
+		
+		return detailLevel;
+	}
+	
+	/**
+	 * Create the positions and the indices of the unit circle of the given detail level. The first vertex is the center.
+	 * 
+	 * @param detailLevel - The detail level.
 	 */
-	private static short[] getIndices(){
-		final short[] indices = new short[FilledCircleShape.VERTICES_NUM];
+	private static void createUnitCircle(final int detailLevel){
+		final int segmentNum = MIN_SEGMENT_NUM << detailLevel;
+		final float[] positions = new float[(segmentNum + 2) * FilledCircleShape.POSITION_NUM];
+		final short[] indices = new short[segmentNum * 3];
 		
-		for(short i=0;i<FilledCircleShape.VERTICES_NUM;++i){
-			indices[i]=i;
+		for(int i=0;i<=segmentNum;++i){
+			final double angle = 2 * Math.PI * i / segmentNum;
+			
+			positions[i*FilledCircleShape.POSITION_NUM+2]=(float)Math.sin( angle );
+			positions[i*FilledCircleShape.POSITION_NUM+3]=(float)Math.cos( angle );
 		}
 		
-		return indices;
+		for(int i=0;i<segmentNum;++i){
+			indices[i*3]=0;
+			indices[i*3+1]=(short)(i+1);
+			indices[i*3+2]=(short)(i+2);
+		}
+		
+		UNIT_CIRCLE_POSITIONS[detailLevel] = positions;
+		UNIT_CIRCLE_INDICES[detailLevel] = indices;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the number of segments of a circle with the given radius on screen.
+	 * 
+	 * @param radius - The radius on screen.
+	 */
+	public static int getSegmentNum(final float radius){
+		return MIN_SEGMENT_NUM << getDetailLevel(radius);
 	}
 	
 	// --------------------------------------------------
@@ -82,38 +159,55 @@ public class FilledCircleShape extends Shape{
 	 * @param radius - The radius value.
 	 */
 	public void resize(final float x, final float y, final float radius){
+		this.x = x;
+		this.y = y;
 		this.radius = radius;
 		
-		final float[] vertices = new float[FilledCircleShape.VERTICES_NUM * Shape.POSITION_NUM];
-		
-		vertices[0]=x;
-		vertices[1]=y;
-		for(int i=0;i<FilledCircleShape.VERTICES_NUM-1;++i){
-			final float angle = (float) Math.toRadians(i);
-			
-			vertices[i*Shape.POSITION_NUM+2]=x + (float)Math.sin( angle ) * radius;
-			vertices[i*Shape.POSITION_NUM+3]=y + (float)Math.cos( angle ) * radius;
+		// The unit circle is changed only when the radius crosses a detail level.
+		detailLevel = getDetailLevel(radius);
+		if(UNIT_CIRCLE_POSITIONS[detailLevel] == null){
+			createUnitCircle(detailLevel);
+		}
+	}
+	
+	/**
+	 * Draw the shape. In signed distance field mode the circle is one quad.
+	 */
+	public void draw(){
+		if(shapeBatch.isSdf()){
+			shapeBatch.drawCircle(x, y, radius, colorBits);
+			return;
 		}
 		
-		super.setVertices(vertices);
+		final float[] positions = UNIT_CIRCLE_POSITIONS[detailLevel];
+		
+		if(positions != null){
+			shapeBatch.draw(positions, positions.length / FilledCircleShape.POSITION_NUM, UNIT_CIRCLE_INDICES[detailLevel], x, y, radius, colorBits);
+		}
+	}
+	
+	/**
+	 * Dispose shape. The shape has no own GPU resource, the {@link ShapeBatch} owns the mesh.
+	 */
+	public void dispose(){
 	}
 	
 	// --------------------------------------------------
-	// ~ Getter methods
+	// ~ Getter / Setter methods
 	// --------------------------------------------------
 	
 	/**
 	 * Return with the x coordinate value.
 	 */
 	public final float getX(){
-		return getVertices()[0];
+		return x;
 	}
 	
 	/**
 	 * Return with the y coordinate value.
 	 */
 	public final float getY(){
-		return getVertices()[1];
+		return y;
 	}
 	
 	/**
@@ -122,4 +216,28 @@ public class FilledCircleShape extends Shape{
 	public final float getRadius(){
 		return radius;
 	}
+	
+	/**
+	 * Return with the number of segments of the drawn circle.
+	 */
+	public final int getSegmentNum(){
+		return MIN_SEGMENT_NUM << detailLevel;
+	}
+	
+	/**
+	 * Return with the color.
+	 */
+	public Color getColor() {
+		return color;
+	}
+
+	/**
+	 * Set the color.
+	 * 
+	 * @param color - The new color.
+	 */
+	public void setColor(final Color color) {
+		this.color = color;
+		this.colorBits = color.toFloatBits();
+	}
 }
@@ -16,7 +16,6 @@ package com.dgzt.core.shape;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Vector2;
 import com.dgzt.core.util.MathUtil;
 
@@ -46,10 +45,10 @@ public class LineShape extends Shape{
 	// --------------------------------------------------
 	
 	/** The first point. */
-	private Vector2 pos1;
+	private final Vector2 pos1;
 	
 	/** The second point. */
-	private Vector2 pos2;
+	private final Vector2 pos2;
 	
 	// --------------------------------------------------
 	// ~ Constructors
@@ -58,11 +57,11 @@ public class LineShape extends Shape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param color - The color.
 	 */
-	public LineShape(final ShaderProgram shader, final Color color){
-		super(shader, GL20.GL_TRIANGLES, VERTICES_NUM, new short[]{0,1,2,2,3,1}, color);
+	public LineShape(final ShapeBatch shapeBatch, final Color color){
+		super(shapeBatch, GL20.GL_TRIANGLES, VERTICES_NUM, new short[]{0,1,2,2,3,1}, color);
 		
 		pos1 = new Vector2();
 		pos2 = new Vector2();
@@ -98,13 +97,10 @@ public class LineShape extends Shape{
 		final float vectorPXUnit = -vectorYUnit;
 		final float vectorPYUnit = vectorXUnit;
 		
-		final float[] vertices = new float[VERTICES_NUM * POSITION_NUM];
-		vertices[0] = x1 - lineWidth/2 * vectorPXUnit;		vertices[1] = y1 - lineWidth/2 * vectorPYUnit;
-		vertices[2] = x1 + lineWidth/2 * vectorPXUnit;		vertices[3] = y1 + lineWidth/2 * vectorPYUnit;
-		vertices[4] = x2 - lineWidth/2 * vectorPXUnit;		vertices[5] = y2 - lineWidth/2 * vectorPYUnit;
-		vertices[6] = x2 + lineWidth/2 * vectorPXUnit;		vertices[7] = y2 + lineWidth/2 * vectorPYUnit;
-		
-		setVertices(vertices);
+		setVertex(0, x1 - lineWidth/2 * vectorPXUnit, y1 - lineWidth/2 * vectorPYUnit);
+		setVertex(1, x1 + lineWidth/2 * vectorPXUnit, y1 + lineWidth/2 * vectorPYUnit);
+		setVertex(2, x2 - lineWidth/2 * vectorPXUnit, y2 - lineWidth/2 * vectorPYUnit);
+		setVertex(3, x2 + lineWidth/2 * vectorPXUnit, y2 + lineWidth/2 * vectorPYUnit);
 	}
 	
 	/**
@@ -146,4 +142,16 @@ public class LineShape extends Shape{
 		return pos2.y;
 	}
 	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isRibbon(){
+		return true;
+	}
+	
 }
@@ -15,9 +15,6 @@
 package com.dgzt.core.shape;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
  * Border of the rectangle.
@@ -52,14 +49,14 @@ public class RectangleBorderShape{
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param color - The color.
 	 */
-	public RectangleBorderShape(final ShaderProgram shader, final Color color){
-		topLine = createLineShape(shader, color);
-		rightLine = createLineShape(shader, color);
-		bottomLine = createLineShape(shader, color);
-		leftLine = createLineShape(shader, color);
+	public RectangleBorderShape(final ShapeBatch shapeBatch, final Color color){
+		topLine = createLineShape(shapeBatch, color);
+		rightLine = createLineShape(shapeBatch, color);
+		bottomLine = createLineShape(shapeBatch, color);
+		leftLine = createLineShape(shapeBatch, color);
 	}
 	
 	// --------------------------------------------------
@@ -104,23 +101,6 @@ public class RectangleBorderShape{
 		leftLine.dispose();
 	}
 	
-	// --------------------------------------------------
-	// ~ Protected methods
-	// --------------------------------------------------
-	
-	/**
-	 * Return with {@link Mesh}. If the return object is null then use the origin mesh of the {@link LineShape} else this.
-	 * Create for tests.
-	 * 
-	 * @param isStatic - Is static.
-	 * @param verticesNum - The number of vertices.
-	 * @param maxIndices - The max indices.
-	 * @param vAttribs - The attributes.
-	 */
-	protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs){
-		return null;
-	}
-	
 	// --------------------------------------------------
 	// ~ Private methods
 	// --------------------------------------------------
@@ -128,19 +108,11 @@ public class RectangleBorderShape{
 	/**
 	 * Create a {@link LineShape} object.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param color - The color.
 	 */
-	private LineShape createLineShape(final ShaderProgram shader, final Color color){
-		return new LineShape(shader, color){
-			
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				final Mesh rectangleBorderShapeMesh = RectangleBorderShape.this.getMesh(isStatic, verticesNum, maxIndices, vAttribs);
-				
-				return rectangleBorderShapeMesh == null ? super.getMesh(isStatic, verticesNum, maxIndices, vAttribs) : rectangleBorderShapeMesh;
-			}
-		};
+	private LineShape createLineShape(final ShapeBatch shapeBatch, final Color color){
+		return new LineShape(shapeBatch, color);
 	}
 	
 	// --------------------------------------------------
@@ -16,7 +16,6 @@ package com.dgzt.core.shape;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
  * The rectangle shape.
@@ -32,6 +31,22 @@ public class RectangleShape extends Shape{
 	/** The number of vertices. */
 	private static final int VERTICES_NUM = 4;
 	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The x coordinate value of the bottom left corner. */
+	private float x;
+	
+	/** The y coordinate value of the bottom left corner. */
+	private float y;
+	
+	/** The width value. */
+	private float width;
+	
+	/** The height value. */
+	private float height;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -39,11 +54,11 @@ public class RectangleShape extends Shape{
 	/**
 	 * Constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param color - The color.
 	 */
-	public RectangleShape(final ShaderProgram shader, final Color color){
-		super(shader, GL20.GL_TRIANGLES, VERTICES_NUM, new short[]{0,1,3,1,2,3}, color);
+	public RectangleShape(final ShapeBatch shapeBatch, final Color color){
+		super(shapeBatch, GL20.GL_TRIANGLES, VERTICES_NUM, new short[]{0,1,3,1,2,3}, color);
 	}
 	
 	// --------------------------------------------------
@@ -59,13 +74,15 @@ public class RectangleShape extends Shape{
 	 * @param height The height value.
 	 */
 	public void resize(final float x, final float y, final float width, final float height){
-		final float[] vertices = new float[RectangleShape.VERTICES_NUM * Shape.POSITION_NUM];
-		vertices[0] = x;			vertices[1] = y;			// The bottom left corner
-		vertices[2] = x;			vertices[3] = y + height;	// The top left corner
-		vertices[4] = x + width;	vertices[5] = y + height;	// The top right corner
-		vertices[6] = x + width;	vertices[7] = y;			// The bottom right corner
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
 		
-		setVertices(vertices);
+		setVertex(0, x, y);						// The bottom left corner
+		setVertex(1, x, y + height);			// The top left corner
+		setVertex(2, x + width, y + height);	// The top right corner
+		setVertex(3, x + width, y);				// The bottom right corner
 	}
 	
 	// --------------------------------------------------
@@ -76,31 +93,27 @@ public class RectangleShape extends Shape{
 	 * Return with x coordinate value.
 	 */
 	public final float getX(){
-		return getVertices()[0];
+		return x;
 	}
 	
 	/**
 	 * Return with y coordinate value.
 	 */
 	public final float getY(){
-		return getVertices()[1];
+		return y;
 	}
 	
 	/**
 	 * Return with width value.
 	 */
 	public final float getWidth(){
-		final float[] vertices = getVertices();
-		
-		return vertices[4] - vertices[0];
+		return width;
 	}
 	
 	/**
 	 * Return with the height value.
 	 */
 	public final float getHeight(){
-		final float[] vertices = getVertices();
-		
-		return vertices[3] - vertices[1];
+		return height;
 	}
 }
@@ -15,13 +15,9 @@
 package com.dgzt.core.shape;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.VertexAttributes.Usage;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
- * The abstract shape class.
+ * The abstract shape class. The shape keeps its vertices and draws them with the {@link ShapeBatch}.
  * 
  * @author Dgzt
  */
@@ -34,31 +30,31 @@ public abstract class Shape {
 	/** The number of position (x,y coordinate system value). */
 	protected static final int POSITION_NUM = 2;
 	
-	/** The number of color (r,g,b,a). */
-	private static final int COLOR_NUM = 4;
-	
-	/** The position attribute. */
-	private static final String POSITION_ATTR = "a_position";
-	
-	/** The color attribute. */
-	private static final String COLOR_ATTR = "a_color";
-	
 	// --------------------------------------------------
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The shader. */
-	private final ShaderProgram shader;
+	/** The shape batch. */
+	private final ShapeBatch shapeBatch;
 	
 	/** The type of the shape. */
 	private final int type;
 	
-	/** The mesh. */
-	private final Mesh mesh;
+	/** The number of the drawn vertices. */
+	private int verticesNum;
+	
+	/** The indices. */
+	private short[] indices;
+	
+	/** The vertices in x, y, packed color order. */
+	private final float[] vertices;
 	
 	/** The color. */
 	private Color color;
 	
+	/** The packed color of the vertices. */
+	private float colorBits;
+	
 	// --------------------------------------------------
 	// ~ Constructors
 	// --------------------------------------------------
@@ -66,22 +62,21 @@ public abstract class Shape {
 	/**
 	 * The constructor.
 	 * 
-	 * @param shader - The shader.
+	 * @param shapeBatch - The shape batch.
 	 * @param type - The type of the shape.
-	 * @param verticesNum - The number of vertices.
+	 * @param verticesNum - The maximum number of vertices.
 	 * @param indices - The indices array.
 	 * @param color - The color of the shape.
 	 */
-	public Shape(final ShaderProgram shader, final int type, final int verticesNum, final short[] indices, final Color color){
-		this.shader = shader;
+	public Shape(final ShapeBatch shapeBatch, final int type, final int verticesNum, final short[] indices, final Color color){
+		this.shapeBatch = shapeBatch;
 		this.type = type;
+		this.verticesNum = verticesNum;
+		this.indices = indices;
 		this.color = color;
+		this.colorBits = color.toFloatBits();
 		
-		final VertexAttribute positionAttr = new VertexAttribute(Usage.Position, POSITION_NUM, POSITION_ATTR);
-		final VertexAttribute colorAttr = new VertexAttribute(Usage.ColorPacked, COLOR_NUM, COLOR_ATTR);
-		
-		mesh = getMesh(true, verticesNum, indices.length, positionAttr, colorAttr);
-		mesh.setIndices(indices);
+		vertices = new float[verticesNum * ShapeBatch.VERTEX_SIZE];
 	}
 
 	// --------------------------------------------------
@@ -89,45 +84,55 @@ public abstract class Shape {
 	// --------------------------------------------------
 	
 	/**
-	 * Create mesh. The test files can override this method.
+	 * Set the vertices.
 	 * 
-	 * @param isStatic - Is static.
-	 * @param verticesNum - The number of vertices.
-	 * @param maxIndices - The max indices.
-	 * @param vAttribs - The attributes.
+	 * @param onlyVertices - The vertices array.
 	 */
-	protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs){
-		return new Mesh(isStatic, verticesNum, maxIndices, vAttribs);
+	protected void setVertices(final float[] onlyVertices){
+		for(int i=0; i < onlyVertices.length / POSITION_NUM; ++i){
+			setVertex(i, onlyVertices[i * POSITION_NUM], onlyVertices[i * POSITION_NUM + 1]);
+		}
 	}
 	
 	/**
-	 * Set the vertices.
+	 * Set the position of one vertex.
 	 * 
-	 * @param onlyVertices - The vertices array.
+	 * @param index - The index of the vertex.
+	 * @param x - The x coordinate value.
+	 * @param y - The y coordinate value.
 	 */
-	protected void setVertices(final float[] onlyVertices){
-		final float[] vertices = new float[onlyVertices.length + onlyVertices.length/POSITION_NUM];
-
-		for(int i=0,j=0; i < onlyVertices.length; ++i, ++j){
-			vertices[j]=onlyVertices[i];
-			if((i+1)%POSITION_NUM == 0){
-				vertices[++j]=color.toFloatBits();
-			}
+	protected final void setVertex(final int index, final float x, final float y){
+		final int offset = index * ShapeBatch.VERTEX_SIZE;
+		
+		vertices[offset] = x;
+		vertices[offset + 1] = y;
+		vertices[offset + 2] = colorBits;
+	}
+	
+	/**
+	 * Change the number of the drawn vertices and their indices.
+	 * The number of vertices can not be bigger than the number given to the constructor.
+	 * 
+	 * @param verticesNum - The number of the drawn vertices.
+	 * @param indices - The indices array.
+	 */
+	protected void setIndices(final int verticesNum, final short[] indices){
+		if(verticesNum * ShapeBatch.VERTEX_SIZE > vertices.length){
+			throw new IllegalArgumentException("Too many vertices: " + verticesNum);
 		}
 		
-		mesh.setVertices(vertices);
+		this.verticesNum = verticesNum;
+		this.indices = indices;
 	}
 	
 	/**
-	 * Return with the vertices array.
+	 * Return with a copy of the positions of the vertices.
+	 * The subclasses keep their own geometry values instead of calling this method.
 	 */
 	protected float[] getVertices(){
-		float[] vertices = new float[mesh.getMaxVertices()*2];
-		vertices = mesh.getVertices(vertices);
-		
-		final float[] onlyVertices = new float[vertices.length - vertices.length/(POSITION_NUM+1)];
-		for(int i=0, j=0; i<vertices.length; ++i){
-			if((i+1)%(POSITION_NUM+1) != 0){
+		final float[] onlyVertices = new float[verticesNum * POSITION_NUM];
+		for(int i=0, j=0; i<verticesNum * ShapeBatch.VERTEX_SIZE; ++i){
+			if((i+1)%ShapeBatch.VERTEX_SIZE != 0){
 				onlyVertices[j++] = vertices[i];
 			}
 		}
@@ -140,23 +145,48 @@ public abstract class Shape {
 	// --------------------------------------------------
 	
 	/**
-	 * Draw the shape.
+	 * Draw the shape. In signed distance field mode the ribbons are drawn with smoothed sides.
 	 */
 	public void draw(){
-		mesh.render(shader, type);
+		if(shapeBatch.isSdf() && isRibbon()){
+			shapeBatch.drawRibbon(vertices, verticesNum, indices);
+		}else{
+			shapeBatch.draw(vertices, verticesNum, indices, type);
+		}
 	}
 	
 	/**
-	 * Dispose shape.
+	 * Dispose shape. The shape has no own GPU resource, the {@link ShapeBatch} owns the mesh.
 	 */
 	public void dispose(){
-		mesh.dispose();
 	}
 	
 	// --------------------------------------------------
 	// ~ Getter / Setter methods
 	// --------------------------------------------------
 	
+	/**
+	 * Return with the shape batch.
+	 */
+	protected ShapeBatch getShapeBatch(){
+		return shapeBatch;
+	}
+	
+	/**
+	 * Return with the packed color.
+	 */
+	protected float getColorBits(){
+		return colorBits;
+	}
+	
+	/**
+	 * Return true when the vertices are pairs on the two sides of a ribbon, see {@link ShapeBatch#drawRibbon(float[], int, short[])}.
+	 * The indices have to be in {@link com.badlogic.gdx.graphics.GL20#GL_TRIANGLES} type.
+	 */
+	protected boolean isRibbon(){
+		return false;
+	}
+	
 	/**
 	 * Return with the color.
 	 */
@@ -169,7 +199,12 @@ public abstract class Shape {
 	 * 
 	 * @param color - The new color.
 	 */
-	public void setColor(Color color) {
+	public void setColor(final Color color) {
 		this.color = color;
+		this.colorBits = color.toFloatBits();
+		
+		for(int i = POSITION_NUM; i < vertices.length; i += ShapeBatch.VERTEX_SIZE){
+			vertices[i] = colorBits;
+		}
 	}
 }
@@ -0,0 +1,573 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.shape;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * Collect the triangles of the shapes into one vertex buffer and draw them with one draw call.
+ * The vertices have the position and packed color layout of the shader.
+ * In signed distance field mode the vertices have a local coordinate and an edge value too, which the shader
+ * uses to smooth the edges of the circles and the lines. In this mode the circles are drawn as one quad.
+ * 
+ * @author Dgzt
+ */
+public class ShapeBatch {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The number of the float values of one vertex (x, y, packed color). */
+	public static final int VERTEX_SIZE = 3;
+	
+	/** The number of the float values of one vertex in signed distance field mode (x, y, packed color, local x, local y, edge, inner edge). */
+	public static final int SDF_VERTEX_SIZE = 7;
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum number of the vertices in one draw call. */
+	private static final int MAX_VERTICES = 16384;
+	
+	/** The maximum number of the indices in one draw call. */
+	private static final int MAX_INDICES = MAX_VERTICES * 3;
+	
+	/** The number of position (x,y coordinate system value). */
+	private static final int POSITION_NUM = 2;
+	
+	/** The number of color (r,g,b,a). */
+	private static final int COLOR_NUM = 4;
+	
+	/** The position attribute. */
+	private static final String POSITION_ATTR = "a_position";
+	
+	/** The color attribute. */
+	private static final String COLOR_ATTR = "a_color";
+	
+	/** The number of the local coordinate (x,y coordinate system value). */
+	private static final int LOCAL_NUM = 2;
+	
+	/** The number of the edge values (pixels in one local unit, inner edge). */
+	private static final int EDGE_NUM = 2;
+	
+	/** The local coordinate attribute. */
+	private static final String LOCAL_ATTR = "a_local";
+	
+	/** The edge attribute. */
+	private static final String EDGE_ATTR = "a_edge";
+	
+	/** The edge value of the solid triangles. */
+	private static final float SOLID_EDGE = 1.0f;
+	
+	/** The inner edge value of the shapes without hole. */
+	private static final float NO_INNER_EDGE = -1.0f;
+	
+	/** The distance of the quad sides from the smoothed edge in pixel. The edge is smoothed in one pixel. */
+	private static final float FRINGE = 0.5f;
+	
+	/** The indices of a quad. */
+	private static final short[] QUAD_INDICES = new short[]{0,1,2,2,1,3};
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The shader. */
+	private final ShaderProgram shader;
+	
+	/** True in signed distance field mode. */
+	private final boolean sdf;
+	
+	/** The number of the float values of one collected vertex. */
+	private final int vertexSize;
+	
+	/** The mesh of the collected triangles. */
+	private final Mesh mesh;
+	
+	/** The collected vertices. */
+	private final float[] vertices;
+	
+	/** The collected indices. */
+	private final short[] indices;
+	
+	/** The number of the collected vertices. */
+	private int vertexNum;
+	
+	/** The number of the collected indices. */
+	private int indexNum;
+	
+	/** The number of the draw calls since the creation. */
+	private int renderCalls;
+	
+	/** True while the drawn shapes are collected into a {@link ShapeCache}. */
+	private boolean caching;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shader - The shader.
+	 */
+	public ShapeBatch(final ShaderProgram shader){
+		this(shader, false);
+	}
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shader - The shader. It has to be the signed distance field shader in signed distance field mode.
+	 * @param sdf - True in signed distance field mode.
+	 */
+	public ShapeBatch(final ShaderProgram shader, final boolean sdf){
+		this.shader = shader;
+		this.sdf = sdf;
+		vertexSize = sdf ? SDF_VERTEX_SIZE : VERTEX_SIZE;
+		
+		mesh = createMesh(false, MAX_VERTICES, MAX_INDICES);
+		vertices = new float[MAX_VERTICES * vertexSize];
+		indices = new short[MAX_INDICES];
+		vertexNum = 0;
+		indexNum = 0;
+		renderCalls = 0;
+		caching = false;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Begin the drawing with the shader.
+	 */
+	public void begin(){
+		shader.begin();
+	}
+	
+	/**
+	 * Draw the collected triangles and end the drawing with the shader.
+	 */
+	public void end(){
+		flush();
+		shader.end();
+	}
+	
+	/**
+	 * Add the triangles of a shape to the batch.
+	 * 
+	 * @param shapeVertices - The vertices of the shape in x, y, packed color order.
+	 * @param shapeVertexNum - The number of the vertices of the shape.
+	 * @param shapeIndices - The indices of the shape.
+	 * @param type - The primitive type of the shape. It can be {@link GL20#GL_TRIANGLES}, {@link GL20#GL_TRIANGLE_FAN} or {@link GL20#GL_TRIANGLE_STRIP}.
+	 */
+	public void draw(final float[] shapeVertices, final int shapeVertexNum, final short[] shapeIndices, final int type){
+		ensureCapacity(shapeVertexNum, getTriangleIndexNum(shapeIndices.length, type));
+		
+		if(sdf){
+			for(int i = 0, j = vertexNum * SDF_VERTEX_SIZE; i < shapeVertexNum * VERTEX_SIZE; i += VERTEX_SIZE){
+				j = putSolidVertex(j, shapeVertices[i], shapeVertices[i + 1], shapeVertices[i + 2]);
+			}
+		}else{
+			System.arraycopy(shapeVertices, 0, vertices, vertexNum * VERTEX_SIZE, shapeVertexNum * VERTEX_SIZE);
+		}
+		
+		final int offset = vertexNum;
+		switch(type){
+			case GL20.GL_TRIANGLES:
+				for(int i = 0; i < shapeIndices.length; ++i){
+					indices[indexNum++] = (short) (offset + shapeIndices[i]);
+				}
+				break;
+			case GL20.GL_TRIANGLE_FAN:
+				for(int i = 1; i < shapeIndices.length - 1; ++i){
+					indices[indexNum++] = (short) (offset + shapeIndices[0]);
+					indices[indexNum++] = (short) (offset + shapeIndices[i]);
+					indices[indexNum++] = (short) (offset + shapeIndices[i + 1]);
+				}
+				break;
+			case GL20.GL_TRIANGLE_STRIP:
+				for(int i = 0; i < shapeIndices.length - 2; ++i){
+					indices[indexNum++] = (short) (offset + shapeIndices[i]);
+					indices[indexNum++] = (short) (offset + shapeIndices[i + 1]);
+					indices[indexNum++] = (short) (offset + shapeIndices[i + 2]);
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported primitive type: " + type);
+		}
+		
+		vertexNum += shapeVertexNum;
+	}
+	
+	/**
+	 * Add the triangles of a shape template moved and scaled to the batch.
+	 * The template is not changed, so more shapes can share one template.
+	 * 
+	 * @param templatePositions - The x, y positions of the template vertices.
+	 * @param templateVertexNum - The number of the vertices of the template.
+	 * @param templateIndices - The indices of the triangles of the template.
+	 * @param x - The x coordinate value of the template origin.
+	 * @param y - The y coordinate value of the template origin.
+	 * @param scale - The scale of the template.
+	 * @param colorBits - The packed color of the vertices.
+	 */
+	public void draw(final float[] templatePositions, final int templateVertexNum, final short[] templateIndices, final float x, final float y, final float scale, final float colorBits){
+		ensureCapacity(templateVertexNum, templateIndices.length);
+		
+		for(int i = 0, j = vertexNum * vertexSize; i < templateVertexNum * POSITION_NUM; i += POSITION_NUM){
+			if(sdf){
+				j = putSolidVertex(j, x + templatePositions[i] * scale, y + templatePositions[i + 1] * scale, colorBits);
+			}else{
+				vertices[j++] = x + templatePositions[i] * scale;
+				vertices[j++] = y + templatePositions[i + 1] * scale;
+				vertices[j++] = colorBits;
+			}
+		}
+		
+		for(int i = 0; i < templateIndices.length; ++i){
+			indices[indexNum++] = (short) (vertexNum + templateIndices[i]);
+		}
+		
+		vertexNum += templateVertexNum;
+	}
+	
+	/**
+	 * Add a filled circle as one quad to the batch. Only in signed distance field mode.
+	 * 
+	 * @param x - The x coordinate value of the center.
+	 * @param y - The y coordinate value of the center.
+	 * @param radius - The radius in pixel.
+	 * @param colorBits - The packed color.
+	 */
+	public void drawCircle(final float x, final float y, final float radius, final float colorBits){
+		putCircleQuad(x, y, radius, NO_INNER_EDGE, colorBits);
+	}
+	
+	/**
+	 * Add a ring as one quad to the batch. Only in signed distance field mode.
+	 * 
+	 * @param x - The x coordinate value of the center.
+	 * @param y - The y coordinate value of the center.
+	 * @param radius - The outer radius in pixel.
+	 * @param innerRadius - The inner radius in pixel.
+	 * @param colorBits - The packed color.
+	 */
+	public void drawRing(final float x, final float y, final float radius, final float innerRadius, final float colorBits){
+		putCircleQuad(x, y, radius, innerRadius / radius, colorBits);
+	}
+	
+	/**
+	 * Add a ribbon with smoothed sides to the batch. Only in signed distance field mode.
+	 * The vertices are pairs on the two sides of the ribbon, like the vertices of the lines and the arcs.
+	 * Every pair is moved outwards to have room for the smoothed side.
+	 * 
+	 * @param shapeVertices - The vertices of the shape in x, y, packed color order.
+	 * @param shapeVertexNum - The number of the vertices of the shape.
+	 * @param shapeIndices - The indices of the triangles of the shape.
+	 */
+	public void drawRibbon(final float[] shapeVertices, final int shapeVertexNum, final short[] shapeIndices){
+		checkSdf();
+		ensureCapacity(shapeVertexNum, shapeIndices.length);
+		
+		for(int i = 0, j = vertexNum * SDF_VERTEX_SIZE; i + VERTEX_SIZE < shapeVertexNum * VERTEX_SIZE; i += 2 * VERTEX_SIZE){
+			final float x1 = shapeVertices[i];
+			final float y1 = shapeVertices[i + 1];
+			final float x2 = shapeVertices[i + VERTEX_SIZE];
+			final float y2 = shapeVertices[i + VERTEX_SIZE + 1];
+			
+			final float halfWidth = (float) Math.sqrt((x2 - x1) * (x2 - x1) + (y2 - y1) * (y2 - y1)) / 2;
+			if(halfWidth == 0){
+				j = putSolidVertex(j, x1, y1, shapeVertices[i + 2]);
+				j = putSolidVertex(j, x2, y2, shapeVertices[i + VERTEX_SIZE + 2]);
+				continue;
+			}
+			
+			final float fringeX = (x2 - x1) / (2 * halfWidth) * FRINGE;
+			final float fringeY = (y2 - y1) / (2 * halfWidth) * FRINGE;
+			final float local = (halfWidth + FRINGE) / halfWidth;
+			
+			j = putVertex(j, x1 - fringeX, y1 - fringeY, shapeVertices[i + 2], 0, -local, halfWidth, NO_INNER_EDGE);
+			j = putVertex(j, x2 + fringeX, y2 + fringeY, shapeVertices[i + VERTEX_SIZE + 2], 0, local, halfWidth, NO_INNER_EDGE);
+		}
+		
+		for(int i = 0; i < shapeIndices.length; ++i){
+			indices[indexNum++] = (short) (vertexNum + shapeIndices[i]);
+		}
+		
+		vertexNum += shapeVertexNum;
+	}
+	
+	/**
+	 * Draw the collected triangles with one draw call.
+	 */
+	public void flush(){
+		if(caching || indexNum == 0){
+			return;
+		}
+		
+		renderTriangles(vertices, vertexNum * vertexSize, indices, indexNum);
+		++renderCalls;
+		
+		vertexNum = 0;
+		indexNum = 0;
+	}
+	
+	/**
+	 * Start to collect the drawn shapes into a {@link ShapeCache} instead of drawing them.
+	 * It can not be called while drawing, because the batch has to be empty.
+	 */
+	public void beginCache(){
+		if(vertexNum != 0){
+			throw new IllegalStateException("The batch is not empty.");
+		}
+		
+		caching = true;
+	}
+	
+	/**
+	 * Save the shapes drawn since {@link #beginCache()} into the given cache.
+	 * 
+	 * @param cache - The cache.
+	 */
+	public void endCache(final ShapeCache cache){
+		cache.set(vertices, vertexNum * vertexSize, indices, indexNum);
+		
+		vertexNum = 0;
+		indexNum = 0;
+		caching = false;
+	}
+	
+	/**
+	 * Dispose the batch.
+	 */
+	public void dispose(){
+		mesh.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Protected methods
+	// --------------------------------------------------
+	
+	/**
+	 * Create a mesh with the vertex layout of the shader. The test files can override this method.
+	 * 
+	 * @param isStatic - Is static.
+	 * @param verticesNum - The number of vertices.
+	 * @param maxIndices - The max indices.
+	 */
+	protected Mesh createMesh(final boolean isStatic, final int verticesNum, final int maxIndices){
+		final VertexAttribute positionAttr = new VertexAttribute(Usage.Position, POSITION_NUM, POSITION_ATTR);
+		final VertexAttribute colorAttr = new VertexAttribute(Usage.ColorPacked, COLOR_NUM, COLOR_ATTR);
+		
+		if(sdf){
+			final VertexAttribute localAttr = new VertexAttribute(Usage.Generic, LOCAL_NUM, LOCAL_ATTR);
+			final VertexAttribute edgeAttr = new VertexAttribute(Usage.Generic, EDGE_NUM, EDGE_ATTR);
+			
+			return new Mesh(isStatic, verticesNum, maxIndices, positionAttr, colorAttr, localAttr, edgeAttr);
+		}
+		
+		return new Mesh(isStatic, verticesNum, maxIndices, positionAttr, colorAttr);
+	}
+	
+	/**
+	 * Upload the collected triangles into the mesh and draw them. The test files can override this method.
+	 * 
+	 * @param batchVertices - The collected vertices.
+	 * @param vertexFloatNum - The number of the used float values of the vertices.
+	 * @param batchIndices - The collected indices.
+	 * @param batchIndexNum - The number of the collected indices.
+	 */
+	protected void renderTriangles(final float[] batchVertices, final int vertexFloatNum, final short[] batchIndices, final int batchIndexNum){
+		mesh.setVertices(batchVertices, 0, vertexFloatNum);
+		mesh.setIndices(batchIndices, 0, batchIndexNum);
+		renderMesh(mesh, batchIndexNum);
+	}
+	
+	/**
+	 * Draw the triangles of the given mesh. The test files can override this method.
+	 * 
+	 * @param renderedMesh - The mesh.
+	 * @param renderedIndexNum - The number of the drawn indices.
+	 */
+	protected void renderMesh(final Mesh renderedMesh, final int renderedIndexNum){
+		renderedMesh.render(shader, GL20.GL_TRIANGLES, 0, renderedIndexNum);
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Draw the triangles of the given mesh after the collected triangles.
+	 * 
+	 * @param cachedMesh - The mesh.
+	 * @param cachedIndexNum - The number of the indices of the mesh.
+	 */
+	void render(final Mesh cachedMesh, final int cachedIndexNum){
+		flush();
+		renderMesh(cachedMesh, cachedIndexNum);
+		++renderCalls;
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Flush the batch if the new triangles do not fit into it.
+	 * 
+	 * @param newVertexNum - The number of the new vertices.
+	 * @param newIndexNum - The number of the new indices.
+	 */
+	private void ensureCapacity(final int newVertexNum, final int newIndexNum){
+		if(newVertexNum > MAX_VERTICES || newIndexNum > MAX_INDICES){
+			throw new IllegalArgumentException("The shape is too big for the batch: " + newVertexNum + " vertices.");
+		}
+		
+		if(vertexNum + newVertexNum > MAX_VERTICES || indexNum + newIndexNum > MAX_INDICES){
+			if(caching){
+				throw new IllegalStateException("The cached shapes are too big for the batch.");
+			}
+			flush();
+		}
+	}
+	
+	/**
+	 * Add a circle quad to the batch.
+	 * 
+	 * @param x - The x coordinate value of the center.
+	 * @param y - The y coordinate value of the center.
+	 * @param radius - The radius in pixel.
+	 * @param inner - The inner edge in local unit.
+	 * @param colorBits - The packed color.
+	 */
+	private void putCircleQuad(final float x, final float y, final float radius, final float inner, final float colorBits){
+		checkSdf();
+		ensureCapacity(QUAD_INDICES.length - 2, QUAD_INDICES.length);
+		
+		final float size = radius + FRINGE;
+		final float local = size / radius;
+		
+		int j = vertexNum * SDF_VERTEX_SIZE;
+		j = putVertex(j, x - size, y - size, colorBits, -local, -local, radius, inner);
+		j = putVertex(j, x + size, y - size, colorBits, local, -local, radius, inner);
+		j = putVertex(j, x - size, y + size, colorBits, -local, local, radius, inner);
+		putVertex(j, x + size, y + size, colorBits, local, local, radius, inner);
+		
+		for(int i = 0; i < QUAD_INDICES.length; ++i){
+			indices[indexNum++] = (short) (vertexNum + QUAD_INDICES[i]);
+		}
+		
+		vertexNum += QUAD_INDICES.length - 2;
+	}
+	
+	/**
+	 * Put a vertex in signed distance field layout into the collected vertices.
+	 * 
+	 * @param offset - The offset in the collected vertices.
+	 * @param x - The x coordinate value.
+	 * @param y - The y coordinate value.
+	 * @param colorBits - The packed color.
+	 * @param localX - The local x coordinate value. The length of the local coordinate is 1 on the edge.
+	 * @param localY - The local y coordinate value.
+	 * @param edge - The number of the pixels in one local unit.
+	 * @param inner - The inner edge in local unit.
+	 * @return The offset of the next vertex.
+	 */
+	private int putVertex(final int offset, final float x, final float y, final float colorBits, final float localX, final float localY, final float edge, final float inner){
+		vertices[offset] = x;
+		vertices[offset + 1] = y;
+		vertices[offset + 2] = colorBits;
+		vertices[offset + 3] = localX;
+		vertices[offset + 4] = localY;
+		vertices[offset + 5] = edge;
+		vertices[offset + 6] = inner;
+		
+		return offset + SDF_VERTEX_SIZE;
+	}
+	
+	/**
+	 * Put a vertex without smoothed edge in signed distance field layout into the collected vertices.
+	 * 
+	 * @param offset - The offset in the collected vertices.
+	 * @param x - The x coordinate value.
+	 * @param y - The y coordinate value.
+	 * @param colorBits - The packed color.
+	 * @return The offset of the next vertex.
+	 */
+	private int putSolidVertex(final int offset, final float x, final float y, final float colorBits){
+		return putVertex(offset, x, y, colorBits, 0, 0, SOLID_EDGE, NO_INNER_EDGE);
+	}
+	
+	/**
+	 * Throw exception if the batch is not in signed distance field mode.
+	 */
+	private void checkSdf(){
+		if(!sdf){
+			throw new IllegalStateException("The batch is not in signed distance field mode.");
+		}
+	}
+	
+	/**
+	 * Return with the number of the indices after the conversion to triangles.
+	 * 
+	 * @param shapeIndexNum - The number of the indices of the shape.
+	 * @param type - The primitive type of the shape.
+	 */
+	private static int getTriangleIndexNum(final int shapeIndexNum, final int type){
+		return type == GL20.GL_TRIANGLES ? shapeIndexNum : Math.max(0, shapeIndexNum - 2) * 3;
+	}
+	
+	// --------------------------------------------------
+	// ~ Getter methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the shader.
+	 */
+	public ShaderProgram getShader(){
+		return shader;
+	}
+	
+	/**
+	 * Return true in signed distance field mode.
+	 */
+	public boolean isSdf(){
+		return sdf;
+	}
+	
+	/**
+	 * Return with the number of the float values of one collected vertex.
+	 */
+	public int getVertexSize(){
+		return vertexSize;
+	}
+	
+	/**
+	 * Return with the number of the draw calls since the creation.
+	 */
+	public int getRenderCalls(){
+		return renderCalls;
+	}
+	
+}
@@ -0,0 +1,113 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.shape;
+
+import com.badlogic.gdx.graphics.Mesh;
+
+/**
+ * The triangles of shapes which do not change between the frames, saved into a static mesh.
+ * The shapes are collected with {@link ShapeBatch#beginCache()} and {@link ShapeBatch#endCache(ShapeCache)}.
+ * 
+ * @author Dgzt
+ */
+public class ShapeCache {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The shape batch. */
+	private final ShapeBatch shapeBatch;
+	
+	/** The static mesh. It is created at the first save. */
+	private Mesh mesh;
+	
+	/** The number of the saved indices. */
+	private int indexNum;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param shapeBatch - The shape batch.
+	 */
+	public ShapeCache(final ShapeBatch shapeBatch){
+		this.shapeBatch = shapeBatch;
+		mesh = null;
+		indexNum = 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Draw the saved shapes with one draw call.
+	 */
+	public void draw(){
+		if(indexNum != 0){
+			shapeBatch.render(mesh, indexNum);
+		}
+	}
+	
+	/**
+	 * Return true when no shape is saved into the cache.
+	 */
+	public boolean isEmpty(){
+		return indexNum == 0;
+	}
+	
+	/**
+	 * Dispose the cache.
+	 */
+	public void dispose(){
+		if(mesh != null){
+			mesh.dispose();
+			mesh = null;
+		}
+		indexNum = 0;
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Save the given triangles. The mesh is created again only when the triangles do not fit into it.
+	 * 
+	 * @param vertices - The vertices.
+	 * @param vertexFloatNum - The number of the used float values of the vertices.
+	 * @param indices - The indices of the triangles.
+	 * @param indexNum - The number of the used indices.
+	 */
+	void set(final float[] vertices, final int vertexFloatNum, final short[] indices, final int indexNum){
+		final int vertexNum = vertexFloatNum / shapeBatch.getVertexSize();
+		
+		if(mesh == null || mesh.getMaxVertices() < vertexNum || mesh.getMaxIndices() < indexNum){
+			if(mesh != null){
+				mesh.dispose();
+			}
+			mesh = shapeBatch.createMesh(true, vertexNum, indexNum);
+		}
+		
+		mesh.setVertices(vertices, 0, vertexFloatNum);
+		mesh.setIndices(indices, 0, indexNum);
+		this.indexNum = indexNum;
+	}
+	
+}
@@ -14,16 +14,12 @@
  */
 package com.dgzt.core.shape;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
- * Show text.
+ * Show text. The text is collected into the text batch and drawn in its pass.
  * 
  * @author Dgzt
  */
@@ -33,15 +29,15 @@ public class Text {
 	// ~ Private members
 	// --------------------------------------------------
 	
-	/** The shader. */
-	private final ShaderProgram shader;
+	/** The text batch. */
+	private final TextBatch textBatch;
 	
-	/** The batch to draw text. */
-	private final Batch batch;
-	
-	/** The font for text. */
+	/** The shared font for text. */
 	private final BitmapFont font;
 	
+	/** The color. */
+	private final Color color;
+	
 	/** The showing text. */
 	private String text;
 	
@@ -58,15 +54,14 @@ public class Text {
 	/**
 	 * Constructor.
 	 * 
-	 * @param shader - The shader.
-	 * @param batch - The batch.
+	 * @param textBatch - The text batch.
+	 * @param font - The shared font.
 	 * @param color - The color.
 	 */
-	public Text(final ShaderProgram shader, final Batch batch, final Color color){
-		this.shader = shader;
-		this.batch = batch;
-		font = new BitmapFont();
-		font.setColor(color);
+	public Text(final TextBatch textBatch, final BitmapFont font, final Color color){
+		this.textBatch = textBatch;
+		this.font = font;
+		this.color = new Color(color);
 		text = "";
 	}
 	
@@ -95,39 +90,35 @@ public class Text {
 	}
 	
 	/**
-	 * Draw the text.
+	 * Draw the text. It is shown when the text batch is flushed.
 	 */
 	public void draw(){
-		shader.end();
-		batch.begin();
-		
-		font.draw(batch, text, x, y);
-		
-		batch.end();
-		shader.begin();
-		Gdx.gl.glEnable(GL20.GL_BLEND);
-		Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		textBatch.add(this);
 	}
 	
 	// --------------------------------------------------
-	// ~ Static methods
+	// ~ Package methods
 	// --------------------------------------------------
-
+	
 	/**
-	 * Return with the width of the given text.
+	 * Render the text with the given batch. The font is shared, so the color is set before every render.
 	 * 
-	 * @param text - The text.
+	 * @param batch - The started batch.
 	 */
-	public static float getWidth(final String text){
-		GlyphLayout layout = new GlyphLayout();
-		layout.setText(new BitmapFont(), text);
-		return layout.width;
+	void render(final Batch batch){
+		font.setColor(color);
+		font.draw(batch, text, x, y);
 	}
-
-	public static float getHeight(final String text){
-		GlyphLayout layout = new GlyphLayout();
-		layout.setText(new BitmapFont(), text);
-		return layout.height;
+	
+	// --------------------------------------------------
+	// ~ Getters
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the font.
+	 */
+	public BitmapFont getFont(){
+		return font;
 	}
 
 }
@@ -0,0 +1,92 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.shape;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Collect the texts of a frame and draw them in one sprite batch pass.
+ * 
+ * @author Dgzt
+ */
+public class TextBatch {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The batch to draw the texts. */
+	private final Batch batch;
+	
+	/** The texts of the actual frame. */
+	private final Array<Text> texts;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param batch - The batch.
+	 */
+	public TextBatch(final Batch batch){
+		this.batch = batch;
+		texts = new Array<Text>();
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Draw the collected texts. The shape batch has to be ended before.
+	 */
+	public void flush(){
+		if(texts.size == 0){
+			return;
+		}
+		
+		batch.begin();
+		for(int i = 0; i < texts.size; ++i){
+			texts.get(i).render(batch);
+		}
+		batch.end();
+		
+		texts.clear();
+	}
+	
+	/**
+	 * Return with the number of the collected texts.
+	 */
+	public int getSize(){
+		return texts.size;
+	}
+	
+	// --------------------------------------------------
+	// ~ Package methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add text to the actual frame.
+	 * 
+	 * @param text - The text.
+	 */
+	void add(final Text text){
+		texts.add(text);
+	}
+
+}
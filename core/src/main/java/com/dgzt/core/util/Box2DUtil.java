@@ -87,8 +87,23 @@ public class Box2DUtil {
 	 * @param scale - The scale.
 	 */
 	public static Vector2 screenPositionToBox2DPosition(final Vector2 screenPosition, final Vector2 tablePosition, final double scale){
-		final Vector2 box2DPos = new Vector2(screenPosition);
-		box2DPos.sub(tablePosition);
+		return screenPositionToBox2DPosition(screenPosition.x, screenPosition.y, tablePosition.x, tablePosition.y, scale, new Vector2());
+	}
+	
+	/**
+	 * The screen position convert to Box2D position into the given vector.
+	 * 
+	 * @param screenX - The x coordinate value on screen.
+	 * @param screenY - The y coordinate value on screen.
+	 * @param tableX - The x coordinate value of table.
+	 * @param tableY - The y coordinate value of table.
+	 * @param scale - The scale.
+	 * @param box2DPos - The vector of the result.
+	 * @return The given result vector.
+	 */
+	public static Vector2 screenPositionToBox2DPosition(final float screenX, final float screenY, final float tableX, final float tableY, final double scale, final Vector2 box2DPos){
+		box2DPos.set(screenX, screenY);
+		box2DPos.sub(tableX, tableY);
 		box2DPos.x /= scale;
 		box2DPos.y /= scale;
 		
@@ -41,6 +41,12 @@ public final class AssetFilesTest {
 	
 	/** The path of the fragment shader. */
 	private static final String FRAGMENT_SHADER_PATH = ASSETS_PREFIX + "shader.fsh";
+	
+	/** The path of the signed distance field vertex shader. */
+	private static final String SDF_VERTEX_SHADER_PATH = ASSETS_PREFIX + "sdf.vsh";
+	
+	/** The path of the signed distance field fragment shader. */
+	private static final String SDF_FRAGMENT_SHADER_PATH = ASSETS_PREFIX + "sdf.fsh";
 
 	// --------------------------------------------------
 	// ~ Tests
@@ -62,6 +68,15 @@ public final class AssetFilesTest {
 		assertTrue(Gdx.files.internal(FRAGMENT_SHADER_PATH).exists());
 	}
 	
+	/**
+	 * Test for signed distance field shader files.
+	 */
+	@Test
+	public void test_sdfShader(){
+		assertTrue(Gdx.files.internal(SDF_VERTEX_SHADER_PATH).exists());
+		assertTrue(Gdx.files.internal(SDF_FRAGMENT_SHADER_PATH).exists());
+	}
+	
 	/**
 	 * Test for font files.
 	 */
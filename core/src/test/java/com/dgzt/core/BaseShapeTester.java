@@ -19,15 +19,12 @@ import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
-import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.math.Vector2;
 import com.dgzt.core.button.Ball;
 import com.dgzt.core.button.Button;
 
 /**
- * Base shape tester. Mock the mesh in the shape. 
- * Return the {@link Mesh#getVertices(float[])} with the parameter 
- * that give in the {@link Mesh#setVertices(float[])} method.
+ * Base shape tester. Create mock buttons and ball which keep their box2D positions.
  * 
  * @author Dgzt
  */
@@ -44,26 +41,6 @@ public class BaseShapeTester {
 	// ~ Protected methods
 	// --------------------------------------------------
 	
-	/**
-	 * Return with the mock {@link Mesh} object.
-	 */
-	protected Mesh getMockMesh(){
-		final Mesh mesh = Mockito.mock(Mesh.class);
-		
-		final VerticesAnswer verticesAnswer = new VerticesAnswer();
-		
-		Mockito.doAnswer(verticesAnswer).when(mesh).setVertices(Mockito.any(float[].class));
-		
-		Mockito.when(mesh.getVertices(Mockito.any(float[].class))).thenAnswer(new Answer<float[]>() {
-		    @Override
-		    public float[] answer(InvocationOnMock invocation) throws Throwable {
-		        return verticesAnswer.getVertices();
-		    }
-		});
-		
-		return mesh;
-	}
-	
 	/**
 	 * Return with mock {@link Button}.
 	 */
@@ -201,48 +178,5 @@ public class BaseShapeTester {
 			
 		};
 	}
-	
-	// --------------------------------------------------
-	// ~ Inner classes
-	// --------------------------------------------------
-	
-	/**
-	 * The Vertices answer. Save the vertices.
-	 * 
-	 * @author Dgzt
-	 */
-	private final class VerticesAnswer implements Answer<Object>{
-		
-		// --------------------------------------------------
-		// ~ Private members
-		// --------------------------------------------------
-		
-		private float[] vertices;
-		
-		// --------------------------------------------------
-		// ~ Public methods
-		// --------------------------------------------------
-
-		/**
-		 * Return with the given vertices.
-		 */
-		public float[] getVertices(){
-			return vertices;
-		}
-		
-		// --------------------------------------------------
-		// ~ Override methods
-		// --------------------------------------------------
-		
-		/**
-		 * {@inheritDoc}
-		 */
-		@Override
-		public Object answer(InvocationOnMock invocation) throws Throwable {
-			vertices = (float[]) invocation.getArguments()[0];
-			return null;
-		}
-
-	}
 
 }
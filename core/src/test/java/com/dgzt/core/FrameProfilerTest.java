@@ -0,0 +1,111 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for {@link FrameProfiler}.
+ * 
+ * @author Dgzt
+ */
+public final class FrameProfilerTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		FrameProfiler.setEnabled(true);
+	}
+	
+	/**
+	 * Disable the profiler after the tests.
+	 */
+	@After
+	public void tearDown(){
+		FrameProfiler.setEnabled(false);
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link FrameProfiler#getFrameTimePercentile(float)} method.
+	 */
+	@Test
+	public void test_getFrameTimePercentile(){
+		// Added in reverse order, the percentiles are independent of the order.
+		for(int i = 100; i > 0; --i){
+			FrameProfiler.addFrame(i, 0);
+		}
+		
+		assertEquals(100, FrameProfiler.getFrameNum());
+		assertEquals(50, FrameProfiler.getFrameTimePercentile(0.5f), DELTA);
+		assertEquals(95, FrameProfiler.getFrameTimePercentile(0.95f), DELTA);
+		assertEquals(99, FrameProfiler.getFrameTimePercentile(0.99f), DELTA);
+		
+		assertEquals(7, FrameProfiler.getFrameNum(1, 8));
+		assertEquals(51, FrameProfiler.getFrameNum(50, Float.MAX_VALUE));
+	}
+	
+	/**
+	 * Test for {@link FrameProfiler#addFrame(float, long)} method. The oldest frames are dropped from the history.
+	 */
+	@Test
+	public void test_addFrame_rolling(){
+		for(int i = 0; i < FrameProfiler.HISTORY_SIZE; ++i){
+			FrameProfiler.addFrame(100, 0);
+		}
+		for(int i = 0; i < FrameProfiler.HISTORY_SIZE; ++i){
+			FrameProfiler.addFrame(10, 1024);
+		}
+		
+		assertEquals(FrameProfiler.HISTORY_SIZE, FrameProfiler.getFrameNum());
+		assertEquals(10, FrameProfiler.getFrameTimePercentile(0.99f), DELTA);
+		
+		// 1 KB in every 10 ms
+		assertEquals(102400, FrameProfiler.getAllocationRate(), 1);
+	}
+	
+	/**
+	 * Test for {@link FrameProfiler#endFrame(float)} method. The section times are moved to the last frame.
+	 */
+	@Test
+	public void test_endFrame(){
+		FrameProfiler.begin(FrameProfiler.PHYSICS);
+		FrameProfiler.end(FrameProfiler.PHYSICS);
+		FrameProfiler.endFrame(0.016f);
+		
+		assertEquals(1, FrameProfiler.getFrameNum());
+		assertEquals(16, FrameProfiler.getFrameTimePercentile(0.5f), DELTA);
+		
+		// Nothing is measured after disabling.
+		FrameProfiler.setEnabled(false);
+		FrameProfiler.endFrame(0.016f);
+		assertEquals(0, FrameProfiler.getFrameNum());
+		assertEquals(0, FrameProfiler.getSectionTime(FrameProfiler.PHYSICS), DELTA);
+	}
+	
+}
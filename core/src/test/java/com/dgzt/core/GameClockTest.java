@@ -0,0 +1,158 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Test for {@link GameClock}.
+ * 
+ * @author Dgzt
+ */
+public final class GameClockTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private GameClock gameClock;
+	
+	private Array<String> runs;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		gameClock = new GameClock();
+		runs = new Array<String>();
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link GameClock#advance(float)} method. The tasks run in the order of their execute time,
+	 * the tasks due at the same time in the order of their scheduling.
+	 */
+	@Test
+	public void test_advance_order(){
+		gameClock.schedule(createTask("c"), 2);
+		gameClock.schedule(createTask("a"), 1);
+		gameClock.schedule(createTask("b"), 1);
+		
+		gameClock.advance(0.5f);
+		assertEquals(0, runs.size);
+		
+		// All due tasks run in one long frame.
+		gameClock.advance(5);
+		assertEquals("[a, b, c]", runs.toString());
+		assertEquals(5.5f, gameClock.getTime(), DELTA);
+		assertEquals(GameClock.NO_TASK, gameClock.getTimeToNextTask(), DELTA);
+	}
+	
+	/**
+	 * Test for {@link GameClock#schedule(GameClock.Task, float, float)} method. The repeated task runs
+	 * in every interval until it is cancelled.
+	 */
+	@Test
+	public void test_schedule_repeat(){
+		final GameClock.Task task = createTask("tick");
+		gameClock.schedule(task, 1, 1);
+		
+		gameClock.advance(3.5f);
+		assertEquals(3, runs.size);
+		assertTrue(task.isScheduled());
+		assertEquals(0.5f, gameClock.getTimeToNextTask(), DELTA);
+		
+		task.cancel();
+		gameClock.advance(3);
+		assertEquals(3, runs.size);
+		assertFalse(task.isScheduled());
+	}
+	
+	/**
+	 * Test for {@link GameClock#advance(float)} method. The task scheduled by a running task is delayed from the
+	 * execute time of the running task, so the result is independent of the frame times.
+	 */
+	@Test
+	public void test_advance_nestedSchedule(){
+		final GameClock.Task second = createTask("second");
+		gameClock.schedule(new GameClock.Task() {
+			
+			@Override
+			public void run() {
+				runs.add("first");
+				gameClock.schedule(second, 1);
+			}
+		}, 1);
+		
+		gameClock.advance(2.5f);
+		assertEquals("[first, second]", runs.toString());
+	}
+	
+	/**
+	 * Test for {@link GameClock#getTimeToNextTask()} method with the pause and the time scale.
+	 */
+	@Test
+	public void test_getTimeToNextTask_pauseAndTimeScale(){
+		gameClock.schedule(createTask("a"), 10);
+		
+		gameClock.pause();
+		assertEquals(GameClock.NO_TASK, gameClock.getTimeToNextTask(), DELTA);
+		
+		gameClock.resume();
+		gameClock.setTimeScale(100);
+		assertEquals(0.1f, gameClock.getTimeToNextTask(), DELTA);
+		
+		gameClock.advance(5);
+		assertEquals(0, runs.size);
+		assertEquals(0.05f, gameClock.getTimeToNextTask(), DELTA);
+		gameClock.advance(5);
+		assertEquals(1, runs.size);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with a task which saves its name at its runs.
+	 * 
+	 * @param name - The name of the task.
+	 */
+	private GameClock.Task createTask(final String name){
+		return new GameClock.Task() {
+			
+			@Override
+			public void run() {
+				runs.add(name);
+			}
+		};
+	}
+	
+}
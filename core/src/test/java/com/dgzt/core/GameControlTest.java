@@ -15,6 +15,8 @@
 package com.dgzt.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +34,7 @@ import com.dgzt.core.gate.RightGate;
 import com.dgzt.core.scoreboard.HalfTimeBoard;
 import com.dgzt.core.scoreboard.ScoreBoard;
 import com.dgzt.core.scoreboard.TimeLeftBoard;
+import com.dgzt.core.setting.BotType;
 import com.dgzt.core.setting.Settings;
 import com.dgzt.core.util.Box2DDataUtil;
 
@@ -91,10 +94,9 @@ public final class GameControlTest extends BaseShapeTester{
 	@Before
 	public void setUp(){
 		final Settings settings = new Settings();
-		final MainWindow mainWindow = Mockito.mock(MainWindow.class);
-		
-		final GameWindow gameWindow = Mockito.mock(GameWindow.class);
-		Mockito.when(mainWindow.getGameWindow()).thenReturn(gameWindow);
+		// The table is mocked, so the bot can not simulate shots.
+		settings.setBotType(BotType.SIMPLE);
+		final GameView gameView = Mockito.mock(GameView.class);
 		
 		scoreBoard = Mockito.mock(ScoreBoard.class);
 		
@@ -141,7 +143,7 @@ public final class GameControlTest extends BaseShapeTester{
 		
 		final EventListener eventListener = Mockito.mock(EventListener.class);
 		
-		gameControl = new GameControl(mainWindow, scoreBoard, table, settings, eventListener);
+		gameControl = new GameControl(gameView, scoreBoard, table, settings, new GameServices(), eventListener);
 	}
 	
 	// --------------------------------------------------
@@ -926,4 +928,156 @@ public final class GameControlTest extends BaseShapeTester{
 		gameControl.allButtonIsStoppedEvent();
 		assertEquals(GameStatus.WAITING_AFTER_OPPONENT, gameControl.getGameStatus());
 	}
+	
+	/**
+	 * Test for the bot which thinks on an other thread. The bot steps when its decision is ready.
+	 */
+	@Test
+	public void test_botDecisionInBackground(){
+		final List<BotDecision> decisions = new ArrayList<BotDecision>();
+		final GameControl asyncGameControl = createGameControlWithBotExecutor(decisions);
+		final Button opponentButton = table.getOpponentButtons().get(0);
+		Mockito.when(scoreBoard.getOpponentTimeLeftBoard().getCurrentTimeSec()).thenReturn(10.0f);
+		
+		startThrowInByOpponent(asyncGameControl);
+		assertEquals(GameStatus.OPPONENT_IN_GAME, asyncGameControl.getGameStatus());
+		assertTrue(asyncGameControl.isBotThinking());
+		assertEquals(1, decisions.size());
+		
+		// The decision is not ready yet
+		asyncGameControl.updateBot();
+		assertEquals(GameStatus.OPPONENT_IN_GAME, asyncGameControl.getGameStatus());
+		Mockito.verify(opponentButton, Mockito.never()).move(Mockito.anyFloat(), Mockito.anyFloat());
+		
+		decisions.get(0).run();
+		asyncGameControl.updateBot();
+		assertEquals(GameStatus.WAITING_AFTER_OPPONENT, asyncGameControl.getGameStatus());
+		assertFalse(asyncGameControl.isBotThinking());
+		Mockito.verify(opponentButton).move(Mockito.anyFloat(), Mockito.anyFloat());
+	}
+	
+	/**
+	 * Test for the bot which thinks too long. The bot steps with the simple shot before its time left ends.
+	 */
+	@Test
+	public void test_botDecisionTimeout(){
+		final List<BotDecision> decisions = new ArrayList<BotDecision>();
+		final GameControl asyncGameControl = createGameControlWithBotExecutor(decisions);
+		final Button opponentButton = table.getOpponentButtons().get(0);
+		Mockito.when(scoreBoard.getOpponentTimeLeftBoard().getCurrentTimeSec()).thenReturn(0.5f);
+		
+		startThrowInByOpponent(asyncGameControl);
+		assertEquals(GameStatus.WAITING_AFTER_OPPONENT, asyncGameControl.getGameStatus());
+		assertTrue(decisions.get(0).isCancelled());
+		Mockito.verify(opponentButton).move(Mockito.anyFloat(), Mockito.anyFloat());
+	}
+	
+	/**
+	 * Test for the player's bot which thinks on an other thread like the bot. The player's bot steps when its decision is ready.
+	 */
+	@Test
+	public void test_playerBotDecisionInBackground(){
+		final List<BotDecision> decisions = new ArrayList<BotDecision>();
+		final Settings settings = new Settings();
+		settings.setPlayerBotType(BotType.SIMPLE);
+		settings.setFirstStep(Player.PLAYER);
+		final GameServices services = new GameServices();
+		services.setBotExecutor(new BotExecutor() {
+			
+			@Override
+			public void execute(final BotDecision decision) {
+				decisions.add(decision);
+			}
+			
+			@Override
+			public void dispose() {
+			}
+		});
+		final MatchEngine matchEngine = new MatchEngine(settings, services, Mockito.mock(GameView.class));
+		final GameControl engineGameControl = matchEngine.getGameControl();
+		
+		engineGameControl.startGame();
+		assertEquals(GameStatus.PLAYER_IN_GAME, engineGameControl.getGameStatus());
+		assertTrue(engineGameControl.isBotThinking());
+		assertEquals(1, decisions.size());
+		assertEquals(0, engineGameControl.getMatchStats().getShots(Player.PLAYER));
+		
+		decisions.get(0).run();
+		engineGameControl.updateBot();
+		assertEquals(GameStatus.WAITING_AFTER_PLAYER, engineGameControl.getGameStatus());
+		assertFalse(engineGameControl.isBotThinking());
+		assertEquals(1, engineGameControl.getMatchStats().getShots(Player.PLAYER));
+		
+		matchEngine.dispose();
+	}
+	
+	/**
+	 * Test for {@link GameControl#createBots()} method. The player's bot of the changed settings steps in the next match.
+	 */
+	@Test
+	public void test_createBots(){
+		final Settings settings = new Settings();
+		settings.setBotType(BotType.SIMPLE);
+		settings.setFirstStep(Player.PLAYER);
+		final MatchEngine matchEngine = new MatchEngine(settings, Mockito.mock(GameView.class));
+		final GameControl engineGameControl = matchEngine.getGameControl();
+		
+		engineGameControl.startGame();
+		assertEquals(GameStatus.PLAYER_IN_GAME, engineGameControl.getGameStatus());
+		engineGameControl.quitGame();
+		
+		settings.setPlayerBotType(BotType.SIMPLE);
+		engineGameControl.createBots();
+		engineGameControl.startGame();
+		assertEquals(1, engineGameControl.getMatchStats().getShots(Player.PLAYER));
+		assertEquals(GameStatus.WAITING_AFTER_PLAYER, engineGameControl.getGameStatus());
+		
+		matchEngine.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Create a game control with a bot executor which only collects the decisions.
+	 * 
+	 * @param decisions - The list of the collected decisions.
+	 */
+	private GameControl createGameControlWithBotExecutor(final List<BotDecision> decisions){
+		final Settings settings = new Settings();
+		settings.setBotType(BotType.SIMPLE);
+		final GameServices services = new GameServices();
+		services.setBotExecutor(new BotExecutor() {
+			
+			@Override
+			public void execute(final BotDecision decision) {
+				decisions.add(decision);
+			}
+			
+			@Override
+			public void dispose() {
+			}
+		});
+		
+		return new GameControl(Mockito.mock(GameView.class), scoreBoard, table, settings, services, Mockito.mock(EventListener.class));
+	}
+	
+	/**
+	 * The ball leaves the map on the top side after the player's step, so the opponent throws in.
+	 * 
+	 * @param actualGameControl - The game control.
+	 */
+	private void startThrowInByOpponent(final GameControl actualGameControl){
+		final Button buttonContactBallLastTime = Mockito.mock(Button.class);
+		table.getPlayerButtons().add(buttonContactBallLastTime);
+		
+		table.getBall().setBox2DPosition(BALL_LEAVED_MAP_TOP.x, BALL_LEAVED_MAP_TOP.y);
+		Mockito.when(table.isBallOnTopBorderOfMap()).thenReturn(Boolean.TRUE);
+		
+		actualGameControl.setGameStatus(GameStatus.WAITING_AFTER_PLAYER);
+		actualGameControl.buttonContactBall(buttonContactBallLastTime);
+		actualGameControl.ballLeaveMapEvent();
+		actualGameControl.allButtonIsStoppedEvent();
+	}
 }
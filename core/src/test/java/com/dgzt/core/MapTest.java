@@ -20,20 +20,10 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mockito;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
-import com.dgzt.core.shape.ArcShape;
-import com.dgzt.core.shape.CircleBorderShape;
-import com.dgzt.core.shape.FilledCircleShape;
-import com.dgzt.core.shape.LineShape;
-import com.dgzt.core.shape.RectangleBorderShape;
 import com.dgzt.core.util.Box2DDataUtil;
 
 /**
@@ -57,44 +47,10 @@ public final class MapTest extends BaseShapeTester{
 	
 	@Before
 	public void setUp(){
-		// Shader
-		final ShaderProgram shader = Mockito.mock(ShaderProgram.class);
-		
 		// Box2D world
 		final World box2DWorld = new World(new Vector2(0,0), true);
 		
-		map = new Map(shader, box2DWorld){
-			
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
-			
-			@Override
-			protected RectangleBorderShape getRectangleBorderShape(final ShaderProgram shader, final Color color) {
-				return Mockito.mock(RectangleBorderShape.class);
-			}
-			
-			@Override
-			protected CircleBorderShape getCircleBorderShape(final ShaderProgram shader, final Color color) {
-				return Mockito.mock(CircleBorderShape.class);
-			}
-			
-			@Override
-			protected LineShape getLineShape(final ShaderProgram shader, final Color color) {
-				return Mockito.mock(LineShape.class);
-			}
-			
-			@Override
-			protected FilledCircleShape getFilledCircleShape(final ShaderProgram shader, final Color color) {
-				return Mockito.mock(FilledCircleShape.class);
-			}
-			
-			@Override
-			protected ArcShape getArcShape(final ShaderProgram shader, final int startDegrees, final int degreesNum, final Color color) {
-				return Mockito.mock(ArcShape.class);
-			}
-		};
+		map = new Map(box2DWorld);
 	}
 	
 	// --------------------------------------------------
@@ -0,0 +1,267 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.scoreboard.TimeLeftBoard;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link MatchEngine}.
+ * 
+ * @author Dgzt
+ */
+public final class MatchEngineTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	private static final int MAX_UPDATES = 60 * 60;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private MatchEngine matchEngine;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		matchEngine = new MatchEngine(new Settings(), Mockito.mock(GameView.class));
+	}
+	
+	/**
+	 * Dispose the engine after the tests.
+	 */
+	@After
+	public void tearDown(){
+		matchEngine.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for the constructor. The whole table is created without any shape.
+	 */
+	@Test
+	public void test_init(){
+		final Table table = matchEngine.getTable();
+		
+		assertEquals(11, table.getPlayerButtons().size());
+		assertEquals(11, table.getOpponentButtons().size());
+		assertEquals(HalfTimeType.NOT_IN_GAME, matchEngine.getScoreBoard().getHalfTimeBoard().getHalfTimeType());
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#update(float)} method when the game is not running.
+	 */
+	@Test
+	public void test_updateNotInGame(){
+		assertEquals(0, matchEngine.update(1.0f));
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#step()} method.
+	 */
+	@Test
+	public void test_step(){
+		final Ball ball = matchEngine.getTable().getBall();
+		ball.setBox2DPosition(50.0f, 50.0f);
+		ball.move(10.0f, 0.0f);
+		
+		matchEngine.step();
+		
+		final Vector2 position = ball.getBox2DPosition();
+		assertTrue(position.x > 50.0f);
+		assertEquals(50.0f, position.y, DELTA);
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#update(float)} method in instant resolve mode.
+	 */
+	@Test
+	public void test_updateInstantResolve(){
+		final GameView gameView = Mockito.mock(GameView.class);
+		final Settings settings = new Settings();
+		settings.setInstantResolve(true);
+		
+		matchEngine.dispose();
+		matchEngine = new MatchEngine(settings, gameView);
+		
+		final GameControl gameControl = matchEngine.getGameControl();
+		final Ball ball = matchEngine.getTable().getBall();
+		matchEngine.getTable().moveBallToCenter();
+		gameControl.resumeGame();
+		
+		ball.move(20.0f, 0.0f);
+		gameControl.playerStepped();
+		assertTrue(gameControl.isInstantResolvePending());
+		
+		// The whole movement is resolved in one update
+		assertTrue(matchEngine.update(0.0f) > 1);
+		assertFalse(ball.isMoving());
+		assertFalse(gameControl.isInstantResolvePending());
+		Mockito.verify(gameView, Mockito.times(1)).showBallArea(Player.PLAYER);
+		
+		// The stopped table is stepped with the frame time again
+		assertEquals(0, matchEngine.update(0.0f));
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#update(float)} method when only one turn is resolved instantly.
+	 */
+	@Test
+	public void test_updateInstantResolveTurn(){
+		final GameControl gameControl = matchEngine.getGameControl();
+		matchEngine.getTable().moveBallToCenter();
+		gameControl.resumeGame();
+		
+		matchEngine.getTable().getBall().move(20.0f, 0.0f);
+		gameControl.setInstantResolveTurn(true);
+		gameControl.playerStepped();
+		assertTrue(matchEngine.update(0.0f) > 1);
+		
+		// The next turn is not resolved instantly
+		gameControl.playerStepped();
+		assertFalse(gameControl.isInstantResolvePending());
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#isAnimating()} method. The engine animates while the bodies are awake after a shot.
+	 */
+	@Test
+	public void test_isAnimating(){
+		final GameControl gameControl = matchEngine.getGameControl();
+		final Ball ball = matchEngine.getTable().getBall();
+		assertFalse(matchEngine.isAnimating());
+		
+		final Table table = matchEngine.getTable();
+		table.moveButtonsToLeftPartOfMap(Player.PLAYER);
+		table.moveButtonsToRightPartOfMap(Player.BOT);
+		table.moveBallToCenter();
+		gameControl.resumeGame();
+		ball.move(20.0f, 0.0f);
+		gameControl.playerStepped();
+		assertTrue(matchEngine.isAnimating());
+		
+		for(int i = 0; i < MAX_UPDATES && matchEngine.isAnimating(); ++i){
+			matchEngine.update(GameConstans.PHYSICS_TIME_STEP);
+		}
+		
+		assertFalse(matchEngine.isAnimating());
+		assertFalse(ball.isMoving());
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#update(float)} method. The countdown of the time left board follows the game clock
+	 * and the turn changes at its end.
+	 */
+	@Test
+	public void test_updateTimeLeft(){
+		final GameControl gameControl = matchEngine.getGameControl();
+		final Table table = matchEngine.getTable();
+		table.moveButtonsToLeftPartOfMap(Player.PLAYER);
+		table.moveButtonsToRightPartOfMap(Player.BOT);
+		table.moveBallToCenter();
+		gameControl.resumeGame();
+		gameControl.setGameStatus(GameStatus.PLAYER_IN_GAME);
+		
+		final TimeLeftBoard playerTimeLeftBoard = matchEngine.getScoreBoard().getPlayerTimeLeftBoard();
+		playerTimeLeftBoard.setMaxTimeLeft(2);
+		playerTimeLeftBoard.start(gameControl);
+		
+		updateFrames(0.25f);
+		assertEquals(1.75f, playerTimeLeftBoard.getCurrentTimeSec(), DELTA);
+		
+		// The paused game does not count down.
+		gameControl.pauseGame();
+		updateFrames(0.25f);
+		assertEquals(1.75f, playerTimeLeftBoard.getCurrentTimeSec(), DELTA);
+		gameControl.resumeGame();
+		
+		// The idle turn is not rendered continuously when the bodies sleep, the next frame comes at the next step of the line.
+		updateFrames(1);
+		assertEquals(0.75f, playerTimeLeftBoard.getCurrentTimeSec(), DELTA);
+		assertFalse(matchEngine.isAnimating());
+		assertEquals(0.05f, matchEngine.getTimeToNextEvent(), DELTA);
+		
+		updateFrames(1);
+		assertFalse(playerTimeLeftBoard.isVisible());
+		
+		// The bot can step already in the same update.
+		final GameStatus gameStatus = gameControl.getGameStatus();
+		assertTrue(gameStatus == GameStatus.OPPONENT_IN_GAME || gameStatus == GameStatus.WAITING_AFTER_OPPONENT);
+	}
+	
+	/**
+	 * Test for {@link MatchEngine#update(float)} method. A too long frame performs at most the max sub steps ticks
+	 * and the rest of it is dropped.
+	 */
+	@Test
+	public void test_updateMaxSubSteps(){
+		final GameControl gameControl = matchEngine.getGameControl();
+		final Table table = matchEngine.getTable();
+		table.moveButtonsToLeftPartOfMap(Player.PLAYER);
+		table.moveButtonsToRightPartOfMap(Player.BOT);
+		table.moveBallToCenter();
+		gameControl.resumeGame();
+		gameControl.setGameStatus(GameStatus.PLAYER_IN_GAME);
+		
+		final GameClock gameClock = gameControl.getGameClock();
+		final float startTime = gameClock.getTime();
+		
+		matchEngine.update(1);
+		assertEquals(GameConstans.DEFAULT_MAX_SUB_STEPS * GameConstans.PHYSICS_TIME_STEP, gameClock.getTime() - startTime, DELTA);
+		
+		matchEngine.update(0);
+		assertEquals(GameConstans.DEFAULT_MAX_SUB_STEPS * GameConstans.PHYSICS_TIME_STEP, gameClock.getTime() - startTime, DELTA);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Update the engine with the frames of the physics time step for the given time.
+	 * 
+	 * @param time - The time in second.
+	 */
+	private void updateFrames(final float time){
+		final int frames = Math.round(time / GameConstans.PHYSICS_TIME_STEP);
+		for(int i = 0; i < frames; ++i){
+			matchEngine.update(GameConstans.PHYSICS_TIME_STEP);
+		}
+	}
+
+}
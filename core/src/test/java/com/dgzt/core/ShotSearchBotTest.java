@@ -0,0 +1,266 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.gate.AbstractGate;
+import com.dgzt.core.setting.Settings;
+import com.dgzt.core.util.Box2DDataUtil;
+
+/**
+ * Test for {@link ShotSearchBot} and {@link ShotSimulator}.
+ * 
+ * @author Dgzt
+ */
+public final class ShotSearchBotTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	private static final float BUTTON_DISTANCE = 8.0f;
+	
+	private static final float SHOT_SPEED = 100.0f;
+	
+	private static final float OVERLAP = 0.01f;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private MatchEngine matchEngine;
+	
+	private ShotSimulator shotSimulator;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests. The buttons stand in a row on the top of the map, 
+	 * the ball and the first opponent's button stand in front of the left gate.
+	 */
+	@Before
+	public void setUp(){
+		matchEngine = new MatchEngine(new Settings(), Mockito.mock(GameView.class));
+		shotSimulator = new ShotSimulator(new Settings());
+		
+		final Table table = matchEngine.getTable();
+		float box2DX = Box2DDataUtil.MAP_RECTANGLE.x + BUTTON_DISTANCE;
+		final float box2DY = Box2DDataUtil.MAP_RECTANGLE.y + BUTTON_DISTANCE;
+		
+		for(final Button button : table.getPlayerButtons()){
+			button.setBox2DPosition(box2DX, box2DY);
+			box2DX += BUTTON_DISTANCE;
+		}
+		
+		for(final Button button : table.getOpponentButtons()){
+			button.setBox2DPosition(box2DX, box2DY);
+			box2DX += BUTTON_DISTANCE;
+		}
+		
+		final AbstractGate leftGate = table.getLeftGate();
+		final float ballBox2DX = Box2DDataUtil.MAP_RECTANGLE.x + BUTTON_DISTANCE * 2;
+		final float ballBox2DY = leftGate.getBox2DY() + AbstractGate.HEIGHT / 2;
+		
+		table.getBall().setBox2DPosition(ballBox2DX, ballBox2DY);
+		table.getOpponentButtons().get(0).setBox2DPosition(ballBox2DX + BUTTON_DISTANCE, ballBox2DY);
+	}
+	
+	/**
+	 * Dispose the worlds after the tests.
+	 */
+	@After
+	public void tearDown(){
+		shotSimulator.dispose();
+		matchEngine.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link ShotSimulator#simulate(TableSnapshot, ShotCandidate, boolean)} method without any movement.
+	 */
+	@Test
+	public void test_simulate_withoutMove(){
+		final TableSnapshot snapshot = createSnapshot();
+		final ShotCandidate candidate = new ShotCandidate();
+		candidate.set(0, 0.0f, 0.0f);
+		
+		// Only the missing ball contact is punished
+		assertEquals(-50.0f, shotSimulator.simulate(snapshot, candidate, true), DELTA);
+	}
+	
+	/**
+	 * Test for {@link ShotSimulator#simulate(TableSnapshot, ShotCandidate, boolean)} method with a shot into the left gate.
+	 */
+	@Test
+	public void test_simulate_goal(){
+		final TableSnapshot snapshot = createSnapshot();
+		final ShotCandidate candidate = new ShotCandidate();
+		candidate.set(0, -SHOT_SPEED, 0.0f);
+		
+		assertTrue(shotSimulator.simulate(snapshot, candidate, true) > 500.0f);
+		assertTrue(shotSimulator.simulate(snapshot, candidate, false) < -500.0f);
+		
+		// The table of the match is not moved by the simulation
+		final Button shooter = matchEngine.getTable().getOpponentButtons().get(0);
+		assertEquals(Box2DDataUtil.MAP_RECTANGLE.x + BUTTON_DISTANCE * 3, shooter.getBox2DX(), DELTA);
+	}
+	
+	/**
+	 * Test for {@link ShotSimulator#simulate(TableSnapshot, ShotCandidate, boolean)} method with touching buttons of the two players.
+	 * The contacts of the previous simulation are not kept, so every simulation finds the fault.
+	 */
+	@Test
+	public void test_simulate_touchingButtons(){
+		final Table table = matchEngine.getTable();
+		final List<Button> opponentButtons = table.getOpponentButtons();
+		final Button opponentButton = opponentButtons.get(opponentButtons.size() - 1);
+		table.getPlayerButtons().get(0).setBox2DPosition(opponentButton.getBox2DX(), opponentButton.getBox2DY() + Button.DIAMETER - OVERLAP);
+		
+		final TableSnapshot snapshot = createSnapshot();
+		final ShotCandidate candidate = new ShotCandidate();
+		candidate.set(0, -SHOT_SPEED, 0.0f);
+		
+		final float score = shotSimulator.simulate(snapshot, candidate, true);
+		assertEquals(score, shotSimulator.simulate(snapshot, candidate, true), DELTA);
+	}
+	
+	/**
+	 * Test for {@link ShotSimulator#simulate(TableSnapshot, ShotCandidate, boolean)} method with touching buttons of the two players out of the map.
+	 * Like in the game, it is not a fault.
+	 */
+	@Test
+	public void test_simulate_touchingButtonsOutOfMap(){
+		final ShotCandidate candidate = new ShotCandidate();
+		candidate.set(0, -SHOT_SPEED, 0.0f);
+		final float score = shotSimulator.simulate(createSnapshot(), candidate, true);
+		
+		final Table table = matchEngine.getTable();
+		final List<Button> opponentButtons = table.getOpponentButtons();
+		final Button opponentButton = opponentButtons.get(opponentButtons.size() - 1);
+		final float box2DY = Box2DDataUtil.MAP_RECTANGLE.y - Button.DIAMETER;
+		opponentButton.setBox2DPosition(opponentButton.getBox2DX(), box2DY);
+		table.getPlayerButtons().get(0).setBox2DPosition(opponentButton.getBox2DX() + Button.DIAMETER - OVERLAP, box2DY);
+		
+		assertEquals(score, shotSimulator.simulate(createSnapshot(), candidate, true), DELTA);
+	}
+	
+	/**
+	 * Test for {@link ShotSearchBot#step()} method with zero thinking time.
+	 */
+	@Test
+	public void test_step(){
+		final ShotEvaluator shotEvaluator = Mockito.mock(ShotEvaluator.class);
+		final ShotSearchBot bot = new ShotSearchBot(matchEngine.getTable(), 0, shotEvaluator){
+			
+			@Override
+			protected Player whoIsOnLeftSide() {
+				return Player.PLAYER;
+			}
+		};
+		
+		bot.step();
+		
+		// One batch is evaluated
+		Mockito.verify(shotEvaluator).evaluate(Matchers.any(TableSnapshot.class), Matchers.any(ShotCandidate[].class), Matchers.eq(0), Matchers.eq(8), Matchers.eq(true));
+		
+		// Every score is zero so the nearest button shoots to the ball
+		matchEngine.step();
+		
+		final List<Button> opponentButtons = matchEngine.getTable().getOpponentButtons();
+		final Ball ball = matchEngine.getTable().getBall();
+		final Vector2 shooterPosition = opponentButtons.get(0).getBox2DPosition();
+		assertTrue(shooterPosition.x < ball.getBox2DX() + BUTTON_DISTANCE);
+		
+		for(int i = 1; i < opponentButtons.size(); ++i){
+			assertFalse(opponentButtons.get(i).isMoving());
+		}
+	}
+	
+	/**
+	 * Test for {@link ShotSearchBot#setSeed(long)} method. The bots with the same seed try the same random shots.
+	 */
+	@Test
+	public void test_setSeed(){
+		final ShotCandidate[] candidates = createRandomShots(1);
+		final ShotCandidate[] sameSeedCandidates = createRandomShots(1);
+		final ShotCandidate[] otherSeedCandidates = createRandomShots(2);
+		
+		boolean differs = false;
+		for(int i = 1; i < candidates.length; ++i){
+			assertEquals(candidates[i].getButtonIndex(), sameSeedCandidates[i].getButtonIndex());
+			assertEquals(candidates[i].getVelocityX(), sameSeedCandidates[i].getVelocityX(), DELTA);
+			assertEquals(candidates[i].getVelocityY(), sameSeedCandidates[i].getVelocityY(), DELTA);
+			
+			differs |= candidates[i].getVelocityX() != otherSeedCandidates[i].getVelocityX();
+		}
+		assertTrue(differs);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the evaluated shots of the first batch of a seeded bot with zero thinking time.
+	 * 
+	 * @param seed - The seed of the bot.
+	 */
+	private ShotCandidate[] createRandomShots(final long seed){
+		final ShotEvaluator shotEvaluator = Mockito.mock(ShotEvaluator.class);
+		final ShotSearchBot bot = new ShotSearchBot(matchEngine.getTable(), 0, shotEvaluator){
+			
+			@Override
+			protected Player whoIsOnLeftSide() {
+				return Player.PLAYER;
+			}
+		};
+		bot.setSeed(seed);
+		bot.createDecision().run();
+		
+		final ArgumentCaptor<ShotCandidate[]> candidates = ArgumentCaptor.forClass(ShotCandidate[].class);
+		Mockito.verify(shotEvaluator).evaluate(Matchers.any(TableSnapshot.class), candidates.capture(), Matchers.eq(0), Matchers.eq(8), Matchers.eq(true));
+		
+		return candidates.getValue();
+	}
+	
+	private TableSnapshot createSnapshot(){
+		final Table table = matchEngine.getTable();
+		final TableSnapshot snapshot = new TableSnapshot(table);
+		table.saveSnapshot(snapshot);
+		
+		return snapshot;
+	}
+	
+}
@@ -0,0 +1,183 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.setting.Settings;
+import com.dgzt.core.shape.ShapeBatch;
+import com.dgzt.core.util.Box2DDataUtil;
+
+/**
+ * Test for {@link TableShape}.
+ * 
+ * @author Dgzt
+ */
+public final class TableShapeTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	private static final float X = 20f;
+	private static final float Y = 30f;
+	private static final double SCALE = 5d;
+	
+	private static final int WARM_UP_FRAME_NUM = 200;
+	private static final int FRAME_NUM = 100;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private MatchEngine matchEngine;
+	
+	private ShapeBatch shapeBatch;
+	
+	private TableShape tableShape;
+	
+	private int frame;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		matchEngine = new MatchEngine(new Settings(), Mockito.mock(GameView.class));
+		
+		final Table table = matchEngine.getTable();
+		table.moveButtonsToLeftPartOfMap(Player.PLAYER);
+		table.moveButtonsToRightPartOfMap(Player.BOT);
+		table.moveBallToCenter();
+		table.setVisibleButtons(true);
+		
+		// The batch does not upload and draw anything, so the frames do not need GL.
+		shapeBatch = new ShapeBatch(Mockito.mock(ShaderProgram.class)){
+			@Override
+			protected Mesh createMesh(final boolean isStatic, final int verticesNum, final int maxIndices) {
+				return isStatic ? Mockito.mock(Mesh.class) : null;
+			}
+			
+			@Override
+			protected void renderTriangles(final float[] batchVertices, final int vertexFloatNum, final short[] batchIndices, final int batchIndexNum) {
+			}
+			
+			@Override
+			protected void renderMesh(final Mesh renderedMesh, final int renderedIndexNum) {
+			}
+		};
+		
+		tableShape = new TableShape(shapeBatch, table);
+		final Rectangle tableRectangle = Box2DDataUtil.TABLE_RECTANGLE;
+		tableShape.resize(X, Y, (float)(tableRectangle.width * SCALE), (float)(tableRectangle.height * SCALE), SCALE);
+		
+		frame = 0;
+	}
+	
+	/**
+	 * Dispose the engine after the tests.
+	 */
+	@After
+	public void tearDown(){
+		tableShape.dispose();
+		matchEngine.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link TableShape#screenPositionToBox2DPosition(float, float)} method.
+	 */
+	@Test
+	public void test_screenPositionToBox2DPosition(){
+		final Vector2 box2DPosition = tableShape.screenPositionToBox2DPosition((float)(X + 10 * SCALE), (float)(Y + 4 * SCALE));
+		
+		assertEquals(10f, box2DPosition.x, DELTA);
+		assertEquals(4f, box2DPosition.y, DELTA);
+	}
+	
+	/**
+	 * Test for {@link TableShape#draw()} method. The steady-state frames with moving ball and hit tests allocate nothing.
+	 */
+	@Test
+	public void test_draw_noAllocation(){
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long threadId = Thread.currentThread().getId();
+		
+		for(int i = 0; i < WARM_UP_FRAME_NUM; ++i){
+			drawFrame();
+		}
+		
+		// The cost of the measurement itself
+		final long emptyStart = threadMXBean.getThreadAllocatedBytes(threadId);
+		final long emptyEnd = threadMXBean.getThreadAllocatedBytes(threadId);
+		
+		final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+		for(int i = 0; i < FRAME_NUM; ++i){
+			drawFrame();
+		}
+		final long end = threadMXBean.getThreadAllocatedBytes(threadId);
+		
+		final long allocatedBytes = (end - start) - (emptyEnd - emptyStart);
+		assertTrue("The frames allocated " + allocatedBytes + " bytes.", allocatedBytes <= 0);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Draw one frame: move the ball, draw the table and check the mouse position.
+	 */
+	private void drawFrame(){
+		final Ball ball = matchEngine.getTable().getBall();
+		final Rectangle tableRectangle = Box2DDataUtil.TABLE_RECTANGLE;
+		ball.setBox2DPosition(tableRectangle.width / 2 + frame % 10, tableRectangle.height / 2);
+		++frame;
+		
+		tableShape.setInterpolationAlpha(0.5f);
+		tableShape.draw();
+		
+		final Vector2 box2DPosition = tableShape.screenPositionToBox2DPosition((float)(X + frame % 50), Y + 100);
+		final List<Button> playerButtons = matchEngine.getTable().getPlayerButtons();
+		for(int i = 0; i < playerButtons.size(); ++i){
+			playerButtons.get(i).contains(box2DPosition.x, box2DPosition.y);
+		}
+		
+		shapeBatch.flush();
+	}
+	
+}
@@ -0,0 +1,177 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.math.Vector2;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.scoreboard.ScoreBoard;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link TableSnapshot}.
+ * 
+ * @author Dgzt
+ */
+public final class TableSnapshotTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	private static final int STEP_NUM = 30;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private MatchEngine matchEngine;
+	
+	private TableSnapshot snapshot;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		matchEngine = new MatchEngine(new Settings(), Mockito.mock(GameView.class));
+		snapshot = new TableSnapshot(matchEngine.getTable());
+		
+		final Table table = matchEngine.getTable();
+		table.moveButtonsToLeftPartOfMap(Player.PLAYER);
+		table.moveButtonsToRightPartOfMap(Player.BOT);
+		table.moveBallToCenter();
+	}
+	
+	/**
+	 * Dispose the engine after the tests.
+	 */
+	@After
+	public void tearDown(){
+		matchEngine.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link Table#restoreSnapshot(TableSnapshot)} method.
+	 */
+	@Test
+	public void test_restoreBodies(){
+		final Ball ball = matchEngine.getTable().getBall();
+		ball.move(0.0f, 10.0f);
+		matchEngine.step();
+		
+		final Vector2 savedPosition = ball.getBox2DPosition();
+		matchEngine.getGameControl().saveSnapshot(snapshot);
+		
+		for(int i = 0; i < STEP_NUM; ++i){
+			matchEngine.step();
+		}
+		final Vector2 firstRunPosition = ball.getBox2DPosition();
+		
+		matchEngine.getGameControl().restoreSnapshot(snapshot);
+		assertEquals(savedPosition.x, ball.getBox2DX(), DELTA);
+		assertEquals(savedPosition.y, ball.getBox2DY(), DELTA);
+		assertTrue(ball.isMoving());
+		
+		// The same steps give the same position again
+		for(int i = 0; i < STEP_NUM; ++i){
+			matchEngine.step();
+		}
+		assertEquals(firstRunPosition.x, ball.getBox2DX(), DELTA);
+		assertEquals(firstRunPosition.y, ball.getBox2DY(), DELTA);
+	}
+	
+	/**
+	 * Test for {@link GameControl#restoreSnapshot(TableSnapshot)} method.
+	 */
+	@Test
+	public void test_restoreGameState(){
+		final GameControl gameControl = matchEngine.getGameControl();
+		final ScoreBoard scoreBoard = matchEngine.getScoreBoard();
+		final Table table = matchEngine.getTable();
+		
+		gameControl.setGameStatus(GameStatus.WAITING_AFTER_OPPONENT);
+		scoreBoard.getPlayerGoalBoard().setNumber(2);
+		scoreBoard.getOpponentGoalBoard().setNumber(1);
+		scoreBoard.getHalfTimeBoard().setHalfTimeType(HalfTimeType.SECOND_HALF);
+		gameControl.buttonContactBall(table.getOpponentButtons().get(4));
+		gameControl.saveSnapshot(snapshot);
+		
+		gameControl.setGameStatus(GameStatus.PLAYER_IN_GAME);
+		scoreBoard.getPlayerGoalBoard().setNumber(3);
+		scoreBoard.getOpponentGoalBoard().setNumber(0);
+		scoreBoard.getHalfTimeBoard().setHalfTimeType(HalfTimeType.FIRST_HALF);
+		gameControl.allButtonIsStoppedEvent();
+		
+		gameControl.restoreSnapshot(snapshot);
+		
+		assertEquals(GameStatus.WAITING_AFTER_OPPONENT, gameControl.getGameStatus());
+		assertEquals(2, scoreBoard.getPlayerGoalBoard().getNumber());
+		assertEquals(1, scoreBoard.getOpponentGoalBoard().getNumber());
+		assertEquals(HalfTimeType.SECOND_HALF, scoreBoard.getHalfTimeBoard().getHalfTimeType());
+		assertFalse(table.getBall().isMoving());
+		
+		// The restored contact button is saved again with the same index
+		final TableSnapshot restoredSnapshot = new TableSnapshot(table);
+		gameControl.saveSnapshot(restoredSnapshot);
+		assertEquals(table.getPlayerButtons().size() + 4, restoredSnapshot.getButtonContactBallLastTimeIndex());
+	}
+	
+	/**
+	 * Test for {@link GameControl#restoreSnapshot(TableSnapshot)} and {@link GameControl#restartBots()} methods.
+	 * The restoring does not start the bots, they step only when they are restarted.
+	 */
+	@Test
+	public void test_restoreSnapshot_playerBot(){
+		final GameControl gameControl = matchEngine.getGameControl();
+		gameControl.setGameStatus(GameStatus.PLAYER_IN_GAME);
+		gameControl.saveSnapshot(snapshot);
+		
+		final Settings settings = new Settings();
+		settings.setPlayerBotType(BotType.SIMPLE);
+		settings.setFirstStep(Player.BOT);
+		final MatchEngine botEngine = new MatchEngine(settings, Mockito.mock(GameView.class));
+		final GameControl botControl = botEngine.getGameControl();
+		botControl.startGame();
+		
+		botControl.restoreSnapshot(snapshot);
+		assertEquals(GameStatus.PLAYER_IN_GAME, botControl.getGameStatus());
+		assertEquals(0, botControl.getMatchStats().getShots(Player.PLAYER));
+		
+		botControl.restartBots();
+		assertEquals(1, botControl.getMatchStats().getShots(Player.PLAYER));
+		assertEquals(GameStatus.WAITING_AFTER_PLAYER, botControl.getGameStatus());
+		
+		botEngine.dispose();
+	}
+
+}
@@ -25,10 +25,6 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -50,8 +46,7 @@ public final class TableTest extends BaseShapeTester{
 	// ~ Private static members
 	// --------------------------------------------------
 	
-	private static final Rectangle TABLE_RECTANGLE = new Rectangle(100.0f, 200.0f, 80.0f, 60.0f);
-	private static final double SCALE = 1.0f;
+	private static final Rectangle TABLE_RECTANGLE = Box2DDataUtil.TABLE_RECTANGLE;
 	private static final float DISTANCE = 11.0f;
 	private static final Rectangle MAP_BOX2D_RECTANGLE = Box2DDataUtil.MAP_RECTANGLE;
 	private static final Vector2 MAP_LEFT_GOAL_KICK_BOX2D_POSITION = new Vector2(MAP_BOX2D_RECTANGLE.x + DISTANCE, MAP_BOX2D_RECTANGLE.y + MAP_BOX2D_RECTANGLE.height / 2);
@@ -63,6 +58,8 @@ public final class TableTest extends BaseShapeTester{
 	
 	private Table table;
 	
+	private EventListener eventListener;
+	
 	// --------------------------------------------------
 	// ~ Init methods
 	// --------------------------------------------------
@@ -72,14 +69,11 @@ public final class TableTest extends BaseShapeTester{
 	 */
 	@Before
 	public void setUp(){
-		// Shader
-		final ShaderProgram shader = Mockito.mock(ShaderProgram.class);
-		
 		// Box2D world
 		final World box2DWorld = new World(new Vector2(0,0), true);
 		
 		// Event Listener
-		final EventListener eventListener = Mockito.mock(EventListener.class);
+		eventListener = Mockito.mock(EventListener.class);
 		
 		// Map
 		final Map map = Mockito.mock(Map.class);
@@ -90,35 +84,30 @@ public final class TableTest extends BaseShapeTester{
 		Mockito.when(map.getLeftGoalKickBox2DPosition()).thenReturn(MAP_LEFT_GOAL_KICK_BOX2D_POSITION);
 		Mockito.when(map.getRightGoalKickBox2DPosition()).thenReturn(MAP_RIGHT_GOAL_KICK_BOX2D_POSITION);
 		
-		table = new Table(shader, box2DWorld, eventListener){
-			
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
+		table = new Table(box2DWorld, eventListener){
 			
 			@Override
-			protected Map createMap(final ShaderProgram shader, final World box2dWorld) {
+			protected Map createMap(final World box2dWorld) {
 				return map;
 			}
 			
 			@Override
-			protected LeftGate createLeftGate(final ShaderProgram shader, final World box2dWorld) {
+			protected LeftGate createLeftGate(final World box2dWorld) {
 				return Mockito.mock(LeftGate.class);
 			}
 			
 			@Override
-			protected RightGate createRightGate(final ShaderProgram shader, final World box2dWorld) {
+			protected RightGate createRightGate(final World box2dWorld) {
 				return Mockito.mock(RightGate.class);
 			}
 			
 			@Override
-			protected Button createButton(final ShaderProgram shader, final EventListener eventListener, final World box2dWorld, final Color color) {
+			protected Button createButton(final World box2dWorld) {
 				return getMockButton();
 			}
 			
 			@Override
-			protected Ball createBall(final ShaderProgram shader, final EventListener eventListener, final World box2dWorld) {
+			protected Ball createBall(final World box2dWorld) {
 				return getMockBall();
 			}
 		};
@@ -571,13 +560,12 @@ public final class TableTest extends BaseShapeTester{
 	}
 
 	/**
-	 * Test for {@link Table#isButtonPositionOnTable(float, float)} method.
+	 * Test for {@link Table#isButtonPositionOnTable(Vector2)} method.
 	 */
 	@Test
 	public void test_isButtonPositionOnTable(){
-		table.resize(TABLE_RECTANGLE.x, TABLE_RECTANGLE.y, TABLE_RECTANGLE.width, TABLE_RECTANGLE.height, SCALE);
-		final float width = (float) (TABLE_RECTANGLE.width * SCALE);
-		final float height = (float) (TABLE_RECTANGLE.height * SCALE);
+		final float width = TABLE_RECTANGLE.width;
+		final float height = TABLE_RECTANGLE.height;
 		
 		// The correct
 		assertTrue(table.isButtonPositionOnTable(new Vector2(TABLE_RECTANGLE.x + DISTANCE, TABLE_RECTANGLE.y + DISTANCE)));
@@ -652,4 +640,18 @@ public final class TableTest extends BaseShapeTester{
 		table.getBall().setBox2DPosition(rightPenaltyPosition);
 		assertTrue(table.isBallOnRightPenaltyPosition());
 	}
+	
+	/**
+	 * Test for {@link Table#updateBox2DPositions()} method.
+	 */
+	@Test
+	public void test_updateBox2DPositions(){
+		Mockito.when(table.getPlayerButtons().get(0).updateBox2DPosition()).thenReturn(true);
+		Mockito.when(table.getOpponentButtons().get(3).updateBox2DPosition()).thenReturn(true);
+		Mockito.when(table.getBall().updateBox2DPosition()).thenReturn(true);
+		
+		table.updateBox2DPositions();
+		
+		Mockito.verify(eventListener).movingButtonsUpdated(3);
+	}
 }
@@ -0,0 +1,86 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.dgzt.core.replay.TraceRecorder;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link WorldStepper}.
+ * 
+ * @author Dgzt
+ */
+public final class WorldStepperTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private Table table;
+	
+	private TraceRecorder traceRecorder;
+	
+	private WorldStepper worldStepper;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		traceRecorder = Mockito.mock(TraceRecorder.class);
+		final Settings settings = new Settings();
+		
+		final World box2DWorld = new World(new Vector2(0, 0), true);
+		table = Mockito.mock(Table.class);
+		
+		worldStepper = new WorldStepper(box2DWorld, table, settings, traceRecorder);
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link WorldStepper#step()} method. The positions are updated and recorded after every step.
+	 */
+	@Test
+	public void test_step(){
+		worldStepper.step();
+		worldStepper.step();
+		
+		Mockito.verify(table, Mockito.times(2)).updateBox2DPositions();
+		Mockito.verify(traceRecorder, Mockito.times(2)).record(table);
+	}
+	
+	/**
+	 * Test for {@link WorldStepper#dispose()} method. The trace recorder is closed.
+	 */
+	@Test
+	public void test_dispose(){
+		worldStepper.dispose();
+		
+		Mockito.verify(traceRecorder).close();
+	}
+}
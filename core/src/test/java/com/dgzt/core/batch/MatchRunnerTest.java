@@ -0,0 +1,133 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.utils.Array;
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.GameView;
+import com.dgzt.core.MatchEngine;
+import com.dgzt.core.MatchStats;
+import com.dgzt.core.Player;
+import com.dgzt.core.replay.Replay;
+import com.dgzt.core.replay.ReplayPlayer;
+import com.dgzt.core.replay.ReplayRecorder;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link MatchRunner}.
+ * 
+ * @author Dgzt
+ */
+public final class MatchRunnerTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	private static final int HALF_TIME = 30;
+	
+	private static final int MAX_UPDATES = 10 * 60 * 60;
+	
+	private static final float PLAYBACK_FRAME_TIME = 0.05f;
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link MatchRunner#play(Player, long)} method. Both bots step in the match, and the next match starts from zero goals.
+	 */
+	@Test
+	public void test_play(){
+		final MatchRunner matchRunner = new MatchRunner(createSettings());
+		
+		for(final Player firstStep : Player.values()){
+			final MatchResult result = matchRunner.play(firstStep, firstStep.ordinal());
+			final MatchStats matchStats = result.getMatchStats();
+			
+			assertTrue(result.isFinished());
+			assertEquals(firstStep, result.getFirstStep());
+			assertTrue(matchStats.getShots(Player.PLAYER) > 0);
+			assertTrue(matchStats.getShots(Player.BOT) > 0);
+		}
+		
+		matchRunner.dispose();
+	}
+	
+	/**
+	 * Test for the bot of the player. The replay of a match between two bots ends with the same result.
+	 */
+	@Test
+	public void test_playerBot_replay(){
+		final Array<Replay> replays = new Array<Replay>();
+		final Settings settings = createSettings();
+		final GameServices services = new GameServices();
+		services.setReplayRecorder(new ReplayRecorder() {
+			
+			@Override
+			public void save(final Replay replay) {
+				replays.add(replay);
+			}
+		});
+		
+		final MatchEngine matchEngine = new MatchEngine(settings, services, Mockito.mock(GameView.class));
+		matchEngine.getGameControl().startGame();
+		for(int i = 0; i < MAX_UPDATES && matchEngine.getGameControl().isInGame(); ++i){
+			matchEngine.tick();
+		}
+		assertEquals(1, replays.size);
+		
+		final ReplayPlayer replayPlayer = new ReplayPlayer(replays.first(), Mockito.mock(GameView.class));
+		replayPlayer.start();
+		for(int i = 0; i < MAX_UPDATES && !replayPlayer.isFinished(); ++i){
+			replayPlayer.update(PLAYBACK_FRAME_TIME);
+		}
+		
+		assertTrue(replayPlayer.isFinished());
+		assertEquals(matchEngine.getScoreBoard().getPlayerGoalBoard().getNumber(), replayPlayer.getMatchEngine().getScoreBoard().getPlayerGoalBoard().getNumber());
+		assertEquals(matchEngine.getScoreBoard().getOpponentGoalBoard().getNumber(), replayPlayer.getMatchEngine().getScoreBoard().getOpponentGoalBoard().getNumber());
+		assertEquals(matchEngine.getTable().getBall().getBox2DX(), replayPlayer.getMatchEngine().getTable().getBall().getBox2DX(), DELTA);
+		assertEquals(matchEngine.getTable().getBall().getBox2DY(), replayPlayer.getMatchEngine().getTable().getBall().getBox2DY(), DELTA);
+		
+		// The player's shots are given only from the inputs, the bot of the player does not step in the replay.
+		final MatchStats replayStats = replayPlayer.getMatchEngine().getGameControl().getMatchStats();
+		assertEquals(matchEngine.getGameControl().getMatchStats().getShots(Player.PLAYER), replayStats.getShots(Player.PLAYER));
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the settings of a short match between two simple bots.
+	 */
+	private Settings createSettings(){
+		final Settings settings = new Settings();
+		settings.setBotType(BotType.SIMPLE);
+		settings.setPlayerBotType(BotType.SIMPLE);
+		settings.setHalfTime(HALF_TIME);
+		
+		return settings;
+	}
+	
+}
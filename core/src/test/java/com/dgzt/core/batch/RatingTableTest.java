@@ -0,0 +1,115 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.Player;
+
+/**
+ * Test for {@link RatingTable}.
+ * 
+ * @author Dgzt
+ */
+public final class RatingTableTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link RatingTable#add(TournamentGame)} method. The winner gets the points which the loser loses.
+	 */
+	@Test
+	public void test_add(){
+		final RatingTable ratingTable = new RatingTable(2);
+		
+		ratingTable.add(createGame(0, 1, 2, 1));
+		assertEquals(RatingTable.INITIAL_RATING + 8, ratingTable.getRating(0), DELTA);
+		assertEquals(RatingTable.INITIAL_RATING - 8, ratingTable.getRating(1), DELTA);
+		
+		// The draw moves the ratings closer.
+		ratingTable.add(createGame(1, 0, 0, 0));
+		assertTrue(ratingTable.getRating(0) < RatingTable.INITIAL_RATING + 8);
+		assertEquals(2 * RatingTable.INITIAL_RATING, ratingTable.getRating(0) + ratingTable.getRating(1), DELTA);
+		
+		assertEquals(1, ratingTable.getWins(0));
+		assertEquals(1, ratingTable.getDraws(0));
+		assertEquals(0, ratingTable.getLosses(0));
+		assertEquals(1, ratingTable.getLosses(1));
+		assertEquals(2, ratingTable.getGameNum(1));
+		assertEquals(1.5, ratingTable.getScore(0), DELTA);
+		assertEquals(0.5, ratingTable.getScore(1), DELTA);
+	}
+	
+	/**
+	 * Test for {@link RatingTable#getRanking()} method. The contestants with the same rating are in the order of their indices.
+	 */
+	@Test
+	public void test_getRanking(){
+		final RatingTable ratingTable = new RatingTable(4);
+		
+		ratingTable.add(createGame(2, 1, 1, 0));
+		
+		assertArrayEquals(new int[]{2, 0, 3, 1}, ratingTable.getRanking());
+	}
+	
+	/**
+	 * Test for {@link RatingTable#getErrorMargin(int)} method.
+	 */
+	@Test
+	public void test_getErrorMargin(){
+		final RatingTable ratingTable = new RatingTable(2);
+		assertTrue(Double.isInfinite(ratingTable.getErrorMargin(0)));
+		
+		// Only wins give no interval.
+		ratingTable.add(createGame(0, 1, 1, 0));
+		assertTrue(Double.isInfinite(ratingTable.getErrorMargin(0)));
+		
+		// The score is 50% from 20 games, its 95% interval is between 28% and 72%.
+		for(int i = 0; i < 10; ++i){
+			ratingTable.add(createGame(0, 1, 0, 1));
+		}
+		for(int i = 0; i < 9; ++i){
+			ratingTable.add(createGame(0, 1, 1, 0));
+		}
+		assertEquals(163.32, ratingTable.getErrorMargin(0), 0.01);
+		assertEquals(163.32, ratingTable.getErrorMargin(1), 0.01);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with a played game.
+	 * 
+	 * @param home - The index of the home contestant.
+	 * @param away - The index of the away contestant.
+	 * @param homeGoals - The number of the home contestant's goals.
+	 * @param awayGoals - The number of the away contestant's goals.
+	 */
+	private TournamentGame createGame(final int home, final int away, final int homeGoals, final int awayGoals){
+		final TournamentGame game = new TournamentGame(0, home, away, Player.PLAYER);
+		game.setResult(homeGoals, awayGoals);
+		return game;
+	}
+	
+}
@@ -0,0 +1,190 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.Player;
+import com.dgzt.core.setting.BotType;
+
+/**
+ * Test for {@link Tournament}.
+ * 
+ * @author Dgzt
+ */
+public final class TournamentTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link Tournament#createRound()} method with round robin pairing.
+	 * Every contestant plays once at home with every other contestant and the first step alternates by round.
+	 */
+	@Test
+	public void test_createRound_roundRobin(){
+		final Tournament tournament = new Tournament(createContestants(3), PairingType.ROUND_ROBIN, 2);
+		
+		final List<TournamentGame> roundGames = tournament.createRound();
+		assertEquals(6, roundGames.size());
+		
+		final boolean[][] pairs = new boolean[3][3];
+		for(final TournamentGame game : roundGames){
+			assertFalse(pairs[game.getHome()][game.getAway()]);
+			pairs[game.getHome()][game.getAway()] = true;
+			assertEquals(Player.PLAYER, game.getFirstStep());
+		}
+		
+		playRound(tournament, roundGames);
+		assertFalse(tournament.isFinished());
+		
+		final List<TournamentGame> secondRoundGames = tournament.createRound();
+		assertEquals(1, secondRoundGames.get(0).getRound());
+		assertEquals(Player.BOT, secondRoundGames.get(0).getFirstStep());
+		
+		playRound(tournament, secondRoundGames);
+		assertTrue(tournament.isFinished());
+		assertEquals(12, tournament.getGameNum());
+	}
+	
+	/**
+	 * Test for {@link Tournament#createRound()} method with swiss pairing.
+	 * The winners play with each other and the contestants do not meet again while they have new opponents.
+	 */
+	@Test
+	public void test_createRound_swiss(){
+		final Tournament tournament = new Tournament(createContestants(4), PairingType.SWISS, 3);
+		
+		final List<TournamentGame> roundGames = tournament.createRound();
+		assertEquals(4, roundGames.size());
+		assertPairing(roundGames, 0, 0, 1);
+		assertPairing(roundGames, 2, 2, 3);
+		
+		// The home contestant with the lower index wins.
+		playRound(tournament, roundGames);
+		
+		final List<TournamentGame> secondRoundGames = tournament.createRound();
+		assertPairing(secondRoundGames, 0, 0, 2);
+		assertPairing(secondRoundGames, 2, 1, 3);
+		playRound(tournament, secondRoundGames);
+		
+		final List<TournamentGame> thirdRoundGames = tournament.createRound();
+		assertPairing(thirdRoundGames, 0, 0, 3);
+		assertPairing(thirdRoundGames, 2, 1, 2);
+	}
+	
+	/**
+	 * Test for {@link Tournament#createRound()} method with swiss pairing and odd number of contestants.
+	 */
+	@Test
+	public void test_createRound_swissOdd(){
+		final Tournament tournament = new Tournament(createContestants(3), PairingType.SWISS, 1);
+		
+		final List<TournamentGame> roundGames = tournament.createRound();
+		assertEquals(2, roundGames.size());
+		assertPairing(roundGames, 0, 0, 1);
+	}
+	
+	/**
+	 * Test for {@link Tournament#createRound()} method with swiss pairing and odd number of contestants in more rounds.
+	 * Every contestant has a bye before someone gets the second one.
+	 */
+	@Test
+	public void test_createRound_swissOddByes(){
+		final int contestantNum = 3;
+		final Tournament tournament = new Tournament(createContestants(contestantNum), PairingType.SWISS, contestantNum);
+		final boolean[] hadBye = new boolean[contestantNum];
+		
+		while(!tournament.isFinished()){
+			final List<TournamentGame> roundGames = tournament.createRound();
+			assertEquals(2, roundGames.size());
+			
+			final int bye = contestantNum - roundGames.get(0).getHome() - roundGames.get(0).getAway();
+			assertFalse(hadBye[bye]);
+			hadBye[bye] = true;
+			
+			playRound(tournament, roundGames);
+		}
+	}
+	
+	/**
+	 * Test for {@link Tournament#addRound(List)} method with a game which is not played.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void test_addRound_notPlayed(){
+		final Tournament tournament = new Tournament(createContestants(2), PairingType.ROUND_ROBIN, 1);
+		
+		tournament.addRound(tournament.createRound());
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the given number of contestants.
+	 * 
+	 * @param contestantNum - The number of the contestants.
+	 */
+	private List<Contestant> createContestants(final int contestantNum){
+		final List<Contestant> contestants = new ArrayList<Contestant>();
+		for(int i = 0; i < contestantNum; ++i){
+			contestants.add(new Contestant("bot" + i, BotType.SIMPLE, 0));
+		}
+		return contestants;
+	}
+	
+	/**
+	 * Play the round. The contestant with the lower index wins.
+	 * 
+	 * @param tournament - The tournament.
+	 * @param roundGames - The games of the round.
+	 */
+	private void playRound(final Tournament tournament, final List<TournamentGame> roundGames){
+		for(final TournamentGame game : roundGames){
+			if(game.getHome() < game.getAway()){
+				game.setResult(1, 0);
+			}else{
+				game.setResult(0, 1);
+			}
+		}
+		tournament.addRound(roundGames);
+	}
+	
+	/**
+	 * Assert that the two games from the given index are the games of the given contestants with swapped sides.
+	 * 
+	 * @param roundGames - The games of the round.
+	 * @param index - The index of the first game.
+	 * @param first - The contestant who is at home in the first game.
+	 * @param second - The contestant who is at home in the second game.
+	 */
+	private void assertPairing(final List<TournamentGame> roundGames, final int index, final int first, final int second){
+		assertEquals(first, roundGames.get(index).getHome());
+		assertEquals(second, roundGames.get(index).getAway());
+		assertEquals(second, roundGames.get(index + 1).getHome());
+		assertEquals(first, roundGames.get(index + 1).getAway());
+	}
+	
+}
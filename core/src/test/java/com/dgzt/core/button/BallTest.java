@@ -0,0 +1,101 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.button;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.GameConstans;
+
+/**
+ * Test for {@link AbstractButton} with a {@link Ball}.
+ * 
+ * @author Dgzt
+ */
+public final class BallTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	private static final float SHOT_VELOCITY = 5.0f;
+	
+	private static final int MAX_STEPS = 10000;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private World box2DWorld;
+	
+	private Ball ball;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		box2DWorld = new World(new Vector2(0, 0), true);
+		ball = new Ball(box2DWorld);
+	}
+	
+	/**
+	 * Dispose after tests.
+	 */
+	@After
+	public void tearDown(){
+		box2DWorld.dispose();
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link AbstractButton#updateBox2DPosition()} method.
+	 * The position of the last step is saved also when box2D puts the body to sleep in that step.
+	 */
+	@Test
+	public void test_updateBox2DPosition_fallAsleep(){
+		ball.move(SHOT_VELOCITY, 0);
+		for(int i = 0; i < MAX_STEPS && ball.isAwake(); ++i){
+			box2DWorld.step(GameConstans.PHYSICS_TIME_STEP, GameConstans.DEFAULT_VELOCITY_ITERATIONS, GameConstans.DEFAULT_POSITION_ITERATIONS);
+			ball.updateBox2DPosition();
+		}
+		assertFalse(ball.isAwake());
+		assertFalse(ball.isMoving());
+		
+		final float[] state = new float[AbstractButton.STATE_SIZE];
+		ball.saveState(state, 0);
+		assertEquals(state[0], ball.getBox2DX(), 0);
+		assertEquals(state[1], ball.getBox2DY(), 0);
+		
+		// The sleeping body is not read again.
+		box2DWorld.step(GameConstans.PHYSICS_TIME_STEP, GameConstans.DEFAULT_VELOCITY_ITERATIONS, GameConstans.DEFAULT_POSITION_ITERATIONS);
+		assertFalse(ball.updateBox2DPosition());
+		assertEquals(state[0], ball.getBox2DX(), 0);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.GameStatus;
+import com.dgzt.core.HalfTimeType;
+import com.dgzt.core.Player;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.button.AbstractButton;
+import com.dgzt.core.exception.IllegalReplayException;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+import com.dgzt.core.setting.StepMode;
+
+/**
+ * Test for {@link ReplayCodec}.
+ * 
+ * @author Dgzt
+ */
+public final class ReplayCodecTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link ReplayCodec#encode(Replay)} and {@link ReplayCodec#decode(ByteBuffer)} methods.
+	 * The settings and the inputs are the same after decoding, the velocities and the positions are exact.
+	 */
+	@Test
+	public void test_encodeAndDecode(){
+		final Settings settings = new Settings();
+		settings.setFirstStep(Player.BOT);
+		settings.setStepMode(StepMode.ALWAYS_PLAYER);
+		settings.setBotType(BotType.SIMPLE);
+		settings.setInstantResolve(true);
+		settings.setHalfTime(300);
+		settings.setBotThinkingTime(1234);
+		
+		final Replay replay = new Replay(settings);
+		replay.addInput(new ReplayInput(ReplayInputType.SHOT, Player.BOT, 10, 0.1f, -123.456f, 1.0f));
+		replay.addInput(new ReplayInput(ReplayInputType.PLACE, Player.PLAYER, 3, 45.5f, 12.25f, 9.5f));
+		replay.addInput(new ReplayInput(ReplayInputType.MOVE, Player.PLAYER, 4, 1.5f, 2.5f, 24.001f));
+		replay.addInput(new ReplayInput(ReplayInputType.END_PLACING, Player.PLAYER, 0, 0, 0, 24.001f));
+		
+		final byte[] bytes = ReplayCodec.encode(replay);
+		final Replay decoded = ReplayCodec.decode(ByteBuffer.wrap(bytes));
+		
+		final Settings decodedSettings = decoded.getSettings();
+		assertEquals(Player.BOT, decodedSettings.getFirstStep());
+		assertEquals(StepMode.ALWAYS_PLAYER, decodedSettings.getStepMode());
+		assertEquals(BotType.SIMPLE, decodedSettings.getBotType());
+		assertTrue(decodedSettings.isInstantResolve());
+		assertEquals(300, decodedSettings.getHalfTime());
+		assertEquals(1234, decodedSettings.getBotThinkingTime());
+		assertEquals(settings.getBallAreaSec(), decodedSettings.getBallAreaSec());
+		
+		assertEquals(replay.getInputNum(), decoded.getInputNum());
+		for(int i = 0; i < replay.getInputNum(); ++i){
+			final ReplayInput expected = replay.getInput(i);
+			final ReplayInput actual = decoded.getInput(i);
+			
+			assertEquals(expected.getType(), actual.getType());
+			assertEquals(expected.getPlayer(), actual.getPlayer());
+			assertEquals(expected.getButtonIndex(), actual.getButtonIndex());
+			assertEquals(expected.getX(), actual.getX(), 0);
+			assertEquals(expected.getY(), actual.getY(), 0);
+			assertEquals(expected.getTime(), actual.getTime(), 0.001);
+		}
+		
+		// The shot, the place and the move have 8 bytes of coordinates, every input has 1 byte of flags and 1-2 bytes of time.
+		assertTrue(bytes.length <= 5 + 15 + 3 * (1 + 2 + 8) + 2 + 1);
+	}
+	
+	/**
+	 * Test for {@link ReplayCodec#encode(Replay)} and {@link ReplayCodec#decode(ByteBuffer)} methods with a keyframe.
+	 * The body states, the rules and the timers of the snapshot are the same after decoding.
+	 */
+	@Test
+	public void test_encodeAndDecode_keyframe(){
+		final Replay replay = new Replay(new Settings());
+		replay.addInput(new ReplayInput(ReplayInputType.SHOT, Player.PLAYER, 1, 2, 3, 4));
+		
+		final TableSnapshot snapshot = new TableSnapshot(2);
+		final float[] bodyStates = snapshot.getBodyStates();
+		for(int i = 0; i < bodyStates.length; ++i){
+			bodyStates[i] = i * 1.25f - 3;
+		}
+		
+		// The moving and the awake flags are saved as bits, the second body is stopped.
+		bodyStates[6] = 1;
+		bodyStates[7] = 1;
+		for(int i = AbstractButton.STATE_SIZE + 3; i < bodyStates.length; ++i){
+			bodyStates[i] = 0;
+		}
+		snapshot.setGameStatus(GameStatus.WAITING_AFTER_PLAYER);
+		snapshot.setButtonContactBallLastTimeIndex(5);
+		snapshot.setPlayerGoals(2);
+		snapshot.setOpponentGoals(1);
+		snapshot.setHalfTimeType(HalfTimeType.SECOND_HALF);
+		snapshot.setCurrentTime(321);
+		snapshot.setFirstStep(Player.BOT);
+		snapshot.setClockTime(123.456f);
+		snapshot.setTimeBoardDelaySec(0.5f);
+		snapshot.setPlayerTimeLeftSec(7.25f);
+		replay.addKeyframe(new ReplayKeyframe(1, snapshot));
+		
+		final Replay decoded = ReplayCodec.decode(ByteBuffer.wrap(ReplayCodec.encode(replay)));
+		
+		assertEquals(1, decoded.getKeyframeNum());
+		final ReplayKeyframe keyframe = decoded.getKeyframe(0);
+		final TableSnapshot decodedSnapshot = keyframe.getSnapshot();
+		assertEquals(1, keyframe.getInputIndex());
+		assertArrayEquals(bodyStates, decodedSnapshot.getBodyStates(), 0);
+		assertEquals(GameStatus.WAITING_AFTER_PLAYER, decodedSnapshot.getGameStatus());
+		assertEquals(5, decodedSnapshot.getButtonContactBallLastTimeIndex());
+		assertEquals(2, decodedSnapshot.getPlayerGoals());
+		assertEquals(1, decodedSnapshot.getOpponentGoals());
+		assertEquals(HalfTimeType.SECOND_HALF, decodedSnapshot.getHalfTimeType());
+		assertEquals(321, decodedSnapshot.getCurrentTime());
+		assertEquals(Player.BOT, decodedSnapshot.getFirstStep());
+		assertEquals(123.456f, decodedSnapshot.getClockTime(), 0);
+		assertEquals(0.5f, decodedSnapshot.getTimeBoardDelaySec(), 0);
+		assertEquals(7.25f, decodedSnapshot.getPlayerTimeLeftSec(), 0);
+	}
+	
+	/**
+	 * Test for {@link ReplayCodec#decode(ByteBuffer)} method with truncated data.
+	 */
+	@Test(expected = IllegalReplayException.class)
+	public void test_decode_truncated(){
+		final Replay replay = new Replay(new Settings());
+		replay.addInput(new ReplayInput(ReplayInputType.SHOT, Player.PLAYER, 1, 2, 3, 4));
+		
+		final byte[] bytes = ReplayCodec.encode(replay);
+		ReplayCodec.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1)));
+	}
+	
+	/**
+	 * Test for {@link ReplayCodec#decodeSettings(ByteBuffer)} method with data which is not a replay.
+	 */
+	@Test(expected = IllegalReplayException.class)
+	public void test_decodeSettings_notReplay(){
+		ReplayCodec.decodeSettings(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+	}
+	
+}
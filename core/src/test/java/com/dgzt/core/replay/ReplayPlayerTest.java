@@ -0,0 +1,226 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.utils.Array;
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.GameConstans;
+import com.dgzt.core.GameControl;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.GameView;
+import com.dgzt.core.MatchEngine;
+import com.dgzt.core.Table;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link ReplayPlayer}.
+ * 
+ * @author Dgzt
+ */
+public final class ReplayPlayerTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	private static final int HALF_TIME = 30;
+	
+	private static final int MAX_UPDATES = 10 * 60 * 60;
+	
+	private static final float SHOT_POWER = 3;
+	
+	/** The frame time of the playback. It differs from the frame time of the recording. */
+	private static final float PLAYBACK_FRAME_TIME = 0.05f;
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link ReplayPlayer#update(float)} method. The replayed match ends with the same table and goals
+	 * as the recorded match, also with other frame times.
+	 */
+	@Test
+	public void test_update_sameResult(){
+		final Array<Replay> replays = new Array<Replay>();
+		final MatchEngine matchEngine = recordMatch(replays);
+		
+		// Play the encoded replay.
+		final Replay replay = ReplayCodec.decode(ByteBuffer.wrap(ReplayCodec.encode(replays.first())));
+		final ReplayPlayer replayPlayer = new ReplayPlayer(replay, Mockito.mock(GameView.class));
+		replayPlayer.start();
+		
+		for(int i = 0; i < MAX_UPDATES && !replayPlayer.isFinished(); ++i){
+			replayPlayer.update(PLAYBACK_FRAME_TIME);
+		}
+		
+		assertTrue(replayPlayer.isFinished());
+		assertEquals(replay.getInputNum(), replayPlayer.getNextInputIndex());
+		
+		final MatchEngine replayedEngine = replayPlayer.getMatchEngine();
+		assertEquals(matchEngine.getScoreBoard().getPlayerGoalBoard().getNumber(), replayedEngine.getScoreBoard().getPlayerGoalBoard().getNumber());
+		assertEquals(matchEngine.getScoreBoard().getOpponentGoalBoard().getNumber(), replayedEngine.getScoreBoard().getOpponentGoalBoard().getNumber());
+		assertSameTable(matchEngine.getTable(), replayedEngine.getTable());
+	}
+	
+	/**
+	 * Test for {@link ReplayPlayer#seekTurn(int)} method. The table is the same after seeking forward and backward,
+	 * and the match ends with the same table as the recorded one when it is played from the last turn.
+	 */
+	@Test
+	public void test_seekTurn(){
+		final Array<Replay> replays = new Array<Replay>();
+		final MatchEngine matchEngine = recordMatch(replays);
+		final ReplayPlayer replayPlayer = new ReplayPlayer(replays.first(), Mockito.mock(GameView.class));
+		final int turn = replayPlayer.getTurnNum() / 2;
+		
+		replayPlayer.seekTurn(turn);
+		assertEquals(turn, replayPlayer.getTurn());
+		final TableSnapshot expected = new TableSnapshot(matchEngine.getTable().getBodyNum());
+		replayPlayer.getMatchEngine().getGameControl().saveSnapshot(expected);
+		
+		replayPlayer.seekTurn(replayPlayer.getTurnNum() - 1);
+		replayPlayer.seekTurn(0);
+		assertEquals(0, replayPlayer.getTurn());
+		
+		replayPlayer.seekTurn(turn);
+		final TableSnapshot actual = new TableSnapshot(matchEngine.getTable().getBodyNum());
+		replayPlayer.getMatchEngine().getGameControl().saveSnapshot(actual);
+		assertEquals(expected.getGameStatus(), actual.getGameStatus());
+		assertEquals(expected.getClockTime(), actual.getClockTime(), 0);
+		assertArrayEquals(expected.getBodyStates(), actual.getBodyStates(), 0);
+		
+		replayPlayer.seekTurn(replayPlayer.getTurnNum() - 1);
+		for(int i = 0; i < MAX_UPDATES && !replayPlayer.isFinished(); ++i){
+			replayPlayer.update(PLAYBACK_FRAME_TIME);
+		}
+		
+		assertTrue(replayPlayer.isFinished());
+		assertEquals(replayPlayer.getTurnNum(), replayPlayer.getTurn());
+		assertSameTable(matchEngine.getTable(), replayPlayer.getMatchEngine().getTable());
+	}
+	
+	/**
+	 * Test for {@link ReplayPlayer#pause()} and {@link ReplayPlayer#setSpeed(float)} methods.
+	 */
+	@Test
+	public void test_pauseAndSpeed(){
+		final ReplayPlayer replayPlayer = new ReplayPlayer(new Replay(new Settings()), Mockito.mock(GameView.class));
+		replayPlayer.start();
+		
+		replayPlayer.pause();
+		replayPlayer.update(1);
+		assertTrue(replayPlayer.isPaused());
+		assertEquals(0, replayPlayer.getTime(), DELTA);
+		
+		replayPlayer.resume();
+		replayPlayer.setSpeed(2);
+		replayPlayer.update(0.5f);
+		assertFalse(replayPlayer.isPaused());
+		assertEquals(1, replayPlayer.getTime(), PLAYBACK_FRAME_TIME);
+		
+		replayPlayer.setSpeed(100);
+		assertEquals(ReplayPlayer.MAX_SPEED, replayPlayer.getSpeed(), DELTA);
+		replayPlayer.setSpeed(0);
+		assertEquals(ReplayPlayer.MIN_SPEED, replayPlayer.getSpeed(), DELTA);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Record a match with the simple bot and a player who shoots with its buttons in turn.
+	 * 
+	 * @param replays - The saved replays.
+	 * @return The match engine of the recorded match.
+	 */
+	private MatchEngine recordMatch(final Array<Replay> replays){
+		final Settings settings = new Settings();
+		settings.setBotType(BotType.SIMPLE);
+		settings.setHalfTime(HALF_TIME);
+		final GameServices services = new GameServices();
+		services.setReplayRecorder(new ReplayRecorder() {
+			
+			@Override
+			public void save(final Replay replay) {
+				replays.add(replay);
+			}
+		});
+		
+		final MatchEngine matchEngine = new MatchEngine(settings, services, Mockito.mock(GameView.class));
+		final GameControl gameControl = matchEngine.getGameControl();
+		gameControl.startGame();
+		
+		int shotNum = 0;
+		for(int i = 0; i < MAX_UPDATES && gameControl.isInGame(); ++i){
+			if(gameControl.isPlayerStep()){
+				final List<Button> playerButtons = matchEngine.getTable().getPlayerButtons();
+				final int buttonIndex = shotNum++ % playerButtons.size();
+				final Button button = playerButtons.get(buttonIndex);
+				final Ball ball = matchEngine.getTable().getBall();
+				
+				gameControl.playerShoot(buttonIndex, SHOT_POWER * (ball.getBox2DX() - button.getBox2DX()), SHOT_POWER * (ball.getBox2DY() - button.getBox2DY()));
+			}else if(gameControl.isPlayerMoveButton()){
+				gameControl.endPlayerMoveButton();
+			}
+			
+			matchEngine.update(GameConstans.PHYSICS_TIME_STEP);
+		}
+		
+		assertFalse(gameControl.isInGame());
+		assertEquals(1, replays.size);
+		assertTrue(replays.first().getInputNum() > 2);
+		
+		return matchEngine;
+	}
+	
+	/**
+	 * Assert that the buttons and the ball are on the same positions.
+	 * 
+	 * @param expected - The expected table.
+	 * @param actual - The actual table.
+	 */
+	private void assertSameTable(final Table expected, final Table actual){
+		for(int i = 0; i < expected.getPlayerButtons().size(); ++i){
+			assertEquals(expected.getPlayerButtons().get(i).getBox2DX(), actual.getPlayerButtons().get(i).getBox2DX(), DELTA);
+			assertEquals(expected.getPlayerButtons().get(i).getBox2DY(), actual.getPlayerButtons().get(i).getBox2DY(), DELTA);
+		}
+		
+		for(int i = 0; i < expected.getOpponentButtons().size(); ++i){
+			assertEquals(expected.getOpponentButtons().get(i).getBox2DX(), actual.getOpponentButtons().get(i).getBox2DX(), DELTA);
+			assertEquals(expected.getOpponentButtons().get(i).getBox2DY(), actual.getOpponentButtons().get(i).getBox2DY(), DELTA);
+		}
+		
+		assertEquals(expected.getBall().getBox2DX(), actual.getBall().getBox2DX(), DELTA);
+		assertEquals(expected.getBall().getBox2DY(), actual.getBall().getBox2DY(), DELTA);
+	}
+	
+}
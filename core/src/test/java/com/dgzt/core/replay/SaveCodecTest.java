@@ -0,0 +1,216 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.utils.Array;
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.GameConstans;
+import com.dgzt.core.GameControl;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.GameView;
+import com.dgzt.core.MatchEngine;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.exception.IllegalReplayException;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link SaveCodec}.
+ * 
+ * @author Dgzt
+ */
+public final class SaveCodecTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	private static final int HALF_TIME = 120;
+	
+	private static final int MAX_UPDATES = 10 * 60 * 60;
+	
+	private static final int SHOTS_BEFORE_QUIT = 2;
+	
+	private static final float SHOT_POWER = 3;
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link SaveCodec#encode(SavedMatch)} and {@link SaveCodec#decode(ByteBuffer)} methods.
+	 * The match is quitted while the bodies are moving, the resumed match has the same state and it can be played to the end.
+	 */
+	@Test
+	public void test_encodeAndDecode_resume(){
+		final Array<SavedMatch> savedMatches = new Array<SavedMatch>();
+		final Settings settings = new Settings();
+		settings.setBotType(BotType.SIMPLE);
+		settings.setHalfTime(HALF_TIME);
+		final GameServices services = new GameServices();
+		services.setMatchSaver(new MatchSaver() {
+			
+			@Override
+			public void save(final SavedMatch savedMatch) {
+				savedMatches.add(savedMatch);
+			}
+			
+			@Override
+			public void delete() {
+				savedMatches.clear();
+			}
+		});
+		
+		final MatchEngine matchEngine = new MatchEngine(settings, services, Mockito.mock(GameView.class));
+		final GameControl gameControl = matchEngine.getGameControl();
+		gameControl.startGame();
+		play(matchEngine, SHOTS_BEFORE_QUIT);
+		
+		// Quit while the shot is moving the bodies.
+		assertTrue(matchEngine.isAnimating());
+		gameControl.quitGame();
+		assertEquals(1, savedMatches.size);
+		
+		final byte[] bytes = SaveCodec.encode(savedMatches.first());
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes);
+		buffer.flip();
+		final SavedMatch savedMatch = SaveCodec.decode(buffer);
+		assertEquals(HALF_TIME, savedMatch.getSettings().getHalfTime());
+		assertEquals(BotType.SIMPLE, savedMatch.getSettings().getBotType());
+		
+		// Resume the match with the saved rules.
+		final Array<Replay> replays = new Array<Replay>();
+		final Settings resumedSettings = new Settings();
+		resumedSettings.setRules(savedMatch.getSettings());
+		final GameServices resumedServices = new GameServices();
+		resumedServices.setReplayRecorder(new ReplayRecorder() {
+			
+			@Override
+			public void save(final Replay replay) {
+				replays.add(replay);
+			}
+		});
+		final MatchEngine resumedEngine = new MatchEngine(resumedSettings, resumedServices, Mockito.mock(GameView.class));
+		final GameControl resumedControl = resumedEngine.getGameControl();
+		resumedControl.startSavedGame(savedMatch);
+		
+		final TableSnapshot expected = savedMatches.first().getSnapshot();
+		final TableSnapshot actual = new TableSnapshot(resumedEngine.getTable());
+		resumedControl.saveSnapshot(actual);
+		assertArrayEquals(expected.getBodyStates(), actual.getBodyStates(), 0);
+		assertEquals(expected.getGameStatus(), actual.getGameStatus());
+		assertEquals(expected.getPlayerGoals(), actual.getPlayerGoals());
+		assertEquals(expected.getOpponentGoals(), actual.getOpponentGoals());
+		assertEquals(expected.getHalfTimeType(), actual.getHalfTimeType());
+		assertEquals(expected.getCurrentTime(), actual.getCurrentTime());
+		assertEquals(expected.getClockTime(), actual.getClockTime(), 0);
+		assertEquals(expected.getTimeBoardDelaySec(), actual.getTimeBoardDelaySec(), DELTA);
+		assertEquals(expected.getBallAreaDelaySec(), actual.getBallAreaDelaySec(), DELTA);
+		assertEquals(expected.getPlayerTimeLeftSec(), actual.getPlayerTimeLeftSec(), DELTA);
+		assertEquals(expected.getOpponentTimeLeftSec(), actual.getOpponentTimeLeftSec(), DELTA);
+		assertTrue(resumedEngine.isAnimating());
+		
+		play(resumedEngine, Integer.MAX_VALUE);
+		assertFalse(resumedControl.isInGame());
+		
+		// The replay of the resumed match starts from the saved snapshot.
+		assertEquals(1, replays.size);
+		final Replay replay = ReplayCodec.decode(ByteBuffer.wrap(ReplayCodec.encode(replays.first())));
+		assertArrayEquals(expected.getBodyStates(), replay.getStartSnapshot().getBodyStates(), 0);
+		
+		final ReplayPlayer replayPlayer = new ReplayPlayer(replay, Mockito.mock(GameView.class));
+		replayPlayer.start();
+		for(int i = 0; i < MAX_UPDATES && !replayPlayer.isFinished(); ++i){
+			replayPlayer.update(GameConstans.PHYSICS_TIME_STEP);
+		}
+		assertTrue(replayPlayer.isFinished());
+		assertEquals(resumedEngine.getScoreBoard().getPlayerGoalBoard().getNumber(), replayPlayer.getMatchEngine().getScoreBoard().getPlayerGoalBoard().getNumber());
+		assertEquals(resumedEngine.getScoreBoard().getOpponentGoalBoard().getNumber(), replayPlayer.getMatchEngine().getScoreBoard().getOpponentGoalBoard().getNumber());
+		assertEquals(resumedEngine.getTable().getBall().getBox2DX(), replayPlayer.getMatchEngine().getTable().getBall().getBox2DX(), DELTA);
+	}
+	
+	/**
+	 * Test for {@link SaveCodec#decode(ByteBuffer)} method with a replay.
+	 */
+	@Test(expected = IllegalReplayException.class)
+	public void test_decode_replay(){
+		SaveCodec.decode(ByteBuffer.wrap(ReplayCodec.encode(new Replay(new Settings()))));
+	}
+	
+	/**
+	 * Test for {@link SaveCodec#decode(ByteBuffer)} method with truncated data.
+	 */
+	@Test(expected = IllegalReplayException.class)
+	public void test_decode_truncated(){
+		final Settings settings = new Settings();
+		final MatchEngine matchEngine = new MatchEngine(settings, Mockito.mock(GameView.class));
+		final TableSnapshot snapshot = new TableSnapshot(matchEngine.getTable());
+		matchEngine.getGameControl().saveSnapshot(snapshot);
+		
+		final byte[] bytes = SaveCodec.encode(new SavedMatch(settings, snapshot));
+		SaveCodec.decode(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Play the match until the first update after the given number of player's shots or until the end of the match.
+	 * The player shoots with its buttons in turn.
+	 * 
+	 * @param matchEngine - The match engine.
+	 * @param maxShotNum - The maximum number of the player's shots.
+	 */
+	private void play(final MatchEngine matchEngine, final int maxShotNum){
+		final GameControl gameControl = matchEngine.getGameControl();
+		
+		int shotNum = 0;
+		for(int i = 0; i < MAX_UPDATES && gameControl.isInGame(); ++i){
+			if(gameControl.isPlayerStep()){
+				final List<Button> playerButtons = matchEngine.getTable().getPlayerButtons();
+				final int buttonIndex = shotNum++ % playerButtons.size();
+				final Button button = playerButtons.get(buttonIndex);
+				final Ball ball = matchEngine.getTable().getBall();
+				
+				gameControl.playerShoot(buttonIndex, SHOT_POWER * (ball.getBox2DX() - button.getBox2DX()), SHOT_POWER * (ball.getBox2DY() - button.getBox2DY()));
+			}else if(gameControl.isPlayerMoveButton()){
+				gameControl.endPlayerMoveButton();
+			}
+			
+			matchEngine.update(GameConstans.PHYSICS_TIME_STEP);
+			
+			// Stop while the last shot is moving the bodies.
+			if(shotNum == maxShotNum){
+				return;
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,213 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.replay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.GameConstans;
+import com.dgzt.core.GameControl;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.GameView;
+import com.dgzt.core.MatchEngine;
+import com.dgzt.core.Player;
+import com.dgzt.core.Table;
+import com.dgzt.core.button.AbstractButton;
+import com.dgzt.core.button.Ball;
+import com.dgzt.core.button.Button;
+import com.dgzt.core.exception.IllegalReplayException;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Test for {@link TraceEncoder} and {@link TraceDecoder}.
+ * 
+ * @author Dgzt
+ */
+public final class TraceEncoderTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	private static final int UPDATES = 200;
+	
+	private static final int BUFFER_SIZE = 1024 * 1024;
+	
+	/** The fixed-point values are rounded to the nearest unit. */
+	private static final double POSITION_DELTA = 0.5 / TraceEncoder.POSITION_SCALE + DELTA;
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link TraceEncoder#encodeStep(ByteBuffer, Table)} and {@link TraceDecoder#decode(ByteBuffer)} methods.
+	 * The positions of every step of a shot are decoded with the precision of the fixed-point values, also of the skipped steps.
+	 */
+	@Test
+	public void test_encodeAndDecode(){
+		final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		final FloatArray expectedPositions = new FloatArray();
+		
+		final Settings settings = new Settings();
+		settings.setFirstStep(Player.PLAYER);
+		final GameServices services = new GameServices();
+		services.setTraceRecorder(new TraceRecorder() {
+			
+			private TraceEncoder encoder;
+			
+			@Override
+			public void record(final Table table) {
+				if(encoder == null){
+					encoder = new TraceEncoder(table.getBodyNum());
+					encoder.encodeHeader(buffer);
+				}
+				encoder.encodeStep(buffer, table);
+				addPositions(expectedPositions, table);
+			}
+			
+			@Override
+			public void close() {
+				encoder.encodeEnd(buffer);
+			}
+		});
+		
+		final MatchEngine matchEngine = new MatchEngine(settings, services, Mockito.mock(GameView.class));
+		final GameControl gameControl = matchEngine.getGameControl();
+		gameControl.startGame();
+		assertTrue(gameControl.isPlayerStep());
+		
+		final List<Button> playerButtons = matchEngine.getTable().getPlayerButtons();
+		final Ball ball = matchEngine.getTable().getBall();
+		gameControl.playerShoot(0, ball.getBox2DX() - playerButtons.get(0).getBox2DX(), ball.getBox2DY() - playerButtons.get(0).getBox2DY());
+		for(int i = 0; i < UPDATES; ++i){
+			matchEngine.update(GameConstans.PHYSICS_TIME_STEP);
+		}
+		matchEngine.dispose();
+		
+		buffer.flip();
+		final Trace trace = TraceDecoder.decode(buffer);
+		
+		final int bodyNum = matchEngine.getTable().getBodyNum();
+		assertEquals(bodyNum, trace.getBodyNum());
+		assertEquals(expectedPositions.size / (bodyNum * 2), trace.getStepNum());
+		assertTrue(trace.getStepNum() >= UPDATES);
+		for(int i = 0; i < expectedPositions.size; ++i){
+			assertEquals(expectedPositions.get(i), trace.getPositions()[i], POSITION_DELTA);
+		}
+		
+		// The shot button moved.
+		assertTrue(trace.getX(0, 0) != trace.getX(trace.getStepNum() - 1, 0) || trace.getY(0, 0) != trace.getY(trace.getStepNum() - 1, 0));
+	}
+	
+	/**
+	 * Test for {@link TraceEncoder#encodeStep(ByteBuffer, Table)} and {@link TraceEncoder#encodeEnd(ByteBuffer)} methods.
+	 * The steps without movement are skipped, and at the end they are encoded as one step without movement.
+	 */
+	@Test
+	public void test_encodeStep_noMovement(){
+		final MatchEngine matchEngine = new MatchEngine(new Settings(), Mockito.mock(GameView.class));
+		matchEngine.getGameControl().startGame();
+		final Table table = matchEngine.getTable();
+		final TraceEncoder encoder = new TraceEncoder(table.getBodyNum());
+		final ByteBuffer buffer = ByteBuffer.allocate(TraceEncoder.MAX_HEADER_SIZE + encoder.getMaxStepSize() * 2);
+		
+		encoder.encodeHeader(buffer);
+		final int headerSize = buffer.position();
+		encoder.encodeStep(buffer, table);
+		final int firstStepSize = buffer.position() - headerSize;
+		encoder.encodeStep(buffer, table);
+		encoder.encodeStep(buffer, table);
+		
+		assertTrue(firstStepSize > TraceEncoder.getMaskSize(table.getBodyNum()));
+		assertTrue(firstStepSize <= encoder.getMaxStepSize());
+		assertEquals(headerSize + firstStepSize, buffer.position());
+		
+		encoder.encodeEnd(buffer);
+		assertEquals(1 + TraceEncoder.getMaskSize(table.getBodyNum()), buffer.position() - headerSize - firstStepSize);
+		
+		buffer.flip();
+		final Trace trace = TraceDecoder.decode(buffer);
+		assertEquals(3, trace.getStepNum());
+		assertEquals(trace.getX(0, 0), trace.getX(2, 0), DELTA);
+	}
+	
+	/**
+	 * Test for {@link TraceDecoder#decode(ByteBuffer)} method with a truncated last step. The whole steps are decoded.
+	 */
+	@Test
+	public void test_decode_truncated(){
+		final MatchEngine matchEngine = new MatchEngine(new Settings(), Mockito.mock(GameView.class));
+		matchEngine.getGameControl().startGame();
+		final Table table = matchEngine.getTable();
+		final TraceEncoder encoder = new TraceEncoder(table.getBodyNum());
+		final ByteBuffer buffer = ByteBuffer.allocate(TraceEncoder.MAX_HEADER_SIZE + encoder.getMaxStepSize() * 2);
+		
+		encoder.encodeHeader(buffer);
+		encoder.encodeStep(buffer, table);
+		table.getBall().setBox2DPosition(1, 2);
+		encoder.encodeStep(buffer, table);
+		buffer.flip();
+		
+		final byte[] bytes = new byte[buffer.limit()];
+		buffer.get(bytes);
+		assertEquals(2, TraceDecoder.decode(ByteBuffer.wrap(bytes)).getStepNum());
+		
+		final Trace trace = TraceDecoder.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1)));
+		assertEquals(1, trace.getStepNum());
+		assertEquals(table.getPlayerButtons().get(0).getBox2DX(), trace.getX(0, 0), POSITION_DELTA);
+	}
+	
+	/**
+	 * Test for {@link TraceDecoder#decode(ByteBuffer)} method with data which is not a trace.
+	 */
+	@Test(expected = IllegalReplayException.class)
+	public void test_decode_notTrace(){
+		TraceDecoder.decode(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add the positions of the bodies of the given table in the order of the trace.
+	 * 
+	 * @param positions - The positions.
+	 * @param table - The table.
+	 */
+	private void addPositions(final FloatArray positions, final Table table){
+		for(final AbstractButton button : table.getPlayerButtons()){
+			positions.add(button.getBox2DX());
+			positions.add(button.getBox2DY());
+		}
+		for(final AbstractButton button : table.getOpponentButtons()){
+			positions.add(button.getBox2DX());
+			positions.add(button.getBox2DY());
+		}
+		positions.add(table.getBall().getBox2DX());
+		positions.add(table.getBall().getBox2DY());
+	}
+	
+}
@@ -0,0 +1,124 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.scoreboard;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.dgzt.core.BaseShapeTester;
+import com.dgzt.core.HalfTimeType;
+import com.dgzt.core.shape.ShapeBatch;
+
+/**
+ * Test for {@link ScoreBoardShape}.
+ * 
+ * @author Dgzt
+ */
+public final class ScoreBoardShapeTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private Mesh staticMesh;
+	
+	private ShapeBatch shapeBatch;
+	
+	private ScoreBoard scoreBoard;
+	
+	private ScoreBoardShape scoreBoardShape;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		final Mesh mesh = Mockito.mock(Mesh.class);
+		staticMesh = Mockito.mock(Mesh.class);
+		Mockito.when(staticMesh.getMaxVertices()).thenReturn(Integer.MAX_VALUE);
+		Mockito.when(staticMesh.getMaxIndices()).thenReturn(Integer.MAX_VALUE);
+		
+		shapeBatch = new ShapeBatch(Mockito.mock(ShaderProgram.class)){
+			@Override
+			protected Mesh createMesh(final boolean isStatic, final int verticesNum, final int maxIndices) {
+				return isStatic ? staticMesh : mesh;
+			}
+		};
+		
+		scoreBoard = new ScoreBoard();
+		scoreBoardShape = new ScoreBoardShape(shapeBatch, scoreBoard);
+		scoreBoardShape.resize(0, 0, ScoreBoardShape.WIDTH, ScoreBoardShape.HEIGHT, 1.0);
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link ScoreBoardShape#draw()} method. The boards are baked again only when a shown value changes.
+	 */
+	@Test
+	public void test_draw_bakeOnChange(){
+		scoreBoardShape.draw();
+		scoreBoardShape.draw();
+		assertBakedTimes(1);
+		
+		scoreBoard.getPlayerGoalBoard().setNumber(1);
+		scoreBoardShape.draw();
+		scoreBoardShape.draw();
+		assertBakedTimes(2);
+		
+		scoreBoard.getTimeBoard().setCurrentTime(1);
+		scoreBoardShape.draw();
+		assertBakedTimes(3);
+		
+		scoreBoard.getHalfTimeBoard().setHalfTimeType(HalfTimeType.SECOND_HALF);
+		scoreBoardShape.draw();
+		assertBakedTimes(4);
+		
+		scoreBoardShape.resize(10, 10, ScoreBoardShape.WIDTH, ScoreBoardShape.HEIGHT, 1.0);
+		scoreBoardShape.draw();
+		assertBakedTimes(5);
+		
+		scoreBoardShape.draw();
+		assertBakedTimes(5);
+		
+		// The cached boards are drawn with one call per frame.
+		assertEquals(8, shapeBatch.getRenderCalls());
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Verify the number of the bakings.
+	 * 
+	 * @param times - The expected number.
+	 */
+	private void assertBakedTimes(final int times){
+		Mockito.verify(staticMesh, Mockito.times(times)).setVertices(Mockito.any(float[].class), Mockito.eq(0), Mockito.anyInt());
+	}
+
+}
@@ -15,14 +15,12 @@
 package com.dgzt.core.shape;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.BaseShapeTester;
 import com.dgzt.core.GdxTestRunner;
 
@@ -38,7 +36,7 @@ public final class FilledCircleShapeTest extends BaseShapeTester{
 	// ~ Private static members
 	// --------------------------------------------------
 	
-	private static final ShaderProgram SHADER_PROGRAM = null;
+	private static final ShapeBatch SHAPE_BATCH = null;
 	
 	private static final Color COLOR = Color.RED;
 	
@@ -65,19 +63,45 @@ public final class FilledCircleShapeTest extends BaseShapeTester{
 		assertEquals(shape.getRadius(), RADIUS, DELTA);
 	}
 	
+	/**
+	 * Test for {@link FilledCircleShape#getSegmentNum(float)} method.
+	 * The small circles have less segments and the segments follow the circle within a quarter pixel.
+	 */
+	@Test
+	public void test_getSegmentNum(){
+		assertEquals(8, FilledCircleShape.getSegmentNum(1f));
+		assertTrue(FilledCircleShape.getSegmentNum(RADIUS) < FilledCircleShape.getSegmentNum(RADIUS * 10));
+		
+		for(float radius = 1f; radius < 500f; radius *= 1.5f){
+			final int segmentNum = FilledCircleShape.getSegmentNum(radius);
+			final double error = radius * (1 - Math.cos(Math.PI / segmentNum));
+			
+			assertTrue(error <= 0.25d || segmentNum == FilledCircleShape.getSegmentNum(Float.MAX_VALUE));
+		}
+	}
+	
+	/**
+	 * Test for {@link FilledCircleShape#resize(float, float, float)} method. The number of segments changes with the radius.
+	 */
+	@Test
+	public void test_resize_segmentNum(){
+		final FilledCircleShape shape = getFilledCircleShape();
+		
+		shape.resize(X, Y, RADIUS);
+		assertEquals(FilledCircleShape.getSegmentNum(RADIUS), shape.getSegmentNum());
+		
+		shape.resize(X, Y, RADIUS * 10);
+		assertEquals(FilledCircleShape.getSegmentNum(RADIUS * 10), shape.getSegmentNum());
+	}
+	
 	// --------------------------------------------------
 	// ~ Private methods
 	// --------------------------------------------------
 
 	/**
-	 * Return with the mock mesh.
+	 * Return with the shape.
 	 */
 	private FilledCircleShape getFilledCircleShape(){
-		return new FilledCircleShape(SHADER_PROGRAM, COLOR){
-			@Override
-			protected Mesh getMesh(boolean isStatic, int verticesNum, int maxIndices, VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
-		};
+		return new FilledCircleShape(SHAPE_BATCH, COLOR);
 	}
 }
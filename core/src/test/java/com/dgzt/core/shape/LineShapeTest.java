@@ -20,9 +20,6 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Vector2;
 import com.dgzt.core.BaseShapeTester;
 import com.dgzt.core.GdxTestRunner;
@@ -39,7 +36,7 @@ public final class LineShapeTest extends BaseShapeTester{
 	// ~ Static members
 	// --------------------------------------------------
 	
-	private static final ShaderProgram SHADER_PROGRAM = null;
+	private static final ShapeBatch SHAPE_BATCH = null;
 	
 	private static final Color COLOR = Color.RED;
 	
@@ -86,14 +83,9 @@ public final class LineShapeTest extends BaseShapeTester{
 	// --------------------------------------------------
 
 	/**
-	 * Return with the mock mesh.
+	 * Return with the shape.
 	 */
 	private LineShape getLineShape(){
-		return new LineShape(SHADER_PROGRAM, COLOR){
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
-		};
+		return new LineShape(SHAPE_BATCH, COLOR);
 	}
 }
@@ -20,9 +20,6 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.BaseShapeTester;
 
 /**
@@ -58,14 +55,9 @@ public final class RectangleBorderShapeTest extends BaseShapeTester{
 	 */
 	@Before
 	public void setUp(){
-		final ShaderProgram shader = Mockito.mock(ShaderProgram.class);
+		final ShapeBatch shapeBatch = Mockito.mock(ShapeBatch.class);
 		
-		rectangleBorderShape = new RectangleBorderShape(shader, COLOR){
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
-		};
+		rectangleBorderShape = new RectangleBorderShape(shapeBatch, COLOR);
 	}
 	
 	// --------------------------------------------------
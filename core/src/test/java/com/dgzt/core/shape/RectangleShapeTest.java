@@ -20,9 +20,6 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.BaseShapeTester;
 
 /**
@@ -57,14 +54,9 @@ public final class RectangleShapeTest extends BaseShapeTester{
 	 */
 	@Before
 	public void setUp(){
-		final ShaderProgram shader = Mockito.mock(ShaderProgram.class);
+		final ShapeBatch shapeBatch = Mockito.mock(ShapeBatch.class);
 		
-		rectangleShape = new RectangleShape(shader, COLOR){
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
-		};
+		rectangleShape = new RectangleShape(shapeBatch, COLOR);
 	}
 	
 	// --------------------------------------------------
@@ -0,0 +1,266 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.shape;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.dgzt.core.BaseShapeTester;
+
+/**
+ * Test for {@link ShapeBatch}.
+ * 
+ * @author Dgzt
+ */
+public final class ShapeBatchTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Static members
+	// --------------------------------------------------
+	
+	private static final Color COLOR = Color.RED;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private Mesh mesh;
+	
+	private Mesh staticMesh;
+	
+	private ShapeBatch shapeBatch;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		mesh = Mockito.mock(Mesh.class);
+		staticMesh = Mockito.mock(Mesh.class);
+		
+		shapeBatch = new ShapeBatch(Mockito.mock(ShaderProgram.class)){
+			@Override
+			protected Mesh createMesh(final boolean isStatic, final int verticesNum, final int maxIndices) {
+				return isStatic ? staticMesh : mesh;
+			}
+		};
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link ShapeBatch#flush()} method. More shapes are drawn with one draw call.
+	 */
+	@Test
+	public void test_flush_oneRenderCall(){
+		final RectangleShape rectangleShape = new RectangleShape(shapeBatch, COLOR);
+		rectangleShape.resize(10, 20, 30, 40);
+		final LineShape lineShape = new LineShape(shapeBatch, COLOR);
+		lineShape.resize(10, 20, 30, 40, 1.0);
+		final FilledCircleShape filledCircleShape = new FilledCircleShape(shapeBatch, COLOR);
+		filledCircleShape.resize(10, 20, 5);
+		
+		rectangleShape.draw();
+		lineShape.draw();
+		filledCircleShape.draw();
+		shapeBatch.flush();
+		
+		// The circle has one triangle per segment.
+		Mockito.verify(mesh).render(Mockito.any(ShaderProgram.class), Mockito.eq(GL20.GL_TRIANGLES), Mockito.eq(0), Mockito.eq(6 + 6 + filledCircleShape.getSegmentNum() * 3));
+		assertEquals(1, shapeBatch.getRenderCalls());
+		
+		// Nothing to draw again
+		shapeBatch.flush();
+		assertEquals(1, shapeBatch.getRenderCalls());
+	}
+	
+	/**
+	 * Test for {@link ShapeBatch#draw(float[], int, short[], int)} method with triangles and a triangle fan.
+	 */
+	@Test
+	public void test_draw_indices(){
+		final float[] vertices = new float[4 * ShapeBatch.VERTEX_SIZE];
+		
+		shapeBatch.draw(vertices, 4, new short[]{0,1,3,1,2,3}, GL20.GL_TRIANGLES);
+		shapeBatch.draw(vertices, 4, new short[]{0,1,2,3}, GL20.GL_TRIANGLE_FAN);
+		shapeBatch.flush();
+		
+		final ArgumentCaptor<short[]> indicesCaptor = ArgumentCaptor.forClass(short[].class);
+		Mockito.verify(mesh).setIndices(indicesCaptor.capture(), Mockito.eq(0), Mockito.eq(12));
+		
+		assertArrayEquals(new short[]{0,1,3,1,2,3, 4,5,6,4,6,7}, Arrays.copyOf(indicesCaptor.getValue(), 12));
+		Mockito.verify(mesh).setVertices(Mockito.any(float[].class), Mockito.eq(0), Mockito.eq(8 * ShapeBatch.VERTEX_SIZE));
+	}
+	
+	/**
+	 * Test for {@link ShapeBatch#draw(float[], int, short[], float, float, float, float)} method. The template is moved and scaled.
+	 */
+	@Test
+	public void test_draw_template(){
+		final float[] template = new float[]{0,0, 1,0, 0,1};
+		final short[] templateIndices = new short[]{0,1,2};
+		
+		shapeBatch.draw(template, 3, templateIndices, 10, 20, 2, 0);
+		shapeBatch.draw(template, 3, templateIndices, 30, 40, 1, 0);
+		shapeBatch.flush();
+		
+		final ArgumentCaptor<float[]> verticesCaptor = ArgumentCaptor.forClass(float[].class);
+		Mockito.verify(mesh).setVertices(verticesCaptor.capture(), Mockito.eq(0), Mockito.eq(6 * ShapeBatch.VERTEX_SIZE));
+		final ArgumentCaptor<short[]> indicesCaptor = ArgumentCaptor.forClass(short[].class);
+		Mockito.verify(mesh).setIndices(indicesCaptor.capture(), Mockito.eq(0), Mockito.eq(6));
+		
+		final float[] expectedVertices = new float[]{10,20,0, 12,20,0, 10,22,0, 30,40,0, 31,40,0, 30,41,0};
+		assertArrayEquals(expectedVertices, Arrays.copyOf(verticesCaptor.getValue(), expectedVertices.length), 0f);
+		assertArrayEquals(new short[]{0,1,2, 3,4,5}, Arrays.copyOf(indicesCaptor.getValue(), 6));
+		
+		// The template is not changed.
+		assertArrayEquals(new float[]{0,0, 1,0, 0,1}, template, 0f);
+	}
+	
+	/**
+	 * Test for {@link ShapeBatch#endCache(ShapeCache)} method. The cached shapes are drawn with one draw call.
+	 */
+	@Test
+	public void test_endCache(){
+		final ShapeCache shapeCache = new ShapeCache(shapeBatch);
+		assertTrue(shapeCache.isEmpty());
+		
+		final RectangleShape rectangleShape = new RectangleShape(shapeBatch, COLOR);
+		rectangleShape.resize(10, 20, 30, 40);
+		
+		shapeBatch.beginCache();
+		rectangleShape.draw();
+		rectangleShape.draw();
+		shapeBatch.endCache(shapeCache);
+		
+		assertFalse(shapeCache.isEmpty());
+		Mockito.verify(staticMesh).setVertices(Mockito.any(float[].class), Mockito.eq(0), Mockito.eq(8 * ShapeBatch.VERTEX_SIZE));
+		Mockito.verify(staticMesh).setIndices(Mockito.any(short[].class), Mockito.eq(0), Mockito.eq(12));
+		Mockito.verify(mesh, Mockito.never()).render(Mockito.any(ShaderProgram.class), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+		assertEquals(0, shapeBatch.getRenderCalls());
+		
+		shapeCache.draw();
+		
+		Mockito.verify(staticMesh).render(Mockito.any(ShaderProgram.class), Mockito.eq(GL20.GL_TRIANGLES), Mockito.eq(0), Mockito.eq(12));
+		assertEquals(1, shapeBatch.getRenderCalls());
+	}
+	
+	/**
+	 * Test for {@link ShapeBatch#drawCircle(float, float, float, float)} method. The circle is one quad in signed distance field mode.
+	 */
+	@Test
+	public void test_drawCircle_sdf(){
+		final ShapeBatch sdfBatch = createSdfBatch();
+		final FilledCircleShape filledCircleShape = new FilledCircleShape(sdfBatch, COLOR);
+		filledCircleShape.resize(10, 20, 5);
+		
+		filledCircleShape.draw();
+		sdfBatch.flush();
+		
+		final ArgumentCaptor<float[]> verticesCaptor = ArgumentCaptor.forClass(float[].class);
+		Mockito.verify(mesh).setVertices(verticesCaptor.capture(), Mockito.eq(0), Mockito.eq(4 * ShapeBatch.SDF_VERTEX_SIZE));
+		Mockito.verify(mesh).render(Mockito.any(ShaderProgram.class), Mockito.eq(GL20.GL_TRIANGLES), Mockito.eq(0), Mockito.eq(6));
+		
+		// The first corner is half pixel outside of the circle, its local coordinate is over the edge.
+		final float[] vertices = verticesCaptor.getValue();
+		assertEquals(10 - 5.5f, vertices[0], DELTA);
+		assertEquals(20 - 5.5f, vertices[1], DELTA);
+		assertEquals(-1.1f, vertices[3], DELTA);
+		assertEquals(-1.1f, vertices[4], DELTA);
+		assertEquals(5, vertices[5], DELTA);
+		assertEquals(-1, vertices[6], DELTA);
+	}
+	
+	/**
+	 * Test for {@link ShapeBatch#drawRibbon(float[], int, short[])} method. The line sides are smoothed in signed distance field mode
+	 * and the other shapes have solid vertices.
+	 */
+	@Test
+	public void test_drawRibbon_sdf(){
+		final ShapeBatch sdfBatch = createSdfBatch();
+		final LineShape lineShape = new LineShape(sdfBatch, COLOR);
+		lineShape.resize(0, 0, 10, 0, 2.0);
+		final RectangleShape rectangleShape = new RectangleShape(sdfBatch, COLOR);
+		rectangleShape.resize(10, 20, 30, 40);
+		
+		lineShape.draw();
+		rectangleShape.draw();
+		sdfBatch.flush();
+		
+		final ArgumentCaptor<float[]> verticesCaptor = ArgumentCaptor.forClass(float[].class);
+		Mockito.verify(mesh).setVertices(verticesCaptor.capture(), Mockito.eq(0), Mockito.eq(8 * ShapeBatch.SDF_VERTEX_SIZE));
+		assertEquals(1, sdfBatch.getRenderCalls());
+		
+		// The line is 2 pixel wide, its sides are moved out with half pixel.
+		final float[] vertices = verticesCaptor.getValue();
+		assertEquals(-1.5f, vertices[1], DELTA);
+		assertEquals(0, vertices[3], DELTA);
+		assertEquals(-1.5f, vertices[4], DELTA);
+		assertEquals(1, vertices[5], DELTA);
+		assertEquals(1.5f, vertices[ShapeBatch.SDF_VERTEX_SIZE + 1], DELTA);
+		assertEquals(1.5f, vertices[ShapeBatch.SDF_VERTEX_SIZE + 4], DELTA);
+		
+		// The rectangle has no smoothed edge.
+		final int rectangleOffset = 4 * ShapeBatch.SDF_VERTEX_SIZE;
+		assertEquals(0, vertices[rectangleOffset + 3], DELTA);
+		assertEquals(0, vertices[rectangleOffset + 4], DELTA);
+		assertEquals(1, vertices[rectangleOffset + 5], DELTA);
+		assertEquals(-1, vertices[rectangleOffset + 6], DELTA);
+	}
+	
+	/**
+	 * Test for {@link ShapeBatch#drawCircle(float, float, float, float)} method. The mesh mode has no circle quad.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void test_drawCircle_mesh(){
+		shapeBatch.drawCircle(10, 20, 5, 0);
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with a shape batch in signed distance field mode.
+	 */
+	private ShapeBatch createSdfBatch(){
+		return new ShapeBatch(Mockito.mock(ShaderProgram.class), true){
+			@Override
+			protected Mesh createMesh(final boolean isStatic, final int verticesNum, final int maxIndices) {
+				return isStatic ? staticMesh : mesh;
+			}
+		};
+	}
+	
+}
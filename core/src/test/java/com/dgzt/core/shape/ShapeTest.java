@@ -22,9 +22,6 @@ import org.junit.Test;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Mesh;
-import com.badlogic.gdx.graphics.VertexAttribute;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.dgzt.core.BaseShapeTester;
 
 /**
@@ -38,13 +35,13 @@ public final class ShapeTest extends BaseShapeTester{
 	// ~ Static members
 	// --------------------------------------------------
 	
-	private static final ShaderProgram SHADER_PROGRAM = null;
+	private static final ShapeBatch SHAPE_BATCH = null;
 	
 	private static final int SHAPE_TYPE = GL20.GL_TRIANGLES;
 	
-	private static final int VERTICES_NUM = 4;
+	private static final int VERTICES_NUM = 2;
 	
-	private static final short[] INDICES = new short[]{0,1,2,2,3,0};
+	private static final short[] INDICES = new short[]{0,1};
 	
 	private static final Color COLOR = Color.RED;
 	
@@ -70,16 +67,10 @@ public final class ShapeTest extends BaseShapeTester{
 	// --------------------------------------------------
 	
 	/**
-	 * Return with the mock mesh.
+	 * Return with the shape.
 	 */
 	private Shape getShape(){
-		return new Shape(SHADER_PROGRAM, SHAPE_TYPE, VERTICES_NUM, INDICES, COLOR){
-
-			@Override
-			protected Mesh getMesh(final boolean isStatic, final int verticesNum, final int maxIndices, final VertexAttribute... vAttribs) {
-				return getMockMesh();
-			}
-		};
+		return new Shape(SHAPE_BATCH, SHAPE_TYPE, VERTICES_NUM, INDICES, COLOR){};
 	}
 
 }
@@ -0,0 +1,97 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.core.shape;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.dgzt.core.BaseShapeTester;
+
+/**
+ * Test for {@link TextBatch}.
+ * 
+ * @author Dgzt
+ */
+public final class TextBatchTest extends BaseShapeTester{
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	private Batch batch;
+	
+	private BitmapFont font;
+	
+	private TextBatch textBatch;
+	
+	// --------------------------------------------------
+	// ~ Init methods
+	// --------------------------------------------------
+	
+	/**
+	 * Init for tests.
+	 */
+	@Before
+	public void setUp(){
+		batch = Mockito.mock(Batch.class);
+		font = Mockito.mock(BitmapFont.class);
+		textBatch = new TextBatch(batch);
+	}
+	
+	// --------------------------------------------------
+	// ~ Test methods
+	// --------------------------------------------------
+	
+	/**
+	 * Test for {@link TextBatch#flush()} method. More texts are drawn in one batch pass with the shared font.
+	 */
+	@Test
+	public void test_flush_onePass(){
+		final Text redText = new Text(textBatch, font, Color.RED);
+		redText.setText("red");
+		redText.resize(10, 20);
+		final Text blueText = new Text(textBatch, font, Color.BLUE);
+		blueText.setText("blue");
+		blueText.resize(30, 40);
+		
+		redText.draw();
+		blueText.draw();
+		assertEquals(2, textBatch.getSize());
+		Mockito.verifyZeroInteractions(batch, font);
+		
+		textBatch.flush();
+		
+		final InOrder inOrder = Mockito.inOrder(batch, font);
+		inOrder.verify(batch).begin();
+		inOrder.verify(font).setColor(Color.RED);
+		inOrder.verify(font).draw(batch, "red", 10, 20);
+		inOrder.verify(font).setColor(Color.BLUE);
+		inOrder.verify(font).draw(batch, "blue", 30, 40);
+		inOrder.verify(batch).end();
+		assertEquals(0, textBatch.getSize());
+		
+		// Nothing to draw again
+		textBatch.flush();
+		Mockito.verify(batch, Mockito.times(1)).begin();
+	}
+
+}
@@ -14,10 +14,23 @@
  */
 package com.dgzt.java;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
 import com.beust.jcommander.Parameters;
 import com.dgzt.core.Player;
 import com.dgzt.core.GameConstans;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.batch.Contestant;
+import com.dgzt.core.batch.PairingType;
+import com.dgzt.core.batch.Tournament;
+import com.dgzt.core.replay.SavedMatch;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.RendererType;
 import com.dgzt.core.setting.Settings;
 import com.dgzt.core.setting.StepMode;
 
@@ -50,6 +63,78 @@ public class Argument {
 	@Parameter(names = "--timeleft", description = "The time left in sec.")
 	private int timeLeftSec = GameConstans.DEFAULT_TIME_LEFT_SEC;
 	
+	@Parameter(names = "--velocityiterations", description = "The velocity iterations of the physics step.")
+	private int velocityIterations = GameConstans.DEFAULT_VELOCITY_ITERATIONS;
+	
+	@Parameter(names = "--positioniterations", description = "The position iterations of the physics step.")
+	private int positionIterations = GameConstans.DEFAULT_POSITION_ITERATIONS;
+	
+	@Parameter(names = "--maxsubsteps", description = "The maximum number of physics steps in one frame.")
+	private int maxSubSteps = GameConstans.DEFAULT_MAX_SUB_STEPS;
+	
+	@Parameter(names = "--instantresolve", description = "Resolve the shots instantly without drawing the movement.")
+	private boolean instantResolve = GameConstans.DEFAULT_INSTANT_RESOLVE;
+	
+	@Parameter(names = "--bot", description = "The type of the bot.")
+	private BotType botType = GameConstans.DEFAULT_BOT_TYPE;
+	
+	@Parameter(names = "--botthinkingtime", description = "The thinking time of the bot in millisec.")
+	private int botThinkingTime = GameConstans.DEFAULT_BOT_THINKING_TIME;
+	
+	@Parameter(names = "--botseed", description = "The seed of the random shots of the bots.")
+	private long botSeed = GameConstans.DEFAULT_BOT_SEED;
+	
+	@Parameter(names = "--botthreads", description = "The number of the threads which simulate the shots of the bot.")
+	private int botThreads = Runtime.getRuntime().availableProcessors();
+	
+	@Parameter(names = "--botsync", description = "The bot thinks in the render thread.")
+	private boolean botSync = false;
+	
+	@Parameter(names = "--continuous", description = "Draw the frames continuously, also when nothing changes on the screen.")
+	private boolean continuous = !GameConstans.DEFAULT_RENDER_ON_DEMAND;
+	
+	@Parameter(names = "--renderer", description = "The type of the shape renderer.")
+	private RendererType renderer = GameConstans.DEFAULT_RENDERER;
+	
+	@Parameter(names = "--timescale", description = "The multiplier of the game time.")
+	private float timeScale = GameConstans.DEFAULT_TIME_SCALE;
+	
+	@Parameter(names = "--record", description = "The directory where the replays of the matches are saved.")
+	private String recordDirectory = null;
+	
+	@Parameter(names = "--replay", description = "The replay file which is played instead of a new match.")
+	private String replayFile = null;
+	
+	@Parameter(names = "--trace", description = "The file where the positions of the bodies are recorded after every physics step.")
+	private String traceFile = null;
+	
+	@Parameter(names = "--save", description = "The file where the quitted match is saved. The saved match is resumed once at the next start.")
+	private String saveFile = null;
+	
+	@Parameter(names = "--playerbot", description = "The type of the bot which plays instead of the player.")
+	private BotType playerBotType = null;
+	
+	@Parameter(names = "--batch", description = "The number of the bot against bot matches which are played without window.")
+	private int batch = 0;
+	
+	@Parameter(names = "--batchthreads", description = "The number of the threads which play the batch and the tournament matches.")
+	private int batchThreads = Runtime.getRuntime().availableProcessors();
+	
+	@Parameter(names = "--batchcsv", description = "The CSV file where the results of the batch matches are saved.")
+	private String batchCsvFile = "batch.csv";
+	
+	@Parameter(names = "--tournament", description = "The bots of the tournament which is played without window, as type or type:thinking time in millisec, separated by comma.")
+	private List<String> contestants = new ArrayList<String>();
+	
+	@Parameter(names = "--pairing", description = "The type of the pairing of the tournament.")
+	private PairingType pairingType = PairingType.ROUND_ROBIN;
+	
+	@Parameter(names = "--rounds", description = "The number of the rounds of the tournament.")
+	private int rounds = 10;
+	
+	@Parameter(names = "--checkpoint", description = "The file where the played rounds of the tournament are saved. The tournament continues from it at the next start.")
+	private String checkpointFile = "tournament.csv";
+	
 	// --------------------------------------------------
 	// ~ Public methods
 	// --------------------------------------------------
@@ -65,10 +150,121 @@ public class Argument {
 		settings.setBallAreaSec(ballAreaSec);
 		settings.setHalfTime(halfTime);
 		settings.setTimeLeftSec(timeLeftSec);
+		settings.setVelocityIterations(velocityIterations);
+		settings.setPositionIterations(positionIterations);
+		settings.setMaxSubSteps(maxSubSteps);
+		settings.setInstantResolve(instantResolve);
+		settings.setBotType(botType);
+		settings.setPlayerBotType(playerBotType);
+		settings.setBotThinkingTime(botThinkingTime);
+		settings.setBotSeed(botSeed);
+		settings.setRenderOnDemand(!continuous);
+		settings.setRenderer(renderer);
+		settings.setTimeScale(timeScale);
 		
 		return settings;
 	}
 	
+	/**
+	 * Create the {@link GameServices} of the game with window. The matches are recorded, traced and saved here,
+	 * the batch and the tournament matches use only the rules of {@link #toSettings()}.
+	 * The threads of the bot are created here too, the game stops them when it is disposed.
+	 * 
+	 * @param settings - The settings of the game. The rules of a resumed saved match are set into them.
+	 */
+	public GameServices toGameServices(final Settings settings){
+		final GameServices services = new GameServices();
+		
+		if(recordDirectory != null){
+			services.setReplayRecorder(new FileReplayRecorder(new File(recordDirectory)));
+		}
+		
+		if(replayFile != null){
+			try{
+				services.setReplay(MappedReplayReader.read(new File(replayFile)));
+			}catch(final IOException e){
+				throw new ParameterException(e);
+			}
+		}
+		
+		if(traceFile != null){
+			try{
+				services.setTraceRecorder(new FileTraceRecorder(new File(traceFile)));
+			}catch(final IOException e){
+				throw new ParameterException(e);
+			}
+		}
+		
+		if(saveFile != null){
+			final File file = new File(saveFile);
+			services.setMatchSaver(new FileMatchSaver(file));
+			
+			// The file is deleted when the saved match is resumed.
+			if(file.exists() && replayFile == null){
+				try{
+					final SavedMatch savedMatch = FileMatchSaver.read(file);
+					settings.setRules(savedMatch.getSettings());
+					services.setSavedMatch(savedMatch);
+				}catch(final IOException e){
+					throw new ParameterException(e);
+				}
+			}
+		}
+		
+		if(botThreads > 1){
+			services.setShotEvaluator(new ParallelShotEvaluator(botThreads, settings));
+		}
+		
+		if(!botSync){
+			services.setBotExecutor(new ThreadedBotExecutor());
+		}
+		
+		return services;
+	}
+	
+	/**
+	 * Create the tournament of the given bots.
+	 * 
+	 * @return The tournament or null when no bot is given.
+	 */
+	public Tournament toTournament(){
+		if(contestants.isEmpty()){
+			return null;
+		}
+		
+		final List<Contestant> tournamentContestants = new ArrayList<Contestant>();
+		for(final String contestant : contestants){
+			final String[] parts = contestant.split(":");
+			
+			BotType contestantBotType = null;
+			for(final BotType type : BotType.values()){
+				if(type.toString().equals(parts[0])){
+					contestantBotType = type;
+				}
+			}
+			if(contestantBotType == null || parts.length > 2){
+				throw new ParameterException("Invalid bot of the tournament: " + contestant);
+			}
+			
+			int thinkingTime = botThinkingTime;
+			if(parts.length == 2){
+				try{
+					thinkingTime = Integer.parseInt(parts[1]);
+				}catch(final NumberFormatException e){
+					throw new ParameterException(e);
+				}
+			}
+			
+			tournamentContestants.add(new Contestant(contestant, contestantBotType, thinkingTime));
+		}
+		
+		try{
+			return new Tournament(tournamentContestants, pairingType, rounds);
+		}catch(final IllegalArgumentException e){
+			throw new ParameterException(e);
+		}
+	}
+	
 	// --------------------------------------------------
 	// ~ Getter / Setter methods
 	// --------------------------------------------------
@@ -112,5 +308,197 @@ public class Argument {
 	public void setTimeLeftSec(int timeLeftSec) {
 		this.timeLeftSec = timeLeftSec;
 	}
+
+	public int getVelocityIterations() {
+		return velocityIterations;
+	}
+
+	public void setVelocityIterations(int velocityIterations) {
+		this.velocityIterations = velocityIterations;
+	}
+
+	public int getPositionIterations() {
+		return positionIterations;
+	}
+
+	public void setPositionIterations(int positionIterations) {
+		this.positionIterations = positionIterations;
+	}
+
+	public int getMaxSubSteps() {
+		return maxSubSteps;
+	}
+
+	public void setMaxSubSteps(int maxSubSteps) {
+		this.maxSubSteps = maxSubSteps;
+	}
+
+	public boolean isInstantResolve() {
+		return instantResolve;
+	}
+
+	public void setInstantResolve(boolean instantResolve) {
+		this.instantResolve = instantResolve;
+	}
+
+	public BotType getBotType() {
+		return botType;
+	}
+
+	public void setBotType(BotType botType) {
+		this.botType = botType;
+	}
+
+	public int getBotThinkingTime() {
+		return botThinkingTime;
+	}
+
+	public void setBotThinkingTime(int botThinkingTime) {
+		this.botThinkingTime = botThinkingTime;
+	}
+
+	public long getBotSeed() {
+		return botSeed;
+	}
+
+	public void setBotSeed(long botSeed) {
+		this.botSeed = botSeed;
+	}
+
+	public int getBotThreads() {
+		return botThreads;
+	}
+
+	public void setBotThreads(int botThreads) {
+		this.botThreads = botThreads;
+	}
+
+	public boolean isBotSync() {
+		return botSync;
+	}
+
+	public void setBotSync(boolean botSync) {
+		this.botSync = botSync;
+	}
+
+	public boolean isContinuous() {
+		return continuous;
+	}
+
+	public void setContinuous(boolean continuous) {
+		this.continuous = continuous;
+	}
+
+	public RendererType getRenderer() {
+		return renderer;
+	}
+
+	public void setRenderer(RendererType renderer) {
+		this.renderer = renderer;
+	}
+
+	public float getTimeScale() {
+		return timeScale;
+	}
+
+	public void setTimeScale(float timeScale) {
+		this.timeScale = timeScale;
+	}
+
+	public String getRecordDirectory() {
+		return recordDirectory;
+	}
+
+	public void setRecordDirectory(String recordDirectory) {
+		this.recordDirectory = recordDirectory;
+	}
+
+	public String getReplayFile() {
+		return replayFile;
+	}
+
+	public void setReplayFile(String replayFile) {
+		this.replayFile = replayFile;
+	}
+
+	public String getTraceFile() {
+		return traceFile;
+	}
+
+	public void setTraceFile(String traceFile) {
+		this.traceFile = traceFile;
+	}
+
+	public String getSaveFile() {
+		return saveFile;
+	}
+
+	public void setSaveFile(String saveFile) {
+		this.saveFile = saveFile;
+	}
+
+	public BotType getPlayerBotType() {
+		return playerBotType;
+	}
+
+	public void setPlayerBotType(BotType playerBotType) {
+		this.playerBotType = playerBotType;
+	}
+
+	public int getBatch() {
+		return batch;
+	}
+
+	public void setBatch(int batch) {
+		this.batch = batch;
+	}
+
+	public int getBatchThreads() {
+		return batchThreads;
+	}
+
+	public void setBatchThreads(int batchThreads) {
+		this.batchThreads = batchThreads;
+	}
+
+	public String getBatchCsvFile() {
+		return batchCsvFile;
+	}
+
+	public void setBatchCsvFile(String batchCsvFile) {
+		this.batchCsvFile = batchCsvFile;
+	}
+
+	public List<String> getContestants() {
+		return contestants;
+	}
+
+	public void setContestants(List<String> contestants) {
+		this.contestants = contestants;
+	}
+
+	public PairingType getPairingType() {
+		return pairingType;
+	}
+
+	public void setPairingType(PairingType pairingType) {
+		this.pairingType = pairingType;
+	}
+
+	public int getRounds() {
+		return rounds;
+	}
+
+	public void setRounds(int rounds) {
+		this.rounds = rounds;
+	}
+
+	public String getCheckpointFile() {
+		return checkpointFile;
+	}
+
+	public void setCheckpointFile(String checkpointFile) {
+		this.checkpointFile = checkpointFile;
+	}
 	
 }
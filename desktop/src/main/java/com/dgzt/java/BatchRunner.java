@@ -0,0 +1,279 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.dgzt.core.MatchStats;
+import com.dgzt.core.Player;
+import com.dgzt.core.batch.MatchResult;
+import com.dgzt.core.batch.MatchRunner;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Play matches between the bot of the player and the bot of the opponent without window.
+ * The matches are split into chunks for a thread pool, every thread plays on its own match runner and box2D world.
+ * The results are written into a CSV file and the throughput is printed at the end.
+ * 
+ * @author Dgzt
+ */
+public class BatchRunner extends ApplicationAdapter {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The header of the CSV file. */
+	private static final String CSV_HEADER = "match,first_step,finished,ticks,player_goals,opponent_goals,"
+			+ "player_shots,opponent_shots,player_faults,opponent_faults,player_penalty_kicks,opponent_penalty_kicks,"
+			+ "player_corner_kicks,opponent_corner_kicks,player_throw_ins,opponent_throw_ins,player_goal_kicks,opponent_goal_kicks";
+	
+	/** The number of the chunks per thread. More chunks balance the threads better. */
+	private static final int CHUNKS_PER_THREAD = 8;
+	
+	/** The number of nanoseconds in one second. */
+	private static final double NANOS_PER_SECOND = 1e9;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The settings of the matches. */
+	private final Settings settings;
+	
+	/** The number of the matches. */
+	private final int matchNum;
+	
+	/** The number of the threads. */
+	private final int threadNum;
+	
+	/** The CSV file of the results. */
+	private final File csvFile;
+	
+	/** The results of the matches. */
+	private final MatchResult[] results;
+	
+	/** The match runners of the threads. */
+	private final List<MatchRunner> matchRunners;
+	
+	/** The match runner of the actual thread. */
+	private final ThreadLocal<MatchRunner> matchRunner;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings of the matches.
+	 * @param matchNum - The number of the matches.
+	 * @param threadNum - The number of the threads.
+	 * @param csvFile - The CSV file of the results.
+	 */
+	public BatchRunner(final Settings settings, final int matchNum, final int threadNum, final File csvFile){
+		this.settings = settings;
+		this.matchNum = matchNum;
+		this.threadNum = threadNum;
+		this.csvFile = csvFile;
+		
+		results = new MatchResult[matchNum];
+		matchRunners = new ArrayList<MatchRunner>(threadNum);
+		matchRunner = new ThreadLocal<MatchRunner>(){
+			
+			@Override
+			protected MatchRunner initialValue() {
+				final MatchRunner runner = new MatchRunner(BatchRunner.this.settings);
+				synchronized(matchRunners){
+					matchRunners.add(runner);
+				}
+				return runner;
+			}
+		};
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void create() {
+		// The game logs every event, it would slow down the matches.
+		Gdx.app.setLogLevel(Application.LOG_ERROR);
+		
+		final long startTime = System.nanoTime();
+		final ExecutorService executor = Executors.newFixedThreadPool(threadNum);
+		final int chunkSize = Math.max(1, matchNum / (threadNum * CHUNKS_PER_THREAD));
+		final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+		for(int from = 0; from < matchNum; from += chunkSize){
+			futures.add(executor.submit(new MatchChunk(from, Math.min(from + chunkSize, matchNum))));
+		}
+		try{
+			for(final Future<Void> future : futures){
+				future.get();
+			}
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}catch(final ExecutionException e){
+			throw new IllegalStateException(e.getCause());
+		}finally{
+			executor.shutdown();
+		}
+		final double seconds = (System.nanoTime() - startTime) / NANOS_PER_SECOND;
+		
+		for(final MatchRunner runner : matchRunners){
+			runner.dispose();
+		}
+		
+		try{
+			writeCsv();
+		}catch(final IOException e){
+			Gdx.app.error(BatchRunner.class.getName() + ".create", "The results are not saved: " + csvFile, e);
+		}
+		
+		printSummary(seconds);
+		Gdx.app.exit();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Write the results into the CSV file.
+	 */
+	private void writeCsv() throws IOException{
+		final Writer writer = new BufferedWriter(new FileWriter(csvFile));
+		try{
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+			
+			final StringBuilder line = new StringBuilder();
+			for(int i = 0; i < results.length; ++i){
+				final MatchResult result = results[i];
+				final MatchStats matchStats = result.getMatchStats();
+				
+				line.setLength(0);
+				line.append(i).append(',')
+					.append(result.getFirstStep()).append(',')
+					.append(result.isFinished()).append(',')
+					.append(result.getTicks()).append(',')
+					.append(result.getPlayerGoals()).append(',')
+					.append(result.getOpponentGoals()).append(',')
+					.append(matchStats.getShots(Player.PLAYER)).append(',')
+					.append(matchStats.getShots(Player.BOT)).append(',')
+					.append(matchStats.getFaults(Player.PLAYER)).append(',')
+					.append(matchStats.getFaults(Player.BOT)).append(',')
+					.append(matchStats.getPenaltyKicks(Player.PLAYER)).append(',')
+					.append(matchStats.getPenaltyKicks(Player.BOT)).append(',')
+					.append(matchStats.getCornerKicks(Player.PLAYER)).append(',')
+					.append(matchStats.getCornerKicks(Player.BOT)).append(',')
+					.append(matchStats.getThrowIns(Player.PLAYER)).append(',')
+					.append(matchStats.getThrowIns(Player.BOT)).append(',')
+					.append(matchStats.getGoalKicks(Player.PLAYER)).append(',')
+					.append(matchStats.getGoalKicks(Player.BOT)).append('\n');
+				writer.write(line.toString());
+			}
+		}finally{
+			writer.close();
+		}
+	}
+	
+	/**
+	 * Print the wins of the bots and the throughput.
+	 * 
+	 * @param seconds - The playing time of the matches in second.
+	 */
+	private void printSummary(final double seconds){
+		int playerWins = 0;
+		int opponentWins = 0;
+		int unfinished = 0;
+		for(final MatchResult result : results){
+			if(result.getPlayerGoals() > result.getOpponentGoals()){
+				++playerWins;
+			}else if(result.getPlayerGoals() < result.getOpponentGoals()){
+				++opponentWins;
+			}
+			if(!result.isFinished()){
+				++unfinished;
+			}
+		}
+		
+		System.out.println(String.format("Player bot (%s) wins: %d, opponent bot (%s) wins: %d, draws: %d, unfinished: %d",
+				settings.getPlayerBotType(), playerWins, settings.getBotType(), opponentWins, matchNum - playerWins - opponentWins, unfinished));
+		System.out.println(String.format("%d matches on %d threads in %.2f s, %.1f matches/s, results: %s",
+				matchNum, threadNum, seconds, matchNum / seconds, csvFile));
+	}
+	
+	// --------------------------------------------------
+	// ~ Inner classes
+	// --------------------------------------------------
+	
+	/**
+	 * Play a chunk of the matches on the match runner of the actual thread.
+	 * The first step alternates by match, so both bots kick off in the same number of first halves.
+	 */
+	private class MatchChunk implements Callable<Void> {
+		
+		/** The index of the first match. */
+		private final int from;
+		
+		/** The index after the last match. */
+		private final int to;
+		
+		/**
+		 * The constructor.
+		 * 
+		 * @param from - The index of the first match.
+		 * @param to - The index after the last match.
+		 */
+		public MatchChunk(final int from, final int to){
+			this.from = from;
+			this.to = to;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Void call() {
+			final MatchRunner runner = matchRunner.get();
+			for(int i = from; i < to; ++i){
+				results[i] = runner.play(i % 2 == 0 ? Player.PLAYER : Player.BOT, settings.getBotSeed() + i);
+			}
+			
+			return null;
+		}
+	}
+	
+}
@@ -14,10 +14,16 @@
  */
 package com.dgzt.java;
 
+import java.io.File;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.beust.jcommander.JCommander;
 import com.dgzt.core.ButtonFootballGame;
+import com.dgzt.core.batch.Tournament;
+import com.dgzt.core.setting.Settings;
 
 /**
  * The desktop interface for the game.
@@ -36,10 +42,27 @@ public class ButtonFootballGameDesktop {
 		final Argument bfa = new Argument();
 		new JCommander(bfa, args);
 		
+		final Tournament tournament = bfa.toTournament();
+		if(tournament != null){
+			new HeadlessApplication(new TournamentRunner(bfa.toSettings(), tournament, bfa.getBatchThreads(), new File(bfa.getCheckpointFile())), new HeadlessApplicationConfiguration());
+			return;
+		}
+		
+		if(bfa.getBatch() > 0){
+			final Settings settings = bfa.toSettings();
+			// Without player bot the opponent bot plays against itself.
+			if(settings.getPlayerBotType() == null){
+				settings.setPlayerBotType(settings.getBotType());
+			}
+			new HeadlessApplication(new BatchRunner(settings, bfa.getBatch(), bfa.getBatchThreads(), new File(bfa.getBatchCsvFile())), new HeadlessApplicationConfiguration());
+			return;
+		}
+		
 		final LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
 		config.width = 800;
 		config.height = 600;
-		new LwjglApplication(new ButtonFootballGame(bfa.toSettings()), config);
+		final Settings settings = bfa.toSettings();
+		new LwjglApplication(new ButtonFootballGame(settings, bfa.toGameServices(settings)), config);
 	}
 
 }
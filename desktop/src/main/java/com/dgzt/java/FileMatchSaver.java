@@ -0,0 +1,135 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.badlogic.gdx.Gdx;
+import com.dgzt.core.replay.MatchSaver;
+import com.dgzt.core.replay.SaveCodec;
+import com.dgzt.core.replay.SavedMatch;
+
+/**
+ * Save the quitted match into a file and read it back when the game is started again.
+ * 
+ * @author Dgzt
+ */
+public class FileMatchSaver implements MatchSaver {
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The file of the saved match. */
+	private final File file;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param file - The file of the saved match. It is overwritten by every save.
+	 */
+	public FileMatchSaver(final File file){
+		this.file = file;
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Read the saved match from the given file. The whole file is read into one direct buffer and decoded from there.
+	 * 
+	 * @param file - The file.
+	 * @return The saved match.
+	 * @throws IOException When the file cannot be read.
+	 */
+	public static SavedMatch read(final File file) throws IOException{
+		final FileInputStream inputStream = new FileInputStream(file);
+		try{
+			final FileChannel channel = inputStream.getChannel();
+			final ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size());
+			while(buffer.hasRemaining() && channel.read(buffer) != -1){
+				// Read until the buffer is full.
+			}
+			buffer.flip();
+			
+			return SaveCodec.decode(buffer);
+		}finally{
+			inputStream.close();
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void save(final SavedMatch savedMatch) {
+		OutputStream outputStream = null;
+		try{
+			outputStream = new FileOutputStream(file);
+			outputStream.write(SaveCodec.encode(savedMatch));
+			
+			Gdx.app.log(FileMatchSaver.class.getName() + ".save", "The match is saved: " + file);
+		}catch(final IOException e){
+			Gdx.app.error(FileMatchSaver.class.getName() + ".save", "The match is not saved: " + file, e);
+		}finally{
+			close(outputStream);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void delete() {
+		if(file.exists() && !file.delete()){
+			Gdx.app.error(FileMatchSaver.class.getName() + ".delete", "The saved match is not deleted: " + file);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Close the given stream.
+	 * 
+	 * @param outputStream - The stream or null.
+	 */
+	private void close(final OutputStream outputStream){
+		if(outputStream != null){
+			try{
+				outputStream.close();
+			}catch(final IOException e){
+				Gdx.app.error(FileMatchSaver.class.getName() + ".close", "The save file is not closed.", e);
+			}
+		}
+	}
+	
+}
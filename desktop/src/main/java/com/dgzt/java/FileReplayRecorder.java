@@ -0,0 +1,121 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import com.badlogic.gdx.Gdx;
+import com.dgzt.core.replay.Replay;
+import com.dgzt.core.replay.ReplayCodec;
+import com.dgzt.core.replay.ReplayRecorder;
+
+/**
+ * Save the replays into files of a directory.
+ * 
+ * @author Dgzt
+ */
+public class FileReplayRecorder implements ReplayRecorder {
+	
+	// --------------------------------------------------
+	// ~ Public static members
+	// --------------------------------------------------
+	
+	/** The extension of the replay files. */
+	public static final String EXTENSION = ".bfr";
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The directory of the replays. */
+	private final File directory;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param directory - The directory of the replays. It is created when it does not exist.
+	 */
+	public FileReplayRecorder(final File directory){
+		this.directory = directory;
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void save(final Replay replay) {
+		final File file = createFile();
+		
+		OutputStream outputStream = null;
+		try{
+			outputStream = new FileOutputStream(file);
+			outputStream.write(ReplayCodec.encode(replay));
+			
+			Gdx.app.log(FileReplayRecorder.class.getName() + ".save", "The replay is saved: " + file);
+		}catch(final IOException e){
+			Gdx.app.error(FileReplayRecorder.class.getName() + ".save", "The replay is not saved: " + file, e);
+		}finally{
+			close(outputStream);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with a new file in the directory. The name is the time of the save.
+	 */
+	private File createFile(){
+		directory.mkdirs();
+		
+		final String name = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+		File file = new File(directory, name + EXTENSION);
+		for(int i = 1; file.exists(); ++i){
+			file = new File(directory, name + "-" + i + EXTENSION);
+		}
+		
+		return file;
+	}
+	
+	/**
+	 * Close the given stream.
+	 * 
+	 * @param outputStream - The stream or null.
+	 */
+	private void close(final OutputStream outputStream){
+		if(outputStream != null){
+			try{
+				outputStream.close();
+			}catch(final IOException e){
+				Gdx.app.error(FileReplayRecorder.class.getName() + ".close", "The replay file is not closed.", e);
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,196 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.dgzt.core.batch.Tournament;
+import com.dgzt.core.batch.TournamentGame;
+
+/**
+ * Save the played games of a tournament into a CSV file after every round and restore them after a restart.
+ * The file is written into a temporary file first and moved to its place, so a stopped tournament never leaves a half written checkpoint.
+ * 
+ * @author Dgzt
+ */
+public class FileTournamentCheckpoint {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The prefix of the line of the contestants. */
+	private static final String CONTESTANTS_PREFIX = "# ";
+	
+	/** The header of the games. */
+	private static final String CSV_HEADER = "round,home,away,first_step,home_goals,away_goals";
+	
+	/** The separator of the columns. */
+	private static final String SEPARATOR = ",";
+	
+	/** The number of the columns. */
+	private static final int COLUMN_NUM = 6;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The file of the checkpoint. */
+	private final File file;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param file - The file of the checkpoint.
+	 */
+	public FileTournamentCheckpoint(final File file){
+		this.file = file;
+	}
+	
+	// --------------------------------------------------
+	// ~ Public methods
+	// --------------------------------------------------
+	
+	/**
+	 * Add the saved rounds to the tournament. The rounds are created again by the tournament and their games must be the saved games.
+	 * Nothing happens when the file does not exist.
+	 * 
+	 * @param tournament - The tournament which has no played round.
+	 * @return The number of the restored rounds.
+	 * @throws IOException When the file cannot be read or it belongs to an other tournament.
+	 */
+	public int restore(final Tournament tournament) throws IOException{
+		if(!file.exists()){
+			return 0;
+		}
+		
+		final BufferedReader reader = new BufferedReader(new FileReader(file));
+		try{
+			final String contestantsLine = reader.readLine();
+			if(!getContestantsLine(tournament).equals(contestantsLine) || !CSV_HEADER.equals(reader.readLine())){
+				throw new IOException("The checkpoint belongs to an other tournament: " + file);
+			}
+			
+			String line = reader.readLine();
+			while(line != null){
+				if(tournament.isFinished()){
+					throw new IOException("The checkpoint has more rounds than the tournament: " + file);
+				}
+				
+				final List<TournamentGame> roundGames = tournament.createRound();
+				for(final TournamentGame game : roundGames){
+					if(line == null){
+						throw new IOException("The last round of the checkpoint is not complete: " + file);
+					}
+					setResult(tournament, game, line);
+					line = reader.readLine();
+				}
+				tournament.addRound(roundGames);
+			}
+		}finally{
+			reader.close();
+		}
+		
+		return tournament.getRound();
+	}
+	
+	/**
+	 * Save the played games of the tournament.
+	 * 
+	 * @param tournament - The tournament.
+	 * @throws IOException When the file cannot be written.
+	 */
+	public void save(final Tournament tournament) throws IOException{
+		final File tempFile = new File(file.getPath() + ".tmp");
+		final Writer writer = new BufferedWriter(new FileWriter(tempFile));
+		try{
+			writer.write(getContestantsLine(tournament));
+			writer.write('\n');
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+			
+			for(int i = 0; i < tournament.getGameNum(); ++i){
+				final TournamentGame game = tournament.getGame(i);
+				writer.write(game.getRound() + SEPARATOR
+						+ tournament.getContestant(game.getHome()).getName() + SEPARATOR
+						+ tournament.getContestant(game.getAway()).getName() + SEPARATOR
+						+ game.getFirstStep() + SEPARATOR
+						+ game.getHomeGoals() + SEPARATOR
+						+ game.getAwayGoals() + '\n');
+			}
+		}finally{
+			writer.close();
+		}
+		
+		// The renaming replaces the old checkpoint atomically where the file system allows it, else the old checkpoint is deleted first.
+		if(!tempFile.renameTo(file) && !(file.delete() && tempFile.renameTo(file))){
+			throw new IOException("The checkpoint is not moved to its place: " + file);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Return with the first line of the file which identifies the tournament.
+	 * 
+	 * @param tournament - The tournament.
+	 */
+	private static String getContestantsLine(final Tournament tournament){
+		final StringBuilder line = new StringBuilder(CONTESTANTS_PREFIX).append(tournament.getPairingType());
+		for(int i = 0; i < tournament.getContestantNum(); ++i){
+			line.append(SEPARATOR).append(tournament.getContestant(i).getName());
+		}
+		return line.toString();
+	}
+	
+	/**
+	 * Set the result of the game from the saved line.
+	 * 
+	 * @param tournament - The tournament.
+	 * @param game - The game of the line.
+	 * @param line - The saved line.
+	 * @throws IOException When the line is not the saved line of the game.
+	 */
+	private void setResult(final Tournament tournament, final TournamentGame game, final String line) throws IOException{
+		final String[] columns = line.split(SEPARATOR);
+		if(columns.length != COLUMN_NUM
+				|| !columns[0].equals(String.valueOf(game.getRound()))
+				|| !columns[1].equals(tournament.getContestant(game.getHome()).getName())
+				|| !columns[2].equals(tournament.getContestant(game.getAway()).getName())
+				|| !columns[3].equals(game.getFirstStep().toString())){
+			throw new IOException("The saved game does not belong to the tournament: " + line);
+		}
+		
+		try{
+			game.setResult(Integer.parseInt(columns[4]), Integer.parseInt(columns[5]));
+		}catch(final NumberFormatException e){
+			throw new IOException("The saved game has invalid goals: " + line, e);
+		}
+	}
+	
+}
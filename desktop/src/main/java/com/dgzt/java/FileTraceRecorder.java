@@ -0,0 +1,221 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.badlogic.gdx.Gdx;
+import com.dgzt.core.Table;
+import com.dgzt.core.replay.TraceEncoder;
+import com.dgzt.core.replay.TraceRecorder;
+
+/**
+ * Stream the trace of the positions into a file. The steps are encoded into direct buffers in the thread of the simulation
+ * and the full buffers are written by a background thread, so the simulation does not wait for the disk.
+ * The buffers are allocated in the constructor and reused, the simulation waits only when every buffer is full.
+ * 
+ * @author Dgzt
+ */
+public class FileTraceRecorder implements TraceRecorder {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The size of one buffer in bytes. */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	
+	/** The number of the buffers. */
+	private static final int BUFFER_NUM = 4;
+	
+	/** The buffer which stops the writer thread. */
+	private static final ByteBuffer END_BUFFER = ByteBuffer.allocate(0);
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The file. */
+	private final File file;
+	
+	/** The channel of the file. */
+	private final FileChannel channel;
+	
+	/** The empty buffers. */
+	private final BlockingQueue<ByteBuffer> emptyBuffers;
+	
+	/** The full buffers which wait for writing. */
+	private final BlockingQueue<ByteBuffer> fullBuffers;
+	
+	/** The writer thread. */
+	private final Thread writerThread;
+	
+	/** The encoder. It is created at the first step, when the number of the bodies is known. */
+	private TraceEncoder encoder;
+	
+	/** The current buffer or null when the recorder is closed. */
+	private ByteBuffer buffer;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param file - The trace file. It is overwritten when it exists.
+	 * @throws IOException When the file cannot be opened.
+	 */
+	public FileTraceRecorder(final File file) throws IOException{
+		this.file = file;
+		channel = new FileOutputStream(file).getChannel();
+		
+		emptyBuffers = new ArrayBlockingQueue<ByteBuffer>(BUFFER_NUM);
+		fullBuffers = new ArrayBlockingQueue<ByteBuffer>(BUFFER_NUM + 1);
+		for(int i = 1; i < BUFFER_NUM; ++i){
+			emptyBuffers.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+		}
+		buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		encoder = null;
+		
+		writerThread = new Thread(new Runnable() {
+			
+			@Override
+			public void run() {
+				write();
+			}
+		}, FileTraceRecorder.class.getSimpleName());
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void record(final Table table) {
+		if(buffer == null){
+			return;
+		}
+		
+		if(encoder == null){
+			encoder = new TraceEncoder(table.getBodyNum());
+			encoder.encodeHeader(buffer);
+		}
+		
+		if(buffer.remaining() < encoder.getMaxStepSize()){
+			buffer = submit(buffer);
+			if(buffer == null){
+				return;
+			}
+		}
+		encoder.encodeStep(buffer, table);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		if(buffer == null){
+			return;
+		}
+		
+		if(encoder != null){
+			if(buffer.remaining() < encoder.getMaxStepSize()){
+				buffer = submit(buffer);
+			}
+			if(buffer != null){
+				encoder.encodeEnd(buffer);
+			}
+		}
+		if(buffer != null){
+			submit(buffer);
+		}
+		buffer = null;
+		
+		try{
+			fullBuffers.put(END_BUFFER);
+			writerThread.join();
+			channel.close();
+			
+			Gdx.app.log(FileTraceRecorder.class.getName() + ".close", "The trace is saved: " + file);
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+		}catch(final IOException e){
+			Gdx.app.error(FileTraceRecorder.class.getName() + ".close", "The trace is not saved: " + file, e);
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Give the full buffer to the writer thread and return with an empty buffer. It waits when the writer is behind.
+	 * 
+	 * @param fullBuffer - The full buffer.
+	 * @return The empty buffer or null if the thread is interrupted.
+	 */
+	private ByteBuffer submit(final ByteBuffer fullBuffer){
+		fullBuffer.flip();
+		
+		try{
+			fullBuffers.put(fullBuffer);
+			return emptyBuffers.take();
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+	
+	/**
+	 * Write the full buffers into the file until the end buffer. The written buffers are given back to the recorder.
+	 * After a write error the buffers are dropped, so the simulation does not stop.
+	 */
+	private void write(){
+		boolean failed = false;
+		
+		try{
+			ByteBuffer fullBuffer;
+			while((fullBuffer = fullBuffers.take()) != END_BUFFER){
+				try{
+					while(!failed && fullBuffer.hasRemaining()){
+						channel.write(fullBuffer);
+					}
+				}catch(final IOException e){
+					failed = true;
+					Gdx.app.error(FileTraceRecorder.class.getName() + ".write", "The trace is not saved: " + file, e);
+				}
+				
+				fullBuffer.clear();
+				emptyBuffers.put(fullBuffer);
+			}
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+}
@@ -0,0 +1,135 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.dgzt.core.replay.Replay;
+import com.dgzt.core.replay.ReplayCodec;
+import com.dgzt.core.replay.Trace;
+import com.dgzt.core.replay.TraceDecoder;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Read the replay and the trace files through memory mapping. Only the read pages of the files are loaded,
+ * so the headers of many replays can be indexed fast.
+ * 
+ * @author Dgzt
+ */
+public final class MappedReplayReader {
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/*
+	 * Hidden constuctor.
+	 */
+	private MappedReplayReader(){
+		// Hide constructor for sonar.
+	}
+	
+	// --------------------------------------------------
+	// ~ Static methods
+	// --------------------------------------------------
+	
+	/**
+	 * Read the whole replay from the given file.
+	 * 
+	 * @param file - The file.
+	 * @return The replay.
+	 * @throws IOException When the file cannot be read.
+	 */
+	public static Replay read(final File file) throws IOException{
+		return ReplayCodec.decode(map(file));
+	}
+	
+	/**
+	 * Read the positions of a trace file which is saved by {@link FileTraceRecorder}.
+	 * 
+	 * @param file - The file.
+	 * @return The trace.
+	 * @throws IOException When the file cannot be read.
+	 */
+	public static Trace readTrace(final File file) throws IOException{
+		return TraceDecoder.decode(map(file));
+	}
+	
+	/**
+	 * Read only the settings from the header of the given file.
+	 * 
+	 * @param file - The file.
+	 * @return The settings of the replay.
+	 * @throws IOException When the file cannot be read.
+	 */
+	public static Settings readSettings(final File file) throws IOException{
+		return ReplayCodec.decodeSettings(map(file));
+	}
+	
+	/**
+	 * Index the replay files of the given directory by their settings, in the order of their names.
+	 * 
+	 * @param directory - The directory.
+	 * @return The settings of the replay files.
+	 * @throws IOException When a file cannot be read.
+	 */
+	public static Map<File, Settings> index(final File directory) throws IOException{
+		final File[] files = directory.listFiles(new FileFilter() {
+			
+			@Override
+			public boolean accept(final File file) {
+				return file.isFile() && file.getName().endsWith(FileReplayRecorder.EXTENSION);
+			}
+		});
+		
+		final Map<File, Settings> index = new LinkedHashMap<File, Settings>();
+		if(files != null){
+			Arrays.sort(files);
+			for(final File file : files){
+				index.put(file, readSettings(file));
+			}
+		}
+		
+		return index;
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Map the given file into the memory. The mapping stays valid after the file is closed.
+	 * 
+	 * @param file - The file.
+	 */
+	private static MappedByteBuffer map(final File file) throws IOException{
+		final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try{
+			final FileChannel channel = randomAccessFile.getChannel();
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}finally{
+			randomAccessFile.close();
+		}
+	}
+	
+}
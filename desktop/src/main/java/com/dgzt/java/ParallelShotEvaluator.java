@@ -0,0 +1,166 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.dgzt.core.ShotCandidate;
+import com.dgzt.core.ShotEvaluator;
+import com.dgzt.core.ShotSimulator;
+import com.dgzt.core.TableSnapshot;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Evaluate the shot candidates of the bot on more threads. Every thread has its own simulator.
+ * 
+ * @author Dgzt
+ */
+public class ParallelShotEvaluator implements ShotEvaluator {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The time in second to wait for the running simulations at the disposing. */
+	private static final long TERMINATION_TIMEOUT = 5;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The number of the threads. */
+	private final int threadNum;
+	
+	/** The executor of the simulations. */
+	private final ExecutorService executor;
+	
+	/** The simulator of the actual thread. */
+	private final ThreadLocal<ShotSimulator> simulator;
+	
+	/** The simulators of all threads. */
+	private final List<ShotSimulator> simulators;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param threadNum - The number of the threads.
+	 * @param settings - The settings of the simulators.
+	 */
+	public ParallelShotEvaluator(final int threadNum, final Settings settings){
+		this.threadNum = threadNum;
+		
+		executor = Executors.newFixedThreadPool(threadNum, new ThreadFactory() {
+			
+			@Override
+			public Thread newThread(final Runnable runnable) {
+				final Thread thread = new Thread(runnable, ParallelShotEvaluator.class.getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		
+		simulators = new ArrayList<ShotSimulator>(threadNum);
+		simulator = new ThreadLocal<ShotSimulator>(){
+			
+			@Override
+			protected ShotSimulator initialValue() {
+				final ShotSimulator threadSimulator = new ShotSimulator(settings);
+				synchronized(simulators){
+					simulators.add(threadSimulator);
+				}
+				return threadSimulator;
+			}
+		};
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evaluate(final TableSnapshot snapshot, final ShotCandidate[] candidates, final int from, final int to, final boolean attackLeftGate) {
+		final int chunkSize = (to - from + threadNum - 1) / threadNum;
+		
+		// More decisions can evaluate at the same time, so every call waits for its own chunks.
+		final List<Future<Void>> futures = new ArrayList<Future<Void>>(threadNum);
+		for(int chunkFrom = from; chunkFrom < to; chunkFrom += chunkSize){
+			final int chunkStart = chunkFrom;
+			final int chunkEnd = Math.min(chunkFrom + chunkSize, to);
+			
+			futures.add(executor.submit(new Callable<Void>() {
+
+				@Override
+				public Void call() {
+					final ShotSimulator actualSimulator = simulator.get();
+					
+					for(int i = chunkStart; i < chunkEnd; ++i){
+						candidates[i].setScore(actualSimulator.simulate(snapshot, candidates[i], attackLeftGate));
+					}
+					
+					return null;
+				}
+			}));
+		}
+		
+		try {
+			for(final Future<Void> future : futures){
+				future.get();
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (final ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		executor.shutdownNow();
+		
+		try{
+			executor.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		
+		// The box2D worlds of the simulators are native, the threads do not dispose them.
+		synchronized(simulators){
+			for(final ShotSimulator threadSimulator : simulators){
+				threadSimulator.dispose();
+			}
+			simulators.clear();
+		}
+	}
+	
+}
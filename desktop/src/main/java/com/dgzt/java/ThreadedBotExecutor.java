@@ -0,0 +1,92 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.dgzt.core.BotDecision;
+import com.dgzt.core.BotExecutor;
+
+/**
+ * Run the decisions of the bot on a background thread, so the rendering does not wait for the bot.
+ * 
+ * @author Dgzt
+ */
+public class ThreadedBotExecutor implements BotExecutor {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The maximum waiting time for the running decision in second. */
+	private static final long TERMINATION_TIMEOUT = 5;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The executor of the decisions. */
+	private final ExecutorService executor;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 */
+	public ThreadedBotExecutor(){
+		// One thread, so a cancelled decision never runs together with the next one.
+		executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			
+			@Override
+			public Thread newThread(final Runnable runnable) {
+				final Thread thread = new Thread(runnable, ThreadedBotExecutor.class.getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void execute(final BotDecision decision) {
+		executor.execute(decision);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		executor.shutdownNow();
+		
+		try{
+			executor.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+}
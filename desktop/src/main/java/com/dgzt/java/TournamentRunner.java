@@ -0,0 +1,263 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.dgzt.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.dgzt.core.batch.MatchResult;
+import com.dgzt.core.batch.MatchRunner;
+import com.dgzt.core.batch.RatingTable;
+import com.dgzt.core.batch.Tournament;
+import com.dgzt.core.batch.TournamentGame;
+import com.dgzt.core.setting.Settings;
+
+/**
+ * Play a bot tournament without window. The games of a round are played on a thread pool.
+ * Every thread keeps one match runner and box2D world, the bots of the runner are changed by game.
+ * The played rounds are checkpointed, so a stopped tournament continues at the next start.
+ * 
+ * @author Dgzt
+ */
+public class TournamentRunner extends ApplicationAdapter {
+	
+	// --------------------------------------------------
+	// ~ Private static members
+	// --------------------------------------------------
+	
+	/** The number of nanoseconds in one second. */
+	private static final double NANOS_PER_SECOND = 1e9;
+	
+	// --------------------------------------------------
+	// ~ Private members
+	// --------------------------------------------------
+	
+	/** The settings of the matches. */
+	private final Settings settings;
+	
+	/** The tournament. */
+	private final Tournament tournament;
+	
+	/** The number of the threads. */
+	private final int threadNum;
+	
+	/** The checkpoint of the tournament. */
+	private final FileTournamentCheckpoint checkpoint;
+	
+	/** The match runners of the threads. */
+	private final List<MatchRunner> matchRunners;
+	
+	/** The match runner of the actual thread. The bots of the runner are changed by game. */
+	private final ThreadLocal<MatchRunner> matchRunner;
+	
+	// --------------------------------------------------
+	// ~ Constructors
+	// --------------------------------------------------
+	
+	/**
+	 * The constructor.
+	 * 
+	 * @param settings - The settings of the matches. The bots are set by the contestants.
+	 * @param tournament - The tournament.
+	 * @param threadNum - The number of the threads.
+	 * @param checkpointFile - The checkpoint file of the tournament.
+	 */
+	public TournamentRunner(final Settings settings, final Tournament tournament, final int threadNum, final File checkpointFile){
+		this.settings = settings;
+		this.tournament = tournament;
+		this.threadNum = threadNum;
+		
+		checkpoint = new FileTournamentCheckpoint(checkpointFile);
+		matchRunners = new ArrayList<MatchRunner>();
+		matchRunner = new ThreadLocal<MatchRunner>(){
+			
+			@Override
+			protected MatchRunner initialValue() {
+				final MatchRunner runner = new MatchRunner(TournamentRunner.this.settings);
+				synchronized(matchRunners){
+					matchRunners.add(runner);
+				}
+				return runner;
+			}
+		};
+	}
+	
+	// --------------------------------------------------
+	// ~ Override methods
+	// --------------------------------------------------
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void create() {
+		// The game logs every event, it would slow down the matches.
+		Gdx.app.setLogLevel(Application.LOG_ERROR);
+		
+		try{
+			final int restoredRoundNum = checkpoint.restore(tournament);
+			if(restoredRoundNum != 0){
+				System.out.println("Restored rounds: " + restoredRoundNum);
+				printStandings();
+			}
+		}catch(final IOException e){
+			// The checkpoint is not overwritten.
+			Gdx.app.error(TournamentRunner.class.getName() + ".create", "The checkpoint is not restored.", e);
+			Gdx.app.exit();
+			return;
+		}
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(threadNum);
+		while(!tournament.isFinished()){
+			final List<TournamentGame> roundGames = tournament.createRound();
+			
+			final long startTime = System.nanoTime();
+			playRound(executor, roundGames);
+			final double seconds = (System.nanoTime() - startTime) / NANOS_PER_SECOND;
+			
+			tournament.addRound(roundGames);
+			try{
+				checkpoint.save(tournament);
+			}catch(final IOException e){
+				Gdx.app.error(TournamentRunner.class.getName() + ".create", "The checkpoint is not saved.", e);
+			}
+			
+			System.out.println(String.format("Round %d/%d, %d games in %.2f s",
+					tournament.getRound(), tournament.getRoundNum(), roundGames.size(), seconds));
+			printStandings();
+		}
+		executor.shutdown();
+		
+		for(final MatchRunner runner : matchRunners){
+			runner.dispose();
+		}
+		Gdx.app.exit();
+	}
+	
+	// --------------------------------------------------
+	// ~ Private methods
+	// --------------------------------------------------
+	
+	/**
+	 * Play the games of the round on the given executor and wait for them.
+	 * 
+	 * @param executor - The executor.
+	 * @param roundGames - The games of the round.
+	 */
+	private void playRound(final ExecutorService executor, final List<TournamentGame> roundGames){
+		final List<Future<Void>> futures = new ArrayList<Future<Void>>(roundGames.size());
+		for(int i = 0; i < roundGames.size(); ++i){
+			// The games of the round are added to the tournament after the round, so only the earlier games are counted.
+			futures.add(executor.submit(new GameTask(roundGames.get(i), tournament.getGameNum() + i)));
+		}
+		
+		try{
+			for(final Future<Void> future : futures){
+				future.get();
+			}
+		}catch(final InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}catch(final ExecutionException e){
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	/**
+	 * Play the game and set its result.
+	 * 
+	 * @param game - The game.
+	 * @param gameIndex - The index of the game in the whole tournament.
+	 */
+	private void play(final TournamentGame game, final int gameIndex){
+		final MatchRunner runner = matchRunner.get();
+		runner.setBots(tournament.getContestant(game.getHome()), tournament.getContestant(game.getAway()));
+		
+		final MatchResult result = runner.play(game.getFirstStep(), settings.getBotSeed() + gameIndex);
+		game.setResult(result.getPlayerGoals(), result.getOpponentGoals());
+	}
+	
+	/**
+	 * Print the contestants in the order of their ratings.
+	 */
+	private void printStandings(){
+		final RatingTable ratingTable = tournament.getRatingTable();
+		
+		System.out.println(String.format("%4s %-20s %7s %7s %6s %6s %5s %5s %5s", "rank", "name", "rating", "error", "games", "score", "wins", "draws", "losses"));
+		final int[] ranking = ratingTable.getRanking();
+		for(int i = 0; i < ranking.length; ++i){
+			final int contestant = ranking[i];
+			final double errorMargin = ratingTable.getErrorMargin(contestant);
+			
+			System.out.println(String.format("%4d %-20s %7.1f %7s %6d %6.1f %5d %5d %5d",
+					i + 1,
+					tournament.getContestant(contestant).getName(),
+					ratingTable.getRating(contestant),
+					Double.isInfinite(errorMargin) ? "inf" : String.format("+-%.0f", errorMargin),
+					ratingTable.getGameNum(contestant),
+					ratingTable.getScore(contestant),
+					ratingTable.getWins(contestant),
+					ratingTable.getDraws(contestant),
+					ratingTable.getLosses(contestant)));
+		}
+	}
+	
+	// --------------------------------------------------
+	// ~ Inner classes
+	// --------------------------------------------------
+	
+	/**
+	 * Play one game of a round on the match runner of the actual thread.
+	 */
+	private class GameTask implements Callable<Void> {
+		
+		/** The game. */
+		private final TournamentGame game;
+		
+		/** The index of the game in the whole tournament. */
+		private final int gameIndex;
+		
+		/**
+		 * The constructor.
+		 * 
+		 * @param game - The game.
+		 * @param gameIndex - The index of the game in the whole tournament.
+		 */
+		public GameTask(final TournamentGame game, final int gameIndex){
+			this.game = game;
+			this.gameIndex = gameIndex;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Void call() {
+			play(game, gameIndex);
+			return null;
+		}
+	}
+	
+}
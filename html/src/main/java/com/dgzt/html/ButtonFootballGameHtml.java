@@ -18,11 +18,15 @@ import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.backends.gwt.GwtApplication;
 import com.badlogic.gdx.backends.gwt.GwtApplicationConfiguration;
 import com.dgzt.core.ButtonFootballGame;
+import com.dgzt.core.GameServices;
+import com.dgzt.core.setting.BotType;
+import com.dgzt.core.setting.RendererType;
 import com.dgzt.core.setting.Settings;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.NodeList;
 import com.google.gwt.dom.client.Style;
+import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.HasHorizontalAlignment;
 import com.google.gwt.user.client.ui.HasVerticalAlignment;
 import com.google.gwt.user.client.ui.VerticalPanel;
@@ -44,6 +48,9 @@ public class ButtonFootballGameHtml extends GwtApplication {
 	/** The default height value. */
 	private static final int HEIGHT = 480;
 	
+	/** The url parameter of the shape renderer, for example ?renderer=sdf */
+	private static final String RENDERER_PARAMETER = "renderer";
+	
 	/** This object. */
 	private static ButtonFootballGameHtml instance;
 	
@@ -89,7 +96,14 @@ public class ButtonFootballGameHtml extends GwtApplication {
 			}
 		});
 		
-		return new ButtonFootballGame(new Settings());
+		// The browser has no threads, the search bot would think in the render thread.
+		final Settings settings = new Settings();
+		settings.setBotType(BotType.SIMPLE);
+		if(RendererType.SDF.toString().equals(Window.Location.getParameter(RENDERER_PARAMETER))){
+			settings.setRenderer(RendererType.SDF);
+		}
+		
+		return new ButtonFootballGame(settings, new GameServices());
 	}
 	
 	// --------------------------------------------------